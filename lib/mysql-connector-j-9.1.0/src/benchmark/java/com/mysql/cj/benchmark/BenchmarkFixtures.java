@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+import com.mysql.cj.protocol.a.NativeConstants;
+
+/**
+ * Shared fixtures for the benchmarks: a typical row shape, the packets recorded from {@link FakeMysqlServer} for it, and connections to a fake server that
+ * serves it.
+ */
+public final class BenchmarkFixtures {
+
+    /** Number of rows in the benchmark result set. */
+    public static final int ROWS = 1000;
+
+    /** Length of string and blob values. */
+    public static final int VALUE_LENGTH = 32;
+
+    /** Labels of the benchmark result set columns. */
+    public static final String[] LABELS = { "id", "total", "ratio", "price", "name", "created", "data" };
+
+    /** Query returning the benchmark result set. */
+    public static final String SELECT_ROWS = "SELECT id, total, ratio, price, name, created, data FROM bench_rows WHERE id > ?";
+
+    private static final ColumnType[] TYPES = { ColumnType.INT, ColumnType.BIGINT, ColumnType.DOUBLE, ColumnType.DECIMAL, ColumnType.VARCHAR,
+            ColumnType.DATETIME, ColumnType.BLOB };
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * @return the benchmark result set, with {@link #ROWS} rows of the columns in {@link #LABELS}
+     */
+    public static CannedResult rowsResult() {
+        Column[] columns = new Column[LABELS.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(LABELS[i], TYPES[i]);
+        }
+        return CannedResult.generate(ROWS, VALUE_LENGTH, columns);
+    }
+
+    /**
+     * Starts a fake server answering {@link #SELECT_ROWS} with {@link #rowsResult()}.
+     *
+     * @return the server, to be closed by the caller
+     * @throws Exception
+     *             if the server cannot be started
+     */
+    public static FakeMysqlServer startServer() throws Exception {
+        FakeMysqlServer server = new FakeMysqlServer();
+        server.addResult(SELECT_ROWS, rowsResult());
+        return server;
+    }
+
+    /**
+     * Opens a connection to a fake server.
+     *
+     * @param server
+     *            the server
+     * @param properties
+     *            connection properties, such as {@code "useServerPrepStmts=true"}, or an empty string
+     * @return the connection
+     * @throws SQLException
+     *             if the connection fails
+     */
+    public static Connection connect(FakeMysqlServer server, String properties) throws SQLException {
+        return DriverManager.getConnection(server.getUrl(properties), "bench", "bench");
+    }
+
+    /**
+     * Splits framed packets into their payloads. Payloads are assumed to be smaller than 16 MB.
+     *
+     * @param packets
+     *            the framed packets
+     * @return the payloads
+     */
+    public static List<byte[]> payloads(byte[] packets) {
+        List<byte[]> payloads = new ArrayList<>();
+        int position = 0;
+        while (position < packets.length) {
+            int length = (packets[position] & 0xff) | (packets[position + 1] & 0xff) << 8 | (packets[position + 2] & 0xff) << 16;
+            payloads.add(Arrays.copyOfRange(packets, position + NativeConstants.HEADER_LENGTH, position + NativeConstants.HEADER_LENGTH + length));
+            position += NativeConstants.HEADER_LENGTH + length;
+        }
+        return payloads;
+    }
+
+    /**
+     * Returns the row payloads of the benchmark result set, as recorded from the fake server.
+     *
+     * @param binary
+     *            whether to return binary protocol rows rather than text protocol rows
+     * @return the {@link #ROWS} row payloads
+     */
+    public static List<byte[]> rowPayloads(boolean binary) {
+        List<byte[]> payloads = payloads(rowsResult().getPackets(binary, true));
+        // column count, column definitions, rows, closing OK packet
+        return payloads.subList(1 + LABELS.length, payloads.size() - 1);
+    }
+
+    /**
+     * Wraps framed packets in compressed protocol packets, the way a server with compression enabled sends them.
+     *
+     * @param packets
+     *            the framed packets
+     * @param blockSize
+     *            the maximum number of uncompressed bytes per compressed packet
+     * @return the compressed packets
+     */
+    public static byte[] compress(byte[] packets, int blockSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater();
+        byte[] buffer = new byte[blockSize + 1024];
+        int sequence = 0;
+        for (int offset = 0; offset < packets.length; offset += blockSize) {
+            int length = Math.min(blockSize, packets.length - offset);
+            deflater.reset();
+            deflater.setInput(packets, offset, length);
+            deflater.finish();
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                if (compressedLength == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                compressedLength += deflater.deflate(buffer, compressedLength, buffer.length - compressedLength);
+            }
+            out.write(compressedLength);
+            out.write(compressedLength >>> 8);
+            out.write(compressedLength >>> 16);
+            out.write(sequence++);
+            out.write(length);
+            out.write(length >>> 8);
+            out.write(length >>> 16);
+            out.write(buffer, 0, compressedLength);
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.log.NullLogger;
+import com.mysql.cj.protocol.a.CompressedInputStream;
+import com.mysql.cj.protocol.a.NativeConstants;
+import com.mysql.cj.protocol.a.PacketBufferPool;
+
+/**
+ * Reading a recorded result set through {@link CompressedInputStream}, one packet header and payload at a time, the way the packet readers do, with and
+ * without a {@link PacketBufferPool}. Scores are per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompressedInputStreamBenchmark {
+
+    @Param({ "16384", "1048576" })
+    public int blockSize;
+
+    @Param({ "0", "131072" })
+    public int packetBufferPoolSize;
+
+    private byte[] compressed;
+    private RuntimeProperty<Boolean> traceProtocol;
+    private PacketBufferPool bufferPool;
+    private final byte[] header = new byte[NativeConstants.HEADER_LENGTH];
+    private byte[] payload = new byte[1024];
+
+    @Setup
+    public void setUp() {
+        this.compressed = BenchmarkFixtures.compress(BenchmarkFixtures.rowsResult().getPackets(false, true), this.blockSize);
+        this.traceProtocol = new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol);
+        this.bufferPool = new PacketBufferPool(this.packetBufferPoolSize);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public int readPackets() throws IOException {
+        int packets = 0;
+        try (InputStream in = new CompressedInputStream(new ByteArrayInputStream(this.compressed), this.traceProtocol, new NullLogger("benchmark"),
+                this.bufferPool)) {
+            while (readFully(in, this.header, 0, NativeConstants.HEADER_LENGTH, true)) {
+                int length = (this.header[0] & 0xff) | (this.header[1] & 0xff) << 8 | (this.header[2] & 0xff) << 16;
+                if (length > this.payload.length) {
+                    this.payload = new byte[length];
+                }
+                readFully(in, this.payload, 0, length, false);
+                packets++;
+            }
+        }
+        return packets;
+    }
+
+    private static boolean readFully(InputStream in, byte[] b, int offset, int length, boolean eofAllowed) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int n = in.read(b, offset + read, length - read);
+            if (n < 0) {
+                if (eofAllowed && read == 0) {
+                    return false;
+                }
+                throw new EOFException();
+            }
+            read += n;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mysql.cj.jdbc.ha.DelegatingConnection;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+
+/**
+ * Per-call overhead of multi-host connections against two fake servers, through the {@link DelegatingConnection} classes or through the reflective
+ * proxies enabled by 'ha.useReflectiveProxies': a local connection call, a local statement call, and reading the benchmark result set, scored per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MultiHostConnectionBenchmark {
+
+    @Param({ "loadbalance", "failover", "replication" })
+    public String mode;
+
+    @Param({ "false", "true" })
+    public boolean useReflectiveProxies;
+
+    private FakeMysqlServer server1;
+    private FakeMysqlServer server2;
+    private Connection connection;
+    private PreparedStatement selectRows;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server1 = BenchmarkFixtures.startServer();
+        this.server2 = BenchmarkFixtures.startServer();
+        String scheme = "failover".equals(this.mode) ? "" : this.mode + ":";
+        this.connection = DriverManager.getConnection("jdbc:mysql:" + scheme + "//127.0.0.1:" + this.server1.getPort() + ",127.0.0.1:" + this.server2.getPort()
+                + "/bench?sslMode=DISABLED&useLocalSessionState=true&ha.useReflectiveProxies=" + this.useReflectiveProxies, "bench", "bench");
+        this.selectRows = this.connection.prepareStatement(BenchmarkFixtures.SELECT_ROWS);
+        this.selectRows.setInt(1, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.selectRows.close();
+        this.connection.close();
+        this.server1.close();
+        this.server2.close();
+    }
+
+    @Benchmark
+    public boolean connectionCall() throws Exception {
+        return this.connection.getAutoCommit();
+    }
+
+    @Benchmark
+    public int statementCall() throws Exception {
+        return this.selectRows.getFetchSize();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void readRows(Blackhole bh) throws Exception {
+        try (ResultSet rs = this.selectRows.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getInt(1));
+                bh.consume(rs.getLong(2));
+                bh.consume(rs.getString(5));
+                bh.consume(rs.getBytes(7));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mysql.cj.protocol.a.NativeConstants;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+
+/**
+ * Reading recorded text protocol rows and writing COM_STMT_EXECUTE payloads with {@link NativePacketPayload}. Scores are per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NativePacketPayloadBenchmark {
+
+    private static final byte[] NAME = "Sunny two-bedroom flat, quiet street".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PRICE = "123456.78".getBytes(StandardCharsets.UTF_8);
+
+    private byte[][] rows;
+    private NativePacketPayload sendPacket;
+
+    @Setup
+    public void setUp() {
+        List<byte[]> payloads = BenchmarkFixtures.rowPayloads(false);
+        this.rows = payloads.toArray(new byte[0][]);
+        this.sendPacket = new NativePacketPayload(1024);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void readTextRows(Blackhole bh) {
+        for (byte[] row : this.rows) {
+            NativePacketPayload payload = new NativePacketPayload(row);
+            for (int c = 0; c < BenchmarkFixtures.LABELS.length; c++) {
+                bh.consume(payload.readBytes(StringSelfDataType.STRING_LENENC));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void skipTextRows(Blackhole bh) {
+        for (byte[] row : this.rows) {
+            NativePacketPayload payload = new NativePacketPayload(row);
+            for (int c = 0; c < BenchmarkFixtures.LABELS.length; c++) {
+                payload.skipBytes(StringSelfDataType.STRING_LENENC);
+            }
+            bh.consume(payload.getPosition());
+        }
+    }
+
+    @Benchmark
+    public NativePacketPayload writeExecute() {
+        NativePacketPayload packet = this.sendPacket;
+        packet.setPosition(0);
+        packet.writeInteger(IntegerDataType.INT1, NativeConstants.COM_STMT_EXECUTE);
+        packet.writeInteger(IntegerDataType.INT4, 1);
+        packet.writeInteger(IntegerDataType.INT1, 0);
+        packet.writeInteger(IntegerDataType.INT4, 1);
+        packet.writeInteger(IntegerDataType.INT1, 0); // null bitmap
+        packet.writeInteger(IntegerDataType.INT1, 1); // new parameters bound
+        for (int type : new int[] { 3, 8, 5, 246, 253 }) {
+            packet.writeInteger(IntegerDataType.INT2, type);
+        }
+        packet.writeInteger(IntegerDataType.INT4, 123456);
+        packet.writeInteger(IntegerDataType.INT8, 123_456_789_012L);
+        packet.writeInteger(IntegerDataType.INT8, Double.doubleToLongBits(0.25));
+        packet.writeBytes(StringSelfDataType.STRING_LENENC, PRICE);
+        packet.writeBytes(StringSelfDataType.STRING_LENENC, NAME);
+        return packet;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+import com.mysql.cj.protocol.a.PacketBufferPool;
+
+/**
+ * Complete queries returning small rows against the fake server, with and without a {@link PacketBufferPool}, through the text or the binary protocol. Rows
+ * without large fields are copied out of their packet, so each row packet buffer can be reused. Scores are per row; run with {@code -prof gc} to compare the
+ * allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PacketBufferPoolBenchmark {
+
+    private static final String SELECT_SMALL_ROWS = "SELECT id, total, name FROM bench_small_rows";
+
+    @Param({ "text", "binary" })
+    public String protocol;
+
+    @Param({ "0", "131072" })
+    public int packetBufferPoolSize;
+
+    private FakeMysqlServer server;
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult(SELECT_SMALL_ROWS,
+                CannedResult.generate(BenchmarkFixtures.ROWS, BenchmarkFixtures.VALUE_LENGTH, ColumnType.INT, ColumnType.BIGINT, ColumnType.VARCHAR));
+        this.connection = BenchmarkFixtures.connect(this.server,
+                "packetBufferPoolSize=" + this.packetBufferPoolSize + ("binary".equals(this.protocol) ? "&useServerPrepStmts=true" : ""));
+        this.statement = this.connection.prepareStatement(SELECT_SMALL_ROWS);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.statement.close();
+        this.connection.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void executeAndRead(Blackhole bh) throws Exception {
+        try (ResultSet rs = this.statement.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getInt(1));
+                bh.consume(rs.getLong(2));
+                bh.consume(rs.getString(3));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.mysql.cj.PreparedQuery;
+import com.mysql.cj.jdbc.ClientPreparedStatement;
+import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+
+/**
+ * Parameter binding in {@link ClientPreparedStatement}, with and without building the COM_QUERY packet that inlines the bound values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreparedStatementBindingBenchmark {
+
+    private static final String INSERT = "INSERT INTO bench_rows (id, total, ratio, price, name, created, data) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final BigDecimal PRICE = new BigDecimal("123456.78");
+    private static final String NAME = "Sunny two-bedroom flat, 'quiet' street";
+    private static final Timestamp CREATED = Timestamp.valueOf("2024-02-29 13:45:01.123456");
+    private static final byte[] DATA = new byte[BenchmarkFixtures.VALUE_LENGTH];
+
+    private FakeMysqlServer server;
+    private Connection connection;
+    private ClientPreparedStatement statement;
+    private long id;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server = BenchmarkFixtures.startServer();
+        this.connection = BenchmarkFixtures.connect(this.server, "");
+        this.statement = this.connection.prepareStatement(INSERT).unwrap(ClientPreparedStatement.class);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.statement.close();
+        this.connection.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    public ClientPreparedStatement bind() throws Exception {
+        bindAll();
+        return this.statement;
+    }
+
+    @Benchmark
+    public Message bindAndBuildPacket() throws Exception {
+        bindAll();
+        return ((PreparedQuery) this.statement.getQuery()).fillSendPacket(this.statement.getQueryBindings());
+    }
+
+    private void bindAll() throws Exception {
+        long next = ++this.id;
+        this.statement.setInt(1, (int) next);
+        this.statement.setLong(2, next * 1_000_003L);
+        this.statement.setDouble(3, next * 0.25);
+        this.statement.setBigDecimal(4, PRICE);
+        this.statement.setString(5, NAME);
+        this.statement.setTimestamp(6, CREATED);
+        this.statement.setBytes(7, DATA);
+    }
+
+}
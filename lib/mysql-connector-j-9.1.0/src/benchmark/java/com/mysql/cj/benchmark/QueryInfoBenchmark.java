@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.Session;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+
+/**
+ * Parsing of statements by {@link QueryInfo}, done for every client-side prepared statement that misses the statement cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryInfoBenchmark {
+
+    private static final String SELECT = BenchmarkFixtures.SELECT_ROWS;
+
+    private static final String INSERT = "INSERT INTO bench_rows (id, total, ratio, price, name, created, data) VALUES (?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE total = total + VALUES(total)";
+
+    private static final String COMMENTED = "/* report */ SELECT p.id, p.title, 'it''s ? not a parameter', \"nor ? this\", `col?` FROM property p"
+            + " JOIN users u ON u.id = p.owner_id -- a ? in a comment\n WHERE p.price BETWEEN ? AND ? AND p.location LIKE ? /*+ NO_INDEX(p) */"
+            + " ORDER BY p.price DESC LIMIT ?";
+
+    @Param({ "select", "insert", "commented" })
+    public String statement;
+
+    private FakeMysqlServer server;
+    private Connection connection;
+    private Session session;
+    private String sql;
+    private QueryInfo insertQueryInfo;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server = BenchmarkFixtures.startServer();
+        this.connection = BenchmarkFixtures.connect(this.server, "rewriteBatchedStatements=true");
+        this.session = this.connection.unwrap(JdbcConnection.class).getSession();
+        switch (this.statement) {
+            case "insert":
+                this.sql = INSERT;
+                break;
+            case "commented":
+                this.sql = COMMENTED;
+                break;
+            default:
+                this.sql = SELECT;
+        }
+        this.insertQueryInfo = new QueryInfo(INSERT, this.session, "UTF-8");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.connection.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    public QueryInfo parse() {
+        return new QueryInfo(this.sql, this.session, "UTF-8");
+    }
+
+    @Benchmark
+    public QueryInfo rewriteInsertForBatch() {
+        return this.insertQueryInfo.getQueryInfoForBatch(10);
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+
+/**
+ * {@link ResultSetImpl} getters by column label over a buffered result set, and complete queries against the fake server, through the text or the binary
+ * protocol. Scores are per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultSetGetterBenchmark {
+
+    @Param({ "text", "binary" })
+    public String protocol;
+
+    private FakeMysqlServer server;
+    private Connection connection;
+    private PreparedStatement statement;
+    private PreparedStatement executeStatement;
+    private ResultSet resultSet;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server = BenchmarkFixtures.startServer();
+        this.connection = BenchmarkFixtures.connect(this.server, "binary".equals(this.protocol) ? "useServerPrepStmts=true" : "");
+        this.statement = this.connection.prepareStatement(BenchmarkFixtures.SELECT_ROWS, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        this.statement.setInt(1, 0);
+        this.resultSet = this.statement.executeQuery();
+        this.executeStatement = this.connection.prepareStatement(BenchmarkFixtures.SELECT_ROWS);
+        this.executeStatement.setInt(1, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.resultSet.close();
+        this.statement.close();
+        this.executeStatement.close();
+        this.connection.close();
+        this.server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void getByLabel(Blackhole bh) throws Exception {
+        ResultSet rs = this.resultSet;
+        rs.beforeFirst();
+        while (rs.next()) {
+            bh.consume(rs.getInt("id"));
+            bh.consume(rs.getLong("total"));
+            bh.consume(rs.getDouble("ratio"));
+            bh.consume(rs.getBigDecimal("price"));
+            bh.consume(rs.getString("name"));
+            bh.consume(rs.getTimestamp("created"));
+            bh.consume(rs.getBytes("data"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void getByIndex(Blackhole bh) throws Exception {
+        ResultSet rs = this.resultSet;
+        rs.beforeFirst();
+        while (rs.next()) {
+            bh.consume(rs.getInt(1));
+            bh.consume(rs.getLong(2));
+            bh.consume(rs.getDouble(3));
+            bh.consume(rs.getBigDecimal(4));
+            bh.consume(rs.getString(5));
+            bh.consume(rs.getTimestamp(6));
+            bh.consume(rs.getBytes(7));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void executeAndRead(Blackhole bh) throws Exception {
+        try (ResultSet rs = this.executeStatement.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getInt(1));
+                bh.consume(rs.getString(5));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mysql.cj.protocol.SocketChannelFactory;
+import com.mysql.cj.protocol.StandardSocketFactory;
+import com.mysql.cj.protocol.UnixSocketFactory;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Complete server-side prepared statement executions against the fake server, over loopback TCP through the socket stream stack of
+ * {@link StandardSocketFactory} or the channel transport of {@link SocketChannelFactory}, or over a Unix domain socket with {@link UnixSocketFactory}, which
+ * needs Java 16 or later: a one row query, dominated by per-command overhead, reading the benchmark result set, scored per row, and sending a 1 MB parameter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SocketTransportBenchmark {
+
+    private static final String SELECT_ONE = "SELECT 1";
+    private static final String INSERT_DATA = "INSERT INTO bench_data (data) VALUES (?)";
+
+    @Param({ "com.mysql.cj.protocol.StandardSocketFactory", "com.mysql.cj.protocol.SocketChannelFactory", "com.mysql.cj.protocol.UnixSocketFactory" })
+    public String socketFactory;
+
+    private FakeMysqlServer server;
+    private Path socketDirectory;
+    private Connection connection;
+    private PreparedStatement selectOne;
+    private PreparedStatement selectRows;
+    private PreparedStatement insertData;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.server = BenchmarkFixtures.startServer();
+        this.server.addResult(SELECT_ONE,
+                new CannedResult(Collections.singletonList(new Column("1", ColumnType.INT)), Collections.singletonList(new Object[] { 1 }), 1));
+        if (UnixSocketFactory.class.getName().equals(this.socketFactory)) {
+            this.socketDirectory = Files.createTempDirectory("cj-bench");
+            this.server.listenOnUnixSocket(this.socketDirectory.resolve("mysqld.sock").toString());
+            this.connection = DriverManager.getConnection(this.server.getUnixSocketUrl("useServerPrepStmts=true"), "bench", "bench");
+        } else {
+            this.connection = BenchmarkFixtures.connect(this.server, "useServerPrepStmts=true&socketFactory=" + this.socketFactory);
+        }
+        this.selectOne = this.connection.prepareStatement(SELECT_ONE);
+        this.selectRows = this.connection.prepareStatement(BenchmarkFixtures.SELECT_ROWS);
+        this.selectRows.setInt(1, 0);
+        this.insertData = this.connection.prepareStatement(INSERT_DATA);
+        this.insertData.setBytes(1, new byte[1024 * 1024]);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.selectOne.close();
+        this.selectRows.close();
+        this.insertData.close();
+        this.connection.close();
+        this.server.close();
+        if (this.socketDirectory != null) {
+            Files.delete(this.socketDirectory);
+        }
+    }
+
+    @Benchmark
+    public int roundTrip() throws Exception {
+        try (ResultSet rs = this.selectOne.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void readRows(Blackhole bh) throws Exception {
+        try (ResultSet rs = this.selectRows.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getInt(1));
+                bh.consume(rs.getBytes(7));
+            }
+        }
+    }
+
+    @Benchmark
+    public int writeLargeParameter() throws Exception {
+        return this.insertData.executeUpdate();
+    }
+
+}
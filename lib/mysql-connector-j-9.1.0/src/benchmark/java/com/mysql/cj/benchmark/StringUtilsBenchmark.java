@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.mysql.cj.util.SearchMode;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * {@link StringUtils} scanning of SQL text, as done when preparing statements and rewriting batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StringUtilsBenchmark {
+
+    private static final String QUOTES = "\"'`";
+
+    private static final String SQL = "/* report */ INSERT INTO property (title, description, price, location, owner_id)"
+            + " VALUES ('Loft', 'Bright loft -- with \\'views\\', see /* notes */', 250000.00, \"Seattle\", 12),"
+            + " ('Studio', 'Cosy; close to the ON DUPLICATE KEY UPDATE cafe', 99000.00, 'Austin', 14)"
+            + " ON DUPLICATE KEY UPDATE price = VALUES(price), description = CONCAT(description, ' (updated)')";
+
+    @Benchmark
+    public int indexOfIgnoreCaseSkippingMarkers() {
+        return StringUtils.indexOfIgnoreCase(0, SQL, "ON DUPLICATE KEY UPDATE", QUOTES, QUOTES, SearchMode.__BSE_MRK_COM_MYM_HNT_WS);
+    }
+
+    @Benchmark
+    public int indexOfIgnoreCasePlain() {
+        return StringUtils.indexOfIgnoreCase(0, SQL, "ON DUPLICATE KEY UPDATE");
+    }
+
+    @Benchmark
+    public boolean startsWithIgnoreCaseAndWs() {
+        return StringUtils.startsWithIgnoreCaseAndWs(SQL, "INSERT", SQL.indexOf("*/") + 2);
+    }
+
+    @Benchmark
+    public String stripCommentsAndHints() {
+        return StringUtils.stripCommentsAndHints(SQL, QUOTES, QUOTES, true);
+    }
+
+    @Benchmark
+    public List<String> splitSkippingMarkers() {
+        return StringUtils.split(SQL, ",", QUOTES + "(", QUOTES + ")", QUOTES, true);
+    }
+
+    @Benchmark
+    public byte[] getBytes() {
+        return StringUtils.getBytes(SQL, "UTF-8");
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.result.BigDecimalValueFactory;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LocalDateTimeValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * Decoding of the values of recorded rows with {@link MysqlTextValueDecoder} and {@link MysqlBinaryValueDecoder}, into the Java types the matching
+ * {@code ResultSet} getters return. Scores are per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueDecoderBenchmark {
+
+    private final MysqlTextValueDecoder textDecoder = new MysqlTextValueDecoder();
+    private final MysqlBinaryValueDecoder binaryDecoder = new MysqlBinaryValueDecoder();
+
+    private ValueFactory<Integer> intFactory;
+    private ValueFactory<Long> longFactory;
+    private ValueFactory<Double> doubleFactory;
+    private ValueFactory<BigDecimal> decimalFactory;
+    private ValueFactory<String> stringFactory;
+    private ValueFactory<LocalDateTime> dateTimeFactory;
+    private Field nameField;
+
+    private byte[][] textRows;
+    private int[][] textOffsets;
+    private int[][] textLengths;
+    private byte[][] binaryRows;
+    private int[][] binaryOffsets;
+    private int[][] binaryLengths;
+
+    @Setup
+    public void setUp() {
+        PropertySet propertySet = new DefaultPropertySet();
+        this.intFactory = new IntegerValueFactory(propertySet);
+        this.longFactory = new LongValueFactory(propertySet);
+        this.doubleFactory = new DoubleValueFactory(propertySet);
+        this.decimalFactory = new BigDecimalValueFactory(propertySet);
+        this.stringFactory = new StringValueFactory(propertySet);
+        this.dateTimeFactory = new LocalDateTimeValueFactory(propertySet);
+        this.nameField = new Field("bench_rows", "name", 255, "UTF-8", MysqlType.VARCHAR, BenchmarkFixtures.VALUE_LENGTH * 4);
+
+        List<byte[]> text = BenchmarkFixtures.rowPayloads(false);
+        int columns = BenchmarkFixtures.LABELS.length;
+        this.textRows = text.toArray(new byte[0][]);
+        this.textOffsets = new int[this.textRows.length][columns];
+        this.textLengths = new int[this.textRows.length][columns];
+        for (int r = 0; r < this.textRows.length; r++) {
+            NativePacketPayload payload = new NativePacketPayload(this.textRows[r]);
+            for (int c = 0; c < columns; c++) {
+                this.textLengths[r][c] = (int) payload.readInteger(IntegerDataType.INT_LENENC);
+                this.textOffsets[r][c] = payload.getPosition();
+                payload.setPosition(payload.getPosition() + this.textLengths[r][c]);
+            }
+        }
+
+        List<byte[]> binary = BenchmarkFixtures.rowPayloads(true);
+        this.binaryRows = binary.toArray(new byte[0][]);
+        this.binaryOffsets = new int[this.binaryRows.length][columns];
+        this.binaryLengths = new int[this.binaryRows.length][columns];
+        for (int r = 0; r < this.binaryRows.length; r++) {
+            NativePacketPayload payload = new NativePacketPayload(this.binaryRows[r]);
+            payload.setPosition(1 + (columns + 7 + 2) / 8); // packet header and null bitmap
+            // INT, BIGINT and DOUBLE have fixed lengths, DECIMAL, VARCHAR and BLOB are length-encoded, DATETIME is prefixed with a one byte length
+            int[] fixedLengths = { 4, 8, 8, -1, -1, 0, -1 };
+            for (int c = 0; c < columns; c++) {
+                int length = fixedLengths[c];
+                if (length < 0) {
+                    length = (int) payload.readInteger(IntegerDataType.INT_LENENC);
+                } else if (length == 0) {
+                    length = (int) payload.readInteger(IntegerDataType.INT1);
+                }
+                this.binaryOffsets[r][c] = payload.getPosition();
+                this.binaryLengths[r][c] = length;
+                payload.setPosition(payload.getPosition() + length);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void decodeText(Blackhole bh) {
+        MysqlTextValueDecoder decoder = this.textDecoder;
+        for (int r = 0; r < this.textRows.length; r++) {
+            byte[] row = this.textRows[r];
+            int[] offsets = this.textOffsets[r];
+            int[] lengths = this.textLengths[r];
+            bh.consume(decoder.decodeInt4(row, offsets[0], lengths[0], this.intFactory));
+            bh.consume(decoder.decodeInt8(row, offsets[1], lengths[1], this.longFactory));
+            bh.consume(decoder.decodeDouble(row, offsets[2], lengths[2], this.doubleFactory));
+            bh.consume(decoder.decodeDecimal(row, offsets[3], lengths[3], this.decimalFactory));
+            bh.consume(decoder.decodeByteArray(row, offsets[4], lengths[4], this.nameField, this.stringFactory));
+            bh.consume(decoder.decodeDatetime(row, offsets[5], lengths[5], 0, this.dateTimeFactory));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROWS)
+    public void decodeBinary(Blackhole bh) {
+        MysqlBinaryValueDecoder decoder = this.binaryDecoder;
+        for (int r = 0; r < this.binaryRows.length; r++) {
+            byte[] row = this.binaryRows[r];
+            int[] offsets = this.binaryOffsets[r];
+            int[] lengths = this.binaryLengths[r];
+            bh.consume(decoder.decodeInt4(row, offsets[0], lengths[0], this.intFactory));
+            bh.consume(decoder.decodeInt8(row, offsets[1], lengths[1], this.longFactory));
+            bh.consume(decoder.decodeDouble(row, offsets[2], lengths[2], this.doubleFactory));
+            bh.consume(decoder.decodeDecimal(row, offsets[3], lengths[3], this.decimalFactory));
+            bh.consume(decoder.decodeByteArray(row, offsets[4], lengths[4], this.nameField, this.stringFactory));
+            bh.consume(decoder.decodeDatetime(row, offsets[5], lengths[5], 0, this.dateTimeFactory));
+        }
+    }
+
+}
@@ -26,4 +26,23 @@ public interface CacheAdapterFactory<K, V> {
 
     CacheAdapter<K, V> getInstance(Lock lock, String url, int cacheMaxSize, int maxKeySize);
 
+    /**
+     * Creates a cache for the given session. Factories whose caches depend on session settings override this method, by default the session is ignored.
+     *
+     * @param session
+     *            the session the cache is created for
+     * @param lock
+     *            the connection lock
+     * @param url
+     *            the connection URL
+     * @param cacheMaxSize
+     *            the maximum number of entries
+     * @param maxKeySize
+     *            the maximum size of the cached keys
+     * @return the cache
+     */
+    default CacheAdapter<K, V> getInstance(Session session, Lock lock, String url, int cacheMaxSize, int maxKeySize) {
+        return getInstance(lock, url, cacheMaxSize, maxKeySize);
+    }
+
 }
@@ -20,6 +20,8 @@
 
 package com.mysql.cj;
 
+import java.util.List;
+
 public interface CharsetSettings {
 
     public static final String CHARACTER_SET_CLIENT = "character_set_client";
@@ -69,6 +71,14 @@ public interface CharsetSettings {
      */
     void configurePostHandshake(boolean dontCheckServerMatch);
 
+    /**
+     * Returns the assignments that, put together in a single SET statement, restore the charset related server variables configured by
+     * {@link #configurePostHandshake(boolean)} after the server reverted them to the collation sent in the handshake, e.g. on COM_RESET_CONNECTION.
+     *
+     * @return the assignments, empty if the handshake collation already gives the configured values
+     */
+    List<String> getSessionResetAssignments();
+
     public boolean doesPlatformDbCharsetMatches();
 
     String getPasswordCharacterEncoding();
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.util.TinyLfuCache;
+
+/**
+ * Creates views of a single VM-wide cache of parsed queries, so that connections preparing the same SQL share one {@link QueryInfo} instead of parsing and
+ * holding their own copy. Entries are keyed by the SQL and the settings the parsing depends on: 'characterEncoding', 'rewriteBatchedStatements',
+ * 'dontCheckOnDuplicateKeyUpdateInSQL' and the NO_BACKSLASH_ESCAPES SQL mode.
+ * <p>
+ * The cache is bounded by the total length of the cached SQL, to the largest 'prepStmtCacheSize' times 'prepStmtCacheSqlLimit' among the connections using
+ * it, and favors the most frequently prepared queries, see {@link TinyLfuCache}.
+ */
+public class SharedQueryInfoCacheFactory implements CacheAdapterFactory<String, QueryInfo> {
+
+    private static final TinyLfuCache<Key, QueryInfo> cache = new TinyLfuCache<>(0, 0, (k, v) -> k.sql.length());
+
+    /**
+     * Without a session the settings of the parsing are unknown, so the caches created this way are not shared.
+     */
+    @Override
+    public CacheAdapter<String, QueryInfo> getInstance(Lock lock, String url, int cacheMaxSize, int maxKeySize) {
+        return new PerConnectionLRUFactory().getInstance(lock, url, cacheMaxSize, maxKeySize);
+    }
+
+    @Override
+    public CacheAdapter<String, QueryInfo> getInstance(Session session, Lock lock, String url, int cacheMaxSize, int maxKeySize) {
+        cache.ensureCapacity((long) cacheMaxSize * maxKeySize, cacheMaxSize);
+        return new SharedQueryInfoCache(session, maxKeySize);
+    }
+
+    /**
+     * @return the number of lookups that found a cached {@link QueryInfo}
+     */
+    public static long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return the number of lookups that didn't find a cached {@link QueryInfo}
+     */
+    public static long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return the number of entries evicted, or not admitted, to keep the cache within its bound
+     */
+    public static long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    /**
+     * @return the number of cached {@link QueryInfo}
+     */
+    public static int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return the total length of the cached SQL
+     */
+    public static long getWeight() {
+        return cache.getWeight();
+    }
+
+    private static final class Key {
+
+        final String sql;
+        final String encoding;
+        final int flags;
+        final int hash;
+
+        Key(String sql, String encoding, int flags) {
+            this.sql = sql;
+            this.encoding = encoding;
+            this.flags = flags;
+            this.hash = 31 * (31 * sql.hashCode() + Objects.hashCode(encoding)) + flags;
+        }
+
+        boolean hasSettings(String settingsEncoding, int settingsFlags) {
+            return this.flags == settingsFlags && Objects.equals(this.encoding, settingsEncoding);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.hash == other.hash && this.sql.equals(other.sql) && hasSettings(other.encoding, other.flags);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * The view of the shared cache for one connection, which adds its current settings to the keys.
+     */
+    private static final class SharedQueryInfoCache implements CacheAdapter<String, QueryInfo> {
+
+        private static final int NO_BACKSLASH_ESCAPES = 1;
+        private static final int REWRITE_BATCHED_STATEMENTS = 2;
+        private static final int DONT_CHECK_ON_DUPLICATE_KEY_UPDATE = 4;
+
+        private final Session session;
+        private final RuntimeProperty<String> characterEncoding;
+        private final RuntimeProperty<Boolean> rewriteBatchedStatements;
+        private final RuntimeProperty<Boolean> dontCheckOnDuplicateKeyUpdateInSQL;
+        private final int maxKeySize;
+
+        SharedQueryInfoCache(Session session, int maxKeySize) {
+            this.session = session;
+            this.characterEncoding = session.getPropertySet().getStringProperty(PropertyKey.characterEncoding);
+            this.rewriteBatchedStatements = session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements);
+            this.dontCheckOnDuplicateKeyUpdateInSQL = session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL);
+            this.maxKeySize = maxKeySize;
+        }
+
+        private int getFlags() {
+            return (this.session.getServerSession().isNoBackslashEscapesSet() ? NO_BACKSLASH_ESCAPES : 0)
+                    | (this.rewriteBatchedStatements.getValue() ? REWRITE_BATCHED_STATEMENTS : 0)
+                    | (this.dontCheckOnDuplicateKeyUpdateInSQL.getValue() ? DONT_CHECK_ON_DUPLICATE_KEY_UPDATE : 0);
+        }
+
+        private Key toKey(String sql) {
+            return sql == null || sql.length() > this.maxKeySize ? null : new Key(sql, this.characterEncoding.getValue(), getFlags());
+        }
+
+        @Override
+        public QueryInfo get(String sql) {
+            Key key = toKey(sql);
+            return key == null ? null : cache.get(key);
+        }
+
+        @Override
+        public void put(String sql, QueryInfo value) {
+            Key key = toKey(sql);
+            if (key != null) {
+                cache.put(key, value);
+            }
+        }
+
+        @Override
+        public void invalidate(String sql) {
+            Key key = toKey(sql);
+            if (key != null) {
+                cache.invalidate(key);
+            }
+        }
+
+        @Override
+        public void invalidateAll(Set<String> sqls) {
+            for (String sql : sqls) {
+                invalidate(sql);
+            }
+        }
+
+        /**
+         * Removes the entries parsed with the current settings of this connection.
+         */
+        @Override
+        public void invalidateAll() {
+            String encoding = this.characterEncoding.getValue();
+            int flags = getFlags();
+            cache.invalidateIf(k -> k.hasSettings(encoding, flags));
+        }
+
+    }
+
+}
@@ -445,6 +445,10 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useServerPrepStmts, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useServerPrepStmts"), "3.1.0", CATEGORY_PREPARED_STATEMENTS, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.serverPrepareThreshold, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.serverPrepareThreshold"), "9.1.0", CATEGORY_PREPARED_STATEMENTS, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.emulateUnsupportedPstmts, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.emulateUnsupportedPstmts"), "3.1.7", CATEGORY_PREPARED_STATEMENTS, Integer.MIN_VALUE),
 
@@ -644,6 +648,22 @@ public class PropertyDefinitions {
                 new StringPropertyDefinition(PropertyKey.replicationConnectionGroup, DEFAULT_VALUE_NULL_STRING, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.replicationConnectionGroup"), "8.0.7", CATEGORY_HA, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.replicaMaxLag, 0, RUNTIME_NOT_MODIFIABLE, Messages.getString("ConnectionProperties.replicaMaxLag"),
+                        "9.1.0", CATEGORY_HA, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.replicaLagCheckInterval, 1000, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.replicaLagCheckInterval"), "9.1.0", CATEGORY_HA, Integer.MIN_VALUE, 100, Integer.MAX_VALUE),
+
+                new StringPropertyDefinition(PropertyKey.replicaLagQuery, DEFAULT_VALUE_NULL_STRING, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.replicaLagQuery"), "9.1.0", CATEGORY_HA, Integer.MIN_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.replicaReadYourWrites, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.replicaReadYourWrites"), "9.1.0", CATEGORY_HA, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.replicaReadYourWritesTimeout, 1000, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.replicaReadYourWritesTimeout"), "9.1.0", CATEGORY_HA, Integer.MIN_VALUE, 1,
+                        Integer.MAX_VALUE),
+
                 new StringPropertyDefinition(PropertyKey.resourceId, DEFAULT_VALUE_NULL_STRING, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.resourceId"), "5.0.1", CATEGORY_HA, Integer.MIN_VALUE),
 
@@ -661,6 +681,12 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.ha_enableJMX, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.ha.enableJMX"), "5.1.27", CATEGORY_HA, Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.ha_useReflectiveProxies, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.ha.useReflectiveProxies"), "9.1.0", CATEGORY_HA, Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.ha_healthCheckInterval, 0, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.ha.healthCheckInterval"), "9.1.0", CATEGORY_HA, Integer.MAX_VALUE, 0, Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.loadBalanceHostRemovalGracePeriod, 15000, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.loadBalanceHostRemovalGracePeriod"), "6.0.3", CATEGORY_HA, Integer.MAX_VALUE, 0,
                         Integer.MAX_VALUE),
@@ -711,6 +737,10 @@ public class PropertyDefinitions {
                 new IntegerPropertyDefinition(PropertyKey.metadataCacheSize, 50, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.metadataCacheSize"), "3.1.1", CATEGORY_PERFORMANCE, 5, 1, Integer.MAX_VALUE),
 
+                new MemorySizePropertyDefinition(PropertyKey.packetBufferPoolSize, 128 * 1024, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.packetBufferPoolSize"), "9.1.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.prepStmtCacheSize, 25, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.prepStmtCacheSize"), "3.0.10", CATEGORY_PERFORMANCE, 10, 0, Integer.MAX_VALUE),
 
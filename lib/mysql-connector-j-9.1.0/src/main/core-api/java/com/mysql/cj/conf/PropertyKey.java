@@ -123,7 +123,9 @@ public enum PropertyKey {
     generateSimpleParameterMetadata("generateSimpleParameterMetadata", true), //
     getProceduresReturnsFunctions("getProceduresReturnsFunctions", true), //
     ha_enableJMX("ha.enableJMX", "haEnableJMX", true), //
+    ha_healthCheckInterval("ha.healthCheckInterval", "haHealthCheckInterval", true), //
     ha_loadBalanceStrategy("ha.loadBalanceStrategy", "haLoadBalanceStrategy", true), //
+    ha_useReflectiveProxies("ha.useReflectiveProxies", "haUseReflectiveProxies", true), //
     holdResultsOpenOverStatementClose("holdResultsOpenOverStatementClose", true), //
     idTokenFile("idTokenFile", true), //
     ignoreNonTxTables("ignoreNonTxTables", true), //
@@ -167,6 +169,7 @@ public enum PropertyKey {
     ociConfigProfile("ociConfigProfile", true), //
     openTelemetry("openTelemetry", true), //
     overrideSupportsIntegrityEnhancementFacility("overrideSupportsIntegrityEnhancementFacility", true), //
+    packetBufferPoolSize("packetBufferPoolSize", true), //
     packetDebugBufferSize("packetDebugBufferSize", true), //
     padCharsWithSpace("padCharsWithSpace", true), //
     paranoid("paranoid", false), //
@@ -191,6 +194,11 @@ public enum PropertyKey {
     readFromSourceWhenNoReplicas("readFromSourceWhenNoReplicas", true), //
     readOnlyPropagatesToServer("readOnlyPropagatesToServer", true), //
     reconnectAtTxEnd("reconnectAtTxEnd", true), //
+    replicaLagCheckInterval("replicaLagCheckInterval", true), //
+    replicaLagQuery("replicaLagQuery", true), //
+    replicaMaxLag("replicaMaxLag", true), //
+    replicaReadYourWrites("replicaReadYourWrites", true), //
+    replicaReadYourWritesTimeout("replicaReadYourWritesTimeout", true), //
     replicationConnectionGroup("replicationConnectionGroup", true), //
     reportMetricsIntervalMillis("reportMetricsIntervalMillis", true), //
     requireSSL("requireSSL", true), //
@@ -207,6 +215,7 @@ public enum PropertyKey {
     sendFractionalSecondsForTime("sendFractionalSecondsForTime", true), //
     serverAffinityOrder("serverAffinityOrder", true), //
     serverConfigCacheFactory("serverConfigCacheFactory", true), //
+    serverPrepareThreshold("serverPrepareThreshold", true), //
     serverRSAPublicKeyFile("serverRSAPublicKeyFile", true), //
     sessionVariables("sessionVariables", true), //
     slowQueryThresholdMillis("slowQueryThresholdMillis", true), //
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe counterpart of {@link LRUCache}, for caches read by many threads: lookups take no locks.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, whose bins are locked separately on writes, and are also linked in access order, like in an
+ * access-ordered {@link java.util.LinkedHashMap}, in a list guarded by a lock. Lookups don't reorder the list themselves: they queue the entry they found in
+ * a bounded read buffer, which is replayed on the list by the next addition, or by a lookup that fills it enough and finds the lock free. When the buffer is
+ * full, accesses are dropped, which only makes the order approximate under heavy contention. When a new entry is added, the head of the list is passed to
+ * {@link #removeEldestEntry(Entry)} and removed if it returns <code>true</code>, so all operations take constant time.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class ConcurrentLRUCache<K, V> {
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+    protected int maxElements;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final Queue<Node<K, V>> readBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger readBufferSize = new AtomicInteger();
+    private final Lock evictionLock = new ReentrantLock();
+
+    // Access order list, guarded by evictionLock
+    private Node<K, V> head;
+    private Node<K, V> tail;
+
+    public ConcurrentLRUCache(int maxSize) {
+        this.data = new ConcurrentHashMap<>(Math.max(maxSize, 1) * 4 / 3 + 1);
+        this.maxElements = maxSize;
+    }
+
+    public V get(K key) {
+        Node<K, V> node = this.data.get(key);
+        if (node == null) {
+            return null;
+        }
+        int buffered = this.readBufferSize.incrementAndGet();
+        if (buffered > READ_BUFFER_SIZE) {
+            this.readBufferSize.decrementAndGet();
+        } else {
+            this.readBuffer.add(node);
+        }
+        if (buffered >= READ_BUFFER_DRAIN_THRESHOLD && this.evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    public V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> old = this.data.put(key, node);
+        this.evictionLock.lock();
+        try {
+            drainReadBuffer();
+            // an old entry that is no longer linked was evicted after this put replaced it, so the key is new to the cache
+            boolean added = old == null || !old.linked;
+            if (old != null) {
+                unlink(old);
+            }
+            // a concurrent put or remove of the same key may already have replaced it
+            if (this.data.get(key) == node) {
+                linkLast(node);
+            }
+            if (added && this.head != null) {
+                Node<K, V> eldest = this.head;
+                if (removeEldestEntry(new SimpleImmutableEntry<>(eldest.key, eldest.value))) {
+                    this.data.remove(eldest.key, eldest);
+                    unlink(eldest);
+                }
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+        return old == null ? null : old.value;
+    }
+
+    public V remove(K key) {
+        Node<K, V> node = this.data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        this.evictionLock.lock();
+        try {
+            unlink(node);
+        } finally {
+            this.evictionLock.unlock();
+        }
+        return node.value;
+    }
+
+    public boolean containsKey(K key) {
+        return this.data.containsKey(key);
+    }
+
+    /**
+     * Returns a snapshot of the cached values, which doesn't change their recency.
+     *
+     * @return the values
+     */
+    public Collection<V> values() {
+        Collection<V> values = new ArrayList<>(this.data.size());
+        for (Node<K, V> node : this.data.values()) {
+            values.add(node.value);
+        }
+        return values;
+    }
+
+    public int size() {
+        return this.data.size();
+    }
+
+    public void clear() {
+        this.evictionLock.lock();
+        try {
+            this.data.clear();
+            drainReadBuffer();
+            while (this.head != null) {
+                unlink(this.head);
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Called after a new entry is added, with the least recently accessed entry, which may be the new one. Subclasses overriding it may release the eldest
+     * entry when they return <code>true</code>.
+     *
+     * @param eldest
+     *            the least recently accessed entry
+     * @return whether the eldest entry should be removed
+     */
+    protected boolean removeEldestEntry(Entry<K, V> eldest) {
+        return size() > this.maxElements;
+    }
+
+    private void drainReadBuffer() {
+        Node<K, V> node;
+        while ((node = this.readBuffer.poll()) != null) {
+            this.readBufferSize.decrementAndGet();
+            if (node.linked && node != this.tail) {
+                unlink(node);
+                linkLast(node);
+            }
+        }
+    }
+
+    private void linkLast(Node<K, V> node) {
+        node.prev = this.tail;
+        node.next = null;
+        if (this.tail == null) {
+            this.head = node;
+        } else {
+            this.tail.next = node;
+        }
+        this.tail = node;
+        node.linked = true;
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (!node.linked) {
+            return;
+        }
+        if (node.prev == null) {
+            this.head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            this.tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+    }
+
+    private static final class Node<K, V> {
+
+        final K key;
+        final V value;
+
+        // guarded by evictionLock
+        Node<K, V> prev;
+        Node<K, V> next;
+        boolean linked;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+package com.mysql.cj.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hashed timing wheel for large numbers of short lived timeouts, most of them cancelled before they expire. Scheduling and cancelling are lock free and O(1);
+ * expired tasks run on the single worker thread with the precision of one tick, so they must be short and hand any blocking work over to other threads.
+ *
+ * The worker thread is a daemon started on demand. It stops ticking when no timeouts are pending and ends after lingering idle for a while, so an unused
+ * timer holds no thread.
+ */
+public class HashedWheelTimer {
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancels the task if it has not expired yet.
+         *
+         * @return true if the task was pending and will not run, false if it already ran or was cancelled before
+         */
+        boolean cancel();
+
+        /**
+         * @return true if the task ran or is running
+         */
+        boolean isExpired();
+
+    }
+
+    private static final int ST_PENDING = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private final String threadName;
+    private final long tickNanos;
+    private final long idleNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+
+    private final Queue<WheelTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTimeouts = new AtomicInteger();
+
+    private final ReentrantLock workerLock = new ReentrantLock();
+    private final Condition workAvailable = this.workerLock.newCondition();
+    private volatile Thread worker = null;
+    private volatile boolean idle = false;
+
+    /** Current tick, only accessed by the worker thread. */
+    private long tick = 0;
+
+    /**
+     * Creates a timer.
+     *
+     * @param threadName
+     *            name of the worker thread
+     * @param tickDuration
+     *            duration of a tick, the precision of the timer
+     * @param ticksPerWheel
+     *            number of buckets, rounded up to a power of two; timeouts longer than a full turn of the wheel are kept in their bucket for several turns
+     * @param idleTimeout
+     *            how long the worker thread lingers without pending timeouts before ending
+     * @param unit
+     *            unit of {@code tickDuration} and {@code idleTimeout}
+     */
+    public HashedWheelTimer(String threadName, long tickDuration, int ticksPerWheel, long idleTimeout, TimeUnit unit) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException();
+        }
+        this.threadName = threadName;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.idleNanos = unit.toNanos(idleTimeout);
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[Math.max(size, 1)];
+        for (int i = 0; i < this.wheel.length; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = this.wheel.length - 1;
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task
+     *            the task, run on the timer thread
+     * @param delay
+     *            delay before running the task
+     * @param unit
+     *            unit of {@code delay}
+     * @return the handle to cancel the task
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        WheelTimeout timeout = new WheelTimeout(task, System.nanoTime() + unit.toNanos(Math.max(delay, 0)));
+        this.pendingTimeouts.incrementAndGet();
+        this.newTimeouts.add(timeout);
+        if (this.worker == null || this.idle) {
+            // The worker reads the queue after raising the idle flag, so either it sees the timeout or it gets signalled here.
+            this.workerLock.lock();
+            try {
+                if (this.worker == null) {
+                    Thread t = new Thread(this::runWorker, this.threadName);
+                    t.setDaemon(true);
+                    ClassLoader classLoader = HashedWheelTimer.class.getClassLoader();
+                    t.setContextClassLoader(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+                    this.worker = t;
+                    t.start();
+                } else {
+                    this.workAvailable.signal();
+                }
+            } finally {
+                this.workerLock.unlock();
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * @return the number of tasks scheduled and neither run nor cancelled yet
+     */
+    public int getPendingTimeouts() {
+        return this.pendingTimeouts.get();
+    }
+
+    private void runWorker() {
+        this.tick = currentTick();
+        for (;;) {
+            if (this.pendingTimeouts.get() == 0) {
+                // Only cancelled timeouts are left, drop them before going idle
+                transferNewTimeouts();
+                removeCancelledTimeouts();
+                if (this.pendingTimeouts.get() == 0) {
+                    if (!awaitWork()) {
+                        return;
+                    }
+                    // The wheel is empty, no need to go over the ticks missed while idle
+                    this.tick = currentTick();
+                }
+            }
+
+            long sleepNanos = this.startTime + (this.tick + 1) * this.tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                // Interrupts would keep the thread from parking
+                Thread.interrupted();
+                continue;
+            }
+
+            transferNewTimeouts();
+            removeCancelledTimeouts();
+            this.wheel[(int) (this.tick & this.mask)].expireTimeouts();
+            this.tick++;
+        }
+    }
+
+    /**
+     * Waits for new timeouts, or ends the worker after the idle timeout.
+     *
+     * @return false if the worker must end
+     */
+    private boolean awaitWork() {
+        this.workerLock.lock();
+        try {
+            this.idle = true;
+            long remaining = this.idleNanos;
+            while (this.newTimeouts.isEmpty()) {
+                if (remaining <= 0) {
+                    this.worker = null;
+                    return false;
+                }
+                try {
+                    remaining = this.workAvailable.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    // Only the idle timeout ends the worker
+                }
+            }
+            return true;
+        } finally {
+            this.idle = false;
+            this.workerLock.unlock();
+        }
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - this.startTime) / this.tickNanos;
+    }
+
+    private void transferNewTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = this.newTimeouts.poll()) != null) {
+            if (timeout.state.get() == ST_CANCELLED) {
+                continue;
+            }
+            long deadlineTick = Math.max((timeout.deadline - this.startTime + this.tickNanos - 1) / this.tickNanos, this.tick);
+            timeout.remainingRounds = (deadlineTick - this.tick) / this.wheel.length;
+            this.wheel[(int) (deadlineTick & this.mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = this.cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private final class WheelTimeout implements Timeout {
+
+        final Runnable task;
+        final long deadline;
+        final AtomicInteger state = new AtomicInteger(ST_PENDING);
+
+        // Only accessed by the worker thread
+        long remainingRounds;
+        Bucket bucket;
+        WheelTimeout next;
+        WheelTimeout prev;
+
+        WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!this.state.compareAndSet(ST_PENDING, ST_CANCELLED)) {
+                return false;
+            }
+            HashedWheelTimer.this.pendingTimeouts.decrementAndGet();
+            HashedWheelTimer.this.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return this.state.get() == ST_EXPIRED;
+        }
+
+        void expire() {
+            if (!this.state.compareAndSet(ST_PENDING, ST_EXPIRED)) {
+                return;
+            }
+            HashedWheelTimer.this.pendingTimeouts.decrementAndGet();
+            try {
+                this.task.run();
+            } catch (Throwable t) {
+                // Nowhere to report this, and the timer must go on
+            }
+        }
+
+    }
+
+    /**
+     * Doubly linked list of the timeouts falling on one tick of the wheel, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (this.head == null) {
+                this.head = this.tail = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.prev = this.tail;
+                this.tail = timeout;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == this.head) {
+                this.head = next;
+            }
+            if (timeout == this.tail) {
+                this.tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expireTimeouts() {
+            WheelTimeout timeout = this.head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.state.get() == ST_CANCELLED) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+    }
+
+}
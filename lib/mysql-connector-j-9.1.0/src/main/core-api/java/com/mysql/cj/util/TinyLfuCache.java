@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A concurrent cache bounded by the total weight of its entries, meant to be shared by many threads. Reads and writes don't take locks.
+ * <p>
+ * Entries are evicted in CLOCK order, which gives a second chance to the ones read since they were last considered. A new entry is admitted in place of the
+ * first eviction victim only if it was requested more often than the victim (TinyLFU admission). Request frequencies, of hits and misses alike, are estimated
+ * by a count-min sketch whose counters are halved periodically, so that the estimates follow changes in popularity. This keeps bursts of one-off keys from
+ * flushing the frequently used ones.
+ * <p>
+ * Under contention, frequencies, second chances and the weight may be slightly off. This only affects the choice of victims, never the values returned.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class TinyLfuCache<K, V> {
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    /** Admitted entries in CLOCK order. May still hold invalidated entries, which are dropped when reached. */
+    private final ConcurrentLinkedQueue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger clockSize = new AtomicInteger();
+    private final AtomicLong weight = new AtomicLong();
+    private final ToIntBiFunction<K, V> weigher;
+    private volatile long maxWeight;
+    private volatile FrequencySketch sketch;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxWeight
+     *            the maximum total weight of the entries
+     * @param expectedEntries
+     *            the number of entries expected to fit in the cache, used for sizing the frequency sketch
+     * @param weigher
+     *            computes the weight of an entry
+     */
+    public TinyLfuCache(long maxWeight, int expectedEntries, ToIntBiFunction<K, V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    /**
+     * Raises the maximum weight of this cache, if lower than the given one.
+     *
+     * @param minMaxWeight
+     *            the minimum value for the maximum total weight of the entries
+     * @param expectedEntries
+     *            the number of entries expected to fit in the cache at this weight
+     */
+    public synchronized void ensureCapacity(long minMaxWeight, int expectedEntries) {
+        if (minMaxWeight > this.maxWeight) {
+            this.maxWeight = minMaxWeight;
+        }
+        if (FrequencySketch.widthFor(expectedEntries) > this.sketch.table.length) {
+            this.sketch = new FrequencySketch(expectedEntries);
+        }
+    }
+
+    public V get(K key) {
+        int hash = key.hashCode();
+        this.sketch.increment(hash);
+        Node<K, V> node = this.data.get(key);
+        if (node == null) {
+            this.missCount.increment();
+            return null;
+        }
+        node.referenced = true;
+        this.hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * Adds an entry, unless one is already cached for the key or the admission policy rejects it.
+     *
+     * @param key
+     *            the key
+     * @param value
+     *            the value
+     */
+    public void put(K key, V value) {
+        int entryWeight = this.weigher.applyAsInt(key, value);
+        if (entryWeight > this.maxWeight) {
+            return;
+        }
+        Node<K, V> node = new Node<>(key, key.hashCode(), value, entryWeight);
+        if (this.data.putIfAbsent(key, node) != null) {
+            return;
+        }
+        this.weight.addAndGet(entryWeight);
+        if (admit(node)) {
+            this.clock.offer(node);
+            this.clockSize.incrementAndGet();
+        }
+    }
+
+    /**
+     * Evicts entries until the cache fits in its maximum weight and decides whether the new entry stays in the cache: it is removed instead of the first
+     * victim if it was requested less often.
+     *
+     * @param candidate
+     *            the new entry, already added to the map
+     * @return whether the new entry was admitted
+     */
+    private boolean admit(Node<K, V> candidate) {
+        boolean compared = false;
+        int secondChances = this.clockSize.get();
+        while (this.weight.get() > this.maxWeight) {
+            Node<K, V> victim = this.clock.poll();
+            if (victim == null) {
+                // The other entries are being added concurrently
+                if (unlink(candidate)) {
+                    this.evictionCount.increment();
+                }
+                return false;
+            }
+            this.clockSize.decrementAndGet();
+            if (victim.removed) {
+                continue;
+            }
+            if (victim.referenced && secondChances-- > 0) {
+                victim.referenced = false;
+                this.clock.offer(victim);
+                this.clockSize.incrementAndGet();
+                continue;
+            }
+            if (!compared) {
+                compared = true;
+                FrequencySketch frequencies = this.sketch;
+                if (frequencies.frequency(candidate.hash) <= frequencies.frequency(victim.hash)) {
+                    this.clock.offer(victim);
+                    this.clockSize.incrementAndGet();
+                    if (unlink(candidate)) {
+                        this.evictionCount.increment();
+                    }
+                    return false;
+                }
+            }
+            if (unlink(victim)) {
+                this.evictionCount.increment();
+            }
+        }
+        return true;
+    }
+
+    private boolean unlink(Node<K, V> node) {
+        if (this.data.remove(node.key, node)) {
+            node.removed = true;
+            this.weight.addAndGet(-node.weight);
+            return true;
+        }
+        return false;
+    }
+
+    public void invalidate(K key) {
+        Node<K, V> node = this.data.get(key);
+        if (node != null && unlink(node)) {
+            purgeClock();
+        }
+    }
+
+    /**
+     * Removes the entries whose keys match the given predicate.
+     *
+     * @param filter
+     *            selects the keys to remove
+     */
+    public void invalidateIf(Predicate<K> filter) {
+        boolean removed = false;
+        for (Node<K, V> node : this.data.values()) {
+            if (filter.test(node.key)) {
+                removed |= unlink(node);
+            }
+        }
+        if (removed) {
+            purgeClock();
+        }
+    }
+
+    public void invalidateAll() {
+        invalidateIf(k -> true);
+    }
+
+    /**
+     * Drops invalidated entries from the CLOCK queue once they make up most of it.
+     */
+    private void purgeClock() {
+        if (this.clockSize.get() > 2 * this.data.size() + 16) {
+            this.clock.removeIf(n -> n.removed);
+            this.clockSize.set(this.clock.size());
+        }
+    }
+
+    public int size() {
+        return this.data.size();
+    }
+
+    public long getWeight() {
+        return this.weight.get();
+    }
+
+    public long getMaxWeight() {
+        return this.maxWeight;
+    }
+
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * @return the number of entries removed to make room for others, including new entries rejected by the admission policy
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    private static final class Node<K, V> {
+
+        final K key;
+        final int hash;
+        final V value;
+        final int weight;
+        /** Read since the CLOCK last went past it? */
+        boolean referenced = false;
+        volatile boolean removed = false;
+
+        Node(K key, int hash, V value, int weight) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+    /**
+     * Count-min sketch with four hash functions over a single table of counters saturating at 15. All counters are halved after as many increments as there
+     * are counters. Increments racing with each other may be lost.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+        private static final int MAX_COUNT = 15;
+
+        final byte[] table;
+        private final int mask;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        FrequencySketch(int expectedEntries) {
+            this.table = new byte[widthFor(expectedEntries)];
+            this.mask = this.table.length - 1;
+        }
+
+        static int widthFor(int expectedEntries) {
+            int entries = Math.min(Math.max(expectedEntries, 16), 1 << 24);
+            return Integer.highestOneBit(entries - 1) << 4; // about 8 to 16 counters per entry
+        }
+
+        private int indexOf(int hash, int seed) {
+            int h = (hash ^ hash >>> 16) * seed;
+            return (h ^ h >>> 15) & this.mask;
+        }
+
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, this.table[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            for (int seed : SEEDS) {
+                int i = indexOf(hash, seed);
+                if (this.table[i] < MAX_COUNT) {
+                    this.table[i]++;
+                }
+            }
+            if (this.additions.incrementAndGet() == this.table.length) {
+                for (int i = 0; i < this.table.length; i++) {
+                    this.table[i] >>= 1;
+                }
+                this.additions.addAndGet(-this.table.length);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+package com.mysql.cj;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mysql.cj.conf.HostConnectionKey;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.telemetry.TelemetryAttribute;
+import com.mysql.cj.telemetry.TelemetryScope;
+import com.mysql.cj.telemetry.TelemetrySpan;
+import com.mysql.cj.telemetry.TelemetrySpanName;
+import com.mysql.cj.util.HashedWheelTimer;
+import com.mysql.cj.util.HashedWheelTimer.Timeout;
+
+/**
+ * VM-wide support for query timeouts: a single {@link HashedWheelTimer} shared by all sessions, a small pool of threads doing the cancellations, and a few
+ * idle administrative sessions per server, user and transport, kept to send {@code KILL QUERY} without opening a new connection every time.
+ *
+ * Only {@link #MAX_KILLS_PER_HOST} cancellations run at a time for the same server, the others wait in a queue for that server, and administrative sessions
+ * connect and read with a short timeout. A server that does not answer therefore delays its own cancellations but not those for other servers.
+ *
+ * Statistics on the timeouts fired and on the time taken to kill the queries are kept for the whole VM.
+ */
+public class CancelQueryService {
+
+    /** Threads cancelling queries, shared by all servers. */
+    private static final int CANCEL_THREADS = 4;
+    /** Cancellations running at a time for the same server. */
+    private static final int MAX_KILLS_PER_HOST = 2;
+    /** Idle sessions kept per server, user and transport; more are never in use at a time than {@link #MAX_KILLS_PER_HOST}. */
+    private static final int MAX_IDLE_SESSIONS = MAX_KILLS_PER_HOST;
+    private static final long IDLE_SESSION_TIMEOUT_MILLIS = 60000;
+    /** Limit for connecting an administrative session and for each of its reads, lowered to the session's own socket timeout if that is shorter. */
+    private static final int ADMIN_TIMEOUT_MILLIS = 5000;
+
+    private static final HashedWheelTimer TIMER = new HashedWheelTimer("MySQL Statement Cancellation Timer", 10, 512, 60000, TimeUnit.MILLISECONDS);
+
+    private static final ThreadPoolExecutor CANCEL_EXECUTOR;
+
+    static {
+        CANCEL_EXECUTOR = new ThreadPoolExecutor(CANCEL_THREADS, CANCEL_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "MySQL Statement Cancellation");
+            t.setDaemon(true);
+            ClassLoader classLoader = CancelQueryService.class.getClassLoader();
+            t.setContextClassLoader(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+            return t;
+        });
+        CANCEL_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /** Properties that administrative sessions must share with the sessions they cancel queries for. */
+    private static final PropertyKey[] SESSION_PROPERTIES = { PropertyKey.socketFactory, PropertyKey.PATH, PropertyKey.sslMode, PropertyKey.useSSL,
+            PropertyKey.requireSSL, PropertyKey.verifyServerCertificate, PropertyKey.tlsVersions, PropertyKey.tlsCiphersuites, PropertyKey.sslContextProvider,
+            PropertyKey.trustManagerFactoryProvider, PropertyKey.keyManagerFactoryProvider, PropertyKey.trustCertificateKeyStoreUrl,
+            PropertyKey.trustCertificateKeyStoreType, PropertyKey.trustCertificateKeyStorePassword, PropertyKey.clientCertificateKeyStoreUrl,
+            PropertyKey.clientCertificateKeyStoreType, PropertyKey.clientCertificateKeyStorePassword, PropertyKey.fallbackToSystemKeyStore,
+            PropertyKey.fallbackToSystemTrustStore, PropertyKey.defaultAuthenticationPlugin, PropertyKey.authenticationPlugins,
+            PropertyKey.disabledAuthenticationPlugins, PropertyKey.serverRSAPublicKeyFile, PropertyKey.allowPublicKeyRetrieval,
+            PropertyKey.passwordCharacterEncoding, PropertyKey.password1, PropertyKey.password2, PropertyKey.password3, PropertyKey.ldapServerHostname,
+            PropertyKey.ociConfigFile, PropertyKey.ociConfigProfile, PropertyKey.authenticationOpenidConnectCallbackHandler,
+            PropertyKey.authenticationWebAuthnCallbackHandler };
+
+    private static final Map<String, HostQueue> hostQueues = new ConcurrentHashMap<>();
+    private static final Map<HostConnectionKey, ConcurrentLinkedDeque<IdleSession>> idleSessions = new ConcurrentHashMap<>();
+    private static final AtomicBoolean reaperScheduled = new AtomicBoolean();
+
+    private static final LongAdder timeoutsFired = new LongAdder();
+    private static final LongAdder queriesKilled = new LongAdder();
+    private static final LongAdder killsFailed = new LongAdder();
+    private static final LongAdder sessionsOpened = new LongAdder();
+    private static final LongAdder totalKillLatencyNanos = new LongAdder();
+    private static final AtomicLong maxKillLatencyNanos = new AtomicLong();
+
+    private CancelQueryService() {
+    }
+
+    /**
+     * Schedules a cancellation task. When the timeout expires the task runs on one of the cancellation threads, once fewer than
+     * {@link #MAX_KILLS_PER_HOST} cancellations are running for the same server.
+     *
+     * @param task
+     *            the task
+     * @param session
+     *            the session running the query
+     * @param timeoutMillis
+     *            the query timeout
+     * @return the handle to cancel the timeout
+     */
+    static Timeout schedule(CancelQueryTaskImpl task, NativeSession session, long timeoutMillis) {
+        HostQueue queue = hostQueues.computeIfAbsent(session.getHostInfo().getHostPortPair(), h -> new HostQueue());
+        return TIMER.newTimeout(() -> {
+            timeoutsFired.increment();
+            task.firedAt = System.nanoTime();
+            queue.submit(task);
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends {@code KILL QUERY} for the given session through an idle administrative session to the same server, or through a new one.
+     *
+     * @param session
+     *            the session running the query
+     * @param firedAt
+     *            {@link System#nanoTime()} when the timeout fired, to measure the kill latency
+     * @throws IOException
+     *             if a new administrative session cannot be opened
+     */
+    static void killQuery(NativeSession session, long firedAt) throws IOException {
+        long connectionId = session.getThreadId();
+        HostInfo hostInfo = session.getHostInfo();
+        HostConnectionKey key = getSessionKey(hostInfo, session.getPropertySet());
+
+        TelemetrySpan span = session.getTelemetryHandler().startSpan(TelemetrySpanName.CANCEL_QUERY);
+        try (TelemetryScope scope = span.makeCurrent()) {
+            span.setAttribute(TelemetryAttribute.DB_NAME, hostInfo.getDatabase());
+            span.setAttribute(TelemetryAttribute.DB_OPERATION, TelemetryAttribute.OPERATION_KILL);
+            span.setAttribute(TelemetryAttribute.DB_STATEMENT, TelemetryAttribute.OPERATION_KILL + TelemetryAttribute.STATEMENT_SUFFIX);
+            span.setAttribute(TelemetryAttribute.DB_SYSTEM, TelemetryAttribute.DB_SYSTEM_DEFAULT);
+            span.setAttribute(TelemetryAttribute.DB_USER, hostInfo.getUser());
+            span.setAttribute(TelemetryAttribute.THREAD_ID, Thread.currentThread().getId());
+            span.setAttribute(TelemetryAttribute.THREAD_NAME, Thread.currentThread().getName());
+
+            NativeSession adminSession = borrowSession(key);
+            try {
+                if (adminSession == null) {
+                    adminSession = openSession(hostInfo, session.getPropertySet());
+                    sendKill(adminSession, connectionId);
+                } else {
+                    try {
+                        sendKill(adminSession, connectionId);
+                    } catch (Throwable t) {
+                        // The idle session may have been closed by the server, try once more on a new one
+                        closeSession(adminSession);
+                        adminSession = null;
+                        adminSession = openSession(hostInfo, session.getPropertySet());
+                        sendKill(adminSession, connectionId);
+                    }
+                }
+            } catch (Throwable t) {
+                if (adminSession != null) {
+                    closeSession(adminSession);
+                }
+                killsFailed.increment();
+                throw t;
+            }
+            releaseSession(key, adminSession);
+
+            long latency = System.nanoTime() - firedAt;
+            queriesKilled.increment();
+            totalKillLatencyNanos.add(latency);
+            maxKillLatencyNanos.accumulateAndGet(latency, Math::max);
+        } catch (Throwable t) {
+            span.setError(t);
+            throw t;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static NativeSession openSession(HostInfo hostInfo, PropertySet propertySet) throws IOException {
+        NativeSession newSession = new NativeSession(hostInfo, propertySet);
+        int socketTimeout = propertySet.getIntegerProperty(PropertyKey.socketTimeout).getValue();
+        try {
+            newSession.connect(hostInfo, hostInfo.getUser(), hostInfo.getPassword(), hostInfo.getDatabase(), ADMIN_TIMEOUT_MILLIS,
+                    new TransactionEventHandler() {
+
+                        @Override
+                        public void transactionCompleted() {
+                        }
+
+                        @Override
+                        public void transactionBegun() {
+                        }
+
+                    });
+            // Not through the session, which would change the property set shared with the connection being cancelled
+            newSession.getProtocol().setSocketTimeout(socketTimeout > 0 ? Math.min(socketTimeout, ADMIN_TIMEOUT_MILLIS) : ADMIN_TIMEOUT_MILLIS);
+        } catch (Throwable t) {
+            closeSession(newSession);
+            throw t;
+        }
+        sessionsOpened.increment();
+        return newSession;
+    }
+
+    private static void sendKill(NativeSession adminSession, long connectionId) {
+        adminSession.getProtocol().sendCommand(new NativeMessageBuilder(adminSession.getServerSession().supportsQueryAttributes())
+                .buildComQuery(adminSession.getSharedSendPacket(), adminSession, "KILL QUERY " + connectionId), false, 0);
+    }
+
+    private static void closeSession(NativeSession adminSession) {
+        try {
+            adminSession.forceClose();
+        } catch (Throwable t) {
+            // no-op.
+        }
+    }
+
+    /**
+     * Administrative sessions are shared by connections to the same server, with the same credentials, through the same transport, and with the same TLS
+     * and authentication settings.
+     *
+     * @param hostInfo
+     *            the server and credentials
+     * @param propertySet
+     *            the properties of the session running the query
+     * @return the key of the idle sessions to use
+     */
+    private static HostConnectionKey getSessionKey(HostInfo hostInfo, PropertySet propertySet) {
+        String[] values = new String[SESSION_PROPERTIES.length];
+        for (int i = 0; i < SESSION_PROPERTIES.length; i++) {
+            RuntimeProperty<?> property = propertySet.getProperty(SESSION_PROPERTIES[i]);
+            values[i] = property != null ? property.getStringValue() : null;
+        }
+        return new HostConnectionKey(hostInfo, (Object[]) values);
+    }
+
+    private static NativeSession borrowSession(HostConnectionKey key) {
+        ConcurrentLinkedDeque<IdleSession> sessions = idleSessions.get(key);
+        if (sessions != null) {
+            IdleSession idle;
+            while ((idle = sessions.pollFirst()) != null) {
+                if (!idle.session.isClosed()) {
+                    return idle.session;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void releaseSession(HostConnectionKey key, NativeSession adminSession) {
+        ConcurrentLinkedDeque<IdleSession> sessions = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        if (sessions.size() >= MAX_IDLE_SESSIONS) {
+            closeSession(adminSession);
+            return;
+        }
+        sessions.offerFirst(new IdleSession(adminSession));
+        scheduleReaper();
+    }
+
+    private static void scheduleReaper() {
+        if (reaperScheduled.compareAndSet(false, true)) {
+            TIMER.newTimeout(() -> CANCEL_EXECUTOR.execute(CancelQueryService::closeIdleSessions), IDLE_SESSION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Closes the sessions idle for longer than {@link #IDLE_SESSION_TIMEOUT_MILLIS}, and checks again later while some are left.
+     */
+    private static void closeIdleSessions() {
+        reaperScheduled.set(false);
+        long now = System.nanoTime();
+        boolean sessionsLeft = false;
+        for (ConcurrentLinkedDeque<IdleSession> sessions : idleSessions.values()) {
+            for (IdleSession idle : sessions) {
+                // Removing fails if the session was just borrowed
+                if (now - idle.idleSince >= TimeUnit.MILLISECONDS.toNanos(IDLE_SESSION_TIMEOUT_MILLIS) && sessions.remove(idle)) {
+                    closeSession(idle.session);
+                }
+            }
+            sessionsLeft |= !sessions.isEmpty();
+        }
+        if (sessionsLeft) {
+            scheduleReaper();
+        }
+    }
+
+    /**
+     * @return the number of query timeouts fired since the driver was loaded
+     */
+    public static long getTimeoutsFired() {
+        return timeoutsFired.sum();
+    }
+
+    /**
+     * @return the number of {@code KILL QUERY} commands sent successfully
+     */
+    public static long getQueriesKilled() {
+        return queriesKilled.sum();
+    }
+
+    /**
+     * @return the number of {@code KILL QUERY} commands that could not be sent
+     */
+    public static long getKillsFailed() {
+        return killsFailed.sum();
+    }
+
+    /**
+     * @return the number of administrative sessions opened to send {@code KILL QUERY}
+     */
+    public static long getSessionsOpened() {
+        return sessionsOpened.sum();
+    }
+
+    /**
+     * @return the total time between timeouts firing and the server acknowledging their {@code KILL QUERY}, over all queries killed, in nanoseconds
+     */
+    public static long getTotalKillLatencyNanos() {
+        return totalKillLatencyNanos.sum();
+    }
+
+    /**
+     * @return the longest time between a timeout firing and the server acknowledging its {@code KILL QUERY}, in nanoseconds
+     */
+    public static long getMaxKillLatencyNanos() {
+        return maxKillLatencyNanos.get();
+    }
+
+    /**
+     * @return the number of query timeouts scheduled and neither fired nor cancelled yet
+     */
+    public static int getPendingTimeouts() {
+        return TIMER.getPendingTimeouts();
+    }
+
+    /**
+     * Cancellations fired for one server, run on the shared threads with at most {@link #MAX_KILLS_PER_HOST} at a time.
+     */
+    private static final class HostQueue {
+
+        private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger running = new AtomicInteger();
+
+        void submit(Runnable task) {
+            this.pending.offer(task);
+            drain();
+        }
+
+        private void drain() {
+            while (!this.pending.isEmpty()) {
+                int count = this.running.get();
+                if (count >= MAX_KILLS_PER_HOST) {
+                    // a running cancellation drains the queue when it ends
+                    return;
+                }
+                if (!this.running.compareAndSet(count, count + 1)) {
+                    continue;
+                }
+                Runnable task = this.pending.poll();
+                if (task == null) {
+                    this.running.decrementAndGet();
+                    continue;
+                }
+                CANCEL_EXECUTOR.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        this.running.decrementAndGet();
+                        drain();
+                    }
+                });
+            }
+        }
+
+    }
+
+    private static final class IdleSession {
+
+        final NativeSession session;
+        final long idleSince = System.nanoTime();
+
+        IdleSession(NativeSession session) {
+            this.session = session;
+        }
+
+    }
+
+}
@@ -20,30 +20,24 @@
 
 package com.mysql.cj;
 
-import java.util.TimerTask;
-
 import com.mysql.cj.Query.CancelStatus;
-import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.OperationCancelledException;
-import com.mysql.cj.protocol.a.NativeMessageBuilder;
-import com.mysql.cj.telemetry.TelemetryAttribute;
-import com.mysql.cj.telemetry.TelemetryScope;
-import com.mysql.cj.telemetry.TelemetrySpan;
-import com.mysql.cj.telemetry.TelemetrySpanName;
+import com.mysql.cj.util.HashedWheelTimer.Timeout;
 
 //TODO should not be protocol-specific
 
 /**
- * Thread used to implement query timeouts...Eventually we could be more
- * efficient and have one thread with timers, but this is a straightforward
- * and simple way to implement a feature that isn't used all that often.
+ * Query timeout. It is scheduled on the timer of {@link CancelQueryService} and, when it expires, runs on one of its cancellation threads, sending
+ * {@code KILL QUERY} through a pooled administrative session.
  */
-public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
+public class CancelQueryTaskImpl implements CancelQueryTask, Runnable {
 
     Query queryToCancel;
     Throwable caughtWhileCancelling = null;
     boolean queryTimeoutKillsConnection = false;
+    long firedAt;
+    private volatile Timeout timeout;
 
     public CancelQueryTaskImpl(Query cancellee) {
         this.queryToCancel = cancellee;
@@ -51,100 +45,60 @@ public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
         this.queryTimeoutKillsConnection = session.getPropertySet().getBooleanProperty(PropertyKey.queryTimeoutKillsConnection).getValue();
     }
 
+    /**
+     * Starts the timeout.
+     *
+     * @param timeoutMillis
+     *            the query timeout
+     */
+    public void schedule(long timeoutMillis) {
+        Query localQueryToCancel = this.queryToCancel;
+        if (localQueryToCancel != null) {
+            this.timeout = CancelQueryService.schedule(this, (NativeSession) localQueryToCancel.getSession(), timeoutMillis);
+        }
+    }
+
     @Override
     public boolean cancel() {
-        boolean res = super.cancel();
+        Timeout localTimeout = this.timeout;
+        boolean res = localTimeout != null && localTimeout.cancel();
         this.queryToCancel = null;
         return res;
     }
 
     @Override
     public void run() {
-        Thread cancelThread = new Thread() {
-
-            @Override
-            public void run() {
-                Query localQueryToCancel = CancelQueryTaskImpl.this.queryToCancel;
-                if (localQueryToCancel == null) {
-                    return;
-                }
-                NativeSession session = (NativeSession) localQueryToCancel.getSession();
-                if (session == null) {
-                    return;
-                }
-
+        Query localQueryToCancel = this.queryToCancel;
+        if (localQueryToCancel == null) {
+            return;
+        }
+        NativeSession session = (NativeSession) localQueryToCancel.getSession();
+        if (session == null) {
+            return;
+        }
+
+        try {
+            if (this.queryTimeoutKillsConnection) {
+                localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
+                session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
+            } else {
+                localQueryToCancel.getCancelTimeoutLock().lock();
                 try {
-                    if (CancelQueryTaskImpl.this.queryTimeoutKillsConnection) {
-                        localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                        session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
-                    } else {
-                        localQueryToCancel.getCancelTimeoutLock().lock();
-                        try {
-                            long origConnId = session.getThreadId();
-                            HostInfo hostInfo = session.getHostInfo();
-                            String database = hostInfo.getDatabase();
-                            String user = hostInfo.getUser();
-                            String password = hostInfo.getPassword();
-
-                            NativeSession newSession = null;
-                            try {
-                                newSession = new NativeSession(hostInfo, session.getPropertySet());
-
-                                TelemetrySpan span = newSession.getTelemetryHandler().startSpan(TelemetrySpanName.CANCEL_QUERY);
-                                try (TelemetryScope scope = span.makeCurrent()) {
-                                    span.setAttribute(TelemetryAttribute.DB_NAME, database);
-                                    span.setAttribute(TelemetryAttribute.DB_OPERATION, TelemetryAttribute.OPERATION_KILL);
-                                    span.setAttribute(TelemetryAttribute.DB_STATEMENT, TelemetryAttribute.OPERATION_KILL + TelemetryAttribute.STATEMENT_SUFFIX);
-                                    span.setAttribute(TelemetryAttribute.DB_SYSTEM, TelemetryAttribute.DB_SYSTEM_DEFAULT);
-                                    span.setAttribute(TelemetryAttribute.DB_USER, user);
-                                    span.setAttribute(TelemetryAttribute.THREAD_ID, Thread.currentThread().getId());
-                                    span.setAttribute(TelemetryAttribute.THREAD_NAME, Thread.currentThread().getName());
-
-                                    newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
-
-                                        @Override
-                                        public void transactionCompleted() {
-                                        }
-
-                                        @Override
-                                        public void transactionBegun() {
-                                        }
-
-                                    });
-                                    newSession.getProtocol().sendCommand(new NativeMessageBuilder(newSession.getServerSession().supportsQueryAttributes())
-                                            .buildComQuery(newSession.getSharedSendPacket(), newSession, "KILL QUERY " + origConnId), false, 0);
-                                } catch (Throwable t) {
-                                    span.setError(t);
-                                    throw t;
-                                } finally {
-                                    span.end();
-                                }
-                            } finally {
-                                try {
-                                    newSession.forceClose();
-                                } catch (Throwable t) {
-                                    // no-op.
-                                }
-                            }
-                            localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                        } finally {
-                            localQueryToCancel.getCancelTimeoutLock().unlock();
-                        }
-                    }
-                    // } catch (NullPointerException npe) {
-                    // Case when connection closed while starting to cancel.
-                    // We can't easily synchronize this, because then one thread can't cancel() a running query.
-                    // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
-                } catch (Throwable t) {
-                    CancelQueryTaskImpl.this.caughtWhileCancelling = t;
+                    CancelQueryService.killQuery(session, this.firedAt);
+                    localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
                 } finally {
-                    setQueryToCancel(null);
+                    localQueryToCancel.getCancelTimeoutLock().unlock();
                 }
             }
-
-        };
-
-        cancelThread.start();
+            // } catch (NullPointerException npe) {
+            // Case when connection closed while starting to cancel.
+            // We can't easily synchronize this, because then one thread can't cancel() a running query.
+            // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
+        } catch (Throwable t) {
+            this.caughtWhileCancelling = t;
+        } finally {
+            setQueryToCancel(null);
+        }
     }
 
     @Override
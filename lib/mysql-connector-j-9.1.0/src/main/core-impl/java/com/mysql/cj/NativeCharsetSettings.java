@@ -25,6 +25,7 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -72,6 +73,11 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
 
     private Integer sessionCollationIndex = null;
 
+    /**
+     * The collation index sent in the handshake response, the one the server falls back to when the session state is reset.
+     */
+    private Integer handshakeCollationIndex = null;
+
     /**
      * What character set is the metadata returned in?
      */
@@ -140,6 +146,28 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
         }
     }
 
+    @Override
+    public List<String> getSessionResetAssignments() {
+        List<String> assignments = new ArrayList<>();
+        if (this.handshakeCollationIndex == null) {
+            return assignments;
+        }
+
+        String collationConnection = this.serverSession.getServerVariable(COLLATION_CONNECTION);
+        if (collationConnection != null && !collationConnection.equalsIgnoreCase(getCollationNameForCollationIndex(this.handshakeCollationIndex))) {
+            assignments.add("NAMES " + this.serverSession.getServerVariable(CHARACTER_SET_CLIENT) + " COLLATE " + collationConnection);
+        }
+
+        String resultsCharset = this.serverSession.getServerVariable(CHARACTER_SET_RESULTS);
+        if (StringUtils.isNullOrEmpty(resultsCharset) || "NULL".equalsIgnoreCase(resultsCharset)) {
+            assignments.add(CHARACTER_SET_RESULTS + " = NULL");
+        } else if (!assignments.isEmpty() || !resultsCharset.equalsIgnoreCase(getMysqlCharsetNameForCollationIndex(this.handshakeCollationIndex))) {
+            // SET NAMES also changes character_set_results
+            assignments.add(CHARACTER_SET_RESULTS + " = " + resultsCharset);
+        }
+        return assignments;
+    }
+
     @Override
     public boolean doesPlatformDbCharsetMatches() {
         return this.platformDbCharsetMatches;
@@ -248,6 +276,7 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
         this.serverSession.getServerVariables().put(CHARACTER_SET_CONNECTION, csName);
         this.serverSession.getServerVariables().put(COLLATION_CONNECTION, getStaticCollationNameForCollationIndex(this.sessionCollationIndex));
 
+        this.handshakeCollationIndex = this.sessionCollationIndex;
         return this.sessionCollationIndex;
     }
 
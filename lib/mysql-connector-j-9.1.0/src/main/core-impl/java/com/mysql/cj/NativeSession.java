@@ -68,6 +68,7 @@ import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.protocol.a.NativeServerSession;
 import com.mysql.cj.protocol.a.NativeSocketConnection;
 import com.mysql.cj.protocol.a.ResultsetFactory;
+import com.mysql.cj.protocol.a.result.OkPacket;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.LongValueFactory;
 import com.mysql.cj.result.Row;
@@ -580,6 +581,35 @@ public class NativeSession extends CoreSession implements Serializable {
     }
 
     public void setSessionVariables() {
+        List<String> assignments = getSessionVariablesAssignments();
+        if (!assignments.isEmpty()) {
+            TelemetrySpan span = getTelemetryHandler().startSpan(TelemetrySpanName.SET_VARIABLES);
+            try (TelemetryScope scope = span.makeCurrent()) {
+                span.setAttribute(TelemetryAttribute.DB_NAME, this.hostInfo.getDatabase());
+                span.setAttribute(TelemetryAttribute.DB_OPERATION, TelemetryAttribute.OPERATION_SET);
+                span.setAttribute(TelemetryAttribute.DB_STATEMENT, TelemetryAttribute.OPERATION_SET + TelemetryAttribute.STATEMENT_SUFFIX);
+                span.setAttribute(TelemetryAttribute.DB_SYSTEM, TelemetryAttribute.DB_SYSTEM_DEFAULT);
+                span.setAttribute(TelemetryAttribute.DB_USER, this.hostInfo.getUser());
+                span.setAttribute(TelemetryAttribute.THREAD_ID, Thread.currentThread().getId());
+                span.setAttribute(TelemetryAttribute.THREAD_NAME, Thread.currentThread().getName());
+
+                this.protocol.sendCommand(this.commandBuilder.buildComQuery(null, this, "SET " + String.join(",", assignments)), false, 0);
+            } catch (Throwable t) {
+                span.setError(t);
+                throw t;
+            } finally {
+                span.end();
+            }
+        }
+    }
+
+    /**
+     * Returns the assignments listed in 'sessionVariables', qualified with SESSION unless they set user variables.
+     *
+     * @return the assignments, in the order they were configured
+     */
+    public List<String> getSessionVariablesAssignments() {
+        List<String> assignments = new ArrayList<>();
         String sessionVariables = getPropertySet().getStringProperty(PropertyKey.sessionVariables).getValue();
         if (sessionVariables != null) {
             List<String> variablesToSet = new ArrayList<>();
@@ -587,39 +617,13 @@ public class NativeSession extends CoreSession implements Serializable {
                 variablesToSet.addAll(StringUtils.split(part, ";", "\"'(", "\"')", "\"'", true));
             }
 
-            if (!variablesToSet.isEmpty()) {
-                TelemetrySpan span = getTelemetryHandler().startSpan(TelemetrySpanName.SET_VARIABLES);
-                try (TelemetryScope scope = span.makeCurrent()) {
-                    span.setAttribute(TelemetryAttribute.DB_NAME, this.hostInfo.getDatabase());
-                    span.setAttribute(TelemetryAttribute.DB_OPERATION, TelemetryAttribute.OPERATION_SET);
-                    span.setAttribute(TelemetryAttribute.DB_STATEMENT, TelemetryAttribute.OPERATION_SET + TelemetryAttribute.STATEMENT_SUFFIX);
-                    span.setAttribute(TelemetryAttribute.DB_SYSTEM, TelemetryAttribute.DB_SYSTEM_DEFAULT);
-                    span.setAttribute(TelemetryAttribute.DB_USER, this.hostInfo.getUser());
-                    span.setAttribute(TelemetryAttribute.THREAD_ID, Thread.currentThread().getId());
-                    span.setAttribute(TelemetryAttribute.THREAD_NAME, Thread.currentThread().getName());
-
-                    StringBuilder query = new StringBuilder("SET ");
-                    String separator = "";
-                    for (String variableToSet : variablesToSet) {
-                        if (variableToSet.length() > 0) {
-                            query.append(separator);
-                            if (!variableToSet.startsWith("@")) {
-                                query.append("SESSION ");
-                            }
-                            query.append(variableToSet);
-                            separator = ",";
-                        }
-                    }
-                    this.protocol.sendCommand(this.commandBuilder.buildComQuery(null, this, query.toString()), false, 0);
-                } catch (Throwable t) {
-                    span.setError(t);
-                    throw t;
-                } finally {
-                    span.end();
+            for (String variableToSet : variablesToSet) {
+                if (variableToSet.length() > 0) {
+                    assignments.add(variableToSet.startsWith("@") ? variableToSet : "SESSION " + variableToSet);
                 }
-
             }
         }
+        return assignments;
     }
 
     @Override
@@ -861,6 +865,56 @@ public class NativeSession extends CoreSession implements Serializable {
         }
     }
 
+    /**
+     * Sends several COM_QUERY or COM_STMT_EXECUTE commands back to back and reads their responses in order, see
+     * {@link NativeProtocol#sendPipelined(List, NativeProtocol.PipelinedResponseHandler)}.
+     *
+     * @param packets
+     *            commands to send, each in its own payload positioned at its end
+     * @param handler
+     *            {@link NativeProtocol.PipelinedResponseHandler} called for each response, in order
+     */
+    public void execPipelined(List<NativePacketPayload> packets, NativeProtocol.PipelinedResponseHandler handler) {
+        long queryStartTime = this.gatherPerfMetrics.getValue() ? System.currentTimeMillis() : 0;
+
+        this.lastQueryFinishedTime = 0; // we're busy!
+
+        if (this.autoReconnect.getValue() && (getServerSession().isAutoCommit() || this.autoReconnectForPools.getValue()) && this.needsPing) {
+            try {
+                ping(false, 0);
+                this.needsPing = false;
+
+            } catch (Exception Ex) {
+                invokeReconnectListeners();
+            }
+        }
+
+        try {
+            ((NativeProtocol) this.protocol).sendPipelined(packets, handler);
+
+        } catch (CJException sqlE) {
+            if (this.autoReconnect.getValue()) {
+                if (sqlE instanceof CJCommunicationsException) {
+                    // IO may be dirty or damaged beyond repair, force close it.
+                    this.protocol.getSocketConnection().forceClose();
+                }
+                this.needsPing = true;
+            } else if (sqlE instanceof CJCommunicationsException) {
+                invokeCleanupListeners(sqlE);
+            }
+            throw sqlE;
+
+        } finally {
+            if (this.maintainTimeStats.getValue()) {
+                this.lastQueryFinishedTime = System.currentTimeMillis();
+            }
+
+            if (this.gatherPerfMetrics.getValue()) {
+                ((NativeProtocol) this.protocol).getMetricsHolder().registerQueryExecutionTime(System.currentTimeMillis() - queryStartTime);
+            }
+        }
+    }
+
     public long getIdleFor() {
         return this.lastQueryFinishedTime == 0 ? 0 : System.currentTimeMillis() - this.lastQueryFinishedTime;
     }
@@ -993,6 +1047,11 @@ public class NativeSession extends CoreSession implements Serializable {
         return this.protocol != null && this.protocol.getServerSession().useAnsiQuotedIdentifiers() ? "\"" : "`";
     }
 
+    /**
+     * @return a timer owned by this session, created on first use
+     * @deprecated Deprecated in Connector/J 9.1.0. Query timeouts are scheduled by {@link CancelQueryService} and no longer use this timer.
+     */
+    @Deprecated
     public Timer getCancelTimer() {
         getSessionLock().lock();
         try {
@@ -1008,7 +1067,9 @@ public class NativeSession extends CoreSession implements Serializable {
     public void resetSessionState() {
         checkClosed();
         NativePacketPayload message = this.commandBuilder.buildComResetConnection(((NativeProtocol) this.protocol).getSharedSendPacket());
-        this.protocol.sendCommand(message, false, 0);
+        NativePacketPayload ok = ((NativeProtocol) this.protocol).sendCommand(message, false, 0);
+        // The status flags tell the auto-commit mode the session was reset to
+        getServerSession().setStatusFlags(OkPacket.parse(ok, getServerSession()).getStatusFlags());
     }
 
 }
@@ -62,6 +62,9 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
     /** The ID that the server uses to identify this PreparedStatement */
     private long serverStatementId;
 
+    /** Has the server discarded this statement, e.g. on COM_RESET_CONNECTION, so that it must be prepared again before being executed? */
+    private boolean rePrepareNeeded = false;
+
     /** Field-level metadata for parameters */
     private Field[] parameterFields;
 
@@ -128,6 +131,7 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
             prepareResultPacket.setPosition(1);
 
             this.serverStatementId = prepareResultPacket.readInteger(IntegerDataType.INT4);
+            this.rePrepareNeeded = false;
             int fieldCount = (int) prepareResultPacket.readInteger(IntegerDataType.INT2);
             setParameterCount((int) prepareResultPacket.readInteger(IntegerDataType.INT2));
 
@@ -458,6 +462,14 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
         this.serverStatementId = serverStatementId;
     }
 
+    public boolean isRePrepareNeeded() {
+        return this.rePrepareNeeded;
+    }
+
+    public void setRePrepareNeeded(boolean rePrepareNeeded) {
+        this.rePrepareNeeded = rePrepareNeeded;
+    }
+
     public Field[] getParameterFields() {
         return this.parameterFields;
     }
@@ -572,7 +584,7 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
             this.queryBindings.setLongParameterSwitchDetected(clearServerParameters && hadLongData);
         }
 
-        if (clearServerParameters && hadLongData) {
+        if (clearServerParameters && hadLongData && !this.rePrepareNeeded) {
             serverResetStatement();
         }
     }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.conf;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Identifies the connections to a host that background services may share between client connections: same host and port, same credentials, and equal values
+ * for the settings the service depends on.
+ */
+public final class HostConnectionKey {
+
+    private final String hostPortPair;
+    private final String user;
+    private final String password;
+    private final Object[] settings;
+
+    /**
+     * Constructor.
+     *
+     * @param hostInfo
+     *            the host and credentials
+     * @param settings
+     *            the other values that must be equal for connections to be shared
+     */
+    public HostConnectionKey(HostInfo hostInfo, Object... settings) {
+        this.hostPortPair = hostInfo.getHostPortPair();
+        this.user = hostInfo.getUser();
+        this.password = hostInfo.getPassword();
+        this.settings = settings;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof HostConnectionKey)) {
+            return false;
+        }
+        HostConnectionKey other = (HostConnectionKey) obj;
+        return this.hostPortPair.equals(other.hostPortPair) && Objects.equals(this.user, other.user) && Objects.equals(this.password, other.password)
+                && Arrays.equals(this.settings, other.settings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.hostPortPair, this.user, Arrays.hashCode(this.settings));
+    }
+
+}
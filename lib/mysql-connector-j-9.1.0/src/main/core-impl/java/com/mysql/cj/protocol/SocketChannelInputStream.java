@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import com.mysql.cj.Messages;
+
+/**
+ * Input stream reading from a non-blocking {@link SocketChannel} through a direct buffer, see {@link SocketChannelFactory}. Reads larger than the buffer go
+ * straight to the caller's array.
+ *
+ * Blocking reads wait on a selector for at most the SO_TIMEOUT of the socket, so socket timeouts set by the driver keep working, and, like socket streams, they
+ * are not aborted by thread interrupts.
+ */
+public class SocketChannelInputStream extends InputStream {
+
+    private final Socket socket;
+    private final SocketChannel channel;
+    private final ByteBuffer buffer;
+    private Selector selector = null;
+
+    /**
+     * Creates a stream reading from the channel of the given socket, which must be in non-blocking mode.
+     *
+     * @param socket
+     *            the socket, which provides the channel and the read timeout
+     * @param bufferSize
+     *            size of the read buffer
+     */
+    public SocketChannelInputStream(Socket socket, int bufferSize) {
+        this.socket = socket;
+        this.channel = socket.getChannel();
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.buffer.flip();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.buffer.hasRemaining() && fill() < 0) {
+            return -1;
+        }
+        return this.buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+
+        if (!this.buffer.hasRemaining()) {
+            if (len >= this.buffer.capacity()) {
+                // No use copying through the buffer
+                return readChannel(ByteBuffer.wrap(b, off, len));
+            }
+            if (fill() < 0) {
+                return -1;
+            }
+        }
+
+        int n = Math.min(len, this.buffer.remaining());
+        this.buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0 || !this.buffer.hasRemaining() && fill() < 0) {
+            return 0;
+        }
+        int skipped = (int) Math.min(n, this.buffer.remaining());
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    /**
+     * Returns the number of buffered bytes. Bytes received but not read from the channel yet are not counted.
+     */
+    @Override
+    public int available() throws IOException {
+        return this.buffer.remaining();
+    }
+
+    /**
+     * Releases the selector, but leaves the channel open; it is closed with its socket.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.selector != null) {
+            this.selector.close();
+            this.selector = null;
+        }
+    }
+
+    private int fill() throws IOException {
+        this.buffer.clear();
+        try {
+            return readChannel(this.buffer);
+        } finally {
+            this.buffer.flip();
+        }
+    }
+
+    private int readChannel(ByteBuffer dst) throws IOException {
+        int n;
+        long deadline = 0;
+        boolean interrupted = false;
+        try {
+            while ((n = this.channel.read(dst)) == 0) {
+                if (this.selector == null) {
+                    this.selector = Selector.open();
+                    this.channel.register(this.selector, SelectionKey.OP_READ);
+                }
+
+                // A pending interrupt would wake the selector up immediately
+                interrupted |= Thread.interrupted();
+
+                int timeout = this.socket.getSoTimeout();
+                if (timeout > 0) {
+                    long now = System.currentTimeMillis();
+                    if (deadline == 0) {
+                        deadline = now + timeout;
+                    } else if (now >= deadline) {
+                        throw new SocketTimeoutException(Messages.getString("SocketChannelInputStream.0"));
+                    }
+                    this.selector.select(deadline - now);
+                } else {
+                    this.selector.select();
+                }
+                this.selector.selectedKeys().clear();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return n;
+    }
+
+}
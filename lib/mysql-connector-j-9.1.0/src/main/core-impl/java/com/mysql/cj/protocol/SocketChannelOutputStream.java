@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Buffered output stream writing to a non-blocking {@link SocketChannel}, see {@link SocketChannelFactory}. Besides the stream methods, it can write several
+ * buffers with a single gathering write.
+ *
+ * Writes block until all bytes are written, like socket streams, waiting on a selector while the socket send buffer is full.
+ */
+public class SocketChannelOutputStream extends BufferedOutputStream {
+
+    /**
+     * Creates a stream writing to the given channel, which must be in non-blocking mode.
+     *
+     * @param channel
+     *            the channel
+     * @param bufferSize
+     *            size of the stream buffer
+     */
+    public SocketChannelOutputStream(SocketChannel channel, int bufferSize) {
+        super(new ChannelWriter(channel), bufferSize);
+    }
+
+    /**
+     * Flushes the stream buffer, then writes the remaining bytes of a sequence of buffers, in order.
+     *
+     * @param srcs
+     *            the buffers
+     * @param offset
+     *            index of the first buffer to write
+     * @param length
+     *            number of buffers to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        flush();
+        ((ChannelWriter) this.out).write(srcs, offset, length);
+    }
+
+    private static class ChannelWriter extends OutputStream {
+
+        private final SocketChannel channel;
+        private final ByteBuffer[] single = new ByteBuffer[1];
+        private Selector selector = null;
+
+        ChannelWriter(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.single[0] = ByteBuffer.wrap(b, off, len);
+            try {
+                write(this.single, 0, 1);
+            } finally {
+                this.single[0] = null;
+            }
+        }
+
+        void write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            int first = offset;
+            int end = offset + length;
+            boolean interrupted = false;
+            try {
+                while (first < end) {
+                    if (!srcs[first].hasRemaining()) {
+                        first++;
+                    } else if (this.channel.write(srcs, first, end - first) == 0) {
+                        if (this.selector == null) {
+                            this.selector = Selector.open();
+                            this.channel.register(this.selector, SelectionKey.OP_WRITE);
+                        }
+                        // A pending interrupt would wake the selector up immediately
+                        interrupted |= Thread.interrupted();
+                        this.selector.select();
+                        this.selector.selectedKeys().clear();
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Releases the selector, but leaves the channel open; it is closed with its socket.
+         */
+        @Override
+        public void close() throws IOException {
+            if (this.selector != null) {
+                this.selector.close();
+                this.selector = null;
+            }
+        }
+
+    }
+
+}
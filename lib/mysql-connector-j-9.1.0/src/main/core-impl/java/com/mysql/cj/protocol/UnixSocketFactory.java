@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.Session;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+
+/**
+ * A socket factory for Unix domain sockets, for servers running on the same host. The socket file is set with the property "path" and defaults to
+ * {@value #DEFAULT_PATH}; host and port are only used for TLS host name verification.
+ *
+ * Like with {@link SocketChannelFactory}, the classic protocol reads and writes through the socket channel. Unix domain socket channels need Java 16 or later.
+ */
+public class UnixSocketFactory extends StandardSocketFactory {
+
+    public static final String DEFAULT_PATH = "/var/run/mysqld/mysqld.sock";
+
+    private static final int TLS_BUFFER_SIZE = 16384;
+
+    private static final Method ADDRESS_OF;
+    private static final Method OPEN_CHANNEL;
+    private static final ProtocolFamily UNIX;
+
+    static {
+        Method addressOf = null;
+        Method openChannel = null;
+        ProtocolFamily unix = null;
+        try {
+            addressOf = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", String.class);
+            openChannel = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            unix = StandardProtocolFamily.valueOf("UNIX");
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            // Java 15 or earlier
+            addressOf = null;
+            openChannel = null;
+        }
+        ADDRESS_OF = addressOf;
+        OPEN_CHANNEL = openChannel;
+        UNIX = unix;
+    }
+
+    /**
+     * A socket over a connected Unix domain socket channel. Socket options other than SO_TIMEOUT don't apply and are left to their defaults.
+     *
+     * The streams returned by {@link #getInputStream()} and {@link #getOutputStream()}, only used to layer TLS on this socket, put the channel in non-blocking
+     * mode so that reads still time out.
+     */
+    static class UnixSocket extends Socket {
+
+        private final SocketChannel channel;
+        private final SocketAddress address;
+        private volatile int soTimeout = 0;
+
+        UnixSocket(SocketChannel channel, SocketAddress address) {
+            this.channel = channel;
+            this.address = address;
+        }
+
+        @Override
+        public SocketChannel getChannel() {
+            return this.channel;
+        }
+
+        @Override
+        public SocketAddress getRemoteSocketAddress() {
+            return this.address;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return this.channel.isConnected();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return !this.channel.isOpen();
+        }
+
+        @Override
+        public int getSoTimeout() {
+            return this.soTimeout;
+        }
+
+        @Override
+        public void setSoTimeout(int timeout) throws SocketException {
+            if (timeout < 0) {
+                throw new IllegalArgumentException("timeout < 0");
+            }
+            this.soTimeout = timeout;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            this.channel.configureBlocking(false);
+            return new SocketChannelInputStream(this, TLS_BUFFER_SIZE);
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            this.channel.configureBlocking(false);
+            return new SocketChannelOutputStream(this.channel, TLS_BUFFER_SIZE);
+        }
+
+        @Override
+        public void shutdownInput() throws IOException {
+            this.channel.shutdownInput();
+        }
+
+        @Override
+        public void shutdownOutput() throws IOException {
+            this.channel.shutdownOutput();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+
+        @Override
+        public String toString() {
+            return "UnixSocket[path=" + this.address + "]";
+        }
+
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Closeable> T connect(String hostname, int portNumber, PropertySet pset, int loginTimeout) throws IOException {
+        this.loginTimeoutCountdown = loginTimeout;
+        this.host = hostname;
+        this.port = portNumber;
+
+        String socketPath = null;
+        RuntimeProperty<String> path = pset.getStringProperty(PropertyKey.PATH);
+        if (path != null) {
+            socketPath = path.getValue();
+        }
+        if (socketPath == null) {
+            socketPath = DEFAULT_PATH;
+        } else if (socketPath.length() == 0) {
+            throw new SocketException(Messages.getString("UnixSocketFactory.0", new Object[] { PropertyKey.PATH.getKeyName() }));
+        }
+
+        if (OPEN_CHANNEL == null) {
+            throw new SocketException(Messages.getString("UnixSocketFactory.1"));
+        }
+
+        SocketAddress address;
+        SocketChannel channel;
+        try {
+            address = (SocketAddress) ADDRESS_OF.invoke(null, socketPath);
+            channel = (SocketChannel) OPEN_CHANNEL.invoke(null, UNIX);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new SocketException(e.getCause().getMessage());
+        } catch (IllegalAccessException e) {
+            throw new SocketException(e.getMessage());
+        }
+
+        try {
+            connectChannel(channel, address, getRealTimeout(pset.getIntegerProperty(PropertyKey.connectTimeout).getValue()));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        resetLoginTimeCountdown();
+
+        this.rawSocket = new UnixSocket(channel, address);
+        this.sslSocket = this.rawSocket;
+        return (T) this.rawSocket;
+    }
+
+    /**
+     * Connects the channel, leaving it in non-blocking mode. A connection is normally accepted or refused at once, but waits while the server backlog is full.
+     *
+     * @param channel
+     *            the channel
+     * @param address
+     *            the socket address
+     * @param timeout
+     *            the connect timeout in milliseconds, 0 for none
+     * @throws IOException
+     *             if the connection fails or times out
+     */
+    private static void connectChannel(SocketChannel channel, SocketAddress address, int timeout) throws IOException {
+        channel.configureBlocking(false);
+        if (channel.connect(address)) {
+            return;
+        }
+        try (Selector selector = Selector.open()) {
+            channel.register(selector, SelectionKey.OP_CONNECT);
+            long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+            while (!channel.finishConnect()) {
+                if (timeout > 0) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new SocketTimeoutException(Messages.getString("UnixSocketFactory.2"));
+                    }
+                    selector.select(remaining);
+                } else {
+                    selector.select();
+                }
+                selector.selectedKeys().clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isLocallyConnected(Session sess) {
+        return true;
+    }
+
+}
@@ -23,6 +23,7 @@ package com.mysql.cj.protocol.a;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
@@ -38,6 +39,12 @@ public class CompressedInputStream extends InputStream {
     /** The packet data after it has been un-compressed */
     private byte[] buffer;
 
+    /** The end of the packet data in the buffer */
+    private int limit = 0;
+
+    /** Pool the buffers are taken from */
+    private PacketBufferPool bufferPool;
+
     /** The stream we are reading from the server */
     private InputStream in;
 
@@ -70,10 +77,28 @@ public class CompressedInputStream extends InputStream {
      *            logger
      */
     public CompressedInputStream(InputStream streamFromServer, RuntimeProperty<Boolean> traceProtocol, Log log) {
+        this(streamFromServer, traceProtocol, log, new PacketBufferPool(0));
+    }
+
+    /**
+     * Creates a new CompressedInputStream that reads the given stream from the
+     * server, taking its buffers from the given pool.
+     *
+     * @param streamFromServer
+     *            original server InputStream
+     * @param traceProtocol
+     *            "traceProtocol" property
+     * @param log
+     *            logger
+     * @param bufferPool
+     *            pool of packet buffers
+     */
+    public CompressedInputStream(InputStream streamFromServer, RuntimeProperty<Boolean> traceProtocol, Log log, PacketBufferPool bufferPool) {
         this.traceProtocol = traceProtocol;
         this.log = log;
         this.in = streamFromServer;
         this.inflater = new Inflater();
+        this.bufferPool = bufferPool;
     }
 
     @Override
@@ -82,12 +107,13 @@ public class CompressedInputStream extends InputStream {
             return this.in.available();
         }
 
-        return this.buffer.length - this.pos + this.in.available();
+        return this.limit - this.pos + this.in.available();
     }
 
     @Override
     public void close() throws IOException {
         this.in.close();
+        this.bufferPool.release(this.buffer);
         this.buffer = null;
         this.inflater.end();
         this.inflater = null;
@@ -103,8 +129,6 @@ public class CompressedInputStream extends InputStream {
      *             if an I/O error occurs
      */
     private void getNextPacketFromServer() throws IOException {
-        byte[] uncompressedData = null;
-
         int lengthRead = readFully(this.packetHeaderBuffer, 0, 7);
 
         if (lengthRead < 7) {
@@ -122,21 +146,39 @@ public class CompressedInputStream extends InputStream {
             this.log.logTrace("Reading compressed packet of length " + compressedPacketLength + " uncompressed to " + uncompressedLength);
         }
 
-        if (uncompressedLength > 0) {
-            uncompressedData = new byte[uncompressedLength];
+        boolean compressed = uncompressedLength > 0;
+        if (!compressed) {
+            uncompressedLength = compressedPacketLength;
+        }
 
-            byte[] compressedBuffer = new byte[compressedPacketLength];
+        // The new packet is appended to what is left of the previous one
+        int remaining = this.buffer == null ? 0 : this.limit - this.pos;
+        byte[] uncompressedData = this.bufferPool.acquire(remaining + uncompressedLength);
+
+        if (remaining > 0) {
+            if (doTrace) {
+                this.log.logTrace("Combining remaining packet with new: ");
+            }
+            System.arraycopy(this.buffer, this.pos, uncompressedData, 0, remaining);
+        }
+        this.bufferPool.release(this.buffer);
+        this.buffer = null;
+
+        if (compressed) {
+            byte[] compressedBuffer = this.bufferPool.acquire(compressedPacketLength);
 
             readFully(compressedBuffer, 0, compressedPacketLength);
 
             this.inflater.reset();
 
-            this.inflater.setInput(compressedBuffer);
+            this.inflater.setInput(compressedBuffer, 0, compressedPacketLength);
 
             try {
-                this.inflater.inflate(uncompressedData);
+                this.inflater.inflate(uncompressedData, remaining, uncompressedLength);
             } catch (DataFormatException dfe) {
                 throw new IOException("Error while uncompressing packet from server.");
+            } finally {
+                this.bufferPool.release(compressedBuffer);
             }
 
         } else {
@@ -147,38 +189,24 @@ public class CompressedInputStream extends InputStream {
             //
             // Read data, note this this code is reached when using compressed packets that have not been compressed, as well
             //
-            uncompressedLength = compressedPacketLength;
-            uncompressedData = new byte[uncompressedLength];
-            readFully(uncompressedData, 0, uncompressedLength);
+            readFully(uncompressedData, remaining, uncompressedLength);
         }
 
         if (doTrace) {
             if (uncompressedLength > 1024) {
-                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(uncompressedData, 256));
+                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(Arrays.copyOfRange(uncompressedData, remaining, remaining + 256), 256));
                 byte[] tempData = new byte[256];
-                System.arraycopy(uncompressedData, uncompressedLength - 256, tempData, 0, 256);
+                System.arraycopy(uncompressedData, remaining + uncompressedLength - 256, tempData, 0, 256);
                 this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(tempData, 256));
                 this.log.logTrace("Large packet dump truncated. Showing first and last 256 bytes.");
             } else {
-                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(uncompressedData, uncompressedLength));
+                this.log.logTrace("Uncompressed packet: \n"
+                        + StringUtils.dumpAsHex(Arrays.copyOfRange(uncompressedData, remaining, remaining + uncompressedLength), uncompressedLength));
             }
         }
 
-        if (this.buffer != null && this.pos < this.buffer.length) {
-            if (doTrace) {
-                this.log.logTrace("Combining remaining packet with new: ");
-            }
-
-            int remaining = this.buffer.length - this.pos;
-            byte[] newBuffer = new byte[remaining + uncompressedData.length];
-
-            System.arraycopy(this.buffer, this.pos, newBuffer, 0, remaining);
-            System.arraycopy(uncompressedData, 0, newBuffer, remaining, uncompressedData.length);
-
-            uncompressedData = newBuffer;
-        }
-
         this.pos = 0;
+        this.limit = remaining + uncompressedLength;
         this.buffer = uncompressedData;
 
         return;
@@ -195,7 +223,7 @@ public class CompressedInputStream extends InputStream {
      *             if an I/O error occors.
      */
     private void getNextPacketIfRequired(int numBytes) throws IOException {
-        if (this.buffer == null || this.pos + numBytes > this.buffer.length) {
+        if (this.buffer == null || this.pos + numBytes > this.limit) {
             getNextPacketFromServer();
         }
     }
@@ -234,7 +262,7 @@ public class CompressedInputStream extends InputStream {
             return -1;
         }
 
-        int remainingBufferLength = this.buffer.length - this.pos;
+        int remainingBufferLength = this.limit - this.pos;
         int consummedBytesLength = Math.min(remainingBufferLength, len);
 
         System.arraycopy(this.buffer, this.pos, b, off, consummedBytesLength);
@@ -35,9 +35,15 @@ import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 public class MultiPacketReader implements MessageReader<NativePacketHeader, NativePacketPayload> {
 
     private MessageReader<NativePacketHeader, NativePacketPayload> packetReader;
+    private PacketBufferPool bufferPool;
 
     public MultiPacketReader(MessageReader<NativePacketHeader, NativePacketPayload> packetReader) {
+        this(packetReader, new PacketBufferPool(0));
+    }
+
+    public MultiPacketReader(MessageReader<NativePacketHeader, NativePacketPayload> packetReader, PacketBufferPool bufferPool) {
         this.packetReader = packetReader;
+        this.bufferPool = bufferPool;
     }
 
     @Override
@@ -68,7 +74,7 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
                 multiPacketLength = hdr.getMessageSize();
 
                 if (multiPacket == null) {
-                    multiPacket = new NativePacketPayload(multiPacketLength);
+                    multiPacket = new NativePacketPayload(this.bufferPool.acquire(multiPacketLength));
                 }
 
                 multiPacketSeq++;
@@ -82,6 +88,7 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
 
             } while (multiPacketLength == NativeConstants.MAX_PACKET_SIZE);
 
+            this.bufferPool.release(multiPacket.getByteBuffer());
             buf.setPosition(0);
         }
 
@@ -106,7 +113,7 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
                 multiPacketLength = hdr.getMessageSize();
 
                 if (multiPacket == null) {
-                    multiPacket = new NativePacketPayload(multiPacketLength);
+                    multiPacket = new NativePacketPayload(this.bufferPool.acquire(multiPacketLength));
                 }
 
                 multiPacketSeq++;
@@ -120,6 +127,7 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
 
             } while (multiPacketLength == NativeConstants.MAX_PACKET_SIZE);
 
+            this.bufferPool.release(multiPacket.getByteBuffer());
             buf.setPosition(0);
         }
 
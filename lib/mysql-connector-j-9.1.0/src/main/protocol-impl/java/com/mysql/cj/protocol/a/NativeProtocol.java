@@ -21,6 +21,7 @@
 package com.mysql.cj.protocol.a;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -124,6 +125,7 @@ import com.mysql.cj.protocol.Resultset.Type;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.protocol.SocketChannelOutputStream;
 import com.mysql.cj.protocol.SocketConnection;
 import com.mysql.cj.protocol.ValueEncoder;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
@@ -153,6 +155,11 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     protected static final int SSL_REQUEST_LENGTH = 32;
     private static final String EXPLAINABLE_STATEMENT = "SELECT";
     private static final String[] EXPLAINABLE_STATEMENT_EXTENSION = new String[] { "INSERT", "UPDATE", "REPLACE", "DELETE" };
+    /**
+     * Upper bound of the size of pipelined commands whose responses have not been read yet. Writing more without reading could fill both the server's receive
+     * buffer and the client's, with each side blocked on a write the other does not read.
+     */
+    protected static final int MAX_PIPELINED_BYTES = 32 * 1024;
 
     protected MessageSender<NativePacketPayload> packetSender;
     protected MessageReader<NativePacketHeader, NativePacketPayload> packetReader;
@@ -167,6 +174,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     /** Use this when reading in rows to avoid thousands of new() calls, because the byte arrays just get copied out of the packet anyway */
     protected NativePacketPayload reusablePacket = null;
 
+    /** Buffers for result set row packets and compressed packets, returned by the readers once the packet has been consumed */
+    protected PacketBufferPool packetBufferPool;
+
     /**
      * Packet used for 'LOAD DATA LOCAL INFILE'
      * We use a SoftReference, so that we don't penalize intermittent use of this feature
@@ -190,6 +200,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     private int commandCount = 0;
 
+    /** Set while the responses of pipelined commands are read; bytes left on the wire belong to the next command and must not be discarded. */
+    private boolean pipelining = false;
+
     protected boolean hadWarnings = false;
     private int warningCount = 0;
 
@@ -266,9 +279,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.useServerPrepStmts = this.propertySet.getBooleanProperty(PropertyKey.useServerPrepStmts);
 
         this.reusablePacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+        this.packetBufferPool = new PacketBufferPool(this.propertySet.getMemorySizeProperty(PropertyKey.packetBufferPoolSize).getValue());
 
         try {
-            this.packetSender = new SimplePacketSender(this.socketConnection.getMysqlOutput());
+            this.packetSender = createPacketSender();
             this.packetReader = new SimplePacketReader(this.socketConnection, this.maxAllowedPacket);
         } catch (IOException ioEx) {
             throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, getPacketSentTimeHolder(), getPacketReceivedTimeHolder(),
@@ -303,6 +317,12 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         return getNativeMessageBuilder();
     }
 
+    private MessageSender<NativePacketPayload> createPacketSender() throws IOException {
+        BufferedOutputStream outputStream = this.socketConnection.getMysqlOutput();
+        return outputStream instanceof SocketChannelOutputStream ? new SocketChannelPacketSender((SocketChannelOutputStream) outputStream)
+                : new SimplePacketSender(outputStream);
+    }
+
     public MessageSender<NativePacketPayload> getPacketSender() {
         return this.packetSender;
     }
@@ -357,7 +377,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             this.socketConnection.performTlsHandshake(this.serverSession, this.log);
 
             // i/o streams were replaced, build new packet sender/reader
-            this.packetSender = new SimplePacketSender(this.socketConnection.getMysqlOutput());
+            this.packetSender = createPacketSender();
             this.packetReader = new SimplePacketReader(this.socketConnection, this.maxAllowedPacket);
 
         } catch (FeatureNotAvailableException e) {
@@ -424,7 +444,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                     && !(this.socketConnection.getMysqlInput().getUnderlyingStream() instanceof CompressedInputStream)) {
                 this.useCompression = true;
                 this.socketConnection.setMysqlInput(new FullReadInputStream(new CompressedInputStream(this.socketConnection.getMysqlInput(),
-                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log)));
+                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log, this.packetBufferPool)));
                 this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput());
                 this.packetSender = this.compressedPacketSender;
             }
@@ -498,7 +518,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
 
         // do it after other decorators to have trace and debug applied to individual packets
-        messageReader = new MultiPacketReader(messageReader);
+        messageReader = new MultiPacketReader(messageReader, this.packetBufferPool);
 
         this.packetReader = messageReader;
         this.packetDebugRingBuffer = debugRingBuffer;
@@ -733,6 +753,107 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Reads the responses of commands sent by {@link NativeProtocol#sendPipelined(List, PipelinedResponseHandler)}.
+     */
+    public interface PipelinedResponseHandler {
+
+        /**
+         * Reads the rest of a successful response.
+         *
+         * @param index
+         *            index of the command in the pipeline
+         * @param resultPacket
+         *            first packet of the response
+         * @throws IOException
+         *             if an i/o error occurs
+         */
+        void onResponse(int index, NativePacketPayload resultPacket) throws IOException;
+
+        /**
+         * Handles a command the server answered with an error. The following commands are still executed.
+         *
+         * @param index
+         *            index of the command in the pipeline
+         * @param ex
+         *            exception created from the error packet
+         */
+        void onError(int index, CJException ex);
+
+    }
+
+    /**
+     * Sends several commands back to back, without waiting for a response in between, and then reads the responses in order. A sequence of small independent
+     * commands costs one network round trip instead of one per command.
+     * <p>
+     * Commands must produce a single, fully read response: COM_QUERY or COM_STMT_EXECUTE without a cursor. Query interceptors, slow query logging and the
+     * jdbcCompliantTruncation check are not applied to pipelined commands.
+     *
+     * @param packets
+     *            commands to send, each in its own payload positioned at its end
+     * @param handler
+     *            {@link PipelinedResponseHandler} called for each response, in order
+     */
+    public void sendPipelined(List<NativePacketPayload> packets, PipelinedResponseHandler handler) {
+        // Refuse oversized commands before anything is sent, a failed send in the middle would leave responses unread
+        for (NativePacketPayload packet : packets) {
+            if (this.maxAllowedPacket.getValue() > 0 && packet.getPosition() > this.maxAllowedPacket.getValue()) {
+                throw new CJPacketTooBigException(packet.getPosition(), this.maxAllowedPacket.getValue());
+            }
+        }
+
+        try {
+            checkForOutstandingStreamingData();
+
+            if (this.useCompression) {
+                int bytesLeft = this.socketConnection.getMysqlInput().available();
+
+                if (bytesLeft > 0) {
+                    this.socketConnection.getMysqlInput().skip(bytesLeft);
+                }
+            }
+            clearInputStream();
+
+            this.pipelining = true;
+            int sent = 0;
+            long bytesInFlight = 0;
+            for (int received = 0; received < packets.size(); received++) {
+                // Keep writing while the responses can't fill the socket buffers
+                while (sent < packets.size() && (sent == received || bytesInFlight + packets.get(sent).getPosition() <= MAX_PIPELINED_BYTES)) {
+                    NativePacketPayload packet = packets.get(sent++);
+                    this.commandCount++;
+                    this.packetSequence = -1;
+                    send(packet, packet.getPosition());
+                    bytesInFlight += packet.getPosition();
+                }
+
+                this.serverSession.setStatusFlags(0, true);
+                this.hadWarnings = false;
+                setWarningCount(0);
+                this.packetReader.resetMessageSequence();
+
+                try {
+                    handler.onResponse(received, checkErrorMessage(-1));
+                } catch (CJCommunicationsException ex) {
+                    throw ex;
+                } catch (CJException ex) {
+                    handler.onError(received, ex);
+                }
+                bytesInFlight -= packets.get(received).getPosition();
+            }
+        } catch (IOException ioEx) {
+            this.serverSession.preserveOldTransactionState();
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, getPacketSentTimeHolder(), getPacketReceivedTimeHolder(),
+                    ioEx, getExceptionInterceptor());
+        } catch (CJException e) {
+            this.serverSession.preserveOldTransactionState();
+            throw e;
+        } finally {
+            this.pipelining = false;
+            reclaimLargeReusablePacket();
+        }
+    }
+
     public void checkTransactionState() {
         int transState = this.serverSession.getTransactionState();
         if (transState == ServerSession.TRANSACTION_COMPLETED) {
@@ -864,6 +985,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     }
 
     public void clearInputStream() {
+        if (this.pipelining) {
+            return;
+        }
         try {
             int len;
 
@@ -1346,6 +1470,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         return this.reusablePacket;
     }
 
+    public PacketBufferPool getPacketBufferPool() {
+        return this.packetBufferPool;
+    }
+
     public int getWarningCount() {
         return this.warningCount;
     }
@@ -1900,7 +2028,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     }
 
     public void scanForAndThrowDataTruncation() {
-        if (this.streamingData == null && this.propertySet.getBooleanProperty(PropertyKey.jdbcCompliantTruncation).getValue() && getWarningCount() > 0) {
+        if (this.streamingData == null && !this.pipelining && this.propertySet.getBooleanProperty(PropertyKey.jdbcCompliantTruncation).getValue()
+                && getWarningCount() > 0) {
             int warningCountOld = getWarningCount();
             convertShowWarningsToSQLWarnings(true);
             setWarningCount(warningCountOld);
@@ -24,6 +24,7 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SocketChannel;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.PropertySet;
@@ -37,6 +38,8 @@ import com.mysql.cj.protocol.FullReadInputStream;
 import com.mysql.cj.protocol.PacketSentTimeHolder;
 import com.mysql.cj.protocol.ReadAheadInputStream;
 import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.protocol.SocketChannelInputStream;
+import com.mysql.cj.protocol.SocketChannelOutputStream;
 import com.mysql.cj.protocol.SocketConnection;
 
 public class NativeSocketConnection extends AbstractSocketConnection implements SocketConnection {
@@ -63,6 +66,15 @@ public class NativeSocketConnection extends AbstractSocketConnection implements
 
             this.socketFactory.beforeHandshake();
 
+            SocketChannel channel = this.mysqlSocket.getChannel();
+            if (channel != null) {
+                // The socket comes from a channel based factory, skip the socket streams
+                channel.configureBlocking(false);
+                this.mysqlInput = new FullReadInputStream(new SocketChannelInputStream(this.mysqlSocket, 16384));
+                this.mysqlOutput = new SocketChannelOutputStream(channel, 16384);
+                return;
+            }
+
             InputStream rawInputStream;
             if (propSet.getBooleanProperty(PropertyKey.useReadAheadInput).getValue()) {
                 rawInputStream = new ReadAheadInputStream(this.mysqlSocket.getInputStream(), 16384,
@@ -88,6 +100,14 @@ public class NativeSocketConnection extends AbstractSocketConnection implements
 
     @Override
     public void performTlsHandshake(ServerSession serverSession, Log log) throws SSLParamsException, FeatureNotAvailableException, IOException {
+        SocketChannel channel = this.mysqlSocket.getChannel();
+        if (channel != null && !channel.isBlocking()) {
+            // TLS runs over the socket streams, which need a blocking channel; closing the channel streams releases their selectors
+            this.mysqlInput.close();
+            this.mysqlOutput.close();
+            channel.configureBlocking(true);
+        }
+
         this.mysqlSocket = this.socketFactory.performTlsHandshake(this, serverSession, log);
 
         this.mysqlInput = new FullReadInputStream(
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.util.Arrays;
+
+/**
+ * Size-classed pool of packet buffers, so that reading many small rows does not allocate a new byte array for every packet.
+ * <p>
+ * Buffers of up to {@link #MAX_POOLED_SIZE} bytes are handed out rounded up to the next power of two, and at most {@code maxRetainedBytes} of them are kept
+ * for reuse once released. Larger requests are allocated with their exact size and dropped on release. A buffer must only be released when nothing refers
+ * to it anymore; buffers that are never released are simply garbage collected.
+ * <p>
+ * Like the protocol that owns it, this pool is not thread-safe and is only used while the connection lock is held.
+ */
+public class PacketBufferPool {
+
+    /** Smallest size class, 256 bytes. */
+    static final int MIN_SIZE_SHIFT = 8;
+
+    /** Largest size class, 64KB. */
+    static final int MAX_SIZE_SHIFT = 16;
+
+    public static final int MAX_POOLED_SIZE = 1 << MAX_SIZE_SHIFT;
+
+    private static final int MAX_BUFFERS_PER_CLASS = 8;
+
+    private final byte[][][] freeBuffers = new byte[MAX_SIZE_SHIFT - MIN_SIZE_SHIFT + 1][MAX_BUFFERS_PER_CLASS][];
+    private final int[] freeCounts = new int[MAX_SIZE_SHIFT - MIN_SIZE_SHIFT + 1];
+    private final int maxRetainedBytes;
+    private int retainedBytes = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param maxRetainedBytes
+     *            the maximum number of bytes kept in released buffers; 0 disables pooling
+     */
+    public PacketBufferPool(int maxRetainedBytes) {
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * Returns a buffer of at least the given size. Its contents are undefined.
+     *
+     * @param size
+     *            the minimum buffer length
+     * @return a buffer
+     */
+    public byte[] acquire(int size) {
+        if (size > MAX_POOLED_SIZE || this.maxRetainedBytes == 0) {
+            return new byte[size];
+        }
+        int shift = sizeShift(size);
+        int sizeClass = shift - MIN_SIZE_SHIFT;
+        int count = this.freeCounts[sizeClass];
+        if (count == 0) {
+            return new byte[1 << shift];
+        }
+        byte[] buf = this.freeBuffers[sizeClass][--count];
+        this.freeBuffers[sizeClass][count] = null;
+        this.freeCounts[sizeClass] = count;
+        this.retainedBytes -= buf.length;
+        return buf;
+    }
+
+    /**
+     * Hands a buffer back for reuse. Buffers which were not sized by this pool, or which would grow the pool beyond its limit, are dropped.
+     *
+     * @param buf
+     *            a buffer no longer referenced by the caller, may be null
+     */
+    public void release(byte[] buf) {
+        if (buf == null || buf.length > MAX_POOLED_SIZE || Integer.bitCount(buf.length) != 1 || buf.length < 1 << MIN_SIZE_SHIFT
+                || this.retainedBytes + buf.length > this.maxRetainedBytes) {
+            return;
+        }
+        int sizeClass = sizeShift(buf.length) - MIN_SIZE_SHIFT;
+        int count = this.freeCounts[sizeClass];
+        if (count == MAX_BUFFERS_PER_CLASS) {
+            return;
+        }
+        this.freeBuffers[sizeClass][count] = buf;
+        this.freeCounts[sizeClass] = count + 1;
+        this.retainedBytes += buf.length;
+    }
+
+    /**
+     * Drops all buffers kept for reuse.
+     */
+    public void clear() {
+        for (int i = 0; i < this.freeBuffers.length; i++) {
+            Arrays.fill(this.freeBuffers[i], null);
+            this.freeCounts[i] = 0;
+        }
+        this.retainedBytes = 0;
+    }
+
+    public int getRetainedBytes() {
+        return this.retainedBytes;
+    }
+
+    private static int sizeShift(int size) {
+        return size <= 1 << MIN_SIZE_SHIFT ? MIN_SIZE_SHIFT : 32 - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+}
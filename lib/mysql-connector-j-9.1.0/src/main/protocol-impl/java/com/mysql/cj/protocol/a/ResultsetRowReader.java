@@ -29,6 +29,7 @@ import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.a.result.ByteArrayRow;
 
 public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, NativePacketPayload> {
 
@@ -61,9 +62,9 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
         NativePacketPayload rowPacket = null;
         NativePacketHeader hdr = this.protocol.getPacketReader().readHeader();
 
-        // read the entire packet(s)
-        rowPacket = this.protocol.getPacketReader()
-                .readMessage(rf.canReuseRowPacketForBufferRow() ? Optional.ofNullable(this.protocol.getReusablePacket()) : Optional.empty(), hdr);
+        // read the entire packet(s), into a pooled buffer unless the shared reusable packet can be used
+        rowPacket = this.protocol.getPacketReader().readMessage(rf.canReuseRowPacketForBufferRow() ? Optional.ofNullable(this.protocol.getReusablePacket())
+                : Optional.of(new NativePacketPayload(this.protocol.getPacketBufferPool().acquire(hdr.getMessageSize()))), hdr);
         this.protocol.checkErrorMessage(rowPacket);
         // Didn't read an error, so re-position to beginning of packet in order to read result set data
         rowPacket.setPosition(rowPacket.getPosition() - 1);
@@ -72,10 +73,22 @@ public class ResultsetRowReader implements ProtocolEntityReader<ResultsetRow, Na
         if (!this.protocol.getServerSession().isEOFDeprecated() && rowPacket.isEOFPacket()
                 || this.protocol.getServerSession().isEOFDeprecated() && rowPacket.isResultSetOKPacket()) {
             this.protocol.readServerStatusForResultSets(rowPacket, true);
+            releasePacket(rowPacket);
             return null;
         }
 
-        return sf.createFromMessage(rowPacket);
+        ResultsetRow row = sf.createFromMessage(rowPacket);
+        if (row instanceof ByteArrayRow) {
+            // the values were copied out of the packet, its buffer can be reused for the next one
+            releasePacket(rowPacket);
+        }
+        return row;
+    }
+
+    private void releasePacket(NativePacketPayload packet) {
+        if (packet != this.protocol.getReusablePacket()) {
+            this.protocol.getPacketBufferPool().release(packet.getByteBuffer());
+        }
     }
 
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.mysql.cj.protocol.MessageSender;
+import com.mysql.cj.protocol.SocketChannelOutputStream;
+
+/**
+ * Implementation of {@link MessageSender} for connections made by {@link com.mysql.cj.protocol.SocketChannelFactory}. Headers are written from direct buffers
+ * and payloads straight from the packet array, all chunks of a packet in a single gathering write, without copying them through a stream buffer first.
+ */
+public class SocketChannelPacketSender implements MessageSender<NativePacketPayload> {
+
+    private SocketChannelOutputStream outputStream;
+    private ByteBuffer[] headers = new ByteBuffer[0];
+    private ByteBuffer[] buffers = new ByteBuffer[0];
+
+    public SocketChannelPacketSender(SocketChannelOutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void send(byte[] packet, int packetLen, byte packetSequence) throws IOException {
+        // A packet of exactly N * MAX_PACKET_SIZE bytes ends with an empty chunk
+        int chunks = packetLen / NativeConstants.MAX_PACKET_SIZE + 1;
+        if (this.headers.length < chunks) {
+            int length = this.headers.length;
+            this.headers = Arrays.copyOf(this.headers, chunks);
+            for (int i = length; i < chunks; i++) {
+                this.headers[i] = ByteBuffer.allocateDirect(NativeConstants.HEADER_LENGTH);
+            }
+            this.buffers = new ByteBuffer[chunks * 2];
+        }
+
+        int count = 0;
+        PacketSplitter packetSplitter = new PacketSplitter(packetLen);
+        while (packetSplitter.nextPacket()) {
+            int chunkLen = packetSplitter.getPacketLen();
+            ByteBuffer header = this.headers[count / 2];
+            header.clear();
+            header.put((byte) chunkLen).put((byte) (chunkLen >>> 8)).put((byte) (chunkLen >>> 16)).put(packetSequence++);
+            header.flip();
+            this.buffers[count++] = header;
+            this.buffers[count++] = ByteBuffer.wrap(packet, packetSplitter.getOffset(), chunkLen);
+        }
+
+        try {
+            this.outputStream.write(this.buffers, 0, count);
+        } finally {
+            // Don't hold on to the packet
+            Arrays.fill(this.buffers, 0, count, null);
+        }
+    }
+
+    @Override
+    public MessageSender<NativePacketPayload> undecorateAll() {
+        return this;
+    }
+
+    @Override
+    public MessageSender<NativePacketPayload> undecorate() {
+        return this;
+    }
+
+}
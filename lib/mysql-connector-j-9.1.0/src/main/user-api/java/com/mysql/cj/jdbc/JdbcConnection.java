@@ -57,6 +57,15 @@ public interface JdbcConnection extends java.sql.Connection, MysqlConnection, Tr
      */
     void changeUser(String userName, String newPassword) throws SQLException;
 
+    /**
+     * Creates an empty {@link Pipeline} of statements for this connection, which sends statements back to back and then reads their responses in order.
+     *
+     * @return a new pipeline
+     * @throws SQLException
+     *             if the connection is closed
+     */
+    Pipeline createPipeline() throws SQLException;
+
     /**
      * Prepares a statement on the client, using client-side emulation (regardless of the configuration property 'useServerPrepStmts') with the same semantics
      * as the java.sql.Connection.prepareStatement() method with the same argument types.
@@ -232,6 +241,18 @@ public interface JdbcConnection extends java.sql.Connection, MysqlConnection, Tr
      */
     void resetServerState() throws SQLException;
 
+    /**
+     * Resets the session state of this connection with a single COM_RESET_CONNECTION, as cheaper alternative to {@link #resetServerState()} for returning a
+     * connection to a pool. Transactions are rolled back, and temporary tables, user variables and locks released by the server. Server-side prepared
+     * statements stay usable and are prepared again on their next execution. Afterwards, the charset settings, 'sessionVariables', auto-commit and other
+     * settings configured for this connection are restored in one round trip, only where they differ from the defaults the server reverts to. Like
+     * {@link #resetServerState()}, this is a no-op if isParanoid() is set.
+     *
+     * @throws SQLException
+     *             if the operation fails while resetting the session.
+     */
+    void resetSession() throws SQLException;
+
     /**
      * Prepares a statement on the server (regardless of the configuration property 'useServerPrepStmts') with the same semantics as the method
      * java.sql.Connection.prepareStatement() with the same argument types.
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A sequence of statements sent to the server back to back, without waiting for a response in between, and whose responses are then read in order. A
+ * sequence of small independent statements costs one network round trip instead of one per statement.
+ *
+ * Statements are independent: one failing doesn't stop the following ones from executing. Query timeouts, query interceptors, slow query logging and the
+ * jdbcCompliantTruncation check are not applied to pipelined statements, and result sets are always fully read.
+ *
+ * A pipeline is created by {@link JdbcConnection#createPipeline()} and can be reused after {@link #execute()}. It must not be shared between threads.
+ */
+public interface Pipeline {
+
+    /**
+     * Appends an SQL statement to this pipeline.
+     *
+     * @param sql
+     *            a single SQL statement
+     * @return this pipeline
+     * @throws SQLException
+     *             if the connection is closed
+     */
+    Pipeline addQuery(String sql) throws SQLException;
+
+    /**
+     * Appends a prepared statement, with its current parameter values, to this pipeline. The statement can be given new values and appended again.
+     *
+     * @param pstmt
+     *            a prepared statement created by the same connection as this pipeline. Stream parameters and cursor-based fetching are not supported
+     * @return this pipeline
+     * @throws SQLException
+     *             if the statement is closed, not all parameters are set or the statement can't be pipelined
+     */
+    Pipeline addPrepared(PreparedStatement pstmt) throws SQLException;
+
+    /**
+     * Returns the number of statements waiting for {@link #execute()}.
+     *
+     * @return number of statements
+     */
+    int size();
+
+    /**
+     * Discards the statements waiting for {@link #execute()}.
+     */
+    void clear();
+
+    /**
+     * Executes the statements of this pipeline and empties it. If any statement fails, all responses are still read and the first error is thrown, with the
+     * following ones as suppressed exceptions; the results of the statements that succeeded are then available through {@link #getUpdateCount(int)} only.
+     *
+     * @return one element per statement, in order: the result set of statements that return rows, null for the others
+     * @throws SQLException
+     *             if a statement failed or a database access error occurs
+     */
+    List<ResultSet> execute() throws SQLException;
+
+    /**
+     * Returns the update count of a statement of the last {@link #execute()}.
+     *
+     * @param index
+     *            index of the statement, starting at 0
+     * @return the update count, -1 for statements that returned rows or {@link java.sql.Statement#EXECUTE_FAILED} for statements that failed
+     */
+    long getUpdateCount(int index);
+
+}
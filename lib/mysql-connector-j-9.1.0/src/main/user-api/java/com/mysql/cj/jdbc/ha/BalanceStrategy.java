@@ -71,4 +71,26 @@ public interface BalanceStrategy {
     abstract JdbcConnection pickConnection(InvocationHandler proxy, List<String> configuredHosts, Map<String, JdbcConnection> liveConnections,
             long[] responseTimes, int numRetries) throws SQLException;
 
+    /**
+     * Called by the driver when a transaction starts on a connection picked by this strategy. Strategies that account for the load of hosts can count it as
+     * outstanding until {@link #transactionEnded(String, long)} is called for the same host.
+     *
+     * @param host
+     *            the host/port (in "host:port" form) the transaction runs on.
+     */
+    default void transactionStarted(String host) {
+    }
+
+    /**
+     * Called by the driver when a transaction reported to {@link #transactionStarted(String)} ends, either by a commit or rollback, or because its connection
+     * was closed or failed.
+     *
+     * @param host
+     *            the host/port (in "host:port" form) the transaction ran on.
+     * @param responseTime
+     *            the duration of the transaction in nanoseconds, or -1 if it did not end with a commit or rollback.
+     */
+    default void transactionEnded(String host, long responseTime) {
+    }
+
 }
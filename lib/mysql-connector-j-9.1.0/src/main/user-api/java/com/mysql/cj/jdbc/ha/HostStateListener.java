@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+/**
+ * Receives the changes of state of the hosts probed for load-balanced and replication connections, see 'ha.healthCheckInterval'.
+ *
+ * Listeners are registered VM-wide with {@code HostHealthProber.addHostStateListener(HostStateListener)} and are called from the probing threads, so they
+ * must return quickly and must not block.
+ */
+public interface HostStateListener {
+
+    /**
+     * Called when a host that was up, or whose state was unknown, fails to answer a probe.
+     *
+     * @param hostPortPair
+     *            the host:port pair of the host
+     * @param cause
+     *            the error of the failed probe
+     */
+    void hostDown(String hostPortPair, Throwable cause);
+
+    /**
+     * Called when a host that was down answers a probe again.
+     *
+     * @param hostPortPair
+     *            the host:port pair of the host
+     */
+    void hostUp(String hostPortPair);
+
+}
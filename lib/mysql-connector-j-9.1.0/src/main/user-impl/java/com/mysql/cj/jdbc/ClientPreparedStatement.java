@@ -41,6 +41,7 @@ import java.sql.Timestamp;
 import java.sql.Wrapper;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.BindValue;
@@ -112,6 +113,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     protected int rewrittenBatchSize = 0;
 
+    /** Executions of this SQL on the connection, counted towards preparing it server-side */
+    private AtomicInteger executionCounter;
+
     /**
      * Creates a prepared statement instance
      *
@@ -948,6 +952,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
                 ((PreparedQuery) this.query).getQueryBindings()
                         .setNumberOfExecutions(((PreparedQuery) this.query).getQueryBindings().getNumberOfExecutions() + 1);
+                if (this.executionCounter != null) {
+                    this.executionCounter.incrementAndGet();
+                }
 
                 ResultSetInternalMethods rs;
 
@@ -1239,6 +1246,14 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
         }
     }
 
+    void setExecutionCounter(AtomicInteger executionCounter) {
+        this.executionCounter = executionCounter;
+    }
+
+    AtomicInteger getExecutionCounter() {
+        return this.executionCounter;
+    }
+
     @Override
     public byte[] getBytesRepresentation(int parameterIndex) throws SQLException {
         Lock connectionLock = checkClosed().getConnectionLock();
@@ -26,7 +26,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
+import com.mysql.cj.jdbc.ha.LatencyAwareBalanceStrategy;
 import com.mysql.cj.jdbc.jmx.LoadBalanceConnectionGroupManager;
 
 public class ConnectionGroupManager {
@@ -187,6 +189,37 @@ public class ConnectionGroupManager {
         return sb.toString();
     }
 
+    /**
+     * Describes the statistics kept by {@link LatencyAwareBalanceStrategy} for the hosts of the matching groups, as "host(statistics)" entries separated by
+     * commas. Hosts the strategy never routed a transaction to are left out.
+     *
+     * @param group
+     *            the connection group name, or null or empty for all groups
+     * @return the statistics per host
+     */
+    public static String getHostLoadStats(String group) {
+        Collection<ConnectionGroup> s = getGroupsMatching(group);
+        Set<String> hosts = new TreeSet<>();
+        for (ConnectionGroup cg : s) {
+            hosts.addAll(cg.getInitialHosts());
+        }
+
+        StringBuilder sb = new StringBuilder();
+        String sep = "";
+        for (String host : hosts) {
+            String stats = LatencyAwareBalanceStrategy.describeHostStats(host);
+            if (stats != null) {
+                sb.append(sep);
+                sb.append(host);
+                sb.append('(');
+                sb.append(stats);
+                sb.append(')');
+                sep = ",";
+            }
+        }
+        return sb.toString();
+    }
+
     public static String getRegisteredConnectionGroups() {
         Collection<ConnectionGroup> s = getGroupsMatching(null);
         StringBuilder sb = new StringBuilder();
@@ -37,6 +37,7 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Struct;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -46,6 +47,7 @@ import java.util.Properties;
 import java.util.Stack;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -58,6 +60,7 @@ import com.mysql.cj.NativeSession;
 import com.mysql.cj.NoSubInterceptorWrapper;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.QueryInfo;
+import com.mysql.cj.ServerPreparedQuery;
 import com.mysql.cj.ServerVersion;
 import com.mysql.cj.Session.SessionEventListener;
 import com.mysql.cj.conf.HostInfo;
@@ -84,6 +87,7 @@ import com.mysql.cj.jdbc.result.ResultSetFactory;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.UpdatableResultSet;
 import com.mysql.cj.log.ProfilerEvent;
+import com.mysql.cj.protocol.ServerSession;
 import com.mysql.cj.protocol.ServerSessionStateController;
 import com.mysql.cj.protocol.SocksProxySocketFactory;
 import com.mysql.cj.protocol.a.NativeProtocol;
@@ -91,7 +95,7 @@ import com.mysql.cj.telemetry.TelemetryAttribute;
 import com.mysql.cj.telemetry.TelemetryScope;
 import com.mysql.cj.telemetry.TelemetrySpan;
 import com.mysql.cj.telemetry.TelemetrySpanName;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
 
@@ -261,8 +265,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
      */
     private final CopyOnWriteArrayList<JdbcStatement> openStatements = new CopyOnWriteArrayList<>();
 
-    private LRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
-    private final Lock parsedCallableStatementCacheLock = new ReentrantLock();
+    private ConcurrentLRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
 
     /** The password we used */
     private String password = null;
@@ -273,8 +276,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     /** Are we in read-only mode? */
     private boolean readOnly = false;
 
+    /** Did we add STRICT_TRANS_TABLES to the session sql_mode on behalf of 'jdbcCompliantTruncation'? */
+    private boolean strictTransTablesAdded = false;
+
     /** Cache of ResultSet metadata */
-    protected LRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
+    protected ConcurrentLRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
+    /** Not taken by the driver any more, the metadata cache being thread-safe; kept for subclasses that still lock it. */
     protected final Lock resultSetMetadataCacheLock = new ReentrantLock();
 
     /**
@@ -286,9 +293,11 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     /** The user we're connected as */
     private String user = null;
 
-    private LRUCache<String, Boolean> serverSideStatementCheckCache;
-    private final Lock serverSideStatementCheckCacheLock = new ReentrantLock();
-    private LRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
+    private ConcurrentLRUCache<String, Boolean> serverSideStatementCheckCache;
+    private ConcurrentLRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
+
+    /** Executions of the recently prepared client-side statements, in the adaptive mode enabled by 'serverPrepareThreshold' */
+    private ConcurrentLRUCache<CompoundCacheKey, AtomicInteger> clientSideStatementExecutions;
 
     private HostInfo origHostInfo;
 
@@ -313,6 +322,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private RuntimeProperty<Integer> prepStmtCacheSqlLimit;
     private RuntimeProperty<Boolean> useLocalSessionState;
     private RuntimeProperty<Boolean> useServerPrepStmts;
+    private RuntimeProperty<Integer> serverPrepareThreshold;
     private RuntimeProperty<Boolean> processEscapeCodesForPrepStmts;
     private RuntimeProperty<Boolean> useLocalTransactionState;
     private RuntimeProperty<Boolean> disconnectOnExpiredPasswords;
@@ -389,6 +399,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 this.prepStmtCacheSqlLimit = this.propertySet.getIntegerProperty(PropertyKey.prepStmtCacheSqlLimit);
                 this.useLocalSessionState = this.propertySet.getBooleanProperty(PropertyKey.useLocalSessionState);
                 this.useServerPrepStmts = this.propertySet.getBooleanProperty(PropertyKey.useServerPrepStmts);
+                this.serverPrepareThreshold = this.propertySet.getIntegerProperty(PropertyKey.serverPrepareThreshold);
                 this.processEscapeCodesForPrepStmts = this.propertySet.getBooleanProperty(PropertyKey.processEscapeCodesForPrepStmts);
                 this.useLocalTransactionState = this.propertySet.getBooleanProperty(PropertyKey.useLocalTransactionState);
                 this.disconnectOnExpiredPasswords = this.propertySet.getBooleanProperty(PropertyKey.disconnectOnExpiredPasswords);
@@ -398,13 +409,13 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                     createPreparedStatementCaches();
                 }
                 if (this.propertySet.getBooleanProperty(PropertyKey.cacheCallableStmts).getValue()) {
-                    this.parsedCallableStatementCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
+                    this.parsedCallableStatementCache = new ConcurrentLRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
                 }
                 if (this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue()) {
                     this.propertySet.getProperty(PropertyKey.cacheResultSetMetadata).setValue(false); // we don't handle this yet
                 }
                 if (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()) {
-                    this.resultSetMetadataCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
+                    this.resultSetMetadataCache = new ConcurrentLRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
                 }
                 if (this.propertySet.getStringProperty(PropertyKey.socksProxyHost).getStringValue() != null) {
                     this.propertySet.getProperty(PropertyKey.socketFactory).setValue(SocksProxySocketFactory.class.getName());
@@ -491,7 +502,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             return true;
         }
 
-        if (!this.useServerPrepStmts.getValue()) {
+        if (!this.useServerPrepStmts.getValue() && this.clientSideStatementExecutions == null) {
             return false;
         }
 
@@ -499,25 +510,20 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 || this.propertySet.getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue();
 
         if (this.cachePrepStmts.getValue()) {
-            this.serverSideStatementCheckCacheLock.lock();
-            try {
-                Boolean flag = this.serverSideStatementCheckCache.get(sql);
+            Boolean flag = this.serverSideStatementCheckCache.get(sql);
 
-                if (flag != null) {
-                    return flag.booleanValue();
-                }
-
-                boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
-                        this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
+            if (flag != null) {
+                return flag.booleanValue();
+            }
 
-                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                    this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
-                }
+            boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
+                    this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
 
-                return canHandle;
-            } finally {
-                this.serverSideStatementCheckCacheLock.unlock();
+            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
             }
+
+            return canHandle;
         }
 
         return StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
@@ -1040,14 +1046,13 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             @SuppressWarnings("unchecked")
             CacheAdapterFactory<String, QueryInfo> cacheFactory = Util.getInstance(CacheAdapterFactory.class, queryInfoCacheFactory, null, null,
                     getExceptionInterceptor());
-            this.queryInfoCache = cacheFactory.getInstance(connectionLock, this.origHostInfo.getDatabaseUrl(), cacheSize,
+            this.queryInfoCache = cacheFactory.getInstance(this.session, connectionLock, this.origHostInfo.getDatabaseUrl(), cacheSize,
                     this.prepStmtCacheSqlLimit.getValue());
 
-            if (this.useServerPrepStmts.getValue()) {
-                this.serverSideStatementCheckCache = new LRUCache<>(cacheSize);
-                this.serverSideStatementCache = new LRUCache<CompoundCacheKey, ServerPreparedStatement>(cacheSize) {
-
-                    private static final long serialVersionUID = 7692318650375988114L;
+            boolean adaptiveServerPrepare = !this.useServerPrepStmts.getValue() && this.serverPrepareThreshold.getValue() > 0;
+            if (this.useServerPrepStmts.getValue() || adaptiveServerPrepare) {
+                this.serverSideStatementCheckCache = new ConcurrentLRUCache<>(cacheSize);
+                this.serverSideStatementCache = new ConcurrentLRUCache<CompoundCacheKey, ServerPreparedStatement>(cacheSize) {
 
                     @Override
                     protected boolean removeEldestEntry(java.util.Map.Entry<CompoundCacheKey, ServerPreparedStatement> eldest) {
@@ -1056,13 +1061,24 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                         }
                         boolean removeIt = super.removeEldestEntry(eldest);
                         if (removeIt) {
-                            ServerPreparedStatement ps = eldest.getValue();
-                            ps.isCached = false;
-                            ps.setClosed(false);
-                            try {
-                                ps.doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
-                            } catch (SQLException sqlEx) {
-                                // punt
+                            closeCachedStatement(eldest.getValue());
+                        }
+                        return removeIt;
+                    }
+
+                };
+            }
+            if (adaptiveServerPrepare) {
+                this.clientSideStatementExecutions = new ConcurrentLRUCache<CompoundCacheKey, AtomicInteger>(cacheSize) {
+
+                    @Override
+                    protected boolean removeEldestEntry(java.util.Map.Entry<CompoundCacheKey, AtomicInteger> eldest) {
+                        boolean removeIt = super.removeEldestEntry(eldest);
+                        if (removeIt) {
+                            // Demote the statement, it is prepared client-side again until it reaches the threshold anew
+                            ServerPreparedStatement ps = ConnectionImpl.this.serverSideStatementCache.remove(eldest.getKey());
+                            if (ps != null) {
+                                closeCachedStatement(ps);
                             }
                         }
                         return removeIt;
@@ -1075,6 +1091,28 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         }
     }
 
+    private static void closeCachedStatement(ServerPreparedStatement ps) {
+        ps.isCached = false;
+        ps.setClosed(false);
+        try {
+            ps.doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
+        } catch (SQLException sqlEx) {
+            // punt
+        }
+    }
+
+    @Override
+    public Pipeline createPipeline() throws SQLException {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkClosed();
+            return new PipelineImpl(this);
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
     @Override
     public java.sql.Statement createStatement() throws SQLException {
         return createStatement(DEFAULT_RESULT_SET_TYPE, DEFAULT_RESULT_SET_CONCURRENCY);
@@ -1543,21 +1581,16 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                     cStmt = parseCallableStatement(sql);
                 } else {
-                    this.parsedCallableStatementCacheLock.lock();
-                    try {
-                        CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
+                    CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
 
-                        CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
+                    CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
 
-                        if (cachedParamInfo != null) {
-                            cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
-                        } else {
-                            cStmt = parseCallableStatement(sql);
-                            cachedParamInfo = cStmt.paramInfo;
-                            this.parsedCallableStatementCache.put(key, cachedParamInfo);
-                        }
-                    } finally {
-                        this.parsedCallableStatementCacheLock.unlock();
+                    if (cachedParamInfo != null) {
+                        cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
+                    } else {
+                        cStmt = parseCallableStatement(sql);
+                        cachedParamInfo = cStmt.paramInfo;
+                        this.parsedCallableStatementCache.put(key, cachedParamInfo);
                     }
                 }
 
@@ -1631,48 +1664,57 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                 String nativeSql = this.processEscapeCodesForPrepStmts.getValue() ? nativeSQL(sql) : sql;
 
-                if (this.useServerPrepStmts.getValue() && this.emulateUnsupportedPstmts.getValue()) {
+                boolean useServerPrepStmts = this.useServerPrepStmts.getValue();
+                AtomicInteger executions = null;
+                int threshold = this.serverPrepareThreshold.getValue();
+                if (!useServerPrepStmts && threshold > 0 && this.clientSideStatementExecutions != null
+                        && sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                    CompoundCacheKey key = new CompoundCacheKey(this.database, sql);
+                    executions = this.clientSideStatementExecutions.get(key);
+                    if (executions == null) {
+                        executions = new AtomicInteger();
+                        this.clientSideStatementExecutions.put(key, executions);
+                    }
+                    useServerPrepStmts = executions.get() >= threshold;
+                }
+
+                if (useServerPrepStmts && this.emulateUnsupportedPstmts.getValue()) {
                     canServerPrepare = canHandleAsServerPreparedStatement(nativeSql);
                 }
 
-                if (this.useServerPrepStmts.getValue() && canServerPrepare) {
+                if (useServerPrepStmts && canServerPrepare) {
                     if (this.cachePrepStmts.getValue()) {
-                        this.serverSideStatementCheckCacheLock.lock();
-                        try {
-                            pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
+                        pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
+
+                        if (pStmt != null) {
+                            ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
+                            pStmt.clearParameters();
+                            pStmt.setResultSetType(resultSetType);
+                            pStmt.setResultSetConcurrency(resultSetConcurrency);
+                        }
+
+                        if (pStmt == null) {
+                            try {
+                                pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
+                                        resultSetConcurrency);
+                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                    ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
+                                }
 
-                            if (pStmt != null) {
-                                ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
-                                pStmt.clearParameters();
                                 pStmt.setResultSetType(resultSetType);
                                 pStmt.setResultSetConcurrency(resultSetConcurrency);
-                            }
+                            } catch (SQLException sqlEx) {
+                                // Punt, if necessary
+                                if (this.emulateUnsupportedPstmts.getValue()) {
+                                    pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
 
-                            if (pStmt == null) {
-                                try {
-                                    pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
-                                            resultSetConcurrency);
                                     if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                        ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
-                                    }
-
-                                    pStmt.setResultSetType(resultSetType);
-                                    pStmt.setResultSetConcurrency(resultSetConcurrency);
-                                } catch (SQLException sqlEx) {
-                                    // Punt, if necessary
-                                    if (this.emulateUnsupportedPstmts.getValue()) {
-                                        pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
-
-                                        if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                            this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
-                                        }
-                                    } else {
-                                        throw sqlEx;
+                                        this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
                                     }
+                                } else {
+                                    throw sqlEx;
                                 }
                             }
-                        } finally {
-                            this.serverSideStatementCheckCacheLock.unlock();
                         }
                     } else {
                         try {
@@ -1692,6 +1734,10 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 } else {
                     pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
                 }
+                if (executions != null) {
+                    // A promoted statement keeps the counter too, to tell whether it was demoted when it is closed
+                    pStmt.setExecutionCounter(executions);
+                }
 
                 String dbOperation = pStmt.getQueryInfo().getStatementKeyword();
                 span.setAttribute(TelemetryAttribute.DB_NAME, getDatabase());
@@ -1825,18 +1871,18 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         connectionLock.lock();
         try {
             if (this.cachePrepStmts.getValue() && pstmt.isPoolable()) {
-                this.serverSideStatementCheckCacheLock.lock();
-                try {
-                    Object oldServerPrepStmt = this.serverSideStatementCache.put(
-                            new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()),
-                            (ServerPreparedStatement) pstmt);
-                    if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
-                        ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
-                        ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
-                        ((ServerPreparedStatement) oldServerPrepStmt).doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
-                    }
-                } finally {
-                    this.serverSideStatementCheckCacheLock.unlock();
+                CompoundCacheKey key = new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql());
+                AtomicInteger executions = ((ServerPreparedStatement) pstmt).getExecutionCounter();
+                if (executions != null && this.clientSideStatementExecutions != null && this.clientSideStatementExecutions.get(key) != executions) {
+                    // Its executions were evicted while it was in use, so it is demoted: the statement closes itself instead of being cached
+                    ((ServerPreparedStatement) pstmt).isCacheable = false;
+                    return;
+                }
+                Object oldServerPrepStmt = this.serverSideStatementCache.put(key, (ServerPreparedStatement) pstmt);
+                if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
+                    ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
+                    ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
+                    ((ServerPreparedStatement) oldServerPrepStmt).doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
                 }
             }
         } finally {
@@ -1850,12 +1896,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         connectionLock.lock();
         try {
             if (this.cachePrepStmts.getValue()) {
-                this.serverSideStatementCheckCacheLock.lock();
-                try {
-                    this.serverSideStatementCache.remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()));
-                } finally {
-                    this.serverSideStatementCheckCacheLock.unlock();
-                }
+                this.serverSideStatementCache.remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()));
             }
         } finally {
             connectionLock.unlock();
@@ -1917,6 +1958,72 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         }
     }
 
+    @Override
+    public void resetSession() throws SQLException {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkClosed();
+            if (this.propertySet.getBooleanProperty(PropertyKey.paranoid).getValue()) {
+                return;
+            }
+
+            TelemetrySpan span = this.session.getTelemetryHandler().startSpan(TelemetrySpanName.CONNECTION_RESET);
+            try (TelemetryScope scope = span.makeCurrent()) {
+                span.setAttribute(TelemetryAttribute.DB_CONNECTION_STRING, getURL());
+                span.setAttribute(TelemetryAttribute.DB_SYSTEM, TelemetryAttribute.DB_SYSTEM_DEFAULT);
+                span.setAttribute(TelemetryAttribute.DB_USER, getUser());
+                span.setAttribute(TelemetryAttribute.SERVER_ADDRESS, this.origHostToConnectTo);
+                span.setAttribute(TelemetryAttribute.SERVER_PORT, this.origPortToConnectTo);
+                span.setAttribute(TelemetryAttribute.THREAD_ID, Thread.currentThread().getId());
+                span.setAttribute(TelemetryAttribute.THREAD_NAME, Thread.currentThread().getName());
+
+                // The server deallocates all prepared statements, they are prepared again on their next execution
+                for (JdbcStatement stmt : this.openStatements) {
+                    if (stmt instanceof ServerPreparedStatement) {
+                        ((ServerPreparedQuery) ((ServerPreparedStatement) stmt).getQuery()).setRePrepareNeeded(true);
+                    }
+                }
+                if (this.serverSideStatementCache != null) {
+                    for (ServerPreparedStatement pstmt : this.serverSideStatementCache.values()) {
+                        ((ServerPreparedQuery) pstmt.getQuery()).setRePrepareNeeded(true);
+                    }
+                }
+
+                this.session.resetSessionState();
+
+                // The session variables are now back to the global defaults, as loaded when connecting, and the charset to the handshake one. Restore the
+                // settings configured for this connection that differ from those.
+                ServerSession serverSession = this.session.getServerSession();
+                List<String> assignments = new ArrayList<>(serverSession.getCharsetSettings().getSessionResetAssignments());
+                assignments.addAll(this.session.getSessionVariablesAssignments());
+                if (this.strictTransTablesAdded) {
+                    String sqlMode = serverSession.getServerVariable("sql_mode");
+                    assignments.add("SESSION sql_mode='" + (sqlMode == null || sqlMode.length() == 0 ? "" : sqlMode + ",") + "STRICT_TRANS_TABLES'");
+                }
+                if (!serverSession.isAutocommit()) {
+                    assignments.add("autocommit=1"); // required by JDBC spec
+                }
+                if (!assignments.isEmpty()) {
+                    this.session.execSQL(null, "SET " + String.join(",", assignments), -1, null, false, this.nullStatementResultSetFactory, null, false);
+                }
+
+                serverSession.setAutoCommit(true);
+                checkTransactionIsolationLevel();
+                this.readOnly = false;
+            } catch (Throwable t) {
+                span.setError(t);
+                throw t;
+            } finally {
+                span.end();
+            }
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
     @Override
     public void rollback() throws SQLException {
         Lock connectionLock = getConnectionLock();
@@ -2523,6 +2630,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                         this.session.execSQL(null, commandBuf.toString(), -1, null, false, this.nullStatementResultSetFactory, null, false);
 
                         jdbcCompliantTruncation.setValue(false); // server's handling this for us now
+                        this.strictTransTablesAdded = true;
                     } catch (Throwable t) {
                         span.setError(t);
                         throw t;
@@ -2565,12 +2673,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public CachedResultSetMetaData getCachedMetaData(String sql) {
         if (this.resultSetMetadataCache != null) {
-            this.resultSetMetadataCacheLock.lock();
-            try {
-                return this.resultSetMetadataCache.get(sql);
-            } finally {
-                this.resultSetMetadataCacheLock.unlock();
-            }
+            return this.resultSetMetadataCache.get(sql);
         }
 
         return null; // no cache exists
@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+
+/**
+ * The pool of physical connections behind a {@link MysqlPoolingDataSource}.
+ *
+ * Borrowing doesn't lock: a thread first tries the connection it used last, then claims any idle connection of the shared list, and only creates a new one or
+ * waits for one to be returned when none is idle. Connections returned while threads are waiting are handed off to them directly. Returned connections are
+ * reset with COM_RESET_CONNECTION. A VM-wide daemon thread validates idle connections with COM_PING, retires the ones that exceeded their lifetime or the
+ * maximum number of idle connections, and keeps the minimum number of idle connections.
+ */
+final class ConnectionPool implements ConnectionEventListener {
+
+    private static final int STATE_IDLE = 0;
+    private static final int STATE_IN_USE = 1;
+    /** Claimed by the housekeeper. */
+    private static final int STATE_RESERVED = 2;
+    private static final int STATE_REMOVED = 3;
+
+    private static final int VALIDATION_TIMEOUT_MILLIS = 5000;
+    /** Time between two runs of the housekeeper when validation is disabled. */
+    private static final long HOUSEKEEPING_INTERVAL_MILLIS = 30000;
+
+    private static final ScheduledThreadPoolExecutor HOUSEKEEPER;
+
+    static {
+        HOUSEKEEPER = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "MySQL Connection Pool Housekeeper");
+            t.setDaemon(true);
+            ClassLoader classLoader = ConnectionPool.class.getClassLoader();
+            t.setContextClassLoader(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+            return t;
+        });
+        HOUSEKEEPER.setKeepAliveTime(60, TimeUnit.SECONDS);
+        HOUSEKEEPER.allowCoreThreadTimeOut(true);
+        HOUSEKEEPER.setRemoveOnCancelPolicy(true);
+    }
+
+    private final MysqlPoolingDataSource dataSource;
+    private final int maxPoolSize;
+    private final int minIdle;
+    private final int maxIdle;
+    private final long maxLifetimeNanos;
+    private final long validationIntervalNanos;
+    private final long borrowTimeoutMillis;
+
+    private final List<PoolEntry> entries = new CopyOnWriteArrayList<>();
+    private final Map<MysqlPooledConnection, PoolEntry> entriesByConnection = new ConcurrentHashMap<>();
+    private final ThreadLocal<WeakReference<PoolEntry>> lastEntry = new ThreadLocal<>();
+    private final SynchronousQueue<PoolEntry> handoffQueue = new SynchronousQueue<>(true);
+    /** Connections open or being opened. */
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final AtomicLong createdConnections = new AtomicLong();
+    private final AtomicLong removedConnections = new AtomicLong();
+    private final ScheduledFuture<?> housekeeping;
+    private volatile boolean closed = false;
+
+    ConnectionPool(MysqlPoolingDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.maxPoolSize = dataSource.getMaxPoolSize();
+        this.minIdle = Math.min(dataSource.getMinIdle(), this.maxPoolSize);
+        this.maxIdle = dataSource.getMaxIdle() < 0 ? this.maxPoolSize : Math.max(dataSource.getMaxIdle(), this.minIdle);
+        this.maxLifetimeNanos = dataSource.getMaxLifetime() > 0 ? TimeUnit.MILLISECONDS.toNanos(dataSource.getMaxLifetime()) : Long.MAX_VALUE;
+        long validationInterval = dataSource.getValidationInterval();
+        this.validationIntervalNanos = validationInterval > 0 ? TimeUnit.MILLISECONDS.toNanos(validationInterval) : Long.MAX_VALUE;
+        this.borrowTimeoutMillis = dataSource.getBorrowTimeout();
+        this.housekeeping = HOUSEKEEPER.scheduleWithFixedDelay(this::houseKeep, 0, validationInterval > 0 ? validationInterval : HOUSEKEEPING_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection from this pool, waiting up to the borrow timeout for one to be available.
+     *
+     * @return a logical connection, returned to the pool when closed
+     * @throws SQLException
+     *             if the pool is closed, if no connection is available in time or if a new connection can't be opened
+     */
+    Connection borrow() throws SQLException {
+        checkOpen();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.borrowTimeoutMillis);
+
+        // The connection this thread used last is the most likely to be idle, and its data the most likely to be cached
+        WeakReference<PoolEntry> lastEntryRef = this.lastEntry.get();
+        PoolEntry entry = lastEntryRef == null ? null : lastEntryRef.get();
+        if (entry != null && entry.state.compareAndSet(STATE_IDLE, STATE_IN_USE)) {
+            Connection conn = activate(entry);
+            if (conn != null) {
+                return conn;
+            }
+        }
+
+        while (true) {
+            checkOpen();
+            Connection conn = claimIdleConnection();
+            if (conn != null) {
+                return conn;
+            }
+
+            if (reserveConnection()) {
+                conn = activate(createEntry(STATE_IN_USE));
+                if (conn != null) {
+                    return conn;
+                }
+                continue;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.0", new Object[] { String.valueOf(this.borrowTimeoutMillis) }),
+                        MysqlErrorNumbers.SQLSTATE_CONNECTION_EXCEPTION_SQL_CLIENT_UNABLE_TO_ESTABLISH_SQL_CONNECTION, null);
+            }
+
+            // Only threads about to block count as waiters, so that release() never spins while a borrower is opening a connection. A connection released
+            // before the count went up is seen by the second look at the idle connections.
+            this.waiters.incrementAndGet();
+            try {
+                conn = claimIdleConnection();
+                if (conn != null) {
+                    return conn;
+                }
+                entry = this.handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.2"),
+                        MysqlErrorNumbers.SQLSTATE_CONNECTION_EXCEPTION_SQL_CLIENT_UNABLE_TO_ESTABLISH_SQL_CONNECTION, e, null);
+            } finally {
+                this.waiters.decrementAndGet();
+            }
+            if (entry != null && entry.state.compareAndSet(STATE_IDLE, STATE_IN_USE)) {
+                conn = activate(entry);
+                if (conn != null) {
+                    return conn;
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims any idle connection of the pool.
+     *
+     * @return the logical connection, or null if no connection is idle
+     */
+    private Connection claimIdleConnection() {
+        for (PoolEntry e : this.entries) {
+            if (e.state.compareAndSet(STATE_IDLE, STATE_IN_USE)) {
+                Connection conn = activate(e);
+                if (conn != null) {
+                    return conn;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hands out a logical connection for the given entry, claimed by the current thread.
+     *
+     * @param entry
+     *            the pool entry
+     * @return the logical connection, or null if the entry had to be removed
+     */
+    private Connection activate(PoolEntry entry) {
+        try {
+            if (entry.isExpired(this.maxLifetimeNanos) || entry.physicalConnection.isClosed()) {
+                remove(entry);
+                return null;
+            }
+            Connection conn = entry.pooledConnection.getConnection(false, false);
+            this.lastEntry.set(entry.weakReference);
+            return conn;
+        } catch (SQLException e) {
+            remove(entry);
+            return null;
+        }
+    }
+
+    /**
+     * Returns a connection to the pool when its logical connection is closed.
+     */
+    @Override
+    public void connectionClosed(ConnectionEvent event) {
+        PoolEntry entry = this.entriesByConnection.get(event.getSource());
+        if (entry == null || entry.state.get() != STATE_IN_USE) {
+            return;
+        }
+        if (this.closed || entry.isExpired(this.maxLifetimeNanos)) {
+            remove(entry);
+            return;
+        }
+        try {
+            entry.physicalConnection.resetSession();
+        } catch (Throwable t) {
+            remove(entry);
+            return;
+        }
+        entry.lastUsedNanos = System.nanoTime();
+        release(entry);
+    }
+
+    /**
+     * Removes a connection from the pool when its physical connection fails.
+     */
+    @Override
+    public void connectionErrorOccurred(ConnectionEvent event) {
+        PoolEntry entry = this.entriesByConnection.get(event.getSource());
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    /**
+     * Makes the given entry idle, handing it off to a waiting thread if there is any.
+     *
+     * @param entry
+     *            the pool entry
+     */
+    private void release(PoolEntry entry) {
+        entry.state.set(STATE_IDLE);
+        for (int i = 0; this.waiters.get() > 0; i++) {
+            if (entry.state.get() != STATE_IDLE || this.handoffQueue.offer(entry)) {
+                return;
+            }
+            if ((i & 0xff) == 0xff) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private boolean reserveConnection() {
+        for (int total = this.totalConnections.get(); total < this.maxPoolSize; total = this.totalConnections.get()) {
+            if (this.totalConnections.compareAndSet(total, total + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Opens a new connection in a slot reserved with {@link #reserveConnection()}.
+     *
+     * @param state
+     *            the initial state of the entry
+     * @return the new entry
+     * @throws SQLException
+     *             if the connection can't be opened
+     */
+    private PoolEntry createEntry(int state) throws SQLException {
+        PoolEntry entry;
+        try {
+            JdbcConnection physicalConnection = (JdbcConnection) this.dataSource.createPhysicalConnection();
+            entry = new PoolEntry(MysqlPooledConnection.getInstance(physicalConnection), physicalConnection, state);
+        } catch (SQLException | RuntimeException e) {
+            this.totalConnections.decrementAndGet();
+            throw e;
+        }
+        entry.pooledConnection.addConnectionEventListener(this);
+        this.entriesByConnection.put(entry.pooledConnection, entry);
+        this.entries.add(entry);
+        this.createdConnections.incrementAndGet();
+        if (this.closed) {
+            remove(entry);
+            checkOpen();
+        }
+        return entry;
+    }
+
+    private void remove(PoolEntry entry) {
+        if (entry.state.getAndSet(STATE_REMOVED) == STATE_REMOVED) {
+            return;
+        }
+        this.entries.remove(entry);
+        this.entriesByConnection.remove(entry.pooledConnection);
+        this.totalConnections.decrementAndGet();
+        this.removedConnections.incrementAndGet();
+        try {
+            entry.pooledConnection.close();
+        } catch (Throwable t) {
+            // no-op.
+        }
+    }
+
+    private void houseKeep() {
+        try {
+            int idle = getIdleConnections();
+            long now = System.nanoTime();
+            for (PoolEntry entry : this.entries) {
+                if (!entry.state.compareAndSet(STATE_IDLE, STATE_RESERVED)) {
+                    continue;
+                }
+                if (entry.isExpired(this.maxLifetimeNanos) || idle > this.maxIdle) {
+                    remove(entry);
+                    idle--;
+                    continue;
+                }
+                if (now - entry.lastUsedNanos >= this.validationIntervalNanos) {
+                    try {
+                        entry.physicalConnection.pingInternal(false, VALIDATION_TIMEOUT_MILLIS);
+                        entry.lastUsedNanos = System.nanoTime();
+                    } catch (Throwable t) {
+                        remove(entry);
+                        idle--;
+                        continue;
+                    }
+                }
+                release(entry);
+            }
+
+            while (!this.closed && getIdleConnections() < this.minIdle && reserveConnection()) {
+                release(createEntry(STATE_RESERVED));
+            }
+        } catch (Throwable t) {
+            // Try again next time.
+        }
+    }
+
+    private void checkOpen() throws SQLException {
+        if (this.closed) {
+            throw SQLError.createSQLException(Messages.getString("MysqlPoolingDataSource.1"),
+                    MysqlErrorNumbers.SQLSTATE_CONNECTION_EXCEPTION_SQL_CLIENT_UNABLE_TO_ESTABLISH_SQL_CONNECTION, null);
+        }
+    }
+
+    /**
+     * Closes this pool and its idle connections. Connections in use are closed when returned.
+     */
+    void close() {
+        this.closed = true;
+        this.housekeeping.cancel(false);
+        for (PoolEntry entry : this.entries) {
+            if (entry.state.compareAndSet(STATE_IDLE, STATE_RESERVED)) {
+                remove(entry);
+            }
+        }
+    }
+
+    int getActiveConnections() {
+        return countEntries(STATE_IN_USE);
+    }
+
+    int getIdleConnections() {
+        return countEntries(STATE_IDLE);
+    }
+
+    int getTotalConnections() {
+        return this.totalConnections.get();
+    }
+
+    int getThreadsAwaitingConnection() {
+        return this.waiters.get();
+    }
+
+    long getCreatedConnections() {
+        return this.createdConnections.get();
+    }
+
+    long getRemovedConnections() {
+        return this.removedConnections.get();
+    }
+
+    private int countEntries(int state) {
+        int count = 0;
+        for (PoolEntry entry : this.entries) {
+            if (entry.state.get() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A physical connection of the pool and its state.
+     */
+    private static final class PoolEntry {
+
+        final MysqlPooledConnection pooledConnection;
+        final JdbcConnection physicalConnection;
+        final AtomicInteger state;
+        final long createdNanos;
+        final WeakReference<PoolEntry> weakReference;
+        volatile long lastUsedNanos;
+
+        PoolEntry(MysqlPooledConnection pooledConnection, JdbcConnection physicalConnection, int state) {
+            this.pooledConnection = pooledConnection;
+            this.physicalConnection = physicalConnection;
+            this.state = new AtomicInteger(state);
+            this.createdNanos = System.nanoTime();
+            this.lastUsedNanos = this.createdNanos;
+            this.weakReference = new WeakReference<>(this);
+        }
+
+        boolean isExpired(long maxLifetimeNanos) {
+            return System.nanoTime() - this.createdNanos >= maxLifetimeNanos;
+        }
+
+    }
+
+}
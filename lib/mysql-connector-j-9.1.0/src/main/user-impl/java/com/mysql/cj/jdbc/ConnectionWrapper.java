@@ -353,6 +353,17 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         }
     }
 
+    @Override
+    public Pipeline createPipeline() throws SQLException {
+        try {
+            return this.mc.createPipeline();
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+
+        return null; // we don't reach this code, compiler can't tell
+    }
+
     @Override
     public java.sql.Statement createStatement() throws SQLException {
         try {
@@ -711,6 +722,15 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         }
     }
 
+    @Override
+    public void resetSession() throws SQLException {
+        try {
+            this.mc.resetSession();
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+    }
+
     @Override
     public java.sql.PreparedStatement serverPrepareStatement(String sql) throws SQLException {
         try {
@@ -51,13 +51,19 @@ public class MysqlDataSourceFactory implements ObjectFactory {
      */
     protected final static String XA_DATA_SOURCE_CLASS_NAME = MysqlXADataSource.class.getName();
 
+    /**
+     * The class name for a MysqlPoolingDataSource
+     */
+    protected final static String POOLING_DATA_SOURCE_CLASS_NAME = MysqlPoolingDataSource.class.getName();
+
     @Override
     public Object getObjectInstance(Object refObj, Name nm, Context ctx, Hashtable<?, ?> env) throws Exception {
         Reference ref = (Reference) refObj;
         String className = ref.getClassName();
 
         if (className != null
-                && (className.equals(DATA_SOURCE_CLASS_NAME) || className.equals(POOL_DATA_SOURCE_CLASS_NAME) || className.equals(XA_DATA_SOURCE_CLASS_NAME))) {
+                && (className.equals(DATA_SOURCE_CLASS_NAME) || className.equals(POOL_DATA_SOURCE_CLASS_NAME) || className.equals(XA_DATA_SOURCE_CLASS_NAME)
+                        || className.equals(POOLING_DATA_SOURCE_CLASS_NAME))) {
             MysqlDataSource dataSource = Util.getInstance(MysqlDataSource.class, className, null, null, null);
 
             int portNumber = 3306;
@@ -94,6 +100,10 @@ public class MysqlDataSourceFactory implements ObjectFactory {
                 }
             }
 
+            if (dataSource instanceof MysqlPoolingDataSource) {
+                setPoolPropertiesViaRef((MysqlPoolingDataSource) dataSource, ref);
+            }
+
             dataSource.setPropertiesViaRef(ref);
             return dataSource;
         }
@@ -102,6 +112,33 @@ public class MysqlDataSourceFactory implements ObjectFactory {
         return null;
     }
 
+    private void setPoolPropertiesViaRef(MysqlPoolingDataSource dataSource, Reference ref) {
+        String value = nullSafeRefAddrStringGet("maxPoolSize", ref);
+        if (value != null) {
+            dataSource.setMaxPoolSize(Integer.parseInt(value));
+        }
+        value = nullSafeRefAddrStringGet("minIdle", ref);
+        if (value != null) {
+            dataSource.setMinIdle(Integer.parseInt(value));
+        }
+        value = nullSafeRefAddrStringGet("maxIdle", ref);
+        if (value != null) {
+            dataSource.setMaxIdle(Integer.parseInt(value));
+        }
+        value = nullSafeRefAddrStringGet("maxLifetime", ref);
+        if (value != null) {
+            dataSource.setMaxLifetime(Long.parseLong(value));
+        }
+        value = nullSafeRefAddrStringGet("validationInterval", ref);
+        if (value != null) {
+            dataSource.setValidationInterval(Long.parseLong(value));
+        }
+        value = nullSafeRefAddrStringGet("borrowTimeout", ref);
+        if (value != null) {
+            dataSource.setBorrowTimeout(Long.parseLong(value));
+        }
+    }
+
     private String nullSafeRefAddrStringGet(String referenceName, Reference ref) {
         RefAddr refAddr = ref.get(referenceName);
         String asString = refAddr != null ? (String) refAddr.getContent() : null;
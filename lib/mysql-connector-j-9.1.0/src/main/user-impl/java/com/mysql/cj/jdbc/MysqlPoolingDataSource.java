@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.naming.NamingException;
+import javax.naming.Reference;
+import javax.naming.StringRefAddr;
+
+/**
+ * A DataSource that pools its connections, for applications that don't use a separate connection pool.
+ *
+ * Connections obtained with the credentials of the data source are borrowed from a pool that is created on first use, and returned to it when closed, after
+ * being reset with COM_RESET_CONNECTION. Connections obtained with other credentials are not pooled. The pool settings must be set before the first connection
+ * is obtained. {@link #close()} closes the pool.
+ */
+public class MysqlPoolingDataSource extends MysqlDataSource implements AutoCloseable {
+
+    static final long serialVersionUID = 4227364856731427012L;
+
+    private int maxPoolSize = 10;
+    private int minIdle = 0;
+    private int maxIdle = -1;
+    private long maxLifetime = 1800000;
+    private long validationInterval = 30000;
+    private long borrowTimeout = 30000;
+
+    private final Lock lock = new ReentrantLock();
+    private transient volatile ConnectionPool pool = null;
+
+    /**
+     * Default no-arg constructor is required by specification.
+     */
+    public MysqlPoolingDataSource() {
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getPool().borrow();
+    }
+
+    /**
+     * Borrows a connection from the pool if the credentials are those of this data source. With other credentials, a new connection that is not pooled is
+     * opened, and closing it closes the physical connection.
+     *
+     * @param userID
+     *            the user name
+     * @param pass
+     *            the password
+     * @return a connection
+     * @throws SQLException
+     *             if the connection can't be obtained
+     */
+    @Override
+    public Connection getConnection(String userID, String pass) throws SQLException {
+        if (Objects.equals(userID, this.user) && Objects.equals(pass, this.password)) {
+            return getConnection();
+        }
+        return super.getConnection(userID, pass);
+    }
+
+    /**
+     * Opens a new physical connection for the pool.
+     *
+     * @return the connection
+     * @throws SQLException
+     *             if an error occurs
+     */
+    Connection createPhysicalConnection() throws SQLException {
+        return super.getConnection(this.user, this.password);
+    }
+
+    private ConnectionPool getPool() {
+        ConnectionPool p = this.pool;
+        if (p == null) {
+            this.lock.lock();
+            try {
+                p = this.pool;
+                if (p == null) {
+                    p = new ConnectionPool(this);
+                    this.pool = p;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Closes the pool and its idle connections. Connections in use are closed when returned. A new pool is created if connections are requested again.
+     */
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            if (this.pool != null) {
+                this.pool.close();
+                this.pool = null;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the maximum number of connections of the pool, in use or idle. Defaults to 10.
+     *
+     * @param maxPoolSize
+     *            the maximum number of connections
+     */
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * Returns the maximum number of connections of the pool.
+     *
+     * @return the maximum number of connections
+     */
+    public int getMaxPoolSize() {
+        return this.maxPoolSize;
+    }
+
+    /**
+     * Sets the number of idle connections the pool keeps open, within the maximum pool size. Defaults to 0.
+     *
+     * @param minIdle
+     *            the minimum number of idle connections
+     */
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    /**
+     * Returns the number of idle connections the pool keeps open.
+     *
+     * @return the minimum number of idle connections
+     */
+    public int getMinIdle() {
+        return this.minIdle;
+    }
+
+    /**
+     * Sets the number of idle connections above which the pool closes idle connections, at each validation. Defaults to -1, the maximum pool size.
+     *
+     * @param maxIdle
+     *            the maximum number of idle connections
+     */
+    public void setMaxIdle(int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Returns the number of idle connections above which the pool closes idle connections.
+     *
+     * @return the maximum number of idle connections
+     */
+    public int getMaxIdle() {
+        return this.maxIdle;
+    }
+
+    /**
+     * Sets the time in milliseconds after which connections are closed, once not in use. Defaults to 30 minutes, 0 means no limit.
+     *
+     * @param maxLifetime
+     *            the maximum lifetime of connections
+     */
+    public void setMaxLifetime(long maxLifetime) {
+        this.maxLifetime = maxLifetime;
+    }
+
+    /**
+     * Returns the time in milliseconds after which connections are closed.
+     *
+     * @return the maximum lifetime of connections
+     */
+    public long getMaxLifetime() {
+        return this.maxLifetime;
+    }
+
+    /**
+     * Sets the time in milliseconds between two validations of the idle connections, which pings the connections that were not used since the previous one.
+     * Defaults to 30 seconds, 0 disables validation.
+     *
+     * @param validationInterval
+     *            the time between two validations
+     */
+    public void setValidationInterval(long validationInterval) {
+        this.validationInterval = validationInterval;
+    }
+
+    /**
+     * Returns the time in milliseconds between two validations of the idle connections.
+     *
+     * @return the time between two validations
+     */
+    public long getValidationInterval() {
+        return this.validationInterval;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for a connection when the pool is exhausted. Defaults to 30 seconds.
+     *
+     * @param borrowTimeout
+     *            the time to wait for a connection
+     */
+    public void setBorrowTimeout(long borrowTimeout) {
+        this.borrowTimeout = borrowTimeout;
+    }
+
+    /**
+     * Returns the time in milliseconds to wait for a connection when the pool is exhausted.
+     *
+     * @return the time to wait for a connection
+     */
+    public long getBorrowTimeout() {
+        return this.borrowTimeout;
+    }
+
+    /**
+     * Returns the number of pooled connections in use.
+     *
+     * @return the number of connections in use
+     */
+    public int getActiveConnections() {
+        ConnectionPool p = this.pool;
+        return p == null ? 0 : p.getActiveConnections();
+    }
+
+    /**
+     * Returns the number of idle pooled connections.
+     *
+     * @return the number of idle connections
+     */
+    public int getIdleConnections() {
+        ConnectionPool p = this.pool;
+        return p == null ? 0 : p.getIdleConnections();
+    }
+
+    /**
+     * Returns the number of pooled connections, in use, idle or being opened or validated.
+     *
+     * @return the number of connections
+     */
+    public int getTotalConnections() {
+        ConnectionPool p = this.pool;
+        return p == null ? 0 : p.getTotalConnections();
+    }
+
+    /**
+     * Returns the number of threads waiting for a pooled connection.
+     *
+     * @return the number of waiting threads
+     */
+    public int getThreadsAwaitingConnection() {
+        ConnectionPool p = this.pool;
+        return p == null ? 0 : p.getThreadsAwaitingConnection();
+    }
+
+    /**
+     * Returns the number of connections opened by the pool.
+     *
+     * @return the number of connections opened
+     */
+    public long getCreatedConnections() {
+        ConnectionPool p = this.pool;
+        return p == null ? 0 : p.getCreatedConnections();
+    }
+
+    /**
+     * Returns the number of connections closed by the pool, because they failed, expired or were idle in excess.
+     *
+     * @return the number of connections closed
+     */
+    public long getRemovedConnections() {
+        ConnectionPool p = this.pool;
+        return p == null ? 0 : p.getRemovedConnections();
+    }
+
+    @Override
+    public Reference getReference() throws NamingException {
+        Reference ref = super.getReference();
+        ref.add(new StringRefAddr("maxPoolSize", String.valueOf(this.maxPoolSize)));
+        ref.add(new StringRefAddr("minIdle", String.valueOf(this.minIdle)));
+        ref.add(new StringRefAddr("maxIdle", String.valueOf(this.maxIdle)));
+        ref.add(new StringRefAddr("maxLifetime", String.valueOf(this.maxLifetime)));
+        ref.add(new StringRefAddr("validationInterval", String.valueOf(this.validationInterval)));
+        ref.add(new StringRefAddr("borrowTimeout", String.valueOf(this.borrowTimeout)));
+        return ref;
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.BindValue;
+import com.mysql.cj.Messages;
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.PreparedQuery;
+import com.mysql.cj.ServerPreparedQuery;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.jdbc.result.ResultSetFactory;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeProtocol;
+
+/**
+ * {@link Pipeline} implementation. Statements are turned into COM_QUERY and COM_STMT_EXECUTE packets when they are added, so parameter values are captured at
+ * that time, and sent by {@link NativeSession#execPipelined(List, NativeProtocol.PipelinedResponseHandler)}.
+ */
+public class PipelineImpl implements Pipeline {
+
+    private final JdbcConnection connection;
+    private final NativeSession session;
+    private final ResultSetFactory nullStatementResultSetFactory;
+
+    private final List<NativePacketPayload> packets = new ArrayList<>();
+    /** Prepared statement of each packet, null for SQL statements. */
+    private final List<ClientPreparedStatement> statements = new ArrayList<>();
+    private long[] updateCounts = new long[0];
+
+    public PipelineImpl(JdbcConnection connection) throws SQLException {
+        this.connection = connection;
+        this.session = (NativeSession) connection.getSession();
+        this.nullStatementResultSetFactory = new ResultSetFactory(connection, null);
+    }
+
+    @Override
+    public Pipeline addQuery(String sql) throws SQLException {
+        if (sql == null) {
+            throw SQLError.createSQLException(Messages.getString("Pipeline.0"), MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT,
+                    this.connection.getExceptionInterceptor());
+        }
+
+        Lock connectionLock = this.connection.getConnectionLock();
+        connectionLock.lock();
+        try {
+            this.connection.checkClosed();
+            this.packets.add(this.session.getProtocol().getMessageBuilder().buildComQuery(null, this.session, sql, null,
+                    this.session.getPropertySet().getStringProperty(PropertyKey.characterEncoding).getValue()));
+            this.statements.add(null);
+            return this;
+        } catch (CJException ex) {
+            throw SQLExceptionsMapping.translateException(ex, this.connection.getExceptionInterceptor());
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public Pipeline addPrepared(PreparedStatement pstmt) throws SQLException {
+        ClientPreparedStatement stmt = unwrap(pstmt);
+
+        Lock connectionLock = this.connection.getConnectionLock();
+        connectionLock.lock();
+        try {
+            stmt.checkClosed();
+            if (stmt.session != this.session) {
+                throw SQLError.createSQLException(Messages.getString("Pipeline.1"), MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT,
+                        this.connection.getExceptionInterceptor());
+            }
+
+            PreparedQuery query = (PreparedQuery) stmt.getQuery();
+            NativePacketPayload packet;
+            if (query instanceof ServerPreparedQuery) {
+                for (BindValue bindValue : query.getQueryBindings().getBindValues()) {
+                    if (bindValue.isStream()) {
+                        throw SQLError.createSQLException(Messages.getString("Pipeline.2"), MysqlErrorNumbers.SQLSTATE_CONNJ_DRIVER_NOT_CAPABLE,
+                                this.connection.getExceptionInterceptor());
+                    }
+                }
+                ((ServerPreparedStatement) stmt).rePrepareIfNeeded();
+                packet = ((ServerPreparedQuery) query).prepareExecutePacket();
+                if ((packet.getByteBuffer()[5] & ServerPreparedQuery.OPEN_CURSOR_FLAG) != 0) {
+                    throw SQLError.createSQLException(Messages.getString("Pipeline.3"), MysqlErrorNumbers.SQLSTATE_CONNJ_DRIVER_NOT_CAPABLE,
+                            this.connection.getExceptionInterceptor());
+                }
+            } else {
+                packet = query.fillSendPacket(query.getQueryBindings());
+            }
+
+            // The packet was built in the session's shared send buffer, which the next statement reuses
+            NativePacketPayload copy = new NativePacketPayload(Arrays.copyOf(packet.getByteBuffer(), packet.getPosition()));
+            copy.setPosition(packet.getPosition());
+            this.packets.add(copy);
+            this.statements.add(stmt);
+            return this;
+        } catch (CJException ex) {
+            throw SQLExceptionsMapping.translateException(ex, this.connection.getExceptionInterceptor());
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    private ClientPreparedStatement unwrap(PreparedStatement pstmt) throws SQLException {
+        // Statements of pooled connections only unwrap to interfaces
+        java.sql.Statement stmt = pstmt instanceof StatementWrapper ? ((StatementWrapper) pstmt).wrappedStmt : pstmt;
+        return stmt instanceof ClientPreparedStatement ? (ClientPreparedStatement) stmt : stmt.unwrap(ClientPreparedStatement.class);
+    }
+
+    @Override
+    public int size() {
+        return this.packets.size();
+    }
+
+    @Override
+    public void clear() {
+        this.packets.clear();
+        this.statements.clear();
+    }
+
+    @Override
+    public List<ResultSet> execute() throws SQLException {
+        Lock connectionLock = this.connection.getConnectionLock();
+        connectionLock.lock();
+        try {
+            this.connection.checkClosed();
+
+            List<ResultSet> results = new ArrayList<>(Collections.nCopies(this.packets.size(), (ResultSet) null));
+            long[] counts = new long[this.packets.size()];
+            List<CJException> errors = new ArrayList<>();
+            List<ClientPreparedStatement> pipelined = new ArrayList<>(this.statements);
+            this.updateCounts = counts;
+
+            if (!this.packets.isEmpty()) {
+                NativeProtocol protocol = this.session.getProtocol();
+                this.session.execPipelined(this.packets, new NativeProtocol.PipelinedResponseHandler() {
+
+                    @Override
+                    public void onResponse(int index, NativePacketPayload resultPacket) throws IOException {
+                        ClientPreparedStatement stmt = pipelined.get(index);
+                        ResultSetImpl rs;
+                        if (stmt == null) {
+                            rs = protocol.readAllResults(-1, false, resultPacket, false, null, PipelineImpl.this.nullStatementResultSetFactory);
+                        } else if (stmt.getQuery() instanceof ServerPreparedQuery) {
+                            ServerPreparedQuery query = (ServerPreparedQuery) stmt.getQuery();
+                            rs = protocol.readAllResults(stmt.maxRows, false, resultPacket, true, query.getResultFields(), stmt.resultSetFactory);
+                            query.getQueryBindings().getSendTypesToServer().set(false);
+                        } else {
+                            rs = protocol.readAllResults(stmt.maxRows, false, resultPacket, false, null, stmt.resultSetFactory);
+                        }
+
+                        if (rs.hasRows()) {
+                            results.set(index, rs);
+                            counts[index] = -1;
+                        } else {
+                            counts[index] = rs.getUpdateCount();
+                        }
+                    }
+
+                    @Override
+                    public void onError(int index, CJException ex) {
+                        counts[index] = Statement.EXECUTE_FAILED;
+                        errors.add(ex);
+                    }
+
+                });
+            }
+            clear();
+
+            if (!errors.isEmpty()) {
+                SQLException ex = SQLExceptionsMapping.translateException(errors.get(0), this.connection.getExceptionInterceptor());
+                for (int i = 1; i < errors.size(); i++) {
+                    ex.addSuppressed(SQLExceptionsMapping.translateException(errors.get(i), this.connection.getExceptionInterceptor()));
+                }
+                throw ex;
+            }
+            return results;
+        } catch (CJException ex) {
+            clear();
+            throw SQLExceptionsMapping.translateException(ex, this.connection.getExceptionInterceptor());
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long getUpdateCount(int index) {
+        return this.updateCounts[index];
+    }
+
+}
@@ -443,10 +443,15 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                 clearAttributes();
                 this.isClosed = true;
                 this.connection.recachePreparedStatement(this);
-                this.isCached = true;
-                this.results = null;
-                this.generatedKeysResults = null;
-                return;
+                if (this.isCacheable) {
+                    this.isCached = true;
+                    this.results = null;
+                    this.generatedKeysResults = null;
+                    return;
+                }
+                // The connection declined to cache it, close it for good
+                this.isClosed = false;
+                this.isCached = false;
             }
 
             if (this.connection != null) {
@@ -465,8 +470,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 ((ServerPreparedQuery) this.query).clearParameters(false);
 
-                // Finally deallocate the prepared statement.
-                if (!locallyScopedConn.isClosed()) {
+                // Finally deallocate the prepared statement, unless the server already did.
+                if (!locallyScopedConn.isClosed() && !((ServerPreparedQuery) this.query).isRePrepareNeeded()) {
                     TelemetrySpan span = sessionLocalCopy.getTelemetryHandler().startSpan(TelemetrySpanName.STMT_DEALLOCATE_PREPARED);
                     try (TelemetryScope scope = span.makeCurrent()) {
                         String dbOperation = getQueryInfo().getStatementKeyword();
@@ -605,6 +610,7 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
         Lock connectionLock = checkClosed().getConnectionLock();
         connectionLock.lock();
         try {
+            rePrepareIfNeeded();
             this.results = ((ServerPreparedQuery) this.query).serverExecute(maxRowsToRetrieve, createStreamingResultSet, metadata, this.resultSetFactory);
             return this.results;
         } finally {
@@ -612,6 +618,23 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
         }
     }
 
+    /**
+     * Prepares this statement again if the server has discarded it since it was last prepared, e.g. by {@link JdbcConnection#resetSession()}. The
+     * parameters bound so far are kept.
+     *
+     * @throws SQLException
+     *             if the statement can't be prepared
+     */
+    protected void rePrepareIfNeeded() throws SQLException {
+        ServerPreparedQuery q = (ServerPreparedQuery) this.query;
+        if (q.isRePrepareNeeded()) {
+            QueryBindings bindings = q.getQueryBindings();
+            serverPrepare(q.getOriginalSql());
+            q.setQueryBindings(bindings);
+            bindings.getSendTypesToServer().set(true);
+        }
+    }
+
     protected void serverPrepare(String sql) throws SQLException {
         Lock connectionLock = checkClosed().getConnectionLock();
         connectionLock.lock();
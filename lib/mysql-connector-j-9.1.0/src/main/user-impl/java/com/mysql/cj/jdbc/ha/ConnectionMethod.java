@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The properties of a java.sql.Connection method needed by {@link MultiHostConnectionProxy} to process its invocation. Instances are looked up once and kept
+ * in constants by {@link DelegatingConnection} and cached for the reflective proxies.
+ */
+final class ConnectionMethod {
+
+    private static final ConcurrentMap<Method, ConnectionMethod> CACHE = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Class<?> declaringClass;
+    private final Class<?> returnType;
+    private final Class<?>[] exceptionTypes;
+
+    private ConnectionMethod(Method method) {
+        this.name = method.getName();
+        this.declaringClass = method.getDeclaringClass();
+        this.returnType = method.getReturnType();
+        this.exceptionTypes = method.getExceptionTypes();
+    }
+
+    static ConnectionMethod of(Method method) {
+        return CACHE.computeIfAbsent(method, ConnectionMethod::new);
+    }
+
+    static ConnectionMethod of(Class<?> iface, String name, Class<?>... parameterTypes) {
+        try {
+            return of(iface.getMethod(name, parameterTypes));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    Class<?> getDeclaringClass() {
+        return this.declaringClass;
+    }
+
+    Class<?> getReturnType() {
+        return this.returnType;
+    }
+
+    Class<?>[] getExceptionTypes() {
+        return this.exceptionTypes;
+    }
+
+}
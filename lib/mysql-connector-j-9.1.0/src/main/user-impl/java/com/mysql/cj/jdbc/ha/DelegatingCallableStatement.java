@@ -0,0 +1,1631 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+
+/**
+ * The {@link DelegatingStatement} implementation of {@link CallableStatement}.
+ */
+public class DelegatingCallableStatement extends DelegatingPreparedStatement implements CallableStatement {
+
+    private final CallableStatement callableStatement;
+
+    DelegatingCallableStatement(MultiHostConnectionProxy connectionProxy, JdbcPreparedStatement callableStatement) {
+        super(connectionProxy, callableStatement);
+        this.callableStatement = (CallableStatement) callableStatement;
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.wasNull();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getString(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getString(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getBoolean(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte getByte(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getByte(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public short getShort(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getShort(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getInt(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getInt(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLong(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getLong(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public float getFloat(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getFloat(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public double getDouble(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getDouble(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(int parameterIndex, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getBigDecimal(parameterIndex, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getBytes(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getDate(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTime(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTimestamp(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getObject(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getBigDecimal(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(int parameterIndex, Map<String, Class<?>> map) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getObject(parameterIndex, map);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Ref getRef(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Ref) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.callableStatement.getRef(parameterIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Blob getBlob(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Blob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.callableStatement.getBlob(parameterIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Clob getClob(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Clob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.callableStatement.getClob(parameterIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Array getArray(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Array) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.callableStatement.getArray(parameterIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(int parameterIndex, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getDate(parameterIndex, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(int parameterIndex, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTime(parameterIndex, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int parameterIndex, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTimestamp(parameterIndex, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, typeName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, int sqlType, String typeName) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, typeName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public URL getURL(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getURL(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setURL(String parameterName, URL val) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setURL(parameterName, val);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNull(parameterName, sqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBoolean(String parameterName, boolean x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBoolean(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setByte(String parameterName, byte x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setByte(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setShort(String parameterName, short x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setShort(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setInt(String parameterName, int x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setInt(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setLong(String parameterName, long x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setLong(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setFloat(String parameterName, float x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setFloat(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setDouble(String parameterName, double x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setDouble(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBigDecimal(String parameterName, BigDecimal x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBigDecimal(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setString(String parameterName, String x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setString(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBytes(String parameterName, byte[] x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBytes(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setDate(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setTime(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setTimestamp(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setAsciiStream(parameterName, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBinaryStream(parameterName, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, int targetSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setObject(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setCharacterStream(parameterName, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setDate(String parameterName, Date x, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setDate(parameterName, x, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTime(String parameterName, Time x, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setTime(parameterName, x, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimestamp(String parameterName, Timestamp x, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setTimestamp(parameterName, x, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNull(String parameterName, int sqlType, String typeName) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNull(parameterName, sqlType, typeName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getString(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getString(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getBoolean(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte getByte(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getByte(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public short getShort(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getShort(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getInt(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getInt(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLong(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getLong(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public float getFloat(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getFloat(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public double getDouble(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getDouble(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getBytes(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getDate(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTime(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTimestamp(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getObject(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getBigDecimal(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(String parameterName, Map<String, Class<?>> map) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getObject(parameterName, map);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Ref getRef(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Ref) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.callableStatement.getRef(parameterName));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Blob getBlob(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Blob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.callableStatement.getBlob(parameterName));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Clob getClob(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Clob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.callableStatement.getClob(parameterName));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Array getArray(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Array) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.callableStatement.getArray(parameterName));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(String parameterName, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getDate(parameterName, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(String parameterName, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTime(parameterName, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String parameterName, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getTimestamp(parameterName, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public URL getURL(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getURL(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public RowId getRowId(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (RowId) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.callableStatement.getRowId(parameterIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public RowId getRowId(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return (RowId) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.callableStatement.getRowId(parameterName));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setRowId(String parameterName, RowId x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setRowId(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNString(String parameterName, String value) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNString(parameterName, value);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNCharacterStream(parameterName, value, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(String parameterName, NClob value) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNClob(parameterName, value);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setClob(parameterName, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBlob(parameterName, inputStream, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNClob(parameterName, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public NClob getNClob(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (NClob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.callableStatement.getNClob(parameterIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public NClob getNClob(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return (NClob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.callableStatement.getNClob(parameterName));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setSQLXML(String parameterName, SQLXML xmlObject) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setSQLXML(parameterName, xmlObject);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (SQLXML) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.callableStatement.getSQLXML(parameterIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return (SQLXML) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.callableStatement.getSQLXML(parameterName));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getNString(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getNString(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getNString(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getNString(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getNCharacterStream(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getNCharacterStream(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getCharacterStream(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String parameterName) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getCharacterStream(parameterName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(String parameterName, Blob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBlob(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(String parameterName, Clob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setClob(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setAsciiStream(parameterName, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBinaryStream(parameterName, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setCharacterStream(parameterName, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(String parameterName, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setAsciiStream(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(String parameterName, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBinaryStream(parameterName, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(String parameterName, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setCharacterStream(parameterName, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(String parameterName, Reader value) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNCharacterStream(parameterName, value);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(String parameterName, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setClob(parameterName, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(String parameterName, InputStream inputStream) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setBlob(parameterName, inputStream);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(String parameterName, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setNClob(parameterName, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T getObject(int parameterIndex, Class<T> type) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getObject(parameterIndex, type);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T getObject(String parameterName, Class<T> type) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.callableStatement.getObject(parameterName, type);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType, scaleOrLength);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(String parameterName, Object x, SQLType targetSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.setObject(parameterName, x, targetSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sqlType, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(int parameterIndex, SQLType sqlType, String typeName) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterIndex, sqlType, typeName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, SQLType sqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, SQLType sqlType, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void registerOutParameter(String parameterName, SQLType sqlType, String typeName) throws SQLException {
+        this.lock.lock();
+        try {
+            this.callableStatement.registerOutParameter(parameterName, sqlType, typeName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,1056 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.ServerVersion;
+import com.mysql.cj.Session;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.jdbc.ClientInfoProvider;
+import com.mysql.cj.jdbc.CloseOption;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.Pipeline;
+import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ServerSessionStateController;
+
+/**
+ * A multi-host {@link JdbcConnection} that hands every call over to its {@link MultiHostConnectionProxy} directly, without the {@link java.lang.reflect.Method}
+ * lookups and argument arrays of a reflective {@link java.lang.reflect.Proxy}.
+ */
+public class DelegatingConnection implements JdbcConnection {
+
+    private static final ConnectionMethod GET_LOCK = ConnectionMethod.of(JdbcConnection.class, "getLock");
+    private static final ConnectionMethod GET_PROPERTY_SET = ConnectionMethod.of(JdbcConnection.class, "getPropertySet");
+    private static final ConnectionMethod CHANGE_USER = ConnectionMethod.of(JdbcConnection.class, "changeUser", String.class, String.class);
+    private static final ConnectionMethod CREATE_PIPELINE = ConnectionMethod.of(JdbcConnection.class, "createPipeline");
+    private static final ConnectionMethod CLIENT_PREPARE_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "clientPrepareStatement", String.class);
+    private static final ConnectionMethod CLIENT_PREPARE_STATEMENT_2 = ConnectionMethod.of(JdbcConnection.class, "clientPrepareStatement", String.class,
+            int.class);
+    private static final ConnectionMethod CLIENT_PREPARE_STATEMENT_3 = ConnectionMethod.of(JdbcConnection.class, "clientPrepareStatement", String.class,
+            int.class, int.class);
+    private static final ConnectionMethod CLIENT_PREPARE_STATEMENT_4 = ConnectionMethod.of(JdbcConnection.class, "clientPrepareStatement", String.class,
+            int[].class);
+    private static final ConnectionMethod CLIENT_PREPARE_STATEMENT_5 = ConnectionMethod.of(JdbcConnection.class, "clientPrepareStatement", String.class,
+            int.class, int.class, int.class);
+    private static final ConnectionMethod CLIENT_PREPARE_STATEMENT_6 = ConnectionMethod.of(JdbcConnection.class, "clientPrepareStatement", String.class,
+            String[].class);
+    private static final ConnectionMethod GET_ACTIVE_STATEMENT_COUNT = ConnectionMethod.of(JdbcConnection.class, "getActiveStatementCount");
+    private static final ConnectionMethod GET_IDLE_FOR = ConnectionMethod.of(JdbcConnection.class, "getIdleFor");
+    private static final ConnectionMethod GET_STATEMENT_COMMENT = ConnectionMethod.of(JdbcConnection.class, "getStatementComment");
+    private static final ConnectionMethod IS_IN_GLOBAL_TX = ConnectionMethod.of(JdbcConnection.class, "isInGlobalTx");
+    private static final ConnectionMethod SET_IN_GLOBAL_TX = ConnectionMethod.of(JdbcConnection.class, "setInGlobalTx", boolean.class);
+    private static final ConnectionMethod IS_SOURCE_CONNECTION = ConnectionMethod.of(JdbcConnection.class, "isSourceConnection");
+    private static final ConnectionMethod IS_SAME_RESOURCE = ConnectionMethod.of(JdbcConnection.class, "isSameResource", JdbcConnection.class);
+    private static final ConnectionMethod LOWER_CASE_TABLE_NAMES = ConnectionMethod.of(JdbcConnection.class, "lowerCaseTableNames");
+    private static final ConnectionMethod PING = ConnectionMethod.of(JdbcConnection.class, "ping");
+    private static final ConnectionMethod RESET_SERVER_STATE = ConnectionMethod.of(JdbcConnection.class, "resetServerState");
+    private static final ConnectionMethod RESET_SESSION = ConnectionMethod.of(JdbcConnection.class, "resetSession");
+    private static final ConnectionMethod SERVER_PREPARE_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "serverPrepareStatement", String.class);
+    private static final ConnectionMethod SERVER_PREPARE_STATEMENT_2 = ConnectionMethod.of(JdbcConnection.class, "serverPrepareStatement", String.class,
+            int.class);
+    private static final ConnectionMethod SERVER_PREPARE_STATEMENT_3 = ConnectionMethod.of(JdbcConnection.class, "serverPrepareStatement", String.class,
+            int.class, int.class);
+    private static final ConnectionMethod SERVER_PREPARE_STATEMENT_4 = ConnectionMethod.of(JdbcConnection.class, "serverPrepareStatement", String.class,
+            int.class, int.class, int.class);
+    private static final ConnectionMethod SERVER_PREPARE_STATEMENT_5 = ConnectionMethod.of(JdbcConnection.class, "serverPrepareStatement", String.class,
+            int[].class);
+    private static final ConnectionMethod SERVER_PREPARE_STATEMENT_6 = ConnectionMethod.of(JdbcConnection.class, "serverPrepareStatement", String.class,
+            String[].class);
+    private static final ConnectionMethod SET_FAILED_OVER = ConnectionMethod.of(JdbcConnection.class, "setFailedOver", boolean.class);
+    private static final ConnectionMethod SET_STATEMENT_COMMENT = ConnectionMethod.of(JdbcConnection.class, "setStatementComment", String.class);
+    private static final ConnectionMethod SHUTDOWN_SERVER = ConnectionMethod.of(JdbcConnection.class, "shutdownServer");
+    private static final ConnectionMethod GET_AUTO_INCREMENT_INCREMENT = ConnectionMethod.of(JdbcConnection.class, "getAutoIncrementIncrement");
+    private static final ConnectionMethod HAS_SAME_PROPERTIES = ConnectionMethod.of(JdbcConnection.class, "hasSameProperties", JdbcConnection.class);
+    private static final ConnectionMethod GET_HOST = ConnectionMethod.of(JdbcConnection.class, "getHost");
+    private static final ConnectionMethod GET_HOST_PORT_PAIR = ConnectionMethod.of(JdbcConnection.class, "getHostPortPair");
+    private static final ConnectionMethod SET_PROXY = ConnectionMethod.of(JdbcConnection.class, "setProxy", JdbcConnection.class);
+    private static final ConnectionMethod IS_SERVER_LOCAL = ConnectionMethod.of(JdbcConnection.class, "isServerLocal");
+    private static final ConnectionMethod GET_SESSION_MAX_ROWS = ConnectionMethod.of(JdbcConnection.class, "getSessionMaxRows");
+    private static final ConnectionMethod SET_SESSION_MAX_ROWS = ConnectionMethod.of(JdbcConnection.class, "setSessionMaxRows", int.class);
+    private static final ConnectionMethod ABORT_INTERNAL = ConnectionMethod.of(JdbcConnection.class, "abortInternal");
+    private static final ConnectionMethod IS_PROXY_SET = ConnectionMethod.of(JdbcConnection.class, "isProxySet");
+    private static final ConnectionMethod GET_CACHED_META_DATA = ConnectionMethod.of(JdbcConnection.class, "getCachedMetaData", String.class);
+    private static final ConnectionMethod GET_CHARACTER_SET_METADATA = ConnectionMethod.of(JdbcConnection.class, "getCharacterSetMetadata");
+    private static final ConnectionMethod GET_METADATA_SAFE_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "getMetadataSafeStatement");
+    private static final ConnectionMethod GET_SERVER_VERSION = ConnectionMethod.of(JdbcConnection.class, "getServerVersion");
+    private static final ConnectionMethod GET_QUERY_INTERCEPTORS_INSTANCES = ConnectionMethod.of(JdbcConnection.class, "getQueryInterceptorsInstances");
+    private static final ConnectionMethod INITIALIZE_RESULTS_METADATA_FROM_CACHE = ConnectionMethod.of(JdbcConnection.class,
+            "initializeResultsMetadataFromCache", String.class, CachedResultSetMetaData.class, ResultSetInternalMethods.class);
+    private static final ConnectionMethod INITIALIZE_SAFE_QUERY_INTERCEPTORS = ConnectionMethod.of(JdbcConnection.class, "initializeSafeQueryInterceptors");
+    private static final ConnectionMethod IS_READ_ONLY = ConnectionMethod.of(JdbcConnection.class, "isReadOnly", boolean.class);
+    private static final ConnectionMethod PING_INTERNAL = ConnectionMethod.of(JdbcConnection.class, "pingInternal", boolean.class, int.class);
+    private static final ConnectionMethod DO_CLOSE = ConnectionMethod.of(JdbcConnection.class, "doClose", Throwable.class, CloseOption[].class);
+    private static final ConnectionMethod RECACHE_PREPARED_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "recachePreparedStatement",
+            JdbcPreparedStatement.class);
+    private static final ConnectionMethod DECACHE_PREPARED_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "decachePreparedStatement",
+            JdbcPreparedStatement.class);
+    private static final ConnectionMethod REGISTER_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "registerStatement", JdbcStatement.class);
+    private static final ConnectionMethod SET_READ_ONLY_INTERNAL = ConnectionMethod.of(JdbcConnection.class, "setReadOnlyInternal", boolean.class);
+    private static final ConnectionMethod STORES_LOWER_CASE_TABLE_NAME = ConnectionMethod.of(JdbcConnection.class, "storesLowerCaseTableName");
+    private static final ConnectionMethod THROW_CONNECTION_CLOSED_EXCEPTION = ConnectionMethod.of(JdbcConnection.class, "throwConnectionClosedException");
+    private static final ConnectionMethod UNREGISTER_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "unregisterStatement", JdbcStatement.class);
+    private static final ConnectionMethod UN_SAFE_QUERY_INTERCEPTORS = ConnectionMethod.of(JdbcConnection.class, "unSafeQueryInterceptors");
+    private static final ConnectionMethod GET_MULTI_HOST_SAFE_PROXY = ConnectionMethod.of(JdbcConnection.class, "getMultiHostSafeProxy");
+    private static final ConnectionMethod GET_MULTI_HOST_PARENT_PROXY = ConnectionMethod.of(JdbcConnection.class, "getMultiHostParentProxy");
+    private static final ConnectionMethod GET_ACTIVE_MY_S_Q_L_CONNECTION = ConnectionMethod.of(JdbcConnection.class, "getActiveMySQLConnection");
+    private static final ConnectionMethod GET_CLIENT_INFO_PROVIDER_IMPL = ConnectionMethod.of(JdbcConnection.class, "getClientInfoProviderImpl");
+    private static final ConnectionMethod SET_DATABASE = ConnectionMethod.of(JdbcConnection.class, "setDatabase", String.class);
+    private static final ConnectionMethod GET_DATABASE = ConnectionMethod.of(JdbcConnection.class, "getDatabase");
+    private static final ConnectionMethod CREATE_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "createStatement");
+    private static final ConnectionMethod PREPARE_STATEMENT = ConnectionMethod.of(JdbcConnection.class, "prepareStatement", String.class);
+    private static final ConnectionMethod PREPARE_CALL = ConnectionMethod.of(JdbcConnection.class, "prepareCall", String.class);
+    private static final ConnectionMethod NATIVE_S_Q_L = ConnectionMethod.of(JdbcConnection.class, "nativeSQL", String.class);
+    private static final ConnectionMethod SET_AUTO_COMMIT = ConnectionMethod.of(JdbcConnection.class, "setAutoCommit", boolean.class);
+    private static final ConnectionMethod GET_AUTO_COMMIT = ConnectionMethod.of(JdbcConnection.class, "getAutoCommit");
+    private static final ConnectionMethod COMMIT = ConnectionMethod.of(JdbcConnection.class, "commit");
+    private static final ConnectionMethod ROLLBACK = ConnectionMethod.of(JdbcConnection.class, "rollback");
+    private static final ConnectionMethod CLOSE = ConnectionMethod.of(JdbcConnection.class, "close");
+    private static final ConnectionMethod IS_CLOSED = ConnectionMethod.of(JdbcConnection.class, "isClosed");
+    private static final ConnectionMethod GET_META_DATA = ConnectionMethod.of(JdbcConnection.class, "getMetaData");
+    private static final ConnectionMethod SET_READ_ONLY = ConnectionMethod.of(JdbcConnection.class, "setReadOnly", boolean.class);
+    private static final ConnectionMethod IS_READ_ONLY_2 = ConnectionMethod.of(JdbcConnection.class, "isReadOnly");
+    private static final ConnectionMethod SET_CATALOG = ConnectionMethod.of(JdbcConnection.class, "setCatalog", String.class);
+    private static final ConnectionMethod GET_CATALOG = ConnectionMethod.of(JdbcConnection.class, "getCatalog");
+    private static final ConnectionMethod SET_TRANSACTION_ISOLATION = ConnectionMethod.of(JdbcConnection.class, "setTransactionIsolation", int.class);
+    private static final ConnectionMethod GET_TRANSACTION_ISOLATION = ConnectionMethod.of(JdbcConnection.class, "getTransactionIsolation");
+    private static final ConnectionMethod GET_WARNINGS = ConnectionMethod.of(JdbcConnection.class, "getWarnings");
+    private static final ConnectionMethod CLEAR_WARNINGS = ConnectionMethod.of(JdbcConnection.class, "clearWarnings");
+    private static final ConnectionMethod CREATE_STATEMENT_2 = ConnectionMethod.of(JdbcConnection.class, "createStatement", int.class, int.class);
+    private static final ConnectionMethod PREPARE_STATEMENT_2 = ConnectionMethod.of(JdbcConnection.class, "prepareStatement", String.class, int.class,
+            int.class);
+    private static final ConnectionMethod PREPARE_CALL_2 = ConnectionMethod.of(JdbcConnection.class, "prepareCall", String.class, int.class, int.class);
+    private static final ConnectionMethod GET_TYPE_MAP = ConnectionMethod.of(JdbcConnection.class, "getTypeMap");
+    private static final ConnectionMethod SET_TYPE_MAP = ConnectionMethod.of(JdbcConnection.class, "setTypeMap", Map.class);
+    private static final ConnectionMethod SET_HOLDABILITY = ConnectionMethod.of(JdbcConnection.class, "setHoldability", int.class);
+    private static final ConnectionMethod GET_HOLDABILITY = ConnectionMethod.of(JdbcConnection.class, "getHoldability");
+    private static final ConnectionMethod SET_SAVEPOINT = ConnectionMethod.of(JdbcConnection.class, "setSavepoint");
+    private static final ConnectionMethod SET_SAVEPOINT_2 = ConnectionMethod.of(JdbcConnection.class, "setSavepoint", String.class);
+    private static final ConnectionMethod ROLLBACK_2 = ConnectionMethod.of(JdbcConnection.class, "rollback", Savepoint.class);
+    private static final ConnectionMethod RELEASE_SAVEPOINT = ConnectionMethod.of(JdbcConnection.class, "releaseSavepoint", Savepoint.class);
+    private static final ConnectionMethod CREATE_STATEMENT_3 = ConnectionMethod.of(JdbcConnection.class, "createStatement", int.class, int.class, int.class);
+    private static final ConnectionMethod PREPARE_STATEMENT_3 = ConnectionMethod.of(JdbcConnection.class, "prepareStatement", String.class, int.class,
+            int.class, int.class);
+    private static final ConnectionMethod PREPARE_CALL_3 = ConnectionMethod.of(JdbcConnection.class, "prepareCall", String.class, int.class, int.class,
+            int.class);
+    private static final ConnectionMethod PREPARE_STATEMENT_4 = ConnectionMethod.of(JdbcConnection.class, "prepareStatement", String.class, int.class);
+    private static final ConnectionMethod PREPARE_STATEMENT_5 = ConnectionMethod.of(JdbcConnection.class, "prepareStatement", String.class, int[].class);
+    private static final ConnectionMethod PREPARE_STATEMENT_6 = ConnectionMethod.of(JdbcConnection.class, "prepareStatement", String.class, String[].class);
+    private static final ConnectionMethod CREATE_CLOB = ConnectionMethod.of(JdbcConnection.class, "createClob");
+    private static final ConnectionMethod CREATE_BLOB = ConnectionMethod.of(JdbcConnection.class, "createBlob");
+    private static final ConnectionMethod CREATE_N_CLOB = ConnectionMethod.of(JdbcConnection.class, "createNClob");
+    private static final ConnectionMethod CREATE_S_Q_L_X_M_L = ConnectionMethod.of(JdbcConnection.class, "createSQLXML");
+    private static final ConnectionMethod IS_VALID = ConnectionMethod.of(JdbcConnection.class, "isValid", int.class);
+    private static final ConnectionMethod SET_CLIENT_INFO = ConnectionMethod.of(JdbcConnection.class, "setClientInfo", String.class, String.class);
+    private static final ConnectionMethod SET_CLIENT_INFO_2 = ConnectionMethod.of(JdbcConnection.class, "setClientInfo", Properties.class);
+    private static final ConnectionMethod GET_CLIENT_INFO = ConnectionMethod.of(JdbcConnection.class, "getClientInfo", String.class);
+    private static final ConnectionMethod GET_CLIENT_INFO_2 = ConnectionMethod.of(JdbcConnection.class, "getClientInfo");
+    private static final ConnectionMethod CREATE_ARRAY_OF = ConnectionMethod.of(JdbcConnection.class, "createArrayOf", String.class, Object[].class);
+    private static final ConnectionMethod CREATE_STRUCT = ConnectionMethod.of(JdbcConnection.class, "createStruct", String.class, Object[].class);
+    private static final ConnectionMethod SET_SCHEMA = ConnectionMethod.of(JdbcConnection.class, "setSchema", String.class);
+    private static final ConnectionMethod GET_SCHEMA = ConnectionMethod.of(JdbcConnection.class, "getSchema");
+    private static final ConnectionMethod ABORT = ConnectionMethod.of(JdbcConnection.class, "abort", Executor.class);
+    private static final ConnectionMethod SET_NETWORK_TIMEOUT = ConnectionMethod.of(JdbcConnection.class, "setNetworkTimeout", Executor.class, int.class);
+    private static final ConnectionMethod GET_NETWORK_TIMEOUT = ConnectionMethod.of(JdbcConnection.class, "getNetworkTimeout");
+    private static final ConnectionMethod CREATE_NEW_I_O = ConnectionMethod.of(JdbcConnection.class, "createNewIO", boolean.class);
+    private static final ConnectionMethod GET_ID = ConnectionMethod.of(JdbcConnection.class, "getId");
+    private static final ConnectionMethod GET_PROPERTIES = ConnectionMethod.of(JdbcConnection.class, "getProperties");
+    private static final ConnectionMethod GET_CONNECTION_LOCK = ConnectionMethod.of(JdbcConnection.class, "getConnectionLock");
+    private static final ConnectionMethod GET_SESSION = ConnectionMethod.of(JdbcConnection.class, "getSession");
+    private static final ConnectionMethod GET_U_R_L = ConnectionMethod.of(JdbcConnection.class, "getURL");
+    private static final ConnectionMethod GET_USER = ConnectionMethod.of(JdbcConnection.class, "getUser");
+    private static final ConnectionMethod GET_EXCEPTION_INTERCEPTOR = ConnectionMethod.of(JdbcConnection.class, "getExceptionInterceptor");
+    private static final ConnectionMethod CHECK_CLOSED = ConnectionMethod.of(JdbcConnection.class, "checkClosed");
+    private static final ConnectionMethod CLEANUP = ConnectionMethod.of(JdbcConnection.class, "cleanup", Throwable.class);
+    private static final ConnectionMethod GET_SERVER_SESSION_STATE_CONTROLLER = ConnectionMethod.of(JdbcConnection.class, "getServerSessionStateController");
+    private static final ConnectionMethod TRANSACTION_BEGUN = ConnectionMethod.of(JdbcConnection.class, "transactionBegun");
+    private static final ConnectionMethod TRANSACTION_COMPLETED = ConnectionMethod.of(JdbcConnection.class, "transactionCompleted");
+    private static final ConnectionMethod UNWRAP = ConnectionMethod.of(JdbcConnection.class, "unwrap", Class.class);
+    private static final ConnectionMethod IS_WRAPPER_FOR = ConnectionMethod.of(JdbcConnection.class, "isWrapperFor", Class.class);
+
+    final MultiHostConnectionProxy connectionProxy;
+
+    DelegatingConnection(MultiHostConnectionProxy connectionProxy) {
+        this.connectionProxy = connectionProxy;
+    }
+
+    /**
+     * Returns the multi-host connection this connection delegates to.
+     *
+     * @return the {@link MultiHostConnectionProxy} instance
+     */
+    public MultiHostConnectionProxy getConnectionProxy() {
+        return this.connectionProxy;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // Same as the reflective proxies: let obj "unwrap" to its MultiHostConnectionProxy.
+        return obj != null && obj.equals(this.connectionProxy);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.connectionProxy.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.connectionProxy.toString();
+    }
+
+    @Override
+    public Lock getLock() {
+        return (Lock) this.connectionProxy.invokeUnchecked(GET_LOCK, c -> c.getLock(), null);
+    }
+
+    @Override
+    public JdbcPropertySet getPropertySet() {
+        return (JdbcPropertySet) this.connectionProxy.invokeUnchecked(GET_PROPERTY_SET, c -> c.getPropertySet(), null);
+    }
+
+    @Override
+    public void changeUser(String userName, String newPassword) throws SQLException {
+        this.connectionProxy.invoke(CHANGE_USER, c -> {
+            c.changeUser(userName, newPassword);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public Pipeline createPipeline() throws SQLException {
+        return (Pipeline) this.connectionProxy.invoke(CREATE_PIPELINE, c -> c.createPipeline(), null);
+    }
+
+    @Override
+    public PreparedStatement clientPrepareStatement(String sql) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(CLIENT_PREPARE_STATEMENT, c -> c.clientPrepareStatement(sql), null);
+    }
+
+    @Override
+    public PreparedStatement clientPrepareStatement(String sql, int autoGenKeyIndex) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(CLIENT_PREPARE_STATEMENT_2, c -> c.clientPrepareStatement(sql, autoGenKeyIndex), null);
+    }
+
+    @Override
+    public PreparedStatement clientPrepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(CLIENT_PREPARE_STATEMENT_3,
+                c -> c.clientPrepareStatement(sql, resultSetType, resultSetConcurrency), null);
+    }
+
+    @Override
+    public PreparedStatement clientPrepareStatement(String sql, int[] autoGenKeyIndexes) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(CLIENT_PREPARE_STATEMENT_4, c -> c.clientPrepareStatement(sql, autoGenKeyIndexes), null);
+    }
+
+    @Override
+    public PreparedStatement clientPrepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(CLIENT_PREPARE_STATEMENT_5,
+                c -> c.clientPrepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), null);
+    }
+
+    @Override
+    public PreparedStatement clientPrepareStatement(String sql, String[] autoGenKeyColNames) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(CLIENT_PREPARE_STATEMENT_6, c -> c.clientPrepareStatement(sql, autoGenKeyColNames), null);
+    }
+
+    @Override
+    public int getActiveStatementCount() {
+        return (Integer) this.connectionProxy.invokeUnchecked(GET_ACTIVE_STATEMENT_COUNT, c -> c.getActiveStatementCount(), null);
+    }
+
+    @Override
+    public long getIdleFor() {
+        return (Long) this.connectionProxy.invokeUnchecked(GET_IDLE_FOR, c -> c.getIdleFor(), null);
+    }
+
+    @Override
+    public String getStatementComment() {
+        return (String) this.connectionProxy.invokeUnchecked(GET_STATEMENT_COMMENT, c -> c.getStatementComment(), null);
+    }
+
+    @Override
+    public boolean isInGlobalTx() {
+        return (Boolean) this.connectionProxy.invokeUnchecked(IS_IN_GLOBAL_TX, c -> c.isInGlobalTx(), null);
+    }
+
+    @Override
+    public void setInGlobalTx(boolean flag) {
+        this.connectionProxy.invokeUnchecked(SET_IN_GLOBAL_TX, c -> {
+            c.setInGlobalTx(flag);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean isSourceConnection() {
+        return (Boolean) this.connectionProxy.invokeUnchecked(IS_SOURCE_CONNECTION, c -> c.isSourceConnection(), null);
+    }
+
+    @Override
+    public boolean isSameResource(JdbcConnection c) {
+        return (Boolean) this.connectionProxy.invokeUnchecked(IS_SAME_RESOURCE, conn -> conn.isSameResource(c), null);
+    }
+
+    @Override
+    public boolean lowerCaseTableNames() {
+        return (Boolean) this.connectionProxy.invokeUnchecked(LOWER_CASE_TABLE_NAMES, c -> c.lowerCaseTableNames(), null);
+    }
+
+    @Override
+    public void ping() throws SQLException {
+        this.connectionProxy.invoke(PING, c -> {
+            c.ping();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void resetServerState() throws SQLException {
+        this.connectionProxy.invoke(RESET_SERVER_STATE, c -> {
+            c.resetServerState();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void resetSession() throws SQLException {
+        this.connectionProxy.invoke(RESET_SESSION, c -> {
+            c.resetSession();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public PreparedStatement serverPrepareStatement(String sql) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(SERVER_PREPARE_STATEMENT, c -> c.serverPrepareStatement(sql), null);
+    }
+
+    @Override
+    public PreparedStatement serverPrepareStatement(String sql, int autoGenKeyIndex) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(SERVER_PREPARE_STATEMENT_2, c -> c.serverPrepareStatement(sql, autoGenKeyIndex), null);
+    }
+
+    @Override
+    public PreparedStatement serverPrepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(SERVER_PREPARE_STATEMENT_3,
+                c -> c.serverPrepareStatement(sql, resultSetType, resultSetConcurrency), null);
+    }
+
+    @Override
+    public PreparedStatement serverPrepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(SERVER_PREPARE_STATEMENT_4,
+                c -> c.serverPrepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), null);
+    }
+
+    @Override
+    public PreparedStatement serverPrepareStatement(String sql, int[] autoGenKeyIndexes) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(SERVER_PREPARE_STATEMENT_5, c -> c.serverPrepareStatement(sql, autoGenKeyIndexes), null);
+    }
+
+    @Override
+    public PreparedStatement serverPrepareStatement(String sql, String[] autoGenKeyColNames) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(SERVER_PREPARE_STATEMENT_6, c -> c.serverPrepareStatement(sql, autoGenKeyColNames), null);
+    }
+
+    @Override
+    public void setFailedOver(boolean flag) {
+        this.connectionProxy.invokeUnchecked(SET_FAILED_OVER, c -> {
+            c.setFailedOver(flag);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void setStatementComment(String comment) {
+        this.connectionProxy.invokeUnchecked(SET_STATEMENT_COMMENT, c -> {
+            c.setStatementComment(comment);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void shutdownServer() throws SQLException {
+        this.connectionProxy.invoke(SHUTDOWN_SERVER, c -> {
+            c.shutdownServer();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public int getAutoIncrementIncrement() {
+        return (Integer) this.connectionProxy.invokeUnchecked(GET_AUTO_INCREMENT_INCREMENT, c -> c.getAutoIncrementIncrement(), null);
+    }
+
+    @Override
+    public boolean hasSameProperties(JdbcConnection c) {
+        return (Boolean) this.connectionProxy.invokeUnchecked(HAS_SAME_PROPERTIES, conn -> conn.hasSameProperties(c), null);
+    }
+
+    @Override
+    public String getHost() {
+        return (String) this.connectionProxy.invokeUnchecked(GET_HOST, c -> c.getHost(), null);
+    }
+
+    @Override
+    public String getHostPortPair() {
+        return (String) this.connectionProxy.invokeUnchecked(GET_HOST_PORT_PAIR, c -> c.getHostPortPair(), null);
+    }
+
+    @Override
+    public void setProxy(JdbcConnection proxy) {
+        this.connectionProxy.invokeUnchecked(SET_PROXY, c -> {
+            c.setProxy(proxy);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean isServerLocal() throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(IS_SERVER_LOCAL, c -> c.isServerLocal(), null);
+    }
+
+    @Override
+    public int getSessionMaxRows() {
+        return (Integer) this.connectionProxy.invokeUnchecked(GET_SESSION_MAX_ROWS, c -> c.getSessionMaxRows(), null);
+    }
+
+    @Override
+    public void setSessionMaxRows(int max) throws SQLException {
+        this.connectionProxy.invoke(SET_SESSION_MAX_ROWS, c -> {
+            c.setSessionMaxRows(max);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void abortInternal() throws SQLException {
+        this.connectionProxy.invoke(ABORT_INTERNAL, c -> {
+            c.abortInternal();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean isProxySet() {
+        return (Boolean) this.connectionProxy.invokeUnchecked(IS_PROXY_SET, c -> c.isProxySet(), null);
+    }
+
+    @Override
+    public CachedResultSetMetaData getCachedMetaData(String sql) {
+        return (CachedResultSetMetaData) this.connectionProxy.invokeUnchecked(GET_CACHED_META_DATA, c -> c.getCachedMetaData(sql), null);
+    }
+
+    @Override
+    public String getCharacterSetMetadata() {
+        return (String) this.connectionProxy.invokeUnchecked(GET_CHARACTER_SET_METADATA, c -> c.getCharacterSetMetadata(), null);
+    }
+
+    @Override
+    public Statement getMetadataSafeStatement() throws SQLException {
+        return (Statement) this.connectionProxy.invoke(GET_METADATA_SAFE_STATEMENT, c -> c.getMetadataSafeStatement(), null);
+    }
+
+    @Override
+    public ServerVersion getServerVersion() {
+        return (ServerVersion) this.connectionProxy.invokeUnchecked(GET_SERVER_VERSION, c -> c.getServerVersion(), null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<QueryInterceptor> getQueryInterceptorsInstances() {
+        return (List<QueryInterceptor>) this.connectionProxy.invokeUnchecked(GET_QUERY_INTERCEPTORS_INSTANCES, c -> c.getQueryInterceptorsInstances(), null);
+    }
+
+    @Override
+    public void initializeResultsMetadataFromCache(String sql, CachedResultSetMetaData cachedMetaData, ResultSetInternalMethods resultSet) throws SQLException {
+        this.connectionProxy.invoke(INITIALIZE_RESULTS_METADATA_FROM_CACHE, c -> {
+            c.initializeResultsMetadataFromCache(sql, cachedMetaData, resultSet);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void initializeSafeQueryInterceptors() throws SQLException {
+        this.connectionProxy.invoke(INITIALIZE_SAFE_QUERY_INTERCEPTORS, c -> {
+            c.initializeSafeQueryInterceptors();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean isReadOnly(boolean useSessionStatus) throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(IS_READ_ONLY, c -> c.isReadOnly(useSessionStatus), null);
+    }
+
+    @Override
+    public void pingInternal(boolean checkForClosedConnection, int timeoutMillis) throws SQLException {
+        this.connectionProxy.invoke(PING_INTERNAL, c -> {
+            c.pingInternal(checkForClosedConnection, timeoutMillis);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void doClose(Throwable cause, CloseOption... options) throws SQLException {
+        this.connectionProxy.invoke(DO_CLOSE, c -> {
+            c.doClose(cause, options);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void recachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
+        this.connectionProxy.invoke(RECACHE_PREPARED_STATEMENT, c -> {
+            c.recachePreparedStatement(pstmt);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void decachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
+        this.connectionProxy.invoke(DECACHE_PREPARED_STATEMENT, c -> {
+            c.decachePreparedStatement(pstmt);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void registerStatement(JdbcStatement stmt) {
+        this.connectionProxy.invokeUnchecked(REGISTER_STATEMENT, c -> {
+            c.registerStatement(stmt);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void setReadOnlyInternal(boolean readOnlyFlag) throws SQLException {
+        this.connectionProxy.invoke(SET_READ_ONLY_INTERNAL, c -> {
+            c.setReadOnlyInternal(readOnlyFlag);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean storesLowerCaseTableName() {
+        return (Boolean) this.connectionProxy.invokeUnchecked(STORES_LOWER_CASE_TABLE_NAME, c -> c.storesLowerCaseTableName(), null);
+    }
+
+    @Override
+    public void throwConnectionClosedException() throws SQLException {
+        this.connectionProxy.invoke(THROW_CONNECTION_CLOSED_EXCEPTION, c -> {
+            c.throwConnectionClosedException();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void unregisterStatement(JdbcStatement stmt) {
+        this.connectionProxy.invokeUnchecked(UNREGISTER_STATEMENT, c -> {
+            c.unregisterStatement(stmt);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void unSafeQueryInterceptors() throws SQLException {
+        this.connectionProxy.invoke(UN_SAFE_QUERY_INTERCEPTORS, c -> {
+            c.unSafeQueryInterceptors();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public JdbcConnection getMultiHostSafeProxy() {
+        return (JdbcConnection) this.connectionProxy.invokeUnchecked(GET_MULTI_HOST_SAFE_PROXY, c -> c.getMultiHostSafeProxy(), null);
+    }
+
+    @Override
+    public JdbcConnection getMultiHostParentProxy() {
+        return (JdbcConnection) this.connectionProxy.invokeUnchecked(GET_MULTI_HOST_PARENT_PROXY, c -> c.getMultiHostParentProxy(), null);
+    }
+
+    @Override
+    public JdbcConnection getActiveMySQLConnection() {
+        return (JdbcConnection) this.connectionProxy.invokeUnchecked(GET_ACTIVE_MY_S_Q_L_CONNECTION, c -> c.getActiveMySQLConnection(), null);
+    }
+
+    @Override
+    public ClientInfoProvider getClientInfoProviderImpl() throws SQLException {
+        return (ClientInfoProvider) this.connectionProxy.invoke(GET_CLIENT_INFO_PROVIDER_IMPL, c -> c.getClientInfoProviderImpl(), null);
+    }
+
+    @Override
+    public void setDatabase(String dbName) throws SQLException {
+        this.connectionProxy.invoke(SET_DATABASE, c -> {
+            c.setDatabase(dbName);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public String getDatabase() throws SQLException {
+        return (String) this.connectionProxy.invoke(GET_DATABASE, c -> c.getDatabase(), null);
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return (Statement) this.connectionProxy.invoke(CREATE_STATEMENT, c -> c.createStatement(), null);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(PREPARE_STATEMENT, c -> c.prepareStatement(sql), null);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return (CallableStatement) this.connectionProxy.invoke(PREPARE_CALL, c -> c.prepareCall(sql), null);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return (String) this.connectionProxy.invoke(NATIVE_S_Q_L, c -> c.nativeSQL(sql), null);
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        this.connectionProxy.invoke(SET_AUTO_COMMIT, c -> {
+            c.setAutoCommit(autoCommit);
+            return null;
+        }, new Object[] { autoCommit });
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(GET_AUTO_COMMIT, c -> c.getAutoCommit(), null);
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        this.connectionProxy.invoke(COMMIT, c -> {
+            c.commit();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        this.connectionProxy.invoke(ROLLBACK, c -> {
+            c.rollback();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.connectionProxy.invoke(CLOSE, c -> {
+            c.close();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(IS_CLOSED, c -> c.isClosed(), null);
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return (DatabaseMetaData) this.connectionProxy.invoke(GET_META_DATA, c -> c.getMetaData(), null);
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        this.connectionProxy.invoke(SET_READ_ONLY, c -> {
+            c.setReadOnly(readOnly);
+            return null;
+        }, new Object[] { readOnly });
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(IS_READ_ONLY_2, c -> c.isReadOnly(), null);
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        this.connectionProxy.invoke(SET_CATALOG, c -> {
+            c.setCatalog(catalog);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return (String) this.connectionProxy.invoke(GET_CATALOG, c -> c.getCatalog(), null);
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        this.connectionProxy.invoke(SET_TRANSACTION_ISOLATION, c -> {
+            c.setTransactionIsolation(level);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return (Integer) this.connectionProxy.invoke(GET_TRANSACTION_ISOLATION, c -> c.getTransactionIsolation(), null);
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return (SQLWarning) this.connectionProxy.invoke(GET_WARNINGS, c -> c.getWarnings(), null);
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.connectionProxy.invoke(CLEAR_WARNINGS, c -> {
+            c.clearWarnings();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (Statement) this.connectionProxy.invoke(CREATE_STATEMENT_2, c -> c.createStatement(resultSetType, resultSetConcurrency), null);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(PREPARE_STATEMENT_2, c -> c.prepareStatement(sql, resultSetType, resultSetConcurrency), null);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return (CallableStatement) this.connectionProxy.invoke(PREPARE_CALL_2, c -> c.prepareCall(sql, resultSetType, resultSetConcurrency), null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return (Map<String, Class<?>>) this.connectionProxy.invoke(GET_TYPE_MAP, c -> c.getTypeMap(), null);
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        this.connectionProxy.invoke(SET_TYPE_MAP, c -> {
+            c.setTypeMap(map);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        this.connectionProxy.invoke(SET_HOLDABILITY, c -> {
+            c.setHoldability(holdability);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return (Integer) this.connectionProxy.invoke(GET_HOLDABILITY, c -> c.getHoldability(), null);
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return (Savepoint) this.connectionProxy.invoke(SET_SAVEPOINT, c -> c.setSavepoint(), null);
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return (Savepoint) this.connectionProxy.invoke(SET_SAVEPOINT_2, c -> c.setSavepoint(name), null);
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        this.connectionProxy.invoke(ROLLBACK_2, c -> {
+            c.rollback(savepoint);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        this.connectionProxy.invoke(RELEASE_SAVEPOINT, c -> {
+            c.releaseSavepoint(savepoint);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (Statement) this.connectionProxy.invoke(CREATE_STATEMENT_3, c -> c.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability),
+                null);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(PREPARE_STATEMENT_3,
+                c -> c.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), null);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return (CallableStatement) this.connectionProxy.invoke(PREPARE_CALL_3,
+                c -> c.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability), null);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(PREPARE_STATEMENT_4, c -> c.prepareStatement(sql, autoGeneratedKeys), null);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(PREPARE_STATEMENT_5, c -> c.prepareStatement(sql, columnIndexes), null);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return (PreparedStatement) this.connectionProxy.invoke(PREPARE_STATEMENT_6, c -> c.prepareStatement(sql, columnNames), null);
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return (Clob) this.connectionProxy.invoke(CREATE_CLOB, c -> c.createClob(), null);
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return (Blob) this.connectionProxy.invoke(CREATE_BLOB, c -> c.createBlob(), null);
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return (NClob) this.connectionProxy.invoke(CREATE_N_CLOB, c -> c.createNClob(), null);
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return (SQLXML) this.connectionProxy.invoke(CREATE_S_Q_L_X_M_L, c -> c.createSQLXML(), null);
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(IS_VALID, c -> c.isValid(timeout), null);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        try {
+            this.connectionProxy.invoke(SET_CLIENT_INFO, c -> {
+                c.setClientInfo(name, value);
+                return null;
+            }, null);
+        } catch (SQLClientInfoException e) {
+            throw e;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        try {
+            this.connectionProxy.invoke(SET_CLIENT_INFO_2, c -> {
+                c.setClientInfo(properties);
+                return null;
+            }, null);
+        } catch (SQLClientInfoException e) {
+            throw e;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return (String) this.connectionProxy.invoke(GET_CLIENT_INFO, c -> c.getClientInfo(name), null);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return (Properties) this.connectionProxy.invoke(GET_CLIENT_INFO_2, c -> c.getClientInfo(), null);
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        return (Array) this.connectionProxy.invoke(CREATE_ARRAY_OF, c -> c.createArrayOf(typeName, elements), null);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        return (Struct) this.connectionProxy.invoke(CREATE_STRUCT, c -> c.createStruct(typeName, attributes), null);
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        this.connectionProxy.invoke(SET_SCHEMA, c -> {
+            c.setSchema(schema);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return (String) this.connectionProxy.invoke(GET_SCHEMA, c -> c.getSchema(), null);
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        this.connectionProxy.invoke(ABORT, c -> {
+            c.abort(executor);
+            return null;
+        }, new Object[] { executor });
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        this.connectionProxy.invoke(SET_NETWORK_TIMEOUT, c -> {
+            c.setNetworkTimeout(executor, milliseconds);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return (Integer) this.connectionProxy.invoke(GET_NETWORK_TIMEOUT, c -> c.getNetworkTimeout(), null);
+    }
+
+    @Override
+    public void createNewIO(boolean isForReconnect) {
+        this.connectionProxy.invokeUnchecked(CREATE_NEW_I_O, c -> {
+            c.createNewIO(isForReconnect);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public long getId() {
+        return (Long) this.connectionProxy.invokeUnchecked(GET_ID, c -> c.getId(), null);
+    }
+
+    @Override
+    public Properties getProperties() {
+        return (Properties) this.connectionProxy.invokeUnchecked(GET_PROPERTIES, c -> c.getProperties(), null);
+    }
+
+    @Override
+    public Lock getConnectionLock() {
+        return (Lock) this.connectionProxy.invokeUnchecked(GET_CONNECTION_LOCK, c -> c.getConnectionLock(), null);
+    }
+
+    @Override
+    public Session getSession() {
+        return (Session) this.connectionProxy.invokeUnchecked(GET_SESSION, c -> c.getSession(), null);
+    }
+
+    @Override
+    public String getURL() {
+        return (String) this.connectionProxy.invokeUnchecked(GET_U_R_L, c -> c.getURL(), null);
+    }
+
+    @Override
+    public String getUser() {
+        return (String) this.connectionProxy.invokeUnchecked(GET_USER, c -> c.getUser(), null);
+    }
+
+    @Override
+    public ExceptionInterceptor getExceptionInterceptor() {
+        return (ExceptionInterceptor) this.connectionProxy.invokeUnchecked(GET_EXCEPTION_INTERCEPTOR, c -> c.getExceptionInterceptor(), null);
+    }
+
+    @Override
+    public void checkClosed() {
+        this.connectionProxy.invokeUnchecked(CHECK_CLOSED, c -> {
+            c.checkClosed();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void cleanup(Throwable whyCleanedUp) {
+        this.connectionProxy.invokeUnchecked(CLEANUP, c -> {
+            c.cleanup(whyCleanedUp);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public ServerSessionStateController getServerSessionStateController() {
+        return (ServerSessionStateController) this.connectionProxy.invokeUnchecked(GET_SERVER_SESSION_STATE_CONTROLLER,
+                c -> c.getServerSessionStateController(), null);
+    }
+
+    @Override
+    public void transactionBegun() {
+        this.connectionProxy.invokeUnchecked(TRANSACTION_BEGUN, c -> {
+            c.transactionBegun();
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void transactionCompleted() {
+        this.connectionProxy.invokeUnchecked(TRANSACTION_COMPLETED, c -> {
+            c.transactionCompleted();
+            return null;
+        }, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return (T) this.connectionProxy.invoke(UNWRAP, c -> c.unwrap(iface), null);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(IS_WRAPPER_FOR, c -> c.isWrapperFor(iface), null);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.sql.SQLException;
+
+/**
+ * The {@link DelegatingConnection} implementation of {@link LoadBalancedConnection}.
+ */
+public class DelegatingLoadBalancedConnection extends DelegatingConnection implements LoadBalancedConnection {
+
+    private static final ConnectionMethod ADD_HOST = ConnectionMethod.of(LoadBalancedConnection.class, "addHost", String.class);
+    private static final ConnectionMethod REMOVE_HOST = ConnectionMethod.of(LoadBalancedConnection.class, "removeHost", String.class);
+    private static final ConnectionMethod REMOVE_HOST_WHEN_NOT_IN_USE = ConnectionMethod.of(LoadBalancedConnection.class, "removeHostWhenNotInUse",
+            String.class);
+    private static final ConnectionMethod PING = ConnectionMethod.of(LoadBalancedConnection.class, "ping", boolean.class);
+
+    DelegatingLoadBalancedConnection(MultiHostConnectionProxy connectionProxy) {
+        super(connectionProxy);
+    }
+
+    @Override
+    public boolean addHost(String host) throws SQLException {
+        return (Boolean) this.connectionProxy.invoke(ADD_HOST, c -> ((LoadBalancedConnection) c).addHost(host), null);
+    }
+
+    @Override
+    public void removeHost(String host) throws SQLException {
+        this.connectionProxy.invoke(REMOVE_HOST, c -> {
+            ((LoadBalancedConnection) c).removeHost(host);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void removeHostWhenNotInUse(String host) throws SQLException {
+        this.connectionProxy.invoke(REMOVE_HOST_WHEN_NOT_IN_USE, c -> {
+            ((LoadBalancedConnection) c).removeHostWhenNotInUse(host);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void ping(boolean allConnections) throws SQLException {
+        this.connectionProxy.invoke(PING, c -> {
+            ((LoadBalancedConnection) c).ping(allConnections);
+            return null;
+        }, null);
+    }
+
+}
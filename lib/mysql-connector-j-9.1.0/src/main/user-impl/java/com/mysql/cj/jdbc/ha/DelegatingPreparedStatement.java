@@ -0,0 +1,953 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.QueryBindings;
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.ParameterBindings;
+
+/**
+ * The {@link DelegatingStatement} implementation of {@link JdbcPreparedStatement}.
+ */
+public class DelegatingPreparedStatement extends DelegatingStatement implements JdbcPreparedStatement {
+
+    private final JdbcPreparedStatement preparedStatement;
+
+    DelegatingPreparedStatement(MultiHostConnectionProxy connectionProxy, JdbcPreparedStatement preparedStatement) {
+        super(connectionProxy, preparedStatement);
+        this.preparedStatement = preparedStatement;
+    }
+
+    @Override
+    public QueryBindings getQueryBindings() {
+        this.lock.lock();
+        try {
+            return this.preparedStatement.getQueryBindings();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytesRepresentation(int parameterIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.preparedStatement.getBytesRepresentation(parameterIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public QueryInfo getQueryInfo() {
+        this.lock.lock();
+        try {
+            return this.preparedStatement.getQueryInfo();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isNull(int paramIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.preparedStatement.isNull(paramIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getPreparedSql() {
+        this.lock.lock();
+        try {
+            return this.preparedStatement.getPreparedSql();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x, boolean escapeIfNeeded) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBytes(parameterIndex, x, escapeIfNeeded);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBigInteger(int parameterIndex, BigInteger x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBigInteger(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNull(int parameterIndex, MysqlType mysqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNull(parameterIndex, mysqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ParameterBindings getParameterBindings() throws SQLException {
+        this.lock.lock();
+        try {
+            return (ParameterBindings) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ParameterBindings.class,
+                    this.preparedStatement.getParameterBindings());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        ResultSet result;
+        this.lock.lock();
+        try {
+            result = (ResultSet) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.preparedStatement.executeQuery());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        int result;
+        this.lock.lock();
+        try {
+            result = this.preparedStatement.executeUpdate();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNull(parameterIndex, sqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBoolean(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setByte(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setShort(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setInt(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setLong(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setFloat(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setDouble(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBigDecimal(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setString(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBytes(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setDate(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setTime(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setTimestamp(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setAsciiStream(parameterIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setUnicodeStream(parameterIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBinaryStream(parameterIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.clearParameters();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setObject(parameterIndex, x, targetSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setObject(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        boolean result;
+        this.lock.lock();
+        try {
+            result = this.preparedStatement.execute();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.addBatch();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setCharacterStream(parameterIndex, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setRef(int parameterIndex, Ref x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setRef(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, Blob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBlob(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Clob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setClob(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setArray(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        this.lock.lock();
+        try {
+            return (ResultSetMetaData) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ResultSetMetaData.class, this.preparedStatement.getMetaData());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setDate(parameterIndex, x, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setTime(parameterIndex, x, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setTimestamp(parameterIndex, x, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNull(parameterIndex, sqlType, typeName);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setURL(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        this.lock.lock();
+        try {
+            return (ParameterMetaData) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ParameterMetaData.class,
+                    this.preparedStatement.getParameterMetaData());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setRowId(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String value) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNString(parameterIndex, value);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNCharacterStream(parameterIndex, value, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob value) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNClob(parameterIndex, value);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setClob(parameterIndex, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBlob(parameterIndex, inputStream, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNClob(parameterIndex, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setSQLXML(parameterIndex, xmlObject);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setAsciiStream(parameterIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBinaryStream(parameterIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setCharacterStream(parameterIndex, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setAsciiStream(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBinaryStream(parameterIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setCharacterStream(parameterIndex, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNCharacterStream(parameterIndex, value);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setClob(parameterIndex, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setBlob(parameterIndex, inputStream);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setNClob(parameterIndex, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.preparedStatement.setObject(parameterIndex, x, targetSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        long result;
+        this.lock.lock();
+        try {
+            result = this.preparedStatement.executeLargeUpdate();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+}
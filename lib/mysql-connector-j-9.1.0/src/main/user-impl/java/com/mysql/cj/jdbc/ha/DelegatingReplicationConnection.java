@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.sql.SQLException;
+
+import com.mysql.cj.jdbc.JdbcConnection;
+
+/**
+ * The {@link DelegatingConnection} implementation of {@link ReplicationConnection}.
+ */
+public class DelegatingReplicationConnection extends DelegatingConnection implements ReplicationConnection {
+
+    private static final ConnectionMethod GET_CONNECTION_GROUP_ID = ConnectionMethod.of(ReplicationConnection.class, "getConnectionGroupId");
+    private static final ConnectionMethod GET_CURRENT_CONNECTION = ConnectionMethod.of(ReplicationConnection.class, "getCurrentConnection");
+    private static final ConnectionMethod GET_SOURCE_CONNECTION = ConnectionMethod.of(ReplicationConnection.class, "getSourceConnection");
+    private static final ConnectionMethod PROMOTE_REPLICA_TO_SOURCE = ConnectionMethod.of(ReplicationConnection.class, "promoteReplicaToSource", String.class);
+    private static final ConnectionMethod REMOVE_SOURCE_HOST = ConnectionMethod.of(ReplicationConnection.class, "removeSourceHost", String.class);
+    private static final ConnectionMethod REMOVE_SOURCE_HOST_2 = ConnectionMethod.of(ReplicationConnection.class, "removeSourceHost", String.class,
+            boolean.class);
+    private static final ConnectionMethod IS_HOST_SOURCE = ConnectionMethod.of(ReplicationConnection.class, "isHostSource", String.class);
+    private static final ConnectionMethod GET_REPLICA_CONNECTION = ConnectionMethod.of(ReplicationConnection.class, "getReplicaConnection");
+    private static final ConnectionMethod ADD_REPLICA_HOST = ConnectionMethod.of(ReplicationConnection.class, "addReplicaHost", String.class);
+    private static final ConnectionMethod REMOVE_REPLICA = ConnectionMethod.of(ReplicationConnection.class, "removeReplica", String.class);
+    private static final ConnectionMethod REMOVE_REPLICA_2 = ConnectionMethod.of(ReplicationConnection.class, "removeReplica", String.class, boolean.class);
+    private static final ConnectionMethod IS_HOST_REPLICA = ConnectionMethod.of(ReplicationConnection.class, "isHostReplica", String.class);
+
+    DelegatingReplicationConnection(MultiHostConnectionProxy connectionProxy) {
+        super(connectionProxy);
+    }
+
+    @Override
+    public long getConnectionGroupId() {
+        return (Long) this.connectionProxy.invokeUnchecked(GET_CONNECTION_GROUP_ID, c -> ((ReplicationConnection) c).getConnectionGroupId(), null);
+    }
+
+    @Override
+    public JdbcConnection getCurrentConnection() {
+        return (JdbcConnection) this.connectionProxy.invokeUnchecked(GET_CURRENT_CONNECTION, c -> ((ReplicationConnection) c).getCurrentConnection(), null);
+    }
+
+    @Override
+    public JdbcConnection getSourceConnection() {
+        return (JdbcConnection) this.connectionProxy.invokeUnchecked(GET_SOURCE_CONNECTION, c -> ((ReplicationConnection) c).getSourceConnection(), null);
+    }
+
+    @Override
+    public void promoteReplicaToSource(String host) throws SQLException {
+        this.connectionProxy.invoke(PROMOTE_REPLICA_TO_SOURCE, c -> {
+            ((ReplicationConnection) c).promoteReplicaToSource(host);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void removeSourceHost(String host) throws SQLException {
+        this.connectionProxy.invoke(REMOVE_SOURCE_HOST, c -> {
+            ((ReplicationConnection) c).removeSourceHost(host);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void removeSourceHost(String host, boolean waitUntilNotInUse) throws SQLException {
+        this.connectionProxy.invoke(REMOVE_SOURCE_HOST_2, c -> {
+            ((ReplicationConnection) c).removeSourceHost(host, waitUntilNotInUse);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean isHostSource(String host) {
+        return (Boolean) this.connectionProxy.invokeUnchecked(IS_HOST_SOURCE, c -> ((ReplicationConnection) c).isHostSource(host), null);
+    }
+
+    @Override
+    public JdbcConnection getReplicaConnection() {
+        return (JdbcConnection) this.connectionProxy.invokeUnchecked(GET_REPLICA_CONNECTION, c -> ((ReplicationConnection) c).getReplicaConnection(), null);
+    }
+
+    @Override
+    public void addReplicaHost(String host) throws SQLException {
+        this.connectionProxy.invoke(ADD_REPLICA_HOST, c -> {
+            ((ReplicationConnection) c).addReplicaHost(host);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void removeReplica(String host) throws SQLException {
+        this.connectionProxy.invoke(REMOVE_REPLICA, c -> {
+            ((ReplicationConnection) c).removeReplica(host);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void removeReplica(String host, boolean closeGently) throws SQLException {
+        this.connectionProxy.invoke(REMOVE_REPLICA_2, c -> {
+            ((ReplicationConnection) c).removeReplica(host, closeGently);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public boolean isHostReplica(String host) {
+        return (Boolean) this.connectionProxy.invokeUnchecked(IS_HOST_REPLICA, c -> ((ReplicationConnection) c).isHostReplica(host), null);
+    }
+
+}
@@ -0,0 +1,3093 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.Session;
+import com.mysql.cj.WarningListener;
+import com.mysql.cj.jdbc.CloseOption;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ResultsetRows;
+
+/**
+ * A {@link ResultSetInternalMethods} created from a multi-host connection. Calls are serialized on the lock of its {@link MultiHostConnectionProxy}, errors
+ * are passed on to it so that it can switch connections, and the JDBC objects returned are wrapped as well.
+ */
+public class DelegatingResultSet implements ResultSetInternalMethods, WarningListener {
+
+    private final MultiHostConnectionProxy connectionProxy;
+    private final Lock lock;
+    private final ResultSetInternalMethods resultSet;
+
+    DelegatingResultSet(MultiHostConnectionProxy connectionProxy, ResultSetInternalMethods resultSet) {
+        this.connectionProxy = connectionProxy;
+        this.lock = connectionProxy.getLock();
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.resultSet.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.resultSet.toString();
+    }
+
+    @Override
+    public void warningEncountered(String warning) {
+        this.lock.lock();
+        try {
+            ((WarningListener) this.resultSet).warningEncountered(warning);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(int columnIndex, int desiredSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObjectStoredProc(columnIndex, desiredSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(int i, Map<Object, Object> map, int desiredSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObjectStoredProc(i, map, desiredSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(String columnName, int desiredSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObjectStoredProc(columnName, desiredSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObjectStoredProc(String colName, Map<Object, Object> map, int desiredSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObjectStoredProc(colName, map, desiredSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void doClose(CloseOption... options) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.doClose(options);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setFirstCharOfQuery(char firstCharUpperCase) {
+        this.lock.lock();
+        try {
+            this.resultSet.setFirstCharOfQuery(firstCharUpperCase);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setOwningStatement(JdbcStatement owningStatement) {
+        this.lock.lock();
+        try {
+            this.resultSet.setOwningStatement(owningStatement);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public char getFirstCharOfQuery() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getFirstCharOfQuery();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setStatementUsedForFetchingRows(JdbcPreparedStatement stmt) {
+        this.lock.lock();
+        try {
+            this.resultSet.setStatementUsedForFetchingRows(stmt);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setWrapperStatement(Statement wrapperStatement) {
+        this.lock.lock();
+        try {
+            this.resultSet.setWrapperStatement(wrapperStatement);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void initializeWithMetadata() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.initializeWithMetadata();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void populateCachedMetaData(CachedResultSetMetaData cachedMetaData) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.populateCachedMetaData(cachedMetaData);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public BigInteger getBigInteger(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBigInteger(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.next();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.close();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.wasNull();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getString(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBoolean(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getByte(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getShort(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getInt(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getLong(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getFloat(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getDouble(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBigDecimal(columnIndex, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBytes(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getDate(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTime(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTimestamp(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getAsciiStream(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getUnicodeStream(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBinaryStream(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getString(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBoolean(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getByte(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getShort(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getInt(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getLong(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getFloat(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getDouble(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBigDecimal(columnLabel, scale);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBytes(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getDate(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTime(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTimestamp(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getAsciiStream(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Deprecated
+    @Override
+    public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getUnicodeStream(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBinaryStream(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getWarnings();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.clearWarnings();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getCursorName();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        this.lock.lock();
+        try {
+            return (ResultSetMetaData) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ResultSetMetaData.class, this.resultSet.getMetaData());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObject(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObject(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.findColumn(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getCharacterStream(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getCharacterStream(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBigDecimal(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getBigDecimal(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.isBeforeFirst();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.isAfterLast();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.isFirst();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.isLast();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.beforeFirst();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.afterLast();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.first();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.last();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getRow();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.absolute(row);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.relative(rows);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.previous();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.setFetchDirection(direction);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getFetchDirection();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.setFetchSize(rows);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getFetchSize();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getType();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getConcurrency();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.rowUpdated();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.rowInserted();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.rowDeleted();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNull(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBoolean(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateByte(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateShort(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateInt(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateLong(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateFloat(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateDouble(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBigDecimal(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateString(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBytes(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDate(int columnIndex, Date x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateDate(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTime(int columnIndex, Time x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateTime(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateTimestamp(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateAsciiStream(columnIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBinaryStream(columnIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateCharacterStream(columnIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnIndex, x, scaleOrLength);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNull(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNull(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBoolean(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateByte(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateShort(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateInt(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateLong(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateFloat(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateDouble(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBigDecimal(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateString(String columnLabel, String x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateString(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBytes(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateDate(String columnLabel, Date x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateDate(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTime(String columnLabel, Time x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateTime(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateTimestamp(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateAsciiStream(columnLabel, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBinaryStream(columnLabel, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateCharacterStream(columnLabel, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnLabel, x, scaleOrLength);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.insertRow();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateRow();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.deleteRow();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.refreshRow();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.cancelRowUpdates();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.moveToInsertRow();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.moveToCurrentRow();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        this.lock.lock();
+        try {
+            return (Statement) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Statement.class, this.resultSet.getStatement());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObject(columnIndex, map);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Ref getRef(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Ref) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.resultSet.getRef(columnIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Blob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.resultSet.getBlob(columnIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Clob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.resultSet.getClob(columnIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Array) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.resultSet.getArray(columnIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObject(columnLabel, map);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Ref getRef(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Ref) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Ref.class, this.resultSet.getRef(columnLabel));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Blob getBlob(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Blob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Blob.class, this.resultSet.getBlob(columnLabel));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Clob getClob(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Clob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Clob.class, this.resultSet.getClob(columnLabel));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return (Array) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Array.class, this.resultSet.getArray(columnLabel));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getDate(columnIndex, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getDate(columnLabel, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTime(columnIndex, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTime(columnLabel, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTimestamp(columnIndex, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getTimestamp(columnLabel, cal);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public URL getURL(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getURL(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public URL getURL(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getURL(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateRef(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateRef(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, Blob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBlob(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, Blob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBlob(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateClob(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateClob(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateArray(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateArray(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (RowId) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.resultSet.getRowId(columnIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return (RowId) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(RowId.class, this.resultSet.getRowId(columnLabel));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateRowId(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, RowId x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateRowId(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getHoldability();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.isClosed();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String nString) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNString(columnIndex, nString);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String nString) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNString(columnLabel, nString);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNClob(columnIndex, nClob);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNClob(columnLabel, nClob);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (NClob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.resultSet.getNClob(columnIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return (NClob) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(NClob.class, this.resultSet.getNClob(columnLabel));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return (SQLXML) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.resultSet.getSQLXML(columnIndex));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return (SQLXML) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(SQLXML.class, this.resultSet.getSQLXML(columnLabel));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateSQLXML(columnIndex, xmlObject);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateSQLXML(columnLabel, xmlObject);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getNString(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getNString(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getNCharacterStream(columnIndex);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getNCharacterStream(columnLabel);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNCharacterStream(columnIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNCharacterStream(columnLabel, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateAsciiStream(columnIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBinaryStream(columnIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateCharacterStream(columnIndex, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateAsciiStream(columnLabel, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBinaryStream(columnLabel, x, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateCharacterStream(columnLabel, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBlob(columnIndex, inputStream, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBlob(columnLabel, inputStream, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateClob(columnIndex, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateClob(columnLabel, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNClob(columnIndex, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNClob(columnLabel, reader, length);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNCharacterStream(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNCharacterStream(columnLabel, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateAsciiStream(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBinaryStream(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateCharacterStream(columnIndex, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateAsciiStream(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBinaryStream(columnLabel, x);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateCharacterStream(columnLabel, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBlob(columnIndex, inputStream);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateBlob(columnLabel, inputStream);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateClob(columnIndex, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateClob(columnLabel, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNClob(columnIndex, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateNClob(columnLabel, reader);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObject(columnIndex, type);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.getObject(columnLabel, type);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnIndex, x, targetSqlType, scaleOrLength);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, SQLType targetSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnIndex, x, targetSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, SQLType targetSqlType) throws SQLException {
+        this.lock.lock();
+        try {
+            this.resultSet.updateObject(columnLabel, x, targetSqlType);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void closeOwner() {
+        this.lock.lock();
+        try {
+            this.resultSet.closeOwner();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public MysqlConnection getConnection() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getConnection();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Session getSession() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getSession();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Lock getLock() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getLock();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getPointOfOrigin() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getPointOfOrigin();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getOwnerFetchSize() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getOwnerFetchSize();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Query getOwningQuery() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getOwningQuery();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getOwningStatementMaxRows() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getOwningStatementMaxRows();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getOwningStatementFetchSize() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getOwningStatementFetchSize();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getOwningStatementServerId() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getOwningStatementServerId();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setColumnDefinition(ColumnDefinition metadata) {
+        this.lock.lock();
+        try {
+            this.resultSet.setColumnDefinition(metadata);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ColumnDefinition getColumnDefinition() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getColumnDefinition();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean hasRows() {
+        this.lock.lock();
+        try {
+            return this.resultSet.hasRows();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ResultsetRows getRows() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getRows();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void initRowsWithMetadata() {
+        this.lock.lock();
+        try {
+            this.resultSet.initRowsWithMetadata();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultId() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getResultId();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setNextResultset(Resultset nextResultset) {
+        this.lock.lock();
+        try {
+            this.resultSet.setNextResultset(nextResultset);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Resultset getNextResultset() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getNextResultset();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearNextResultset() {
+        this.lock.lock();
+        try {
+            this.resultSet.clearNextResultset();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getUpdateCount() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getUpdateCount();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getUpdateID() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getUpdateID();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getServerInfo() {
+        this.lock.lock();
+        try {
+            return this.resultSet.getServerInfo();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.unwrap(iface);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.resultSet.isWrapperFor(iface);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,1354 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.CancelQueryTask;
+import com.mysql.cj.PingTarget;
+import com.mysql.cj.Query;
+import com.mysql.cj.QueryAttributesBindings;
+import com.mysql.cj.Session;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.jdbc.CloseOption;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.Resultset;
+
+/**
+ * A {@link JdbcStatement} created from a multi-host connection. Calls are serialized on the lock of its {@link MultiHostConnectionProxy}, errors are passed
+ * on to it so that it can switch connections, and the JDBC objects returned are wrapped as well.
+ */
+public class DelegatingStatement implements JdbcStatement {
+
+    final MultiHostConnectionProxy connectionProxy;
+    final Lock lock;
+    private final JdbcStatement statement;
+
+    DelegatingStatement(MultiHostConnectionProxy connectionProxy, JdbcStatement statement) {
+        this.connectionProxy = connectionProxy;
+        this.lock = connectionProxy.getLock();
+        this.statement = statement;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.statement.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.statement.toString();
+    }
+
+    @Override
+    public void enableStreamingResults() throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.enableStreamingResults();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void disableStreamingResults() throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.disableStreamingResults();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setLocalInfileInputStream(InputStream stream) {
+        this.lock.lock();
+        try {
+            this.statement.setLocalInfileInputStream(stream);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public InputStream getLocalInfileInputStream() {
+        this.lock.lock();
+        try {
+            return this.statement.getLocalInfileInputStream();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setPingTarget(PingTarget pingTarget) {
+        this.lock.lock();
+        try {
+            this.statement.setPingTarget(pingTarget);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ExceptionInterceptor getExceptionInterceptor() {
+        this.lock.lock();
+        try {
+            return this.statement.getExceptionInterceptor();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void notifyResultSetClose(ResultSetInternalMethods rs) {
+        this.lock.lock();
+        try {
+            this.statement.notifyResultSetClose(rs);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getOpenResultSetCount() {
+        this.lock.lock();
+        try {
+            return this.statement.getOpenResultSetCount();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setHoldResultsOpenOverClose(boolean holdResultsOpenOverClose) {
+        this.lock.lock();
+        try {
+            this.statement.setHoldResultsOpenOverClose(holdResultsOpenOverClose);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Query getQuery() {
+        this.lock.lock();
+        try {
+            return this.statement.getQuery();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        this.lock.lock();
+        try {
+            this.statement.setAttribute(name, value);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearAttributes() {
+        this.lock.lock();
+        try {
+            this.statement.clearAttributes();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSetInternalMethods getResultSetInternal() {
+        this.lock.lock();
+        try {
+            return (ResultSetInternalMethods) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ResultSetInternalMethods.class,
+                    this.statement.getResultSetInternal());
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void doClose(CloseOption... options) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.doClose(options);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        ResultSet result;
+        this.lock.lock();
+        try {
+            result = (ResultSet) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.statement.executeQuery(sql));
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        int result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeUpdate(sql);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.close();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getMaxFieldSize();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setMaxFieldSize(max);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getMaxRows();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setMaxRows(max);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setEscapeProcessing(enable);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getQueryTimeout();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setQueryTimeout(seconds);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.cancel();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getWarnings();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.clearWarnings();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setCursorName(name);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        boolean result;
+        this.lock.lock();
+        try {
+            result = this.statement.execute(sql);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        this.lock.lock();
+        try {
+            return (ResultSet) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.statement.getResultSet());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getUpdateCount();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getMoreResults();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setFetchDirection(direction);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getFetchDirection();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setFetchSize(rows);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getFetchSize();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getResultSetConcurrency();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getResultSetType();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.addBatch(sql);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.clearBatch();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        int[] result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeBatch();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        this.lock.lock();
+        try {
+            return (Connection) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(Connection.class, this.statement.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getMoreResults(current);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        this.lock.lock();
+        try {
+            return (ResultSet) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(ResultSet.class, this.statement.getGeneratedKeys());
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        int result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeUpdate(sql, autoGeneratedKeys);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        int result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeUpdate(sql, columnIndexes);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        int result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeUpdate(sql, columnNames);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        boolean result;
+        this.lock.lock();
+        try {
+            result = this.statement.execute(sql, autoGeneratedKeys);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        boolean result;
+        this.lock.lock();
+        try {
+            result = this.statement.execute(sql, columnIndexes);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        boolean result;
+        this.lock.lock();
+        try {
+            result = this.statement.execute(sql, columnNames);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getResultSetHoldability();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.isClosed();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setPoolable(poolable);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.isPoolable();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.closeOnCompletion();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.isCloseOnCompletion();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getLargeUpdateCount();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        this.lock.lock();
+        try {
+            this.statement.setLargeMaxRows(max);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.getLargeMaxRows();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        long[] result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeLargeBatch();
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        long result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeLargeUpdate(sql);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        long result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeLargeUpdate(sql, autoGeneratedKeys);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        long result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeLargeUpdate(sql, columnIndexes);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        this.connectionProxy.beforeStatementExecution();
+        long result;
+        this.lock.lock();
+        try {
+            result = this.statement.executeLargeUpdate(sql, columnNames);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+        this.connectionProxy.afterStatementExecution();
+        return result;
+    }
+
+    @Override
+    public int getId() {
+        this.lock.lock();
+        try {
+            return this.statement.getId();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCancelStatus(Query.CancelStatus cs) {
+        this.lock.lock();
+        try {
+            this.statement.setCancelStatus(cs);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void checkCancelTimeout() {
+        this.lock.lock();
+        try {
+            this.statement.checkCancelTimeout();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public <T extends Resultset, M extends Message> ProtocolEntityFactory<T, M> getResultSetFactory() {
+        this.lock.lock();
+        try {
+            return this.statement.getResultSetFactory();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Session getSession() {
+        this.lock.lock();
+        try {
+            return this.statement.getSession();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Lock getCancelTimeoutLock() {
+        this.lock.lock();
+        try {
+            return this.statement.getCancelTimeoutLock();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void resetCancelledState() {
+        this.lock.lock();
+        try {
+            this.statement.resetCancelledState();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void closeQuery() {
+        this.lock.lock();
+        try {
+            this.statement.closeQuery();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void addBatch(Object batch) {
+        this.lock.lock();
+        try {
+            this.statement.addBatch(batch);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Object> getBatchedArgs() {
+        this.lock.lock();
+        try {
+            return this.statement.getBatchedArgs();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clearBatchedArgs() {
+        this.lock.lock();
+        try {
+            this.statement.clearBatchedArgs();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public QueryAttributesBindings getQueryAttributesBindings() {
+        this.lock.lock();
+        try {
+            return this.statement.getQueryAttributesBindings();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public int getResultFetchSize() {
+        this.lock.lock();
+        try {
+            return this.statement.getResultFetchSize();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setResultFetchSize(int fetchSize) {
+        this.lock.lock();
+        try {
+            this.statement.setResultFetchSize(fetchSize);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Resultset.Type getResultType() {
+        this.lock.lock();
+        try {
+            return this.statement.getResultType();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setResultType(Resultset.Type resultSetType) {
+        this.lock.lock();
+        try {
+            this.statement.setResultType(resultSetType);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getTimeoutInMillis() {
+        this.lock.lock();
+        try {
+            return this.statement.getTimeoutInMillis();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTimeoutInMillis(long timeoutInMillis) {
+        this.lock.lock();
+        try {
+            this.statement.setTimeoutInMillis(timeoutInMillis);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setExecuteTime(long executeTime) {
+        this.lock.lock();
+        try {
+            this.statement.setExecuteTime(executeTime);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getExecuteTime() {
+        this.lock.lock();
+        try {
+            return this.statement.getExecuteTime();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public CancelQueryTask startQueryTimer(Query stmtToCancel, long timeout) {
+        this.lock.lock();
+        try {
+            return this.statement.startQueryTimer(stmtToCancel, timeout);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public AtomicBoolean getStatementExecuting() {
+        this.lock.lock();
+        try {
+            return this.statement.getStatementExecuting();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public String getCurrentDatabase() {
+        this.lock.lock();
+        try {
+            return this.statement.getCurrentDatabase();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setCurrentDatabase(String currentDb) {
+        this.lock.lock();
+        try {
+            this.statement.setCurrentDatabase(currentDb);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isClearWarningsCalled() {
+        this.lock.lock();
+        try {
+            return this.statement.isClearWarningsCalled();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void setClearWarningsCalled(boolean clearWarningsCalled) {
+        this.lock.lock();
+        try {
+            this.statement.setClearWarningsCalled(clearWarningsCalled);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void statementBegins() {
+        this.lock.lock();
+        try {
+            this.statement.statementBegins();
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void stopQueryTimer(CancelQueryTask timeoutTask, boolean rethrowCancelReason, boolean checkCancelTimeout) {
+        this.lock.lock();
+        try {
+            this.statement.stopQueryTimer(timeoutTask, rethrowCancelReason, checkCancelTimeout);
+        } catch (RuntimeException e) {
+            this.connectionProxy.dealWithUncheckedException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.unwrap(iface);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        this.lock.lock();
+        try {
+            return this.statement.isWrapperFor(iface);
+        } catch (SQLException | RuntimeException e) {
+            this.connectionProxy.dealWithException(e);
+            throw e;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+}
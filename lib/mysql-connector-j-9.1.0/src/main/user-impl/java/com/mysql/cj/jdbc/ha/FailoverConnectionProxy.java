@@ -20,7 +20,6 @@
 
 package com.mysql.cj.jdbc.ha;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.SQLException;
 import java.util.concurrent.Executor;
@@ -77,22 +76,20 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
             super(toInvokeOn);
         }
 
-        @SuppressWarnings("synthetic-access")
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             String methodName = method.getName();
 
             boolean isExecute = methodName.startsWith("execute");
 
-            if (connectedToSecondaryHost() && isExecute) {
-                incrementQueriesIssuedSinceFailover();
+            if (isExecute) {
+                beforeStatementExecution();
             }
 
             Object result = super.invoke(proxy, method, args);
 
-            if (FailoverConnectionProxy.this.explicitlyAutoCommit && isExecute && readyToFallBackToPrimaryHost()) {
-                // Fall back to primary host at transaction boundary
-                fallBackToPrimaryIfAvailable();
+            if (isExecute) {
+                afterStatementExecution();
             }
 
             return result;
@@ -103,8 +100,11 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
     public static JdbcConnection createProxyInstance(ConnectionUrl connectionUrl) throws SQLException {
         FailoverConnectionProxy connProxy = new FailoverConnectionProxy(connectionUrl);
 
-        return (JdbcConnection) java.lang.reflect.Proxy.newProxyInstance(JdbcConnection.class.getClassLoader(), new Class<?>[] { JdbcConnection.class },
-                connProxy);
+        if (connProxy.useReflectiveProxies) {
+            return (JdbcConnection) java.lang.reflect.Proxy.newProxyInstance(JdbcConnection.class.getClassLoader(), new Class<?>[] { JdbcConnection.class },
+                    connProxy);
+        }
+        return new DelegatingConnection(connProxy);
     }
 
     /**
@@ -359,6 +359,26 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
         }
     }
 
+    /**
+     * Counts query executions while connected to a secondary host.
+     */
+    @Override
+    void beforeStatementExecution() {
+        if (connectedToSecondaryHost()) {
+            incrementQueriesIssuedSinceFailover();
+        }
+    }
+
+    /**
+     * Falls back to primary host at transaction boundary, if ready to.
+     */
+    @Override
+    void afterStatementExecution() {
+        if (this.explicitlyAutoCommit && readyToFallBackToPrimaryHost()) {
+            fallBackToPrimaryIfAvailable();
+        }
+    }
+
     /**
      * Falls back to primary host or keep current connection if primary not available.
      */
@@ -581,10 +601,10 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
 
     /*
      * Local method invocation handling for this proxy.
-     * This is the continuation of MultiHostConnectionProxy#invoke(Object, Method, Object[]).
+     * This is the continuation of MultiHostConnectionProxy#doInvoke(ConnectionMethod, ConnectionInvocation, Object[]).
      */
     @Override
-    public Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
+    Object invokeMore(ConnectionMethod method, ConnectionInvocation invocation, Object[] args) throws Throwable {
         String methodName = method.getName();
 
         if (METHOD_SET_READ_ONLY.equals(methodName)) {
@@ -613,10 +633,11 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
         Object result = null;
 
         try {
-            result = method.invoke(this.thisAsConnection, args);
+            result = invocation.invoke(this.thisAsConnection);
             result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
-        } catch (InvocationTargetException e) {
-            dealWithInvocationException(e);
+        } catch (Throwable t) {
+            dealWithException(t);
+            throw t;
         }
 
         if (METHOD_SET_AUTO_COMMIT.equals(methodName)) {
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.mysql.cj.conf.HostConnectionKey;
+import com.mysql.cj.conf.HostInfo;
+
+/**
+ * Probes a host of load-balanced and replication connections in the background, pinging it through a dedicated connection, see 'ha.healthCheckInterval'.
+ *
+ * Probers are shared by all the connections using the same host, credentials and probing interval, and stop when the last of them releases its prober. Probes
+ * are run by a few daemon threads shared by all probers. Changes of state are published to the {@link HostStateListener}s registered VM-wide.
+ */
+public final class HostHealthProber extends HostMonitor {
+
+    /** Probes older than this many intervals are ignored. */
+    private static final int MAX_PROBE_AGE_INTERVALS = 3;
+    private static final int PROBER_THREADS = 2;
+
+    private static final int STATE_UNKNOWN = 0;
+    private static final int STATE_UP = 1;
+    private static final int STATE_DOWN = 2;
+
+    private static final Registry<HostHealthProber> probers = new Registry<>("MySQL Host Health Prober", PROBER_THREADS);
+    private static final List<HostStateListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile int state = STATE_UNKNOWN;
+    private volatile long probeTime = 0;
+    private volatile long lastSuccessTime = 0;
+
+    private HostHealthProber(HostConnectionKey key, HostInfo hostInfo, int intervalMillis) {
+        // A host that doesn't answer within an interval is down
+        super(probers, key, hostInfo, intervalMillis, intervalMillis);
+    }
+
+    /**
+     * Registers a listener for the changes of state of all probed hosts.
+     *
+     * @param listener
+     *            the listener
+     */
+    public static void addHostStateListener(HostStateListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener registered with {@link #addHostStateListener(HostStateListener)}.
+     *
+     * @param listener
+     *            the listener
+     */
+    public static void removeHostStateListener(HostStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the prober of the given host, starting it if needed. Each call must be matched by a call to {@link #release()}.
+     *
+     * @param hostInfo
+     *            the host
+     * @param intervalMillis
+     *            the time between two probes
+     * @return the prober
+     */
+    static HostHealthProber acquire(HostInfo hostInfo, int intervalMillis) {
+        return probers.acquire(new HostConnectionKey(hostInfo, intervalMillis), k -> new HostHealthProber(k, hostInfo, intervalMillis));
+    }
+
+    /**
+     * Checks if the latest probe of this host failed.
+     *
+     * @return true if the host is down, false if it is up or if it wasn't probed lately
+     */
+    boolean isDown() {
+        return this.state == STATE_DOWN && System.nanoTime() - this.probeTime <= MAX_PROBE_AGE_INTERVALS * TimeUnit.MILLISECONDS.toNanos(this.intervalMillis);
+    }
+
+    /**
+     * Returns the time of the latest successful probe of this host.
+     *
+     * @return the time in milliseconds, or 0 if no probe succeeded yet
+     */
+    long getLastSuccessTime() {
+        return this.lastSuccessTime;
+    }
+
+    @Override
+    protected void check() {
+        try {
+            if (!connect()) {
+                getConnection().pingInternal(false, this.intervalMillis);
+            }
+            this.lastSuccessTime = System.currentTimeMillis();
+            this.probeTime = System.nanoTime();
+            int previousState = this.state;
+            this.state = STATE_UP;
+            if (previousState == STATE_DOWN) {
+                for (HostStateListener listener : listeners) {
+                    try {
+                        listener.hostUp(this.hostInfo.getHostPortPair());
+                    } catch (Throwable t) {
+                        // Listeners can't stop probing.
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            closeConnection();
+            this.probeTime = System.nanoTime();
+            int previousState = this.state;
+            this.state = STATE_DOWN;
+            if (previousState != STATE_DOWN) {
+                for (HostStateListener listener : listeners) {
+                    try {
+                        listener.hostDown(this.hostInfo.getHostPortPair(), t);
+                    } catch (Throwable t2) {
+                        // Listeners can't stop probing.
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.mysql.cj.conf.HostConnectionKey;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
+
+/**
+ * Base of the monitors that check a host in the background through a dedicated connection.
+ *
+ * Monitors are shared by all the connections that acquire one with the same {@link HostConnectionKey} from the same {@link Registry}. While acquired, a
+ * monitor runs {@link #check()} at a fixed interval on the daemon threads of its registry, and it stops and closes its connection when the last connection
+ * releases it.
+ */
+abstract class HostMonitor {
+
+    /**
+     * Monitors of one kind, by key, and the threads running them.
+     *
+     * @param <M>
+     *            the type of the monitors
+     */
+    static final class Registry<M extends HostMonitor> {
+
+        private final ScheduledThreadPoolExecutor executor;
+        private final Map<HostConnectionKey, M> monitors = new HashMap<>();
+
+        Registry(String threadName, int threads) {
+            this.executor = new ScheduledThreadPoolExecutor(threads, r -> {
+                Thread t = new Thread(r, threadName);
+                t.setDaemon(true);
+                ClassLoader classLoader = HostMonitor.class.getClassLoader();
+                t.setContextClassLoader(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+                return t;
+            });
+            this.executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+            this.executor.allowCoreThreadTimeOut(true);
+            this.executor.setRemoveOnCancelPolicy(true);
+        }
+
+        /**
+         * Returns the monitor with the given key, creating and starting it if needed. Each call must be matched by a call to {@link HostMonitor#release()}.
+         *
+         * @param key
+         *            the key
+         * @param factory
+         *            creates the monitor if there is none for this key
+         * @return the monitor
+         */
+        M acquire(HostConnectionKey key, Function<HostConnectionKey, M> factory) {
+            synchronized (this.monitors) {
+                M monitor = this.monitors.computeIfAbsent(key, factory);
+                HostMonitor m = monitor;
+                if (m.references++ == 0) {
+                    m.future = this.executor.scheduleWithFixedDelay(m::run, 0, m.intervalMillis, TimeUnit.MILLISECONDS);
+                }
+                return monitor;
+            }
+        }
+
+        void release(HostMonitor monitor) {
+            synchronized (this.monitors) {
+                if (--monitor.references == 0) {
+                    this.monitors.remove(monitor.key);
+                    monitor.future.cancel(false);
+                    // Don't wait for a check in progress
+                    this.executor.execute(monitor::stop);
+                }
+            }
+        }
+
+    }
+
+    private final Registry<?> registry;
+    private final HostConnectionKey key;
+    protected final HostInfo hostInfo;
+    protected final int intervalMillis;
+
+    // Guarded by the lock of the registry
+    private int references = 0;
+    private ScheduledFuture<?> future = null;
+
+    // Guarded by this monitor's lock
+    private JdbcConnection connection = null;
+    private boolean stopped = false;
+
+    /**
+     * Constructor.
+     *
+     * @param registry
+     *            the registry this monitor is acquired from
+     * @param key
+     *            the key of this monitor
+     * @param hostInfo
+     *            the host to check
+     * @param intervalMillis
+     *            the time between two checks
+     * @param timeoutMillis
+     *            the connect and socket timeout of the monitoring connection, so that an unresponsive host doesn't hold a monitoring thread for long
+     */
+    protected HostMonitor(Registry<?> registry, HostConnectionKey key, HostInfo hostInfo, int intervalMillis, int timeoutMillis) {
+        this.registry = registry;
+        this.key = key;
+        Map<String, String> properties = new HashMap<>(hostInfo.getHostProperties());
+        properties.put(PropertyKey.connectTimeout.getKeyName(), String.valueOf(timeoutMillis));
+        properties.put(PropertyKey.socketTimeout.getKeyName(), String.valueOf(timeoutMillis));
+        this.hostInfo = new HostInfo(null, hostInfo.getHost(), hostInfo.getPort(), hostInfo.getUser(), hostInfo.getPassword(), properties);
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Releases this monitor, stopping it if it isn't used anymore.
+     */
+    void release() {
+        this.registry.release(this);
+    }
+
+    /**
+     * Checks the host. Called at the monitoring interval while this monitor is in use, never concurrently.
+     */
+    protected abstract void check();
+
+    /**
+     * Opens the monitoring connection if it isn't open.
+     *
+     * @return true if a new connection was opened, false if the current one is still open
+     * @throws SQLException
+     *             if the connection cannot be opened
+     */
+    protected boolean connect() throws SQLException {
+        if (this.connection != null && !this.connection.isClosed()) {
+            return false;
+        }
+        this.connection = ConnectionImpl.getInstance(this.hostInfo);
+        return true;
+    }
+
+    /**
+     * @return the monitoring connection opened by {@link #connect()}
+     */
+    protected JdbcConnection getConnection() {
+        return this.connection;
+    }
+
+    /**
+     * Closes the monitoring connection, for instance after it failed. The next {@link #connect()} opens a new one.
+     */
+    protected void closeConnection() {
+        if (this.connection != null) {
+            try {
+                this.connection.close();
+            } catch (Throwable t) {
+                // no-op.
+            }
+            this.connection = null;
+        }
+    }
+
+    private synchronized void run() {
+        if (!this.stopped) {
+            check();
+        }
+    }
+
+    private synchronized void stop() {
+        this.stopped = true;
+        closeConnection();
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.lang.reflect.InvocationHandler;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+
+/**
+ * Balance strategy that routes transactions to the host with the lowest expected cost, estimated from the response time of past transactions and the number of
+ * transactions in progress on that host.
+ *
+ * The response time of each host is a moving average of transaction durations, decaying over {@link #DECAY_TIME}, that follows increases immediately, so a
+ * host that slows down is avoided at once and comes back into play as the average decays. Together with the number of outstanding transactions, counted over
+ * all the load-balanced connections of the VM, it gives the cost of a host. The strategy compares two hosts chosen at random and picks the cheapest, which
+ * spreads the load better than always picking the best host, whose statistics are updated only after the transactions routed to it end.
+ *
+ * Hosts coming back from the blocklist, or hosts this strategy failed to connect to, start with a small share of the transactions, which grows linearly over
+ * {@link #SLOW_START_TIME}.
+ */
+public class LatencyAwareBalanceStrategy implements BalanceStrategy {
+
+    /** Time it takes for the weight of a response time sample in the moving average to decay by a factor e. */
+    private static final long DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+    /** Time it takes for a recovering host to get back its full share of transactions. */
+    private static final long SLOW_START_TIME = TimeUnit.SECONDS.toNanos(30);
+
+    /** Share of transactions of a host that just recovered. */
+    private static final double MIN_WEIGHT = 0.05;
+
+    /** Statistics per host:port pair, shared by all the instances of this strategy. */
+    private static final Map<String, HostStats> HOST_STATS = new ConcurrentHashMap<>();
+
+    public LatencyAwareBalanceStrategy() {
+    }
+
+    @Override
+    public ConnectionImpl pickConnection(InvocationHandler proxy, List<String> configuredHosts, Map<String, JdbcConnection> liveConnections,
+            long[] responseTimes, int numRetries) throws SQLException {
+        LoadBalancedConnectionProxy lbProxy = (LoadBalancedConnectionProxy) proxy;
+
+        List<String> allowList = getAllowList(lbProxy, configuredHosts);
+
+        SQLException ex = null;
+        for (int attempts = 0; attempts < numRetries;) {
+            if (allowList.isEmpty()) {
+                throw SQLError.createSQLException(Messages.getString("RandomBalanceStrategy.0"), null);
+            }
+
+            String hostPortSpec = pickHost(allowList);
+
+            ConnectionImpl conn = (ConnectionImpl) liveConnections.get(hostPortSpec);
+
+            if (conn == null) {
+                try {
+                    conn = lbProxy.createConnectionForHost(hostPortSpec);
+                } catch (SQLException sqlEx) {
+                    ex = sqlEx;
+
+                    if (lbProxy.shouldExceptionTriggerConnectionSwitch(sqlEx)) {
+                        getHostStats(hostPortSpec).failed();
+
+                        // exclude this host from being picked again
+                        allowList.remove(hostPortSpec);
+                        lbProxy.addToGlobalBlocklist(hostPortSpec);
+
+                        if (allowList.isEmpty()) {
+                            attempts++;
+                            try {
+                                Thread.sleep(250);
+                            } catch (InterruptedException e) {
+                            }
+
+                            // start fresh
+                            allowList = getAllowList(lbProxy, configuredHosts);
+                        }
+
+                        continue;
+                    }
+
+                    throw sqlEx;
+                }
+            }
+
+            return conn;
+        }
+
+        if (ex != null) {
+            throw ex;
+        }
+
+        return null; // we won't get here, compiler can't tell
+    }
+
+    @Override
+    public void transactionStarted(String host) {
+        getHostStats(host).transactionStarted();
+    }
+
+    @Override
+    public void transactionEnded(String host, long responseTime) {
+        getHostStats(host).transactionEnded(responseTime, System.nanoTime());
+    }
+
+    /**
+     * Returns the configured hosts that are not blocklisted, and marks the blocklisted ones as failed so that they go through a slow start when they come back.
+     *
+     * @param proxy
+     *            the load-balanced connection proxy
+     * @param configuredHosts
+     *            the configured hosts
+     * @return a new, modifiable, list of hosts
+     */
+    private List<String> getAllowList(LoadBalancedConnectionProxy proxy, List<String> configuredHosts) {
+        List<String> allowList = new ArrayList<>(configuredHosts);
+        Map<String, Long> blockList = proxy.getGlobalBlocklist();
+        for (String host : blockList.keySet()) {
+            if (allowList.remove(host)) {
+                getHostStats(host).failed();
+            }
+        }
+        return allowList;
+    }
+
+    /**
+     * Picks the cheapest of two distinct hosts chosen at random.
+     *
+     * @param allowList
+     *            the hosts to choose from, not empty
+     * @return the chosen host
+     */
+    private String pickHost(List<String> allowList) {
+        int numHosts = allowList.size();
+        if (numHosts == 1) {
+            return allowList.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(numHosts);
+        int second = random.nextInt(numHosts - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        long now = System.nanoTime();
+        String firstHost = allowList.get(first);
+        String secondHost = allowList.get(second);
+        return getHostStats(firstHost).getCost(now) <= getHostStats(secondHost).getCost(now) ? firstHost : secondHost;
+    }
+
+    private static HostStats getHostStats(String host) {
+        return HOST_STATS.computeIfAbsent(host, h -> new HostStats());
+    }
+
+    /**
+     * Describes the statistics this strategy keeps for the given host, as
+     * "responseTime=&lt;moving average in milliseconds&gt;,outstanding=&lt;transactions in progress&gt;,weight=&lt;share of transactions, from 0 to 1&gt;".
+     *
+     * @param host
+     *            the host:port pair
+     * @return the statistics of the host, or null if this strategy never routed a transaction to it
+     */
+    public static String describeHostStats(String host) {
+        HostStats stats = HOST_STATS.get(host);
+        return stats == null ? null : stats.describe(System.nanoTime());
+    }
+
+    /**
+     * Response time and load of a host.
+     */
+    static class HostStats {
+
+        private double responseTime = 0;
+        private long lastSampleTime = 0;
+        private int outstanding = 0;
+        private boolean failed = false;
+        private boolean recovering = false;
+        private long recoveryStartTime = 0;
+
+        synchronized void transactionStarted() {
+            this.outstanding++;
+        }
+
+        synchronized void transactionEnded(long sample, long now) {
+            if (this.outstanding > 0) {
+                this.outstanding--;
+            }
+            if (sample >= 0) {
+                double current = getResponseTime(now);
+                this.responseTime = sample > current ? sample : current + sample * (1 - decay(now));
+                this.lastSampleTime = now;
+            }
+        }
+
+        synchronized void failed() {
+            this.failed = true;
+        }
+
+        /**
+         * Returns the cost of routing a transaction to this host, which is the expected response time divided by the share of transactions the host should
+         * get. Hosts without samples are tried first.
+         *
+         * @param now
+         *            the current value of {@link System#nanoTime()}
+         * @return the cost of the host
+         */
+        synchronized double getCost(long now) {
+            if (this.failed) {
+                // first time the host is eligible since it failed
+                this.failed = false;
+                this.recovering = true;
+                this.recoveryStartTime = now;
+            }
+            return (getResponseTime(now) + 1) * (this.outstanding + 1) / getWeight(now);
+        }
+
+        synchronized String describe(long now) {
+            return String.format(Locale.ROOT, "responseTime=%.3f,outstanding=%d,weight=%.2f", getResponseTime(now) / 1_000_000, this.outstanding,
+                    this.failed ? 0 : getWeight(now));
+        }
+
+        /**
+         * Returns the moving average of the response time, decayed as if zero response times were sampled since the last real sample, so that a host that is
+         * avoided because of a high response time is eventually tried again.
+         */
+        private double getResponseTime(long now) {
+            return this.responseTime == 0 ? 0 : this.responseTime * decay(now);
+        }
+
+        private double decay(long now) {
+            return Math.exp(-(double) (now - this.lastSampleTime) / DECAY_TIME);
+        }
+
+        private double getWeight(long now) {
+            if (this.recovering) {
+                long elapsed = now - this.recoveryStartTime;
+                if (elapsed < SLOW_START_TIME) {
+                    return Math.max(MIN_WEIGHT, (double) elapsed / SLOW_START_TIME);
+                }
+                this.recovering = false;
+            }
+            return 1;
+        }
+
+    }
+
+}
@@ -23,10 +23,10 @@ package com.mysql.cj.jdbc.ha;
 import static com.mysql.cj.util.StringUtils.isNullOrEmpty;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -98,9 +98,17 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
     private boolean inTransaction = false;
     private long transactionStartTime = 0;
     private long transactionCount = 0;
+    private String transactionHost = null;
 
     private LoadBalanceExceptionChecker exceptionChecker;
 
+    // hosts that don't answer background probes are left out, see 'ha.healthCheckInterval'
+    private int healthCheckInterval = 0;
+    private Map<String, HostHealthProber> healthProbers = null;
+
+    // replicas of a replication connection lagging too much are left out, see 'replicaMaxLag'
+    private ReplicaLagPolicy replicaLagPolicy = null;
+
     private static Class<?>[] INTERFACES_TO_PROXY = new Class<?>[] { LoadBalancedConnection.class, JdbcConnection.class };
 
     /**
@@ -113,8 +121,22 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     public static LoadBalancedConnection createProxyInstance(ConnectionUrl connectionUrl) throws SQLException {
-        LoadBalancedConnectionProxy connProxy = new LoadBalancedConnectionProxy(connectionUrl);
-        return (LoadBalancedConnection) java.lang.reflect.Proxy.newProxyInstance(LoadBalancedConnection.class.getClassLoader(), INTERFACES_TO_PROXY, connProxy);
+        return createProxyInstance(new LoadBalancedConnectionProxy(connectionUrl));
+    }
+
+    /**
+     * Creates the {@link LoadBalancedConnection} instance exposing the given proxy.
+     *
+     * @param connProxy
+     *            The load-balanced connection proxy.
+     * @return A {@link LoadBalancedConnection} proxy.
+     */
+    static LoadBalancedConnection createProxyInstance(LoadBalancedConnectionProxy connProxy) {
+        if (connProxy.useReflectiveProxies) {
+            return (LoadBalancedConnection) java.lang.reflect.Proxy.newProxyInstance(LoadBalancedConnection.class.getClassLoader(), INTERFACES_TO_PROXY,
+                    connProxy);
+        }
+        return new DelegatingLoadBalancedConnection(connProxy);
     }
 
     /**
@@ -126,8 +148,24 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     public LoadBalancedConnectionProxy(ConnectionUrl connectionUrl) throws SQLException {
+        this(connectionUrl, null);
+    }
+
+    /**
+     * Creates a proxy for java.sql.Connection that routes requests between the replica hosts of a replication connection.
+     *
+     * @param connectionUrl
+     *            The connection URL containing the hosts to load balance.
+     * @param replicaLagPolicy
+     *            The policy leaving out lagging replicas, or null.
+     * @throws SQLException
+     *             if an error occurs
+     */
+    LoadBalancedConnectionProxy(ConnectionUrl connectionUrl, ReplicaLagPolicy replicaLagPolicy) throws SQLException {
         super();
 
+        this.replicaLagPolicy = replicaLagPolicy;
+
         List<HostInfo> hosts;
         Properties props = connectionUrl.getConnectionArgumentsAsProperties();
 
@@ -190,6 +228,15 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     new Object[] { hostRemovalGracePeriodAsString }), MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, null);
         }
 
+        String healthCheckIntervalAsString = props.getProperty(PropertyKey.ha_healthCheckInterval.getKeyName(), "0");
+        try {
+            this.healthCheckInterval = Integer.parseInt(healthCheckIntervalAsString);
+        } catch (NumberFormatException nfe) {
+            throw SQLError.createSQLException(
+                    Messages.getString("LoadBalancedConnectionProxy.badValueForHaHealthCheckInterval", new Object[] { healthCheckIntervalAsString }),
+                    MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, null);
+        }
+
         String strategy = props.getProperty(PropertyKey.ha_loadBalanceStrategy.getKeyName(), "random");
         try {
             switch (strategy) {
@@ -199,6 +246,9 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                 case "bestResponseTime":
                     this.balancer = new BestResponseTimeBalanceStrategy();
                     break;
+                case "latencyAware":
+                    this.balancer = new LatencyAwareBalanceStrategy();
+                    break;
                 case "serverAffinity":
                     this.balancer = new ServerAffinityStrategy(props.getProperty(PropertyKey.serverAffinityOrder.getKeyName(), null));
                     break;
@@ -238,7 +288,19 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
             throw SQLExceptionsMapping.translateException(e, null);
         }
 
-        pickNewConnection();
+        if (this.healthCheckInterval > 0) {
+            this.healthProbers = new HashMap<>(numHosts);
+            for (HostInfo hostInfo : this.hostsList) {
+                this.healthProbers.put(hostInfo.getHostPortPair(), HostHealthProber.acquire(hostInfo, this.healthCheckInterval));
+            }
+        }
+
+        try {
+            pickNewConnection();
+        } catch (SQLException e) {
+            releaseHealthProbers();
+            throw e;
+        }
     }
 
     /**
@@ -306,6 +368,10 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
         try {
             super.invalidateConnection(conn);
 
+            if (this.transactionHost != null && this.transactionHost.equals(this.connectionsToHostsMap.get(conn))) {
+                transactionEnded(-1);
+            }
+
             // add host to the global blocklist, if enabled
             if (isGlobalBlocklistEnabled()) {
                 String host = this.connectionsToHostsMap.get(conn);
@@ -374,6 +440,12 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     }
 
                     this.currentConnection = newConn;
+
+                    if (this.inTransaction) {
+                        // switched in the middle of a transaction, account for the rest of it on the new host
+                        transactionEnded(-1);
+                        transactionStarted();
+                    }
                     return;
 
                 } catch (SQLException e) {
@@ -475,6 +547,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
     private void closeAllConnections() {
         getLock().lock();
         try {
+            transactionEnded(-1);
+
             // close all underlying connections
             for (Connection c : this.liveConnections.values()) {
                 try {
@@ -488,6 +562,7 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     this.connectionGroup.closeConnectionProxy(this);
                 }
             }
+            releaseHealthProbers();
 
             this.liveConnections.clear();
             this.connectionsToHostsMap.clear();
@@ -496,6 +571,18 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
         }
     }
 
+    /**
+     * Stops probing the hosts of this connection.
+     */
+    private void releaseHealthProbers() {
+        if (this.healthProbers != null) {
+            for (HostHealthProber prober : this.healthProbers.values()) {
+                prober.release();
+            }
+            this.healthProbers.clear();
+        }
+    }
+
     /**
      * Closes all live connections.
      */
@@ -516,6 +603,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
     void doAbortInternal() {
         getLock().lock();
         try {
+            transactionEnded(-1);
+
             // abort all underlying connections
             for (JdbcConnection c : this.liveConnections.values()) {
                 try {
@@ -529,6 +618,7 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     this.connectionGroup.closeConnectionProxy(this);
                 }
             }
+            releaseHealthProbers();
 
             this.liveConnections.clear();
             this.connectionsToHostsMap.clear();
@@ -544,6 +634,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
     void doAbort(Executor executor) {
         getLock().lock();
         try {
+            transactionEnded(-1);
+
             // close all underlying connections
             for (Connection c : this.liveConnections.values()) {
                 try {
@@ -557,6 +649,7 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     this.connectionGroup.closeConnectionProxy(this);
                 }
             }
+            releaseHealthProbers();
 
             this.liveConnections.clear();
             this.connectionsToHostsMap.clear();
@@ -568,10 +661,10 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
     /**
      * Proxies method invocation on the java.sql.Connection interface, trapping "close", "isClosed" and "commit/rollback" to switch connections for load
      * balancing.
-     * This is the continuation of MultiHostConnectionProxy#invoke(Object, Method, Object[]).
+     * This is the continuation of MultiHostConnectionProxy#doInvoke(ConnectionMethod, ConnectionInvocation, Object[]).
      */
     @Override
-    Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
+    Object invokeMore(ConnectionMethod method, ConnectionInvocation invocation, Object[] args) throws Throwable {
         String methodName = method.getName();
 
         if (this.isClosed && !allowedOnClosedConnection(method) && method.getExceptionTypes().length > 0) { // TODO remove method.getExceptionTypes().length ?
@@ -598,15 +691,19 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
         }
 
         if (!this.inTransaction) {
+            if (this.healthProbers != null) {
+                leaveDownHost();
+            }
             this.inTransaction = true;
             this.transactionStartTime = System.nanoTime();
             this.transactionCount++;
+            transactionStarted();
         }
 
         Object result = null;
 
         try {
-            result = method.invoke(this.thisAsConnection, args);
+            result = invocation.invoke(this.thisAsConnection);
 
             if (result != null) {
                 if (result instanceof com.mysql.cj.jdbc.JdbcStatement) {
@@ -615,14 +712,16 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                 result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
             }
 
-        } catch (InvocationTargetException e) {
-            dealWithInvocationException(e);
+        } catch (Throwable t) {
+            dealWithException(t);
+            throw t;
 
         } finally {
             if ("commit".equals(methodName) || "rollback".equals(methodName)) {
                 this.inTransaction = false;
 
                 // Update stats
+                long responseTime = System.nanoTime() - this.transactionStartTime;
                 String host = this.connectionsToHostsMap.get(this.currentConnection);
                 // avoid NPE if the connection has already been removed from connectionsToHostsMap in invalidateCurrenctConnection()
                 if (host != null) {
@@ -630,10 +729,11 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                         Integer hostIndex = this.hostsToListIndexMap.get(host);
 
                         if (hostIndex != null && hostIndex < this.responseTimes.length) {
-                            this.responseTimes[hostIndex] = System.nanoTime() - this.transactionStartTime;
+                            this.responseTimes[hostIndex] = responseTime;
                         }
                     }
                 }
+                transactionEnded(responseTime);
                 pickNewConnection();
             }
         }
@@ -641,6 +741,47 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
         return result;
     }
 
+    /**
+     * Switches to another host if the current one stopped answering probes, so that no transaction is started on it.
+     *
+     * @throws SQLException
+     *             if an error occurs
+     */
+    private void leaveDownHost() throws SQLException {
+        String host = this.connectionsToHostsMap.get(this.currentConnection);
+        HostHealthProber prober = host == null ? null : this.healthProbers.get(host);
+        if (prober != null && prober.isDown()) {
+            JdbcConnection downConnection = this.currentConnection;
+            pickNewConnection();
+            if (this.currentConnection != downConnection) {
+                invalidateConnection(downConnection);
+            }
+        }
+    }
+
+    /**
+     * Reports the start of a transaction on the current connection to the balance strategy.
+     */
+    private void transactionStarted() {
+        this.transactionHost = this.connectionsToHostsMap.get(this.currentConnection);
+        if (this.transactionHost != null) {
+            this.balancer.transactionStarted(this.transactionHost);
+        }
+    }
+
+    /**
+     * Reports the end of the current transaction to the balance strategy, if it wasn't reported yet.
+     *
+     * @param responseTime
+     *            the duration of the transaction in nanoseconds, or -1 if it did not end with a commit or rollback
+     */
+    private void transactionEnded(long responseTime) {
+        if (this.transactionHost != null) {
+            this.balancer.transactionEnded(this.transactionHost, responseTime);
+            this.transactionHost = null;
+        }
+    }
+
     /**
      * Pings live connections.
      *
@@ -767,12 +908,36 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
     }
 
     /**
-     * Returns a local hosts blocklist, while cleaning up expired records from the global blocklist, or a blocklist with the hosts to be removed.
+     * Returns a local hosts blocklist, while cleaning up expired records from the global blocklist, or a blocklist with the hosts to be removed. Hosts failing
+     * the probes enabled by 'ha.healthCheckInterval' are added and blocklisted hosts answering them are removed. Replicas of a replication connection lagging
+     * more than 'replicaMaxLag' are added. Hosts are only added if some host is left to pick.
      *
      * @return
      *         A local hosts blocklist.
      */
     public Map<String, Long> getGlobalBlocklist() {
+        getLock().lock();
+        try {
+            Map<String, Long> blocklist = getBlocklistedHosts();
+            if (this.healthProbers != null) {
+                applyHostHealth(blocklist);
+            }
+            if (this.replicaLagPolicy != null) {
+                addLaggingReplicas(blocklist);
+            }
+            return blocklist;
+        } finally {
+            getLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the hosts in the global blocklist or to be removed, as described in {@link #getGlobalBlocklist()}.
+     *
+     * @return
+     *         A local hosts blocklist.
+     */
+    private Map<String, Long> getBlocklistedHosts() {
         getLock().lock();
         try {
             if (!isGlobalBlocklistEnabled()) {
@@ -823,6 +988,65 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
         }
     }
 
+    /**
+     * Adds the hosts that failed their latest probe to the given blocklist, unless that would leave no host to pick, and removes from both the given and the
+     * global blocklists the hosts that answered a probe after being blocklisted.
+     *
+     * @param blocklist
+     *            A local hosts blocklist.
+     */
+    private void applyHostHealth(Map<String, Long> blocklist) {
+        List<String> downHosts = new ArrayList<>();
+        int eligibleHosts = 0;
+        for (HostInfo hostInfo : this.hostsList) {
+            String host = hostInfo.getHostPortPair();
+            HostHealthProber prober = this.healthProbers.get(host);
+            Long timeout = blocklist.get(host);
+            if (prober != null && prober.isDown()) {
+                downHosts.add(host);
+            } else if (timeout == null) {
+                eligibleHosts++;
+            } else if (prober != null && isGlobalBlocklistEnabled() && !this.hostsToRemove.contains(host)
+                    && prober.getLastSuccessTime() > timeout - this.globalBlocklistTimeout) {
+                blocklist.remove(host);
+                removeFromGlobalBlocklist(host);
+                eligibleHosts++;
+            }
+        }
+        if (eligibleHosts > 0) {
+            long timeout = System.currentTimeMillis() + this.healthCheckInterval;
+            for (String host : downHosts) {
+                blocklist.put(host, timeout);
+            }
+        }
+    }
+
+    /**
+     * Adds the replicas lagging more than allowed to the given blocklist, unless that would leave no host to pick.
+     *
+     * @param blocklist
+     *            A local hosts blocklist.
+     */
+    private void addLaggingReplicas(Map<String, Long> blocklist) {
+        List<String> laggingHosts = new ArrayList<>();
+        int eligibleHosts = 0;
+        for (HostInfo hostInfo : this.hostsList) {
+            String host = hostInfo.getHostPortPair();
+            if (!blocklist.containsKey(host)) {
+                if (this.replicaLagPolicy.isLagging(host)) {
+                    laggingHosts.add(host);
+                } else {
+                    eligibleHosts++;
+                }
+            }
+        }
+        if (eligibleHosts > 0) {
+            for (String host : laggingHosts) {
+                blocklist.put(host, System.currentTimeMillis());
+            }
+        }
+    }
+
     /**
      * Removes a host from the host list, allowing it some time to be released gracefully if needed.
      *
@@ -884,6 +1108,12 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
             }
 
             this.hostsToRemove.add(hostPortPair);
+            if (this.healthProbers != null) {
+                HostHealthProber prober = this.healthProbers.remove(hostPortPair);
+                if (prober != null) {
+                    prober.release();
+                }
+            }
 
             this.connectionsToHostsMap.remove(this.liveConnections.remove(hostPortPair));
             if (this.hostsToListIndexMap.remove(hostPortPair) != null) {
@@ -932,6 +1162,10 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
             if (this.hostsList.stream().noneMatch(hi -> hostPortPair.equals(hi.getHostPortPair()))) {
                 this.hostsList.add(this.connectionUrl.getHostOrSpawnIsolated(hostPortPair));
             }
+            if (this.healthProbers != null && !this.healthProbers.containsKey(hostPortPair)) {
+                this.hostsList.stream().filter(hi -> hostPortPair.equals(hi.getHostPortPair())).findFirst()
+                        .ifPresent(hi -> this.healthProbers.put(hostPortPair, HostHealthProber.acquire(hi, this.healthCheckInterval)));
+            }
             this.hostsToListIndexMap.put(hostPortPair, this.responseTimes.length - 1);
             this.hostsToRemove.remove(hostPortPair);
 
@@ -32,6 +32,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.mysql.cj.WarningListener;
 import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
@@ -39,11 +40,18 @@ import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.jdbc.CloseOption;
 import com.mysql.cj.jdbc.ConnectionImpl;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.util.Util;
 
 /**
  * An abstract class that processes generic multi-host configurations. This class has to be sub-classed by specific multi-host implementations, such as
  * load-balancing and failover.
+ *
+ * Connections are exposed either through the non-reflective {@link DelegatingConnection} family, which routes every call to
+ * {@link #invoke(ConnectionMethod, ConnectionInvocation, Object[])} and wraps statements and result sets in delegating classes as well, or, when
+ * 'ha.useReflectiveProxies' is set, through {@link java.lang.reflect.Proxy} instances that use this class as their invocation handler.
  */
 public abstract class MultiHostConnectionProxy implements InvocationHandler {
 
@@ -64,6 +72,7 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
     protected ConnectionUrl connectionUrl;
 
     boolean autoReconnect = false;
+    boolean useReflectiveProxies = false;
 
     JdbcConnection thisAsConnection = null;
     JdbcConnection parentProxyConnection = null;
@@ -163,6 +172,7 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
 
         this.autoReconnect = "true".equalsIgnoreCase(props.getProperty(PropertyKey.autoReconnect.getKeyName()))
                 || "true".equalsIgnoreCase(props.getProperty(PropertyKey.autoReconnectForPools.getKeyName()));
+        this.useReflectiveProxies = "true".equalsIgnoreCase(props.getProperty(PropertyKey.ha_useReflectiveProxies.getKeyName()));
 
         this.hostsList = new ArrayList<>(hosts);
         int numHosts = this.hostsList.size();
@@ -242,6 +252,17 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
     Object proxyIfReturnTypeIsJdbcInterface(Class<?> returnType, Object toProxy) {
         if (toProxy != null) {
             if (Util.isJdbcInterface(returnType)) {
+                if (!this.useReflectiveProxies) {
+                    if (toProxy instanceof java.sql.CallableStatement && toProxy instanceof JdbcPreparedStatement) {
+                        return new DelegatingCallableStatement(this, (JdbcPreparedStatement) toProxy);
+                    } else if (toProxy instanceof JdbcPreparedStatement) {
+                        return new DelegatingPreparedStatement(this, (JdbcPreparedStatement) toProxy);
+                    } else if (toProxy instanceof JdbcStatement) {
+                        return new DelegatingStatement(this, (JdbcStatement) toProxy);
+                    } else if (toProxy instanceof ResultSetInternalMethods && toProxy instanceof WarningListener) {
+                        return new DelegatingResultSet(this, (ResultSetInternalMethods) toProxy);
+                    }
+                }
                 Class<?> toProxyClass = toProxy.getClass();
                 return Proxy.newProxyInstance(toProxyClass.getClassLoader(), Util.getImplementedInterfaces(toProxyClass), getNewJdbcInterfaceProxy(toProxy));
             }
@@ -277,16 +298,55 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
         Throwable t = e.getTargetException();
 
         if (t != null) {
-            if (this.lastExceptionDealtWith != t && shouldExceptionTriggerConnectionSwitch(t)) {
-                invalidateCurrentConnection();
-                pickNewConnection();
-                this.lastExceptionDealtWith = t;
-            }
+            dealWithException(t);
             throw t;
         }
         throw e;
     }
 
+    /**
+     * Deals with exceptions thrown by the current connection or by the objects bound to it, switching to a new connection if the exception requires so. The
+     * exception itself must be rethrown by the caller.
+     *
+     * @param t
+     *            The Throwable instance to check.
+     * @throws SQLException
+     *             if a new connection can't be picked
+     */
+    void dealWithException(Throwable t) throws SQLException {
+        if (this.lastExceptionDealtWith != t && shouldExceptionTriggerConnectionSwitch(t)) {
+            invalidateCurrentConnection();
+            pickNewConnection();
+            this.lastExceptionDealtWith = t;
+        }
+    }
+
+    /**
+     * Same as {@link #dealWithException(Throwable)}, for methods that don't declare {@link SQLException}.
+     *
+     * @param e
+     *            The RuntimeException instance to check.
+     */
+    void dealWithUncheckedException(RuntimeException e) {
+        try {
+            dealWithException(e);
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Called before a statement bound to the current connection executes a query.
+     */
+    void beforeStatementExecution() {
+    }
+
+    /**
+     * Called after a statement bound to the current connection has successfully executed a query.
+     */
+    void afterStatementExecution() {
+    }
+
     /**
      * Checks if the given throwable should trigger a connection switch.
      *
@@ -459,9 +519,7 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
     abstract void doAbort(Executor executor) throws SQLException;
 
     /**
-     * Proxies method invocation on the java.sql.Connection interface, trapping multi-host specific methods and generic methods.
-     * Subclasses have to override this to complete the method invocation process, deal with exceptions and decide when to switch connection.
-     * To avoid unnecessary additional exception handling overriders should consult #canDealWith(Method) before chaining here.
+     * Proxies method invocation on the java.sql.Connection interface for connections created with 'ha.useReflectiveProxies'.
      *
      * @param proxy
      *            proxy object
@@ -477,10 +535,6 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         String methodName = method.getName();
 
-        if (METHOD_GET_MULTI_HOST_SAFE_PROXY.equals(methodName)) {
-            return this.thisAsConnection;
-        }
-
         if (METHOD_EQUALS.equals(methodName)) {
             // Let args[0] "unwrap" to its InvocationHandler if it is a proxy.
             return args[0].equals(this);
@@ -491,6 +545,81 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
             return method.invoke(this, args);
         }
 
+        return doInvoke(ConnectionMethod.of(method), conn -> {
+            try {
+                return method.invoke(conn, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException() != null ? e.getTargetException() : e;
+            }
+        }, args);
+    }
+
+    /**
+     * Invokes a java.sql.Connection method declaring {@link SQLException} on behalf of a {@link DelegatingConnection}.
+     *
+     * @param method
+     *            method to invoke
+     * @param invocation
+     *            the call to perform on the underlying connection
+     * @param args
+     *            method parameters, only required by methods whose parameters are inspected by the multi-host connection
+     * @return method result
+     * @throws SQLException
+     *             if an error occurs
+     */
+    Object invoke(ConnectionMethod method, ConnectionInvocation invocation, Object[] args) throws SQLException {
+        try {
+            return doInvoke(method, invocation, args);
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t.getMessage(), t);
+        }
+    }
+
+    /**
+     * Invokes a java.sql.Connection method that doesn't declare {@link SQLException} on behalf of a {@link DelegatingConnection}.
+     *
+     * @param method
+     *            method to invoke
+     * @param invocation
+     *            the call to perform on the underlying connection
+     * @param args
+     *            method parameters, only required by methods whose parameters are inspected by the multi-host connection
+     * @return method result
+     */
+    Object invokeUnchecked(ConnectionMethod method, ConnectionInvocation invocation, Object[] args) {
+        try {
+            return doInvoke(method, invocation, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t.getMessage(), t);
+        }
+    }
+
+    /**
+     * Processes method invocations on the java.sql.Connection interface, trapping multi-host specific methods and generic methods.
+     * Subclasses have to override {@link #invokeMore(ConnectionMethod, ConnectionInvocation, Object[])} to complete the method invocation process, deal with
+     * exceptions and decide when to switch connection.
+     *
+     * @param method
+     *            method to invoke
+     * @param invocation
+     *            the call to perform on the underlying connection
+     * @param args
+     *            method parameters
+     * @return method result
+     * @throws Throwable
+     *             if an error occurs
+     */
+    private Object doInvoke(ConnectionMethod method, ConnectionInvocation invocation, Object[] args) throws Throwable {
+        String methodName = method.getName();
+
+        if (METHOD_GET_MULTI_HOST_SAFE_PROXY.equals(methodName)) {
+            return this.thisAsConnection;
+        }
+
         this.lock.lock();
         try {
             if (METHOD_CLOSE.equals(methodName)) {
@@ -521,9 +650,7 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
             }
 
             try {
-                return invokeMore(proxy, method, args);
-            } catch (InvocationTargetException e) {
-                throw e.getCause() != null ? e.getCause() : e;
+                return invokeMore(method, invocation, args);
             } catch (Exception e) {
                 // Check if the captured exception must be wrapped by an unchecked exception.
                 Class<?>[] declaredException = method.getExceptionTypes();
@@ -542,17 +669,17 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
     /**
      * Continuation of the method invocation process, to be implemented within each subclass.
      *
-     * @param proxy
-     *            proxy object
      * @param method
      *            method to invoke
+     * @param invocation
+     *            the call to perform on the underlying connection
      * @param args
      *            method parameters
      * @return method result
      * @throws Throwable
      *             if an error occurs
      */
-    abstract Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable;
+    abstract Object invokeMore(ConnectionMethod method, ConnectionInvocation invocation, Object[] args) throws Throwable;
 
     /**
      * Checks if the given method is allowed on closed connections.
@@ -561,7 +688,7 @@ public abstract class MultiHostConnectionProxy implements InvocationHandler {
      *            method
      * @return true if the given method is allowed on closed connections
      */
-    protected boolean allowedOnClosedConnection(Method method) {
+    protected boolean allowedOnClosedConnection(ConnectionMethod method) {
         String methodName = method.getName();
 
         return methodName.equals(METHOD_GET_AUTO_COMMIT) || methodName.equals(METHOD_GET_CATALOG) || methodName.equals(METHOD_GET_SCHEMA)
@@ -51,6 +51,7 @@ import com.mysql.cj.jdbc.CloseOption;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.JdbcPreparedStatement;
 import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.Pipeline;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
@@ -112,6 +113,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         getActiveMySQLConnection().changeUser(userName, newPassword);
     }
 
+    @Override
+    public Pipeline createPipeline() throws SQLException {
+        return getActiveMySQLConnection().createPipeline();
+    }
+
     @Override
     public void checkClosed() {
         getActiveMySQLConnection().checkClosed();
@@ -442,6 +448,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         getActiveMySQLConnection().resetServerState();
     }
 
+    @Override
+    public void resetSession() throws SQLException {
+        getActiveMySQLConnection().resetSession();
+    }
+
     @Override
     public void rollback() throws SQLException {
         getActiveMySQLConnection().rollback();
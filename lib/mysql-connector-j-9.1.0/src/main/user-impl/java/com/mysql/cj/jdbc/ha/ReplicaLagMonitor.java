@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import com.mysql.cj.conf.HostConnectionKey;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+
+/**
+ * Samples the replication lag of a replica host in the background, through a dedicated connection, see 'replicaMaxLag'.
+ *
+ * Monitors are shared by all the replication connections using the same replica host, credentials, lag query and sampling interval, and stop when the last of
+ * them releases its monitor. Samples are taken by a few daemon threads shared by all monitors.
+ */
+final class ReplicaLagMonitor extends HostMonitor {
+
+    /** Lag of a replica that could not be sampled, or whose last sample is too old. */
+    static final long LAG_UNKNOWN = -1;
+    /** Lag of a replica that is not replicating. */
+    static final long NOT_REPLICATING = Long.MAX_VALUE;
+
+    /** Samples older than this many intervals are ignored. */
+    private static final int MAX_SAMPLE_AGE_INTERVALS = 3;
+    /** Connect and socket timeout of the sampling connections, so that an unresponsive host doesn't hold a sampling thread for long. */
+    private static final int SAMPLE_TIMEOUT_MILLIS = 10000;
+    private static final int SAMPLER_THREADS = 2;
+
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+
+    private static final Registry<ReplicaLagMonitor> monitors = new Registry<>("MySQL Replica Lag Monitor", SAMPLER_THREADS);
+
+    private final String lagQuery;
+    private final long intervalNanos;
+
+    // Guarded by this monitor's lock
+    private String statusQuery = SHOW_REPLICA_STATUS;
+
+    private volatile long lag = LAG_UNKNOWN;
+    private volatile long sampleTime = 0;
+
+    private ReplicaLagMonitor(HostConnectionKey key, HostInfo hostInfo, String lagQuery, int intervalMillis) {
+        super(monitors, key, hostInfo, intervalMillis, SAMPLE_TIMEOUT_MILLIS);
+        this.lagQuery = lagQuery;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    }
+
+    /**
+     * Returns the monitor of the given replica host, starting it if needed. Each call must be matched by a call to {@link #release()}.
+     *
+     * @param hostInfo
+     *            the replica host
+     * @param lagQuery
+     *            the query returning the lag in seconds, or null to use the replication status
+     * @param intervalMillis
+     *            the time between two samples
+     * @return the monitor
+     */
+    static ReplicaLagMonitor acquire(HostInfo hostInfo, String lagQuery, int intervalMillis) {
+        return monitors.acquire(new HostConnectionKey(hostInfo, lagQuery, intervalMillis), k -> new ReplicaLagMonitor(k, hostInfo, lagQuery, intervalMillis));
+    }
+
+    /**
+     * Returns the replication lag from the latest sample.
+     *
+     * @return the lag in milliseconds, {@link #NOT_REPLICATING} if replication is not running, or {@link #LAG_UNKNOWN} if the lag could not be sampled lately
+     */
+    long getLag() {
+        long l = this.lag;
+        if (l != LAG_UNKNOWN && System.nanoTime() - this.sampleTime > MAX_SAMPLE_AGE_INTERVALS * this.intervalNanos) {
+            return LAG_UNKNOWN;
+        }
+        return l;
+    }
+
+    @Override
+    protected void check() {
+        try {
+            connect();
+            long l = this.lagQuery == null ? queryReplicationStatus() : queryLag();
+            this.sampleTime = System.nanoTime();
+            this.lag = l;
+        } catch (Throwable t) {
+            this.lag = LAG_UNKNOWN;
+            closeConnection();
+        }
+    }
+
+    private long queryLag() throws SQLException {
+        try (Statement stmt = getConnection().createStatement(); ResultSet rs = stmt.executeQuery(this.lagQuery)) {
+            if (!rs.next()) {
+                return NOT_REPLICATING;
+            }
+            double seconds = rs.getDouble(1);
+            return rs.wasNull() ? NOT_REPLICATING : (long) (seconds * 1000);
+        }
+    }
+
+    private long queryReplicationStatus() throws SQLException {
+        try (Statement stmt = getConnection().createStatement()) {
+            ResultSet rs;
+            try {
+                rs = stmt.executeQuery(this.statusQuery);
+            } catch (SQLException e) {
+                if (e.getErrorCode() != MysqlErrorNumbers.ER_PARSE_ERROR || SHOW_SLAVE_STATUS.equals(this.statusQuery)) {
+                    throw e;
+                }
+                // Servers older than 8.0.22
+                this.statusQuery = SHOW_SLAVE_STATUS;
+                rs = stmt.executeQuery(this.statusQuery);
+            }
+
+            try {
+                if (!rs.next()) {
+                    return NOT_REPLICATING;
+                }
+                ResultSetMetaData metaData = rs.getMetaData();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    String column = metaData.getColumnLabel(i);
+                    if ("Seconds_Behind_Source".equalsIgnoreCase(column) || "Seconds_Behind_Master".equalsIgnoreCase(column)) {
+                        long seconds = rs.getLong(i);
+                        return rs.wasNull() ? NOT_REPLICATING : seconds * 1000;
+                    }
+                }
+                return LAG_UNKNOWN;
+            } finally {
+                rs.close();
+            }
+        }
+    }
+
+}
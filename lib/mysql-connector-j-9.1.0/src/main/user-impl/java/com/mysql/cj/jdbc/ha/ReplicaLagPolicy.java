@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mysql.cj.conf.HostInfo;
+
+/**
+ * Tells which replica hosts of a replication connection are lagging too much to be picked for read-only transactions, from the samples of their
+ * {@link ReplicaLagMonitor}s, see 'replicaMaxLag'.
+ */
+final class ReplicaLagPolicy {
+
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final int intervalMillis;
+    private final Map<String, ReplicaLagMonitor> monitors = new ConcurrentHashMap<>();
+
+    ReplicaLagPolicy(List<HostInfo> replicaHosts, int maxLagMillis, String lagQuery, int intervalMillis) {
+        this.maxLagMillis = maxLagMillis;
+        this.lagQuery = lagQuery;
+        this.intervalMillis = intervalMillis;
+        for (HostInfo hostInfo : replicaHosts) {
+            addReplica(hostInfo);
+        }
+    }
+
+    /**
+     * Starts monitoring a replica host, unless already monitored.
+     *
+     * @param hostInfo
+     *            the replica host
+     */
+    void addReplica(HostInfo hostInfo) {
+        this.monitors.computeIfAbsent(hostInfo.getHostPortPair(), h -> ReplicaLagMonitor.acquire(hostInfo, this.lagQuery, this.intervalMillis));
+    }
+
+    /**
+     * Stops monitoring a replica host.
+     *
+     * @param hostPortPair
+     *            the host:port pair of the replica
+     */
+    void removeReplica(String hostPortPair) {
+        ReplicaLagMonitor monitor = this.monitors.remove(hostPortPair);
+        if (monitor != null) {
+            monitor.release();
+        }
+    }
+
+    /**
+     * Checks if a replica lags more than allowed, or doesn't replicate. Replicas whose lag is unknown are not considered lagging.
+     *
+     * @param hostPortPair
+     *            the host:port pair of the replica
+     * @return true if the replica should not be picked
+     */
+    boolean isLagging(String hostPortPair) {
+        ReplicaLagMonitor monitor = this.monitors.get(hostPortPair);
+        if (monitor == null) {
+            return false;
+        }
+        long lag = monitor.getLag();
+        return lag != ReplicaLagMonitor.LAG_UNKNOWN && lag > this.maxLagMillis;
+    }
+
+    /**
+     * Stops monitoring all replicas.
+     */
+    void close() {
+        for (String hostPortPair : this.monitors.keySet()) {
+            removeReplica(hostPortPair);
+        }
+    }
+
+}
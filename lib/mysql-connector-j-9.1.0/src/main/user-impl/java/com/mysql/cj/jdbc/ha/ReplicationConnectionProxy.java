@@ -22,15 +22,18 @@ package com.mysql.cj.jdbc.ha;
 
 import static com.mysql.cj.util.StringUtils.isNullOrEmpty;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 
 import com.mysql.cj.Messages;
+import com.mysql.cj.NativeSession;
 import com.mysql.cj.PingTarget;
 import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.HostInfo;
@@ -40,6 +43,7 @@ import com.mysql.cj.conf.url.LoadBalanceConnectionUrl;
 import com.mysql.cj.conf.url.ReplicationConnectionUrl;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
 import com.mysql.cj.jdbc.JdbcStatement;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 
@@ -67,6 +71,15 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
 
     private List<HostInfo> replicaHosts;
     protected LoadBalancedConnection replicasConnection;
+    private LoadBalancedConnectionProxy replicasConnectionProxy;
+
+    // see 'replicaMaxLag' and 'replicaReadYourWrites'
+    private ReplicaLagPolicy replicaLagPolicy = null;
+    private boolean readYourWrites = false;
+    private int readYourWritesTimeout = 0;
+    private boolean readingFromSourceAfterWrites = false;
+    private NativeSession sourceSessionAtSwitch = null;
+    private int sourceCommandCountAtSwitch = 0;
 
     /**
      * Static factory to create {@link ReplicationConnection} instances.
@@ -79,8 +92,11 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      */
     public static ReplicationConnection createProxyInstance(ConnectionUrl connectionUrl) throws SQLException {
         ReplicationConnectionProxy connProxy = new ReplicationConnectionProxy(connectionUrl);
-        return (ReplicationConnection) java.lang.reflect.Proxy.newProxyInstance(ReplicationConnection.class.getClassLoader(),
-                new Class<?>[] { ReplicationConnection.class, JdbcConnection.class }, connProxy);
+        if (connProxy.useReflectiveProxies) {
+            return (ReplicationConnection) java.lang.reflect.Proxy.newProxyInstance(ReplicationConnection.class.getClassLoader(),
+                    new Class<?>[] { ReplicationConnection.class, JdbcConnection.class }, connProxy);
+        }
+        return new DelegatingReplicationConnection(connProxy);
     }
 
     /**
@@ -100,6 +116,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         this.thisAsReplicationConnection = (ReplicationConnection) this.thisAsConnection;
 
         this.connectionUrl = connectionUrl;
+        this.useReflectiveProxies = "true".equalsIgnoreCase(props.getProperty(PropertyKey.ha_useReflectiveProxies.getKeyName()));
 
         String enableJMXAsString = props.getProperty(PropertyKey.ha_enableJMX.getKeyName(), "false");
         try {
@@ -154,6 +171,16 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
 
         resetReadFromSourceWhenNoReplicas();
 
+        JdbcPropertySetImpl connProps = new JdbcPropertySetImpl();
+        connProps.initializeProperties(props);
+        int replicaMaxLag = connProps.getIntegerProperty(PropertyKey.replicaMaxLag).getValue();
+        if (replicaMaxLag > 0) {
+            this.replicaLagPolicy = new ReplicaLagPolicy(this.replicaHosts, replicaMaxLag, connProps.getStringProperty(PropertyKey.replicaLagQuery).getValue(),
+                    connProps.getIntegerProperty(PropertyKey.replicaLagCheckInterval).getValue());
+        }
+        this.readYourWrites = connProps.getBooleanProperty(PropertyKey.replicaReadYourWrites).getValue();
+        this.readYourWritesTimeout = connProps.getIntegerProperty(PropertyKey.replicaReadYourWritesTimeout).getValue();
+
         // Initialize replicas connection first so that it is ready to be used in case the sources connection fails and 'allowSourceDownConnections=true'.
         try {
             initializeReplicasConnection();
@@ -162,6 +189,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                 if (this.connectionGroup != null) {
                     this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
                 }
+                closeReplicaLagPolicy();
                 throw e;
             } // Else swallow this exception.
         }
@@ -182,6 +210,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                 if (this.connectionGroup != null) {
                     this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
                 }
+                closeReplicaLagPolicy();
                 if (exCaught != null) {
                     throw exCaught;
                 }
@@ -189,6 +218,9 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                         MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, null);
             }
         }
+        if (this.readYourWrites && isSourceConnection()) {
+            recordSourceCommands();
+        }
     }
 
     /**
@@ -277,6 +309,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         if (this.connectionGroup != null) {
             this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
         }
+        closeReplicaLagPolicy();
     }
 
     @Override
@@ -286,6 +319,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         if (this.connectionGroup != null) {
             this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
         }
+        closeReplicaLagPolicy();
     }
 
     @Override
@@ -295,30 +329,30 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         if (this.connectionGroup != null) {
             this.connectionGroup.handleCloseConnection(this.thisAsReplicationConnection);
         }
+        closeReplicaLagPolicy();
     }
 
     /**
      * Proxies method invocation on the java.sql.Connection interface.
-     * This is the continuation of MultiHostConnectionProxy#invoke(Object, Method, Object[]).
+     * This is the continuation of MultiHostConnectionProxy#doInvoke(ConnectionMethod, ConnectionInvocation, Object[]).
      */
     @Override
-    Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
+    Object invokeMore(ConnectionMethod method, ConnectionInvocation invocation, Object[] args) throws Throwable {
         checkConnectionCapabilityForMethod(method);
 
         boolean invokeAgain = false;
         while (true) {
             try {
-                Object result = method.invoke(this.thisAsConnection, args);
+                Object result = invocation.invoke(this.thisAsConnection);
                 if (result != null && result instanceof JdbcStatement) {
                     ((JdbcStatement) result).setPingTarget(this);
                 }
                 return result;
-            } catch (InvocationTargetException e) {
+            } catch (Throwable t) {
                 if (invokeAgain) {
                     invokeAgain = false;
-                } else if (e.getCause() != null && e.getCause() instanceof SQLException
-                        && ((SQLException) e.getCause()).getSQLState() == MysqlErrorNumbers.SQLSTATE_INVALID_TRANSACTION_STATE_NO_SUBCLASS
-                        && ((SQLException) e.getCause()).getErrorCode() == MysqlErrorNumbers.ERROR_CODE_NULL_LOAD_BALANCED_CONNECTION) {
+                } else if (t instanceof SQLException && ((SQLException) t).getSQLState() == MysqlErrorNumbers.SQLSTATE_INVALID_TRANSACTION_STATE_NO_SUBCLASS
+                        && ((SQLException) t).getErrorCode() == MysqlErrorNumbers.ERROR_CODE_NULL_LOAD_BALANCED_CONNECTION) {
                     try {
                         // Try to re-establish the connection with the last known read-only state.
                         setReadOnly(this.readOnly);
@@ -328,7 +362,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                     }
                 }
                 if (!invokeAgain) {
-                    throw e;
+                    throw t;
                 }
             }
         }
@@ -344,7 +378,7 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
      * @throws Throwable
      *             if an error occurs
      */
-    private void checkConnectionCapabilityForMethod(Method method) throws Throwable {
+    private void checkConnectionCapabilityForMethod(ConnectionMethod method) throws Throwable {
         if (this.sourceHosts.isEmpty() && this.replicaHosts.isEmpty() && !ReplicationConnection.class.isAssignableFrom(method.getDeclaringClass())) {
             throw SQLError.createSQLException(Messages.getString("ReplicationConnectionProxy.noHostsInconsistentState"),
                     MysqlErrorNumbers.SQLSTATE_INVALID_TRANSACTION_STATE_NO_SUBCLASS, MysqlErrorNumbers.ERROR_CODE_REPLICATION_CONNECTION_WITH_NO_HOSTS, true,
@@ -431,20 +465,102 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
 
     private JdbcConnection initializeReplicasConnection() throws SQLException {
         this.replicasConnection = null;
+        this.replicasConnectionProxy = null;
 
         if (this.replicaHosts.size() == 0) {
             return null;
         }
 
-        LoadBalancedConnection newReplicasConn = LoadBalancedConnectionProxy
-                .createProxyInstance(new LoadBalanceConnectionUrl(this.replicaHosts, this.connectionUrl.getOriginalProperties()));
+        LoadBalancedConnectionProxy newReplicasConnProxy = new LoadBalancedConnectionProxy(
+                new LoadBalanceConnectionUrl(this.replicaHosts, this.connectionUrl.getOriginalProperties()), this.replicaLagPolicy);
+        LoadBalancedConnection newReplicasConn = LoadBalancedConnectionProxy.createProxyInstance(newReplicasConnProxy);
         newReplicasConn.setProxy(getProxy());
         newReplicasConn.setReadOnly(true);
 
         this.replicasConnection = newReplicasConn;
+        this.replicasConnectionProxy = newReplicasConnProxy;
         return this.replicasConnection;
     }
 
+    /**
+     * Moves the replicas connection away from its current replica if it lags more than 'replicaMaxLag'.
+     *
+     * @throws SQLException
+     *             if an error occurs
+     */
+    private void avoidLaggingReplica() throws SQLException {
+        if (this.replicaLagPolicy != null && this.replicasConnectionProxy != null) {
+            String host = this.replicasConnectionProxy.getCurrentActiveHost();
+            if (host != null && this.replicaLagPolicy.isLagging(host)) {
+                this.replicasConnectionProxy.pickNewConnection();
+            }
+        }
+    }
+
+    /**
+     * Remembers how many commands the source session has run, so that switching to the replicas can tell whether anything may have been written since.
+     */
+    private void recordSourceCommands() {
+        this.sourceSessionAtSwitch = (NativeSession) this.sourceConnection.getSession();
+        this.sourceCommandCountAtSwitch = this.sourceSessionAtSwitch.getCommandCount();
+    }
+
+    /**
+     * Tells whether the source may have been written to since {@link #recordSourceCommands()}. Any command counts, as well as a change of the underlying
+     * source session.
+     *
+     * @return true if writes made on the source may not have reached the replicas yet
+     */
+    private boolean sourceCommandsSinceSwitch() {
+        if (this.sourceSessionAtSwitch == null) {
+            return true;
+        }
+        NativeSession session = (NativeSession) this.sourceConnection.getSession();
+        return session != this.sourceSessionAtSwitch || session.getCommandCount() != this.sourceCommandCountAtSwitch;
+    }
+
+    /**
+     * Returns the GTIDs executed by the source, for 'replicaReadYourWrites'.
+     *
+     * @return the executed GTID set, or null if it cannot be obtained
+     */
+    private String getSourceExecutedGtids() {
+        try (Statement stmt = this.sourceConnection.createStatement(); ResultSet rs = stmt.executeQuery("SELECT @@GLOBAL.gtid_executed")) {
+            return rs.next() ? rs.getString(1) : null;
+        } catch (SQLException e) {
+            // The source connection failed, there are no writes to wait for
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the current replica to execute the given GTIDs, for 'replicaReadYourWrites'.
+     *
+     * @param gtids
+     *            the GTID set executed by the source
+     * @return true if the replica caught up within 'replicaReadYourWritesTimeout'
+     */
+    private boolean waitForReplica(String gtids) {
+        if (gtids.isEmpty()) {
+            return true;
+        }
+        try (PreparedStatement pstmt = this.replicasConnection.prepareStatement("SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)")) {
+            pstmt.setString(1, gtids);
+            pstmt.setBigDecimal(2, BigDecimal.valueOf(this.readYourWritesTimeout, 3));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 0;
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void closeReplicaLagPolicy() {
+        if (this.replicaLagPolicy != null) {
+            this.replicaLagPolicy.close();
+        }
+    }
+
     private boolean switchToSourceConnection() throws SQLException {
         getLock().lock();
         try {
@@ -576,6 +692,9 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
             if (isNowReplica) {
                 this.replicaHosts.add(host);
                 resetReadFromSourceWhenNoReplicas();
+                if (this.replicaLagPolicy != null) {
+                    this.replicaLagPolicy.addReplica(host);
+                }
             }
             this.sourceHosts.remove(host);
 
@@ -626,8 +745,12 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
             if (isHostReplica(hostPortPair)) {
                 return;
             }
-            this.replicaHosts.add(getConnectionUrl().getReplicaHostOrSpawnIsolated(hostPortPair));
+            HostInfo host = getConnectionUrl().getReplicaHostOrSpawnIsolated(hostPortPair);
+            this.replicaHosts.add(host);
             resetReadFromSourceWhenNoReplicas();
+            if (this.replicaLagPolicy != null) {
+                this.replicaLagPolicy.addReplica(host);
+            }
             if (this.replicasConnection == null) {
                 initializeReplicasConnection();
                 switchToReplicasConnectionIfNecessary();
@@ -657,6 +780,9 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
             }
             this.replicaHosts.remove(host);
             resetReadFromSourceWhenNoReplicas();
+            if (this.replicaLagPolicy != null) {
+                this.replicaLagPolicy.removeReplica(hostPortPair);
+            }
 
             if (this.replicasConnection == null || this.replicasConnection.isClosed()) {
                 this.replicasConnection = null;
@@ -695,8 +821,11 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
     public void setReadOnly(boolean readOnly) throws SQLException {
         getLock().lock();
         try {
+            boolean wasWritable = !this.readOnly && isSourceConnection();
             if (readOnly) {
                 if (!isReplicasConnection() || this.currentConnection.isClosed()) {
+                    // Nothing to wait for if the source didn't run anything since it was switched to
+                    String sourceGtids = this.readYourWrites && isSourceConnection() && sourceCommandsSinceSwitch() ? getSourceExecutedGtids() : null;
                     boolean switched = true;
                     SQLException exceptionCaught = null;
                     try {
@@ -711,6 +840,13 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
                     if (exceptionCaught != null) {
                         throw exceptionCaught;
                     }
+                    if (isReplicasConnection()) {
+                        avoidLaggingReplica();
+                        if (sourceGtids != null && !waitForReplica(sourceGtids) && switchToSourceConnection()) {
+                            // The replica is behind the writes made so far, keep reading from the source.
+                            this.readingFromSourceAfterWrites = true;
+                        }
+                    }
                 }
             } else {
                 if (!isSourceConnection() || this.currentConnection.isClosed()) {
@@ -737,9 +873,15 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
              * used
              * with read-only state in its place. Even if not, it must be reset from a possible previous read-only state.
              */
-            if (this.readFromSourceWhenNoReplicas && isSourceConnection()) {
+            if ((this.readFromSourceWhenNoReplicas || this.readingFromSourceAfterWrites) && isSourceConnection()) {
                 this.currentConnection.setReadOnly(this.readOnly);
             }
+            if (!readOnly) {
+                this.readingFromSourceAfterWrites = false;
+                if (this.readYourWrites && !wasWritable && isSourceConnection()) {
+                    recordSourceCommands();
+                }
+            }
         } finally {
             getLock().unlock();
         }
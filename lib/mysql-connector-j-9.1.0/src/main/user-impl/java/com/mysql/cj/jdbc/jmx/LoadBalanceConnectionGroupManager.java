@@ -105,6 +105,11 @@ public class LoadBalanceConnectionGroupManager implements LoadBalanceConnectionG
         return ConnectionGroupManager.getActiveHostLists(group);
     }
 
+    @Override
+    public String getHostLoadStats(String group) {
+        return ConnectionGroupManager.getHostLoadStats(group);
+    }
+
     @Override
     public String getRegisteredConnectionGroups() {
         return ConnectionGroupManager.getRegisteredConnectionGroups();
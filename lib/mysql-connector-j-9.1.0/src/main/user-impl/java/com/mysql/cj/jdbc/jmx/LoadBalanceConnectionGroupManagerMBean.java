@@ -46,6 +46,8 @@ public interface LoadBalanceConnectionGroupManagerMBean {
 
     String getActiveHostsList(String group);
 
+    String getHostLoadStats(String group);
+
     String getRegisteredConnectionGroups();
 
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+package com.mysql.cj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+
+/**
+ * Tests for query timeouts through {@link CancelQueryService}, against the fake server.
+ */
+public class CancelQueryServiceTest {
+
+    private static final String SLEEP = "SELECT SLEEP(10)";
+
+    private FakeMysqlServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    public void testTimeoutKillsQuery() throws Exception {
+        long timeoutsFired = CancelQueryService.getTimeoutsFired();
+        long queriesKilled = CancelQueryService.getQueriesKilled();
+        long sessionsOpened = CancelQueryService.getSessionsOpened();
+
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(""), "user", "password"); Statement stmt = conn.createStatement()) {
+            stmt.setQueryTimeout(1);
+            for (int i = 0; i < 3; i++) {
+                long start = System.currentTimeMillis();
+                assertThrows(MySQLTimeoutException.class, () -> stmt.executeQuery(SLEEP));
+                assertTrue(System.currentTimeMillis() - start < 5000);
+            }
+
+            // The connection is still usable
+            try (ResultSet rs = stmt.executeQuery("SELECT SLEEP(0)")) {
+                assertTrue(rs.next());
+                assertEquals(0, rs.getInt(1));
+            }
+        }
+
+        assertEquals(3, CancelQueryService.getTimeoutsFired() - timeoutsFired);
+        assertEquals(3, CancelQueryService.getQueriesKilled() - queriesKilled);
+        // The administrative session is kept for the next kills
+        assertEquals(1, CancelQueryService.getSessionsOpened() - sessionsOpened);
+        assertEquals(2, this.server.getConnectionCount());
+        assertTrue(CancelQueryService.getMaxKillLatencyNanos() > 0);
+    }
+
+    @Test
+    public void testTimeoutStorm() throws Exception {
+        int connections = 16;
+        List<Connection> conns = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                Connection conn = DriverManager.getConnection(this.server.getUrl(""), "user", "password");
+                conns.add(conn);
+                tasks.add(() -> {
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.setQueryTimeout(1);
+                        assertThrows(MySQLTimeoutException.class, () -> stmt.executeQuery(SLEEP));
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> f : executor.invokeAll(tasks)) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+            for (Connection conn : conns) {
+                conn.close();
+            }
+        }
+
+        // Kills go through a few shared administrative sessions, not one new connection each
+        assertTrue(this.server.getConnectionCount() - connections <= 2, "Administrative sessions: " + (this.server.getConnectionCount() - connections));
+    }
+
+    @Test
+    public void testCompletedQueriesCancelTimeouts() throws Exception {
+        long timeoutsFired = CancelQueryService.getTimeoutsFired();
+        int pendingTimeouts = CancelQueryService.getPendingTimeouts();
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(""), "user", "password"); Statement stmt = conn.createStatement()) {
+            stmt.setQueryTimeout(1);
+            for (int i = 0; i < 1000; i++) {
+                stmt.executeUpdate("SET @a = " + i);
+            }
+        }
+        assertEquals(pendingTimeouts, CancelQueryService.getPendingTimeouts());
+        assertEquals(timeoutsFired, CancelQueryService.getTimeoutsFired());
+    }
+
+}
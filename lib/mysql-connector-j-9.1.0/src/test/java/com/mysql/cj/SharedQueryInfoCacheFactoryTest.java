@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for {@link SharedQueryInfoCacheFactory}, against the fake server.
+ */
+public class SharedQueryInfoCacheFactoryTest {
+
+    private static final String QUERY = "SELECT id, name FROM shared_cache_test WHERE id > ?";
+
+    private FakeMysqlServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult(QUERY, CannedResult.generate(3, 8, ColumnType.INT, ColumnType.VARCHAR));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    private long prepareAndExecute(String properties) throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("cachePrepStmts=true&queryInfoCacheFactory=" + SharedQueryInfoCacheFactory.class.getName()
+                + (properties.isEmpty() ? "" : "&" + properties)), "user", "password"); PreparedStatement ps = conn.prepareStatement(QUERY)) {
+            ps.setInt(1, 0);
+            try (ResultSet rs = ps.executeQuery()) {
+                int rows = 0;
+                while (rs.next()) {
+                    rows++;
+                }
+                assertEquals(3, rows);
+            }
+        }
+        return SharedQueryInfoCacheFactory.getHitCount();
+    }
+
+    @Test
+    public void testSharedAcrossConnections() throws Exception {
+        long hits = prepareAndExecute("");
+        // A second connection with the same settings finds the query parsed by the first one
+        assertEquals(hits + 1, prepareAndExecute(""));
+        assertTrue(SharedQueryInfoCacheFactory.getSize() > 0);
+
+        // Different parsing settings don't share entries
+        hits = SharedQueryInfoCacheFactory.getHitCount();
+        assertEquals(hits, prepareAndExecute("rewriteBatchedStatements=true"));
+        assertEquals(hits + 1, prepareAndExecute("rewriteBatchedStatements=true"));
+    }
+
+}
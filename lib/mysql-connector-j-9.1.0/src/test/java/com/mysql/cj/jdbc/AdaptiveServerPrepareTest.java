@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+import com.mysql.cj.protocol.a.NativeConstants;
+
+/**
+ * Tests for the adaptive server-side prepare enabled by 'serverPrepareThreshold', against the fake server.
+ */
+public class AdaptiveServerPrepareTest {
+
+    private static final String QUERY = "SELECT id, name FROM t WHERE id > ?";
+
+    private FakeMysqlServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult(QUERY, CannedResult.generate(5, 16, ColumnType.INT, ColumnType.VARCHAR));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    private static PreparedStatement prepareAndExecute(Connection conn) throws SQLException {
+        PreparedStatement ps = conn.prepareStatement(QUERY);
+        ps.setInt(1, 0);
+        try (ResultSet rs = ps.executeQuery()) {
+            int rows = 0;
+            while (rs.next()) {
+                rows++;
+            }
+            assertEquals(5, rows);
+        }
+        ps.close();
+        return ps;
+    }
+
+    /**
+     * The server doesn't answer COM_STMT_CLOSE, so it may not have been counted yet when the client moves on. The answer to a ping comes after it.
+     */
+    private long getStatementsClosed(Connection conn) throws SQLException {
+        conn.unwrap(JdbcConnection.class).ping();
+        return this.server.getCommandCount(NativeConstants.COM_STMT_CLOSE);
+    }
+
+    @Test
+    public void testPromotesAfterThreshold() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("cachePrepStmts=true&serverPrepareThreshold=3"), "user", "password")) {
+            for (int i = 0; i < 3; i++) {
+                assertFalse(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+            }
+            assertEquals(0, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+            }
+            // The promoted statement is cached and prepared once
+            assertEquals(1, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+            assertEquals(3, this.server.getCommandCount(NativeConstants.COM_STMT_EXECUTE));
+        }
+    }
+
+    @Test
+    public void testDemotesRarelyUsed() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("cachePrepStmts=true&serverPrepareThreshold=1&prepStmtCacheSize=2"), "user",
+                "password")) {
+            prepareAndExecute(conn);
+            assertTrue(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+
+            // Other statements push the promoted one out of the most recently prepared
+            conn.prepareStatement("SELECT 1").close();
+            conn.prepareStatement("SELECT 2").close();
+            assertEquals(1, getStatementsClosed(conn));
+
+            assertFalse(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+            assertTrue(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+            assertEquals(2, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+        }
+    }
+
+    @Test
+    public void testDemotesCheckedOutStatement() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("cachePrepStmts=true&serverPrepareThreshold=1&prepStmtCacheSize=2"), "user",
+                "password")) {
+            prepareAndExecute(conn);
+            PreparedStatement ps = conn.prepareStatement(QUERY);
+            assertTrue(ps instanceof ServerPreparedStatement);
+
+            // Its executions are evicted while it is in use, so closing it doesn't cache it
+            conn.prepareStatement("SELECT 1").close();
+            conn.prepareStatement("SELECT 2").close();
+            ps.close();
+            assertEquals(1, getStatementsClosed(conn));
+
+            assertFalse(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+            assertEquals(1, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+        }
+    }
+
+    @Test
+    public void testDisabledAtRuntime() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("cachePrepStmts=true&serverPrepareThreshold=1"), "user", "password")) {
+            prepareAndExecute(conn);
+            conn.unwrap(JdbcConnection.class).getPropertySet().getIntegerProperty(PropertyKey.serverPrepareThreshold).setValue(0);
+            for (int i = 0; i < 3; i++) {
+                assertFalse(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+            }
+            assertEquals(0, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+        }
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("cachePrepStmts=true"), "user", "password")) {
+            for (int i = 0; i < 5; i++) {
+                assertFalse(prepareAndExecute(conn) instanceof ServerPreparedStatement);
+            }
+            assertEquals(0, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+        }
+    }
+
+}
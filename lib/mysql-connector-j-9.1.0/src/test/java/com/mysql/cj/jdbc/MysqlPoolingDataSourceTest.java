@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+import com.mysql.cj.protocol.a.NativeConstants;
+
+/**
+ * Tests for the pooling data source, against a fake server.
+ */
+public class MysqlPoolingDataSourceTest {
+
+    private static final String SELECT_ONE = "SELECT 1";
+
+    private FakeMysqlServer server;
+    private MysqlPoolingDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult(SELECT_ONE,
+                new CannedResult(Collections.singletonList(new Column("1", ColumnType.INT)), Collections.singletonList(new Object[] { 1 }), 1));
+        this.dataSource = new MysqlPoolingDataSource();
+        this.dataSource.setUrl(this.server.getUrl(""));
+        this.dataSource.setUser("user");
+        this.dataSource.setPassword("password");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.dataSource.close();
+        this.server.close();
+    }
+
+    private static void selectOne(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(SELECT_ONE)) {
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+        }
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            try (Connection conn = this.dataSource.getConnection()) {
+                selectOne(conn);
+                assertEquals(1, this.dataSource.getActiveConnections());
+            }
+        }
+        assertEquals(1, this.server.getConnectionCount());
+        assertEquals(1, this.dataSource.getCreatedConnections());
+        assertEquals(1, this.dataSource.getIdleConnections());
+        assertEquals(10, this.server.getCommandCount(NativeConstants.COM_RESET_CONNECTION));
+
+        // Closing the logical connection doesn't close the physical one
+        Connection conn = this.dataSource.getConnection();
+        conn.close();
+        assertTrue(conn.isClosed());
+        assertEquals(1, this.dataSource.getIdleConnections());
+    }
+
+    @Test
+    public void testThreadAffinity() throws Exception {
+        Connection conn1 = this.dataSource.getConnection();
+        Connection conn2 = this.dataSource.getConnection();
+        long id2 = ((JdbcConnection) conn2).getId();
+        assertNotEquals(((JdbcConnection) conn1).getId(), id2);
+        conn1.close();
+        conn2.close();
+
+        // The connection returned last is borrowed again by the same thread
+        try (Connection conn = this.dataSource.getConnection()) {
+            assertEquals(id2, ((JdbcConnection) conn).getId());
+        }
+    }
+
+    @Test
+    public void testExhaustedPool() throws Exception {
+        this.dataSource.setMaxPoolSize(2);
+        this.dataSource.setBorrowTimeout(200);
+        Connection conn1 = this.dataSource.getConnection();
+        Connection conn2 = this.dataSource.getConnection();
+        SQLException e = assertThrows(SQLException.class, this.dataSource::getConnection);
+        assertEquals("08001", e.getSQLState());
+
+        // A connection returned while a thread waits is handed off to it
+        this.dataSource.setBorrowTimeout(10000);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch borrowing = new CountDownLatch(1);
+            Future<Connection> waiting = executor.submit(() -> {
+                borrowing.countDown();
+                return this.dataSource.getConnection();
+            });
+            borrowing.await();
+            while (this.dataSource.getThreadsAwaitingConnection() == 0) {
+                Thread.sleep(10);
+            }
+            conn1.close();
+            Connection conn3 = waiting.get(5, TimeUnit.SECONDS);
+            selectOne(conn3);
+            conn3.close();
+        } finally {
+            executor.shutdown();
+        }
+        conn2.close();
+        assertEquals(2, this.dataSource.getTotalConnections());
+        assertEquals(2, this.server.getConnectionCount());
+    }
+
+    @Test
+    public void testMinIdleAndValidation() throws Exception {
+        this.dataSource.setMinIdle(2);
+        this.dataSource.setValidationInterval(100);
+        try (Connection conn = this.dataSource.getConnection()) {
+            selectOne(conn);
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (this.dataSource.getIdleConnections() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // The connection borrowed may have been returned after the pool was filled
+        assertTrue(this.dataSource.getIdleConnections() >= 2);
+
+        // Idle connections are pinged
+        deadline = System.currentTimeMillis() + 5000;
+        while (this.server.getCommandCount(NativeConstants.COM_PING) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(this.server.getCommandCount(NativeConstants.COM_PING) > 0);
+    }
+
+    @Test
+    public void testMaxLifetime() throws Exception {
+        this.dataSource.setMaxLifetime(50);
+        try (Connection conn = this.dataSource.getConnection()) {
+            Thread.sleep(100);
+            selectOne(conn);
+        }
+        // Expired connections are closed when returned
+        assertEquals(1, this.dataSource.getRemovedConnections());
+        assertEquals(0, this.dataSource.getTotalConnections());
+        try (Connection conn = this.dataSource.getConnection()) {
+            selectOne(conn);
+        }
+        assertEquals(2, this.server.getConnectionCount());
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        Connection conn = this.dataSource.getConnection();
+        this.dataSource.close();
+        // Connections in use keep working until closed
+        selectOne(conn);
+        conn.close();
+        assertEquals(0, this.dataSource.getTotalConnections());
+        assertTrue(conn.isClosed());
+    }
+
+}
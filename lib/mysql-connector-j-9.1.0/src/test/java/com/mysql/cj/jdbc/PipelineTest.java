@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+import com.mysql.cj.protocol.a.NativeConstants;
+
+/**
+ * Tests for {@link Pipeline}, against the fake server.
+ */
+public class PipelineTest {
+
+    private static final String QUERY = "SELECT id, name FROM t WHERE id > ?";
+
+    private FakeMysqlServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult(QUERY, CannedResult.generate(1000, 16, ColumnType.INT, ColumnType.VARCHAR));
+        this.server.addResult("SELECT 1", new CannedResult(Collections.singletonList(new Column("1", ColumnType.INT)),
+                Collections.singletonList(new Object[] { 1 }), 1));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    public void testTextProtocol() throws Exception {
+        checkResults("");
+        assertEquals(0, this.server.getCommandCount(NativeConstants.COM_STMT_EXECUTE));
+    }
+
+    @Test
+    public void testBinaryProtocol() throws Exception {
+        checkResults("useServerPrepStmts=true");
+        assertEquals(100, this.server.getCommandCount(NativeConstants.COM_STMT_EXECUTE));
+    }
+
+    private void checkResults(String properties) throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(properties), "user", "password");
+                PreparedStatement ps = conn.prepareStatement(QUERY)) {
+            Pipeline pipeline = conn.unwrap(JdbcConnection.class).createPipeline();
+            for (int i = 0; i < 100; i++) {
+                ps.setInt(1, i);
+                pipeline.addPrepared(ps).addQuery("SELECT 1").addQuery("SET autocommit=1");
+            }
+            assertEquals(300, pipeline.size());
+
+            List<ResultSet> results = pipeline.execute();
+            assertEquals(300, results.size());
+            assertEquals(0, pipeline.size());
+            for (int i = 0; i < 300; i += 3) {
+                ResultSet rs = results.get(i);
+                int rows = 0;
+                while (rs.next()) {
+                    rows++;
+                }
+                assertEquals(1000, rows);
+                assertEquals(-1, pipeline.getUpdateCount(i));
+
+                rs = results.get(i + 1);
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+                assertFalse(rs.next());
+
+                assertNull(results.get(i + 2));
+                assertEquals(0, pipeline.getUpdateCount(i + 2));
+            }
+
+            // The connection is still usable
+            try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("SELECT 1")) {
+                assertTrue(rs.next());
+            }
+        }
+    }
+
+    @Test
+    public void testFailedStatements() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(""), "user", "password")) {
+            Pipeline pipeline = conn.unwrap(JdbcConnection.class).createPipeline();
+            for (String sql : Arrays.asList("SELECT 1", "SELECT unknown", "SET autocommit=1", "SELECT other", "SELECT 1")) {
+                pipeline.addQuery(sql);
+            }
+
+            SQLException ex = assertThrows(SQLException.class, pipeline::execute);
+            assertTrue(ex.getMessage().contains("SELECT unknown"));
+            assertEquals(1, ex.getSuppressed().length);
+            assertEquals(-1, pipeline.getUpdateCount(0));
+            assertEquals(Statement.EXECUTE_FAILED, pipeline.getUpdateCount(1));
+            assertEquals(0, pipeline.getUpdateCount(2));
+            assertEquals(Statement.EXECUTE_FAILED, pipeline.getUpdateCount(3));
+            assertEquals(-1, pipeline.getUpdateCount(4));
+
+            pipeline.addQuery("SELECT 1");
+            assertTrue(pipeline.execute().get(0).next());
+        }
+    }
+
+    @Test
+    public void testEmptyPipeline() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(""), "user", "password")) {
+            assertTrue(conn.unwrap(JdbcConnection.class).createPipeline().execute().isEmpty());
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+import com.mysql.cj.protocol.a.NativeConstants;
+
+/**
+ * Tests for {@link JdbcConnection#resetSession()}, against the fake server.
+ */
+public class ResetSessionTest {
+
+    private static final String QUERY = "SELECT id, name FROM t WHERE id > ?";
+
+    private FakeMysqlServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult(QUERY, CannedResult.generate(10, 16, ColumnType.INT, ColumnType.VARCHAR));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    private static void checkQuery(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            int rows = 0;
+            while (rs.next()) {
+                rows++;
+            }
+            assertEquals(10, rows);
+        }
+    }
+
+    /**
+     * The server doesn't answer COM_STMT_CLOSE, so it may not have been counted yet when the client moves on. The answer to a ping comes after it.
+     */
+    private long getStatementsClosed(Connection conn) throws SQLException {
+        conn.unwrap(JdbcConnection.class).ping();
+        return this.server.getCommandCount(NativeConstants.COM_STMT_CLOSE);
+    }
+
+    @Test
+    public void testRestoresSettingsInOneRoundTrip() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("sessionVariables=sort_buffer_size=1048576;@a=1"), "user", "password")) {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+
+            long queries = this.server.getCommandCount(NativeConstants.COM_QUERY);
+            conn.unwrap(JdbcConnection.class).resetSession();
+            assertEquals(1, this.server.getCommandCount(NativeConstants.COM_RESET_CONNECTION));
+            assertEquals(queries + 1, this.server.getCommandCount(NativeConstants.COM_QUERY));
+
+            assertTrue(conn.getAutoCommit());
+            assertEquals(Connection.TRANSACTION_REPEATABLE_READ, conn.getTransactionIsolation());
+            assertFalse(conn.isReadOnly());
+        }
+    }
+
+    @Test
+    public void testRePreparesLazily() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("useServerPrepStmts=true"), "user", "password")) {
+            PreparedStatement ps = conn.prepareStatement(QUERY);
+            ps.setInt(1, 1);
+            checkQuery(ps);
+            PreparedStatement unused = conn.prepareStatement(QUERY + " ORDER BY id");
+            assertEquals(2, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+
+            conn.unwrap(JdbcConnection.class).resetSession();
+            assertEquals(2, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+
+            // The parameters bound before the reset are kept
+            checkQuery(ps);
+            checkQuery(ps);
+            assertEquals(3, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+            assertEquals(3, this.server.getCommandCount(NativeConstants.COM_STMT_EXECUTE));
+
+            // The statements discarded by the server are not closed again
+            unused.close();
+            assertEquals(0, getStatementsClosed(conn));
+            ps.close();
+            assertEquals(1, getStatementsClosed(conn));
+        }
+    }
+
+    @Test
+    public void testRePreparesCachedStatements() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("useServerPrepStmts=true&cachePrepStmts=true"), "user", "password")) {
+            try (PreparedStatement ps = conn.prepareStatement(QUERY)) {
+                ps.setInt(1, 1);
+                checkQuery(ps);
+            }
+            conn.unwrap(JdbcConnection.class).resetSession();
+
+            try (PreparedStatement ps = conn.prepareStatement(QUERY)) {
+                ps.setInt(1, 2);
+                checkQuery(ps);
+            }
+            assertEquals(2, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+            assertEquals(0, getStatementsClosed(conn));
+        }
+    }
+
+    @Test
+    public void testParanoid() throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl("paranoid=true"), "user", "password")) {
+            conn.setAutoCommit(false);
+            conn.unwrap(JdbcConnection.class).resetSession();
+            assertEquals(0, this.server.getCommandCount(NativeConstants.COM_RESET_CONNECTION));
+            assertFalse(conn.getAutoCommit());
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+import com.mysql.cj.protocol.a.NativeConstants;
+
+/**
+ * Tests for the delegating multi-host connections, against two fake servers.
+ */
+public class DelegatingConnectionTest {
+
+    private static final String SELECT_ONE = "SELECT 1";
+
+    private FakeMysqlServer server1;
+    private FakeMysqlServer server2;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server1 = startServer();
+        this.server2 = startServer();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server1.close();
+        this.server2.close();
+    }
+
+    private static FakeMysqlServer startServer() throws Exception {
+        FakeMysqlServer server = new FakeMysqlServer();
+        server.addResult(SELECT_ONE, new CannedResult(Collections.singletonList(new Column("1", ColumnType.INT)), Collections.singletonList(new Object[] { 1 }),
+                1));
+        return server;
+    }
+
+    private Connection connect(String scheme, String properties) throws SQLException {
+        String url = "jdbc:mysql:" + scheme + "//127.0.0.1:" + this.server1.getPort() + ",127.0.0.1:" + this.server2.getPort() + "/bench?sslMode=DISABLED"
+                + (properties.isEmpty() ? "" : "&" + properties);
+        return DriverManager.getConnection(url, "user", "password");
+    }
+
+    private static int selectOne(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery(SELECT_ONE)) {
+            assertTrue(rs instanceof DelegatingResultSet);
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    public void testLoadBalance() throws Exception {
+        Connection conn = connect("loadbalance:", "");
+        assertTrue(conn instanceof DelegatingLoadBalancedConnection);
+        assertFalse(Proxy.isProxyClass(conn.getClass()));
+        assertTrue(conn.equals(conn));
+        assertEquals(conn.hashCode(), conn.hashCode());
+
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            assertTrue(stmt instanceof DelegatingStatement);
+            assertEquals(1, selectOne(stmt));
+            assertTrue(stmt.getResultSet() == null || stmt.getResultSet() instanceof DelegatingResultSet);
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(SELECT_ONE)) {
+            assertTrue(pstmt instanceof DelegatingPreparedStatement);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                assertTrue(rs instanceof DelegatingResultSet);
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+            }
+        }
+        conn.commit();
+        assertFalse(conn.getAutoCommit());
+
+        conn.close();
+        assertTrue(conn.isClosed());
+        assertThrows(SQLException.class, conn::createStatement);
+    }
+
+    @Test
+    public void testFailover() throws Exception {
+        Connection conn = connect("", "");
+        assertFalse(conn instanceof LoadBalancedConnection);
+        assertTrue(conn instanceof DelegatingConnection);
+        try (Statement stmt = conn.createStatement()) {
+            assertEquals(1, selectOne(stmt));
+        }
+        assertEquals(0, this.server2.getConnectionCount());
+
+        this.server1.close();
+        try (Statement stmt = conn.createStatement()) {
+            SQLException e = assertThrows(SQLException.class, () -> selectOne(stmt));
+            assertTrue(e.getSQLState().startsWith("08"), e.getSQLState());
+        }
+
+        // The communications error switched the connection to the secondary host
+        try (Statement stmt = conn.createStatement()) {
+            assertEquals(1, selectOne(stmt));
+        }
+        assertEquals(1, this.server2.getConnectionCount());
+        conn.close();
+    }
+
+    @Test
+    public void testReplication() throws Exception {
+        Connection conn = connect("replication:", "");
+        assertTrue(conn instanceof DelegatingReplicationConnection);
+        ReplicationConnection replConn = (ReplicationConnection) conn;
+        assertTrue(replConn.isHostSource("127.0.0.1:" + this.server1.getPort()));
+
+        try (Statement stmt = conn.createStatement()) {
+            long queries = this.server1.getCommandCount(NativeConstants.COM_QUERY);
+            assertEquals(1, selectOne(stmt));
+            assertEquals(queries + 1, this.server1.getCommandCount(NativeConstants.COM_QUERY));
+        }
+
+        conn.setReadOnly(true);
+        assertTrue(conn.isReadOnly());
+        try (Statement stmt = conn.createStatement()) {
+            long queries = this.server2.getCommandCount(NativeConstants.COM_QUERY);
+            assertEquals(1, selectOne(stmt));
+            assertEquals(queries + 1, this.server2.getCommandCount(NativeConstants.COM_QUERY));
+        }
+        conn.close();
+        assertTrue(conn.isClosed());
+    }
+
+    @Test
+    public void testReflectiveProxies() throws Exception {
+        try (Connection conn = connect("loadbalance:", "ha.useReflectiveProxies=true")) {
+            assertTrue(Proxy.isProxyClass(conn.getClass()));
+            assertTrue(Proxy.getInvocationHandler(conn) instanceof LoadBalancedConnectionProxy);
+            try (Statement stmt = conn.createStatement()) {
+                assertTrue(Proxy.isProxyClass(stmt.getClass()));
+                try (ResultSet rs = stmt.executeQuery(SELECT_ONE)) {
+                    assertTrue(Proxy.isProxyClass(rs.getClass()));
+                    assertTrue(rs.next());
+                    assertEquals(1, rs.getInt(1));
+                }
+            }
+        }
+    }
+
+}
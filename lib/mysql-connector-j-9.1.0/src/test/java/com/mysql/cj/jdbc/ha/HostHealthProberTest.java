@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for the background probing of the hosts of load-balanced connections, against two fake servers.
+ */
+public class HostHealthProberTest {
+
+    private static final String SELECT_ONE = "SELECT 1";
+
+    private FakeMysqlServer server1;
+    private FakeMysqlServer server2;
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    private final HostStateListener listener = new HostStateListener() {
+
+        @Override
+        public void hostDown(String hostPortPair, Throwable cause) {
+            HostHealthProberTest.this.events.add("down " + hostPortPair);
+        }
+
+        @Override
+        public void hostUp(String hostPortPair) {
+            HostHealthProberTest.this.events.add("up " + hostPortPair);
+        }
+
+    };
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server1 = startServer();
+        this.server2 = startServer();
+        HostHealthProber.addHostStateListener(this.listener);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        HostHealthProber.removeHostStateListener(this.listener);
+        this.server1.close();
+        this.server2.close();
+    }
+
+    private static FakeMysqlServer startServer() throws Exception {
+        FakeMysqlServer server = new FakeMysqlServer();
+        server.addResult(SELECT_ONE, new CannedResult(Collections.singletonList(new Column("1", ColumnType.INT)), Collections.singletonList(new Object[] { 1 }),
+                1));
+        return server;
+    }
+
+    private Connection connect(String properties) throws SQLException {
+        String url = "jdbc:mysql:loadbalance://127.0.0.1:" + this.server1.getPort() + ",127.0.0.1:" + this.server2.getPort()
+                + "/test?sslMode=DISABLED&ha.healthCheckInterval=100&" + properties;
+        return DriverManager.getConnection(url, "user", "password");
+    }
+
+    private static LoadBalancedConnectionProxy getProxy(Connection conn) {
+        return (LoadBalancedConnectionProxy) ((DelegatingConnection) conn).getConnectionProxy();
+    }
+
+    @Test
+    public void testDownHostIsLeftOut() throws Exception {
+        try (Connection conn = connect("")) {
+            LoadBalancedConnectionProxy proxy = getProxy(conn);
+            String host2 = "127.0.0.1:" + this.server2.getPort();
+            assertFalse(proxy.getGlobalBlocklist().containsKey(host2));
+
+            this.server2.close();
+            assertEquals("down " + host2, this.events.poll(5, TimeUnit.SECONDS));
+            assertTrue(proxy.getGlobalBlocklist().containsKey(host2));
+
+            // Transactions only go to the host still up
+            conn.setAutoCommit(false);
+            for (int i = 0; i < 10; i++) {
+                try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(SELECT_ONE)) {
+                    assertTrue(rs.next());
+                }
+                conn.commit();
+                assertEquals("127.0.0.1:" + this.server1.getPort(), proxy.getCurrentActiveHost());
+            }
+        }
+    }
+
+    @Test
+    public void testAnsweringHostIsRemovedFromBlocklist() throws Exception {
+        try (Connection conn = connect("loadBalanceBlocklistTimeout=60000")) {
+            LoadBalancedConnectionProxy proxy = getProxy(conn);
+            String host2 = "127.0.0.1:" + this.server2.getPort();
+            proxy.addToGlobalBlocklist(host2);
+            assertTrue(proxy.getGlobalBlocklist().containsKey(host2));
+
+            // The next probe clears it
+            long deadline = System.currentTimeMillis() + 5000;
+            while (proxy.getGlobalBlocklist().containsKey(host2) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertFalse(proxy.getGlobalBlocklist().containsKey(host2));
+            assertTrue(this.events.isEmpty());
+        }
+    }
+
+    @Test
+    public void testAllHostsDown() throws Exception {
+        try (Connection conn = connect("")) {
+            LoadBalancedConnectionProxy proxy = getProxy(conn);
+            this.server2.close();
+            this.events.poll(5, TimeUnit.SECONDS);
+            this.server1.close();
+            this.events.poll(5, TimeUnit.SECONDS);
+
+            // Let the connection attempts decide
+            assertTrue(proxy.getGlobalBlocklist().isEmpty());
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.jdbc.ConnectionGroupManager;
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for {@link LatencyAwareBalanceStrategy}.
+ */
+public class LatencyAwareBalanceStrategyTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+    private static final long SLOW_START_TIME = TimeUnit.SECONDS.toNanos(30);
+
+    @Test
+    public void testResponseTimeAverage() {
+        LatencyAwareBalanceStrategy.HostStats stats = new LatencyAwareBalanceStrategy.HostStats();
+        long now = 1000;
+        assertEquals(1, stats.getCost(now), 0);
+
+        stats.transactionEnded(10 * MS, now);
+        assertEquals(10 * MS + 1, stats.getCost(now), 0);
+
+        // Outstanding transactions multiply the cost
+        stats.transactionStarted();
+        stats.transactionStarted();
+        assertEquals(3 * (10 * MS + 1), stats.getCost(now), 0);
+        stats.transactionEnded(-1, now);
+        stats.transactionEnded(-1, now);
+        assertEquals(10 * MS + 1, stats.getCost(now), 0);
+
+        // The average decays over time
+        now += DECAY_TIME;
+        assertEquals(10 * MS / Math.E + 1, stats.getCost(now), 1);
+
+        // Peaks are followed immediately, lower samples are averaged in
+        stats.transactionEnded(20 * MS, now);
+        assertEquals(20 * MS + 1, stats.getCost(now), 0);
+        stats.transactionEnded(MS, now);
+        assertEquals(20 * MS + 1, stats.getCost(now), 0);
+        now += DECAY_TIME;
+        stats.transactionEnded(MS, now);
+        assertEquals(20 * MS / Math.E + MS * (1 - 1 / Math.E) + 1, stats.getCost(now), 1);
+    }
+
+    @Test
+    public void testSlowStart() {
+        LatencyAwareBalanceStrategy.HostStats stats = new LatencyAwareBalanceStrategy.HostStats();
+        long now = 1000;
+        stats.transactionEnded(10 * MS, now);
+        double cost = stats.getCost(now);
+
+        stats.failed();
+        assertEquals(cost / 0.05, stats.getCost(now), 1);
+        now += SLOW_START_TIME / 2;
+        assertEquals(2 * (10 * MS * Math.exp(-(double) SLOW_START_TIME / 2 / DECAY_TIME) + 1), stats.getCost(now), 1);
+        now += SLOW_START_TIME / 2;
+        assertEquals(10 * MS * Math.exp(-(double) SLOW_START_TIME / DECAY_TIME) + 1, stats.getCost(now), 1);
+    }
+
+    @Test
+    public void testPickConnection() throws Exception {
+        FakeMysqlServer server1 = startServer();
+        FakeMysqlServer server2 = startServer();
+        String host1 = "127.0.0.1:" + server1.getPort();
+        String host2 = "127.0.0.1:" + server2.getPort();
+        server2.close();
+
+        String url = "jdbc:mysql:loadbalance://" + host1 + "," + host2
+                + "/test?sslMode=DISABLED&ha.loadBalanceStrategy=latencyAware&loadBalanceBlocklistTimeout=60000&loadBalanceConnectionGroup=latencyAwareTest";
+        try (Connection conn = DriverManager.getConnection(url, "user", "password")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < 10; i++) {
+                try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery("SELECT 1")) {
+                    assertTrue(rs.next());
+                    assertEquals(1, rs.getInt(1));
+                }
+                conn.commit();
+            }
+        } finally {
+            server1.close();
+        }
+
+        assertTrue(LatencyAwareBalanceStrategy.describeHostStats(host1).contains(",outstanding=0,weight=1.00"),
+                LatencyAwareBalanceStrategy.describeHostStats(host1));
+        assertNull(LatencyAwareBalanceStrategy.describeHostStats("127.0.0.1:1"));
+
+        String groupStats = ConnectionGroupManager.getHostLoadStats("latencyAwareTest");
+        assertTrue(groupStats.contains(host1 + "(responseTime="), groupStats);
+    }
+
+    private static FakeMysqlServer startServer() throws Exception {
+        FakeMysqlServer server = new FakeMysqlServer();
+        server.addResult("SELECT 1",
+                new CannedResult(Collections.singletonList(new Column("1", ColumnType.INT)), Collections.singletonList(new Object[] { 1 }), 1));
+        return server;
+    }
+
+}
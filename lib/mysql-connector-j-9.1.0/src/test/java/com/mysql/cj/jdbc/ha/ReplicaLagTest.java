@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for lag-aware replica selection and read-your-writes in replication connections, against fake servers.
+ */
+public class ReplicaLagTest {
+
+    private static final String SELECT_SERVER = "SELECT server";
+    private static final String LAG_QUERY = "SELECT lag FROM heartbeat";
+    private static final String GTID_QUERY = "SELECT @@GLOBAL.gtid_executed";
+    private static final String WAIT_QUERY = "SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)";
+
+    private FakeMysqlServer source;
+    private FakeMysqlServer laggingReplica;
+    private FakeMysqlServer replica;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.source = startServer(0, null);
+        this.laggingReplica = startServer(1, 30.0);
+        this.replica = startServer(2, 0.0);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.source.close();
+        this.laggingReplica.close();
+        this.replica.close();
+    }
+
+    private static FakeMysqlServer startServer(int id, Double lag) throws Exception {
+        FakeMysqlServer server = new FakeMysqlServer();
+        server.addResult(SELECT_SERVER, singleValue("server", ColumnType.INT, id));
+        server.addResult(LAG_QUERY, singleValue("lag", ColumnType.DOUBLE, lag));
+        server.addResult(GTID_QUERY, singleValue("@@GLOBAL.gtid_executed", ColumnType.VARCHAR, "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-5"));
+        server.addResult(WAIT_QUERY, singleValue("WAIT_FOR_EXECUTED_GTID_SET", ColumnType.INT, 0));
+        return server;
+    }
+
+    private static CannedResult singleValue(String name, ColumnType type, Object value) {
+        return new CannedResult(Collections.singletonList(new Column(name, type)), Collections.singletonList(new Object[] { value }), 1);
+    }
+
+    private Connection connect(String properties, FakeMysqlServer... replicas) throws SQLException {
+        StringBuilder url = new StringBuilder("jdbc:mysql:replication://127.0.0.1:").append(this.source.getPort());
+        for (FakeMysqlServer replicaServer : replicas) {
+            url.append(",127.0.0.1:").append(replicaServer.getPort());
+        }
+        url.append("/test?sslMode=DISABLED&replicaLagQuery=").append(LAG_QUERY.replace(' ', '+')).append("&replicaLagCheckInterval=100&").append(properties);
+        return DriverManager.getConnection(url.toString(), "user", "password");
+    }
+
+    private static int selectServer(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(SELECT_SERVER)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+
+    @Test
+    public void testLaggingReplicaIsAvoided() throws Exception {
+        try (Connection conn = connect("replicaMaxLag=5000", this.laggingReplica, this.replica)) {
+            // Let the monitors take their first samples
+            Thread.sleep(500);
+            for (int i = 0; i < 20; i++) {
+                conn.setReadOnly(true);
+                assertEquals(2, selectServer(conn));
+                conn.setReadOnly(false);
+                assertEquals(0, selectServer(conn));
+            }
+        }
+    }
+
+    @Test
+    public void testAllReplicasLagging() throws Exception {
+        this.replica.addResult(LAG_QUERY, singleValue("lag", ColumnType.DOUBLE, 60.0));
+        try (Connection conn = connect("replicaMaxLag=5000", this.laggingReplica, this.replica)) {
+            Thread.sleep(500);
+            // Lagging replicas are still better than no replicas at all
+            conn.setReadOnly(true);
+            int server = selectServer(conn);
+            assertTrue(server == 1 || server == 2, String.valueOf(server));
+        }
+    }
+
+    @Test
+    public void testReadYourWrites() throws Exception {
+        try (Connection conn = connect("replicaReadYourWrites=true", this.replica)) {
+            conn.setReadOnly(true);
+            assertEquals(2, selectServer(conn));
+            conn.setReadOnly(false);
+            write(conn);
+
+            // The replica doesn't catch up in time: read from the source
+            this.replica.addResult(WAIT_QUERY, singleValue("WAIT_FOR_EXECUTED_GTID_SET", ColumnType.INT, 1));
+            conn.setReadOnly(true);
+            assertEquals(0, selectServer(conn));
+            assertTrue(conn.isReadOnly());
+            conn.setReadOnly(true);
+            assertEquals(0, selectServer(conn));
+
+            conn.setReadOnly(false);
+            write(conn);
+            this.replica.addResult(WAIT_QUERY, singleValue("WAIT_FOR_EXECUTED_GTID_SET", ColumnType.INT, 0));
+            conn.setReadOnly(true);
+            assertEquals(2, selectServer(conn));
+        }
+    }
+
+    @Test
+    public void testReadYourWritesWithoutWrites() throws Exception {
+        // The replica would never catch up, but there is nothing to wait for
+        this.replica.addResult(WAIT_QUERY, singleValue("WAIT_FOR_EXECUTED_GTID_SET", ColumnType.INT, 1));
+        try (Connection conn = connect("replicaReadYourWrites=true", this.replica)) {
+            for (int i = 0; i < 5; i++) {
+                conn.setReadOnly(true);
+                assertEquals(2, selectServer(conn));
+                conn.setReadOnly(false);
+            }
+
+            write(conn);
+            conn.setReadOnly(true);
+            assertEquals(0, selectServer(conn));
+        }
+    }
+
+    private static void write(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT INTO t VALUES (1)");
+        }
+    }
+
+}
@@ -0,0 +1,1036 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.ProtocolFamily;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.mysql.cj.MysqlType;
+
+/**
+ * In-process stand-in for a MySQL server speaking the classic protocol, for driver tests and benchmarks that must run without a database.
+ *
+ * The server accepts any user and password, answers the queries the driver issues while connecting, and serves canned result sets registered with
+ * {@link #addResult(String, CannedResult)} through COM_QUERY (text protocol) and COM_STMT_PREPARE/COM_STMT_EXECUTE (binary protocol). Other statements get an
+ * OK packet. Responses to canned queries are encoded once and replayed, so the cost measured by a benchmark is the driver's and not the server's.
+ * {@code SELECT SLEEP(n)} waits, and returns 1 early when another connection sends {@code KILL QUERY} for it, so query timeouts can be tested.
+ *
+ * Not supported: SSL, compression, multi-statements, cursor fetches, query attributes and session state tracking. None of these capabilities are announced,
+ * so the driver never asks for them.
+ */
+public class FakeMysqlServer implements AutoCloseable {
+
+    public static final String SERVER_VERSION = "8.4.0-fake";
+
+    private static final int SERVER_CAPABILITIES = NativeServerSession.CLIENT_LONG_PASSWORD | NativeServerSession.CLIENT_FOUND_ROWS
+            | NativeServerSession.CLIENT_LONG_FLAG | NativeServerSession.CLIENT_CONNECT_WITH_DB | NativeServerSession.CLIENT_PROTOCOL_41
+            | NativeServerSession.CLIENT_TRANSACTIONS | NativeServerSession.CLIENT_SECURE_CONNECTION | NativeServerSession.CLIENT_MULTI_RESULTS
+            | NativeServerSession.CLIENT_PS_MULTI_RESULTS | NativeServerSession.CLIENT_PLUGIN_AUTH | NativeServerSession.CLIENT_CONNECT_ATTRS
+            | NativeServerSession.CLIENT_PLUGIN_AUTH_LENENC_CLIENT_DATA | NativeServerSession.CLIENT_DEPRECATE_EOF;
+
+    private static final int UTF8MB4_0900_AI_CI = 255;
+    private static final int BINARY = 63;
+    private static final String AUTH_PLUGIN = "caching_sha2_password";
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss[.SSSSSS]");
+    private static final Pattern LEADING_COMMENT = Pattern.compile("^\\s*/\\*.*?\\*/\\s*", Pattern.DOTALL);
+    private static final Pattern VARIABLE_ITEM = Pattern.compile("@@(?:session\\.|global\\.)?(\\w+)(?:\\s+AS\\s+(\\w+))?", Pattern.CASE_INSENSITIVE);
+    private static final String LITERAL = "(?:(?:_binary\\s*)?'(?:[^'\\\\]|\\\\.|'')*'|[-+]?[0-9][0-9.eE+-]*|NULL|x'[0-9a-fA-F]*')";
+    private static final Pattern SLEEP = Pattern.compile("SELECT\\s+SLEEP\\s*\\(\\s*([0-9.]+)\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern KILL_QUERY = Pattern.compile("KILL\\s+QUERY\\s+([0-9]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SET_AUTOCOMMIT = Pattern.compile("SET\\s+(?:SESSION\\s+)?autocommit\\s*=\\s*(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private final ServerSocket serverSocket;
+    private final Thread acceptThread;
+    private ServerSocketChannel unixServerChannel;
+    private String unixSocketPath;
+    private final Map<String, CannedResult> results = new ConcurrentHashMap<>();
+    private final Map<Pattern, CannedResult> templates = new ConcurrentHashMap<>();
+    private final Map<String, String> variables = new ConcurrentHashMap<>();
+    private final Set<Closeable> clients = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionIds = new AtomicInteger();
+    private final AtomicLongArray commandCounts = new AtomicLongArray(256);
+    private volatile boolean closed;
+
+    /**
+     * Starts a server listening on an ephemeral port of the loopback interface.
+     *
+     * @throws IOException
+     *             if the server socket cannot be opened
+     */
+    public FakeMysqlServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        initVariables();
+        this.acceptThread = new Thread(this::acceptLoop, "fake-mysql-accept-" + getPort());
+        this.acceptThread.setDaemon(true);
+        this.acceptThread.start();
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns a JDBC URL for this server.
+     *
+     * @param properties
+     *            connection properties to append, such as {@code "useServerPrepStmts=true"}, or an empty string
+     * @return the URL
+     */
+    public String getUrl(String properties) {
+        return "jdbc:mysql://127.0.0.1:" + getPort() + "/bench?sslMode=DISABLED" + (properties.isEmpty() ? "" : "&" + properties);
+    }
+
+    /**
+     * Also listens on a Unix domain socket, which needs Java 16 or later.
+     *
+     * @param path
+     *            the socket file to create; it is deleted when the server is closed
+     * @throws IOException
+     *             if the socket cannot be bound
+     * @throws UnsupportedOperationException
+     *             if the JVM doesn't support Unix domain sockets
+     */
+    public void listenOnUnixSocket(String path) throws IOException {
+        try {
+            SocketAddress address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", String.class).invoke(null, path);
+            this.unixServerChannel = (ServerSocketChannel) ServerSocketChannel.class.getMethod("open", ProtocolFamily.class).invoke(null,
+                    StandardProtocolFamily.valueOf("UNIX"));
+            this.unixServerChannel.bind(address);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new UnsupportedOperationException("Unix domain sockets need Java 16 or later", e);
+        }
+        this.unixSocketPath = path;
+        Thread thread = new Thread(this::acceptUnixLoop, "fake-mysql-accept-unix");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns a JDBC URL connecting to this server through the Unix domain socket set up by {@link #listenOnUnixSocket(String)}.
+     *
+     * @param properties
+     *            connection properties to append, or an empty string
+     * @return the URL
+     */
+    public String getUnixSocketUrl(String properties) {
+        return "jdbc:mysql://localhost/bench?sslMode=DISABLED&socketFactory=com.mysql.cj.protocol.UnixSocketFactory&path=" + this.unixSocketPath
+                + (properties.isEmpty() ? "" : "&" + properties);
+    }
+
+    /**
+     * Registers the result returned for a query, whether it is sent as text or prepared on the server. The query is matched exactly, after removing a leading
+     * comment and surrounding white space. When it has {@code ?} placeholders, the text queries of client-side prepared statements, with literals in place of
+     * the placeholders, match too.
+     *
+     * @param sql
+     *            the query
+     * @param result
+     *            the result to return
+     */
+    public void addResult(String sql, CannedResult result) {
+        String normalized = normalize(sql);
+        this.results.put(normalized, result);
+        if (countParameters(normalized) > 0) {
+            StringBuilder regex = new StringBuilder();
+            int start = 0;
+            for (int i = normalized.indexOf('?'); i >= 0; i = normalized.indexOf('?', start)) {
+                regex.append(Pattern.quote(normalized.substring(start, i))).append(LITERAL);
+                start = i + 1;
+            }
+            regex.append(Pattern.quote(normalized.substring(start)));
+            String pattern = regex.toString();
+            this.templates.keySet().removeIf(p -> p.pattern().equals(pattern));
+            this.templates.put(Pattern.compile(pattern, Pattern.CASE_INSENSITIVE | Pattern.DOTALL), result);
+        }
+    }
+
+    private CannedResult findResult(String normalized) {
+        CannedResult result = this.results.get(normalized);
+        if (result == null && !this.templates.isEmpty()) {
+            for (Map.Entry<Pattern, CannedResult> template : this.templates.entrySet()) {
+                if (template.getKey().matcher(normalized).matches()) {
+                    return template.getValue();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sets the value returned for a system variable queried with {@code SELECT @@name}.
+     *
+     * @param name
+     *            the variable name
+     * @param value
+     *            the value, or {@code null}
+     */
+    public void setVariable(String name, String value) {
+        if (value == null) {
+            this.variables.remove(name);
+        } else {
+            this.variables.put(name, value);
+        }
+    }
+
+    /**
+     * Returns how many times a command was received, over all connections.
+     *
+     * @param command
+     *            the command, one of the {@code NativeConstants.COM_*} values
+     * @return the number of times it was received
+     */
+    public long getCommandCount(int command) {
+        return this.commandCounts.get(command);
+    }
+
+    /**
+     * @return the number of connections accepted so far
+     */
+    public int getConnectionCount() {
+        return this.connectionIds.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.serverSocket.close();
+        if (this.unixServerChannel != null) {
+            this.unixServerChannel.close();
+            Files.deleteIfExists(Paths.get(this.unixSocketPath));
+        }
+        for (Closeable client : this.clients) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                // already gone
+            }
+        }
+    }
+
+    private void initVariables() {
+        this.variables.put("auto_increment_increment", "1");
+        this.variables.put("character_set_client", "utf8mb4");
+        this.variables.put("character_set_connection", "utf8mb4");
+        this.variables.put("character_set_server", "utf8mb4");
+        this.variables.put("collation_server", "utf8mb4_0900_ai_ci");
+        this.variables.put("collation_connection", "utf8mb4_0900_ai_ci");
+        this.variables.put("init_connect", "");
+        this.variables.put("interactive_timeout", "28800");
+        this.variables.put("license", "GPL");
+        this.variables.put("lower_case_table_names", "0");
+        this.variables.put("max_allowed_packet", "67108864");
+        this.variables.put("net_write_timeout", "60");
+        this.variables.put("performance_schema", "0");
+        this.variables.put("sql_mode", "ONLY_FULL_GROUP_BY,STRICT_TRANS_TABLES,NO_ZERO_IN_DATE,NO_ZERO_DATE,ERROR_FOR_DIVISION_BY_ZERO,NO_ENGINE_SUBSTITUTION");
+        this.variables.put("system_time_zone", "UTC");
+        this.variables.put("time_zone", "SYSTEM");
+        this.variables.put("transaction_isolation", "REPEATABLE-READ");
+        this.variables.put("transaction_read_only", "0");
+        this.variables.put("wait_timeout", "28800");
+    }
+
+    private void acceptLoop() {
+        while (!this.closed) {
+            try {
+                Socket socket = this.serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                this.clients.add(socket);
+                Thread handler = new Thread(() -> serve(socket, socket::getInputStream, socket::getOutputStream),
+                        "fake-mysql-connection-" + socket.getPort());
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private void acceptUnixLoop() {
+        while (!this.closed) {
+            try {
+                SocketChannel channel = this.unixServerChannel.accept();
+                this.clients.add(channel);
+                Thread handler = new Thread(() -> serve(channel, () -> Channels.newInputStream(channel), () -> Channels.newOutputStream(channel)),
+                        "fake-mysql-connection-unix");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    private interface StreamSupplier<T> {
+
+        T get() throws IOException;
+
+    }
+
+    private void serve(Closeable socket, StreamSupplier<InputStream> in, StreamSupplier<OutputStream> out) {
+        Session session = null;
+        try (Closeable s = socket) {
+            session = new Session(in.get(), out.get(), this.connectionIds.incrementAndGet());
+            this.sessions.put(session.connectionId, session);
+            session.run();
+        } catch (EOFException | SocketException e) {
+            // client went away
+        } catch (IOException e) {
+            if (!this.closed) {
+                e.printStackTrace();
+            }
+        } finally {
+            this.clients.remove(socket);
+            if (session != null) {
+                this.sessions.remove(session.connectionId);
+            }
+        }
+    }
+
+    static String normalize(String sql) {
+        return LEADING_COMMENT.matcher(sql).replaceFirst("").trim();
+    }
+
+    /**
+     * State of one client connection.
+     */
+    private class Session {
+
+        private final InputStream in;
+        private final OutputStream out;
+        private final int connectionId;
+        private final Map<Integer, CannedResult> statements = new ConcurrentHashMap<>();
+        private final Map<Integer, Integer> statementParams = new ConcurrentHashMap<>();
+        private int nextStatementId = 1;
+        private int clientFlags;
+        private int status = NativeServerSession.SERVER_STATUS_AUTOCOMMIT;
+        private final Object sleepLock = new Object();
+        private boolean sleeping;
+        private boolean killed;
+
+        Session(InputStream in, OutputStream out, int connectionId) {
+            this.in = new BufferedInputStream(in, 65536);
+            this.out = new BufferedOutputStream(out, 65536);
+            this.connectionId = connectionId;
+        }
+
+        void run() throws IOException {
+            handshake();
+            byte[] command;
+            while ((command = readPacket()) != null) {
+                int code = command[0] & 0xFF;
+                FakeMysqlServer.this.commandCounts.incrementAndGet(code);
+                switch (code) {
+                    case NativeConstants.COM_QUIT:
+                        return;
+                    case NativeConstants.COM_QUERY:
+                        query(new String(command, 1, command.length - 1, StandardCharsets.UTF_8));
+                        break;
+                    case NativeConstants.COM_STMT_PREPARE:
+                        prepare(new String(command, 1, command.length - 1, StandardCharsets.UTF_8));
+                        break;
+                    case NativeConstants.COM_STMT_EXECUTE:
+                        execute(readInt4(command, 1));
+                        break;
+                    case NativeConstants.COM_STMT_CLOSE:
+                        this.statements.remove(readInt4(command, 1));
+                        this.statementParams.remove(readInt4(command, 1));
+                        break;
+                    case NativeConstants.COM_STMT_SEND_LONG_DATA:
+                        break;
+                    case NativeConstants.COM_PING:
+                    case NativeConstants.COM_INIT_DB:
+                    case NativeConstants.COM_STMT_RESET:
+                    case NativeConstants.COM_SET_OPTION:
+                        send(okResponse(0));
+                        break;
+                    case NativeConstants.COM_RESET_CONNECTION:
+                        this.statements.clear();
+                        this.statementParams.clear();
+                        this.status |= NativeServerSession.SERVER_STATUS_AUTOCOMMIT;
+                        send(okResponse(0));
+                        break;
+                    default:
+                        send(errorResponse(1047, "08S01", "Unknown command " + code));
+                }
+            }
+        }
+
+        private void handshake() throws IOException {
+            byte[] scramble = new byte[20];
+            for (int i = 0; i < scramble.length; i++) {
+                scramble[i] = (byte) ('A' + (i * 7 + this.connectionId) % 26);
+            }
+            Buffer p = new Buffer();
+            p.int1(10).stringNul(SERVER_VERSION).int4(this.connectionId).bytes(scramble, 0, 8).int1(0);
+            p.int2(SERVER_CAPABILITIES & 0xFFFF).int1(UTF8MB4_0900_AI_CI).int2(this.status).int2(SERVER_CAPABILITIES >>> 16);
+            p.int1(scramble.length + 1).bytes(new byte[10], 0, 10).bytes(scramble, 8, 12).int1(0).stringNul(AUTH_PLUGIN);
+            Response handshake = new Response(0);
+            handshake.packet(p);
+            send(handshake);
+
+            byte[] response = readPacket();
+            if (response == null) {
+                throw new EOFException();
+            }
+            this.clientFlags = readInt4(response, 0);
+            Response ok = new Response(2);
+            ok.packet(new Buffer().int1(0).lenenc(0).lenenc(0).int2(this.status).int2(0));
+            send(ok);
+        }
+
+        private void query(String sql) throws IOException {
+            String normalized = normalize(sql);
+            CannedResult result = findResult(normalized);
+            if (result != null) {
+                send(result.encoded(false, deprecateEof(), this.status));
+                return;
+            }
+            Matcher sleep = SLEEP.matcher(normalized);
+            if (sleep.matches()) {
+                boolean interrupted = sleep((long) (Double.parseDouble(sleep.group(1)) * 1000));
+                send(new CannedResult(Collections.singletonList(new Column("SLEEP(" + sleep.group(1) + ")", ColumnType.INT)),
+                        Collections.singletonList(new Object[] { interrupted ? 1 : 0 }), 1).encode(false, deprecateEof(), this.status));
+                return;
+            }
+            Matcher kill = KILL_QUERY.matcher(normalized);
+            if (kill.matches()) {
+                Session target = FakeMysqlServer.this.sessions.get(Integer.parseInt(kill.group(1)));
+                if (target == null) {
+                    send(errorResponse(1094, "HY000", "Unknown thread id: " + kill.group(1)));
+                } else {
+                    target.kill();
+                    send(okResponse(0));
+                }
+                return;
+            }
+            String upper = normalized.toUpperCase(Locale.ROOT);
+            if (upper.startsWith("SELECT") && upper.contains("@@")) {
+                send(variablesResponse(normalized));
+                return;
+            }
+            Matcher autocommit = SET_AUTOCOMMIT.matcher(normalized);
+            if (autocommit.lookingAt()) {
+                String value = autocommit.group(1);
+                boolean on = value.equals("1") || value.equalsIgnoreCase("ON") || value.equalsIgnoreCase("TRUE");
+                this.status = on ? this.status | NativeServerSession.SERVER_STATUS_AUTOCOMMIT : this.status & ~NativeServerSession.SERVER_STATUS_AUTOCOMMIT;
+            }
+            if (upper.startsWith("SELECT") || upper.startsWith("SHOW")) {
+                send(errorResponse(1146, "42S02", "No canned result for: " + normalized));
+                return;
+            }
+            send(okResponse(0));
+        }
+
+        /**
+         * Sleeps like {@code SLEEP()}, until {@code KILL QUERY} interrupts it.
+         *
+         * @return true if interrupted
+         */
+        private boolean sleep(long millis) {
+            long deadline = System.currentTimeMillis() + millis;
+            synchronized (this.sleepLock) {
+                this.sleeping = true;
+                this.killed = false;
+                try {
+                    long remaining;
+                    while (!this.killed && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                        this.sleepLock.wait(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    this.sleeping = false;
+                }
+                return this.killed;
+            }
+        }
+
+        /**
+         * Interrupts the running {@code SLEEP()}; like {@code KILL QUERY}, it has no effect on an idle connection.
+         */
+        void kill() {
+            synchronized (this.sleepLock) {
+                if (this.sleeping) {
+                    this.killed = true;
+                    this.sleepLock.notifyAll();
+                }
+            }
+        }
+
+        private void prepare(String sql) throws IOException {
+            String normalized = normalize(sql);
+            CannedResult result = FakeMysqlServer.this.results.get(normalized);
+            int params = countParameters(normalized);
+            int id = this.nextStatementId++;
+            if (result != null) {
+                this.statements.put(id, result);
+            }
+            this.statementParams.put(id, params);
+
+            List<Column> columns = result != null ? result.columns : Collections.emptyList();
+            Response response = new Response(1);
+            response.packet(new Buffer().int1(0).int4(id).int2(columns.size()).int2(params).int1(0).int2(0));
+            if (params > 0) {
+                for (int i = 0; i < params; i++) {
+                    response.packet(columnDefinition(new Column("?", ColumnType.VARCHAR)));
+                }
+                if (!deprecateEof()) {
+                    response.packet(eof(this.status));
+                }
+            }
+            if (!columns.isEmpty()) {
+                for (Column column : columns) {
+                    response.packet(columnDefinition(column));
+                }
+                if (!deprecateEof()) {
+                    response.packet(eof(this.status));
+                }
+            }
+            send(response);
+        }
+
+        private void execute(int statementId) throws IOException {
+            if (!this.statementParams.containsKey(statementId)) {
+                send(errorResponse(1243, "HY000", "Unknown prepared statement handler (" + statementId + ") given to mysqld_stmt_execute"));
+                return;
+            }
+            CannedResult result = this.statements.get(statementId);
+            send(result != null ? result.encoded(true, deprecateEof(), this.status) : okResponse(0));
+        }
+
+        private Response variablesResponse(String sql) {
+            List<Column> columns = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            Matcher m = VARIABLE_ITEM.matcher(sql);
+            while (m.find()) {
+                columns.add(new Column(m.group(2) != null ? m.group(2) : "@@" + m.group(1), ColumnType.VARCHAR));
+                values.add(FakeMysqlServer.this.variables.get(m.group(1).toLowerCase(Locale.ROOT)));
+            }
+            return new CannedResult(columns, Collections.singletonList(values.toArray()), 1).encode(false, deprecateEof(), this.status);
+        }
+
+        private Response okResponse(long affectedRows) {
+            Response response = new Response(1);
+            response.packet(new Buffer().int1(0).lenenc(affectedRows).lenenc(0).int2(this.status).int2(0));
+            return response;
+        }
+
+        private Response errorResponse(int code, String sqlState, String message) {
+            Response response = new Response(1);
+            response.packet(new Buffer().int1(0xFF).int2(code).int1('#').string(sqlState).string(message));
+            return response;
+        }
+
+        private boolean deprecateEof() {
+            return (this.clientFlags & NativeServerSession.CLIENT_DEPRECATE_EOF) != 0;
+        }
+
+        private void send(Response response) throws IOException {
+            this.out.write(response.buffer.data, 0, response.buffer.length);
+            this.out.flush();
+        }
+
+        /**
+         * Reads one logical packet, joining the physical packets of payloads of 16 MB or more.
+         *
+         * @return the payload, or {@code null} at the end of the stream
+         */
+        private byte[] readPacket() throws IOException {
+            byte[] header = new byte[4];
+            byte[] payload = new byte[0];
+            int length;
+            do {
+                if (!readFully(header, true)) {
+                    return null;
+                }
+                length = (header[0] & 0xFF) | (header[1] & 0xFF) << 8 | (header[2] & 0xFF) << 16;
+                int offset = payload.length;
+                payload = Arrays.copyOf(payload, offset + length);
+                readFully(payload, offset, length);
+            } while (length == NativeConstants.MAX_PACKET_SIZE);
+            return payload;
+        }
+
+        private boolean readFully(byte[] b, boolean eofAllowed) throws IOException {
+            int n = this.in.read(b, 0, b.length);
+            if (n < 0 && eofAllowed) {
+                return false;
+            }
+            if (n < 0) {
+                throw new EOFException();
+            }
+            readFully(b, n, b.length - n);
+            return true;
+        }
+
+        private void readFully(byte[] b, int offset, int length) throws IOException {
+            while (length > 0) {
+                int n = this.in.read(b, offset, length);
+                if (n < 0) {
+                    throw new EOFException();
+                }
+                offset += n;
+                length -= n;
+            }
+        }
+    }
+
+    static int readInt4(byte[] b, int offset) {
+        return (b[offset] & 0xFF) | (b[offset + 1] & 0xFF) << 8 | (b[offset + 2] & 0xFF) << 16 | (b[offset + 3] & 0xFF) << 24;
+    }
+
+    /**
+     * Counts the {@code ?} placeholders of a statement outside of quoted strings, identifiers and comments.
+     */
+    static int countParameters(String sql) {
+        int count = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == '\\' && quote != '`') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            } else if (c == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Buffer columnDefinition(Column column) {
+        Buffer p = new Buffer();
+        p.lenencString("def").lenencString("bench").lenencString("t").lenencString("t").lenencString(column.name).lenencString(column.name);
+        p.lenenc(0x0c).int2(column.type.charset).int4(column.type.length).int1(column.type.fieldType).int2(column.type.flags).int1(column.type.decimals).int2(0);
+        return p;
+    }
+
+    private static Buffer eof(int status) {
+        return new Buffer().int1(0xFE).int2(0).int2(status);
+    }
+
+    /**
+     * Column types available in canned results, with the column definition attributes a server would send for them.
+     */
+    public enum ColumnType {
+        INT(MysqlType.FIELD_TYPE_LONG, BINARY, 11, 0), //
+        BIGINT(MysqlType.FIELD_TYPE_LONGLONG, BINARY, 20, 0), //
+        DOUBLE(MysqlType.FIELD_TYPE_DOUBLE, BINARY, 22, 31), //
+        DECIMAL(MysqlType.FIELD_TYPE_NEWDECIMAL, BINARY, 12, 2), //
+        VARCHAR(MysqlType.FIELD_TYPE_VAR_STRING, UTF8MB4_0900_AI_CI, 1020, 0), //
+        DATETIME(MysqlType.FIELD_TYPE_DATETIME, BINARY, 19, 0), //
+        BLOB(MysqlType.FIELD_TYPE_BLOB, BINARY, 65535, 0);
+
+        final int fieldType;
+        final int charset;
+        final int length;
+        final int decimals;
+        final int flags;
+
+        ColumnType(int fieldType, int charset, int length, int decimals) {
+            this.fieldType = fieldType;
+            this.charset = charset;
+            this.length = length;
+            this.decimals = decimals;
+            this.flags = charset == BINARY ? 128 /* BINARY_FLAG */ : 0;
+        }
+    }
+
+    /**
+     * A column of a canned result.
+     */
+    public static final class Column {
+
+        final String name;
+        final ColumnType type;
+
+        public Column(String name, ColumnType type) {
+            this.name = name;
+            this.type = type;
+        }
+
+    }
+
+    /**
+     * A result set returned by the fake server: its columns, a set of distinct rows, and the number of rows to send, cycling through the distinct rows.
+     *
+     * Values may be {@code null}, {@link Integer}, {@link Long}, {@link Double}, {@link BigDecimal}, {@link String}, {@code byte[]} or {@link LocalDateTime}.
+     */
+    public static final class CannedResult {
+
+        final List<Column> columns;
+        private final List<Object[]> rows;
+        private final int rowCount;
+        private final Map<String, Response> encodings = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a canned result.
+         *
+         * @param columns
+         *            the columns
+         * @param rows
+         *            the distinct rows, each with one value per column
+         * @param rowCount
+         *            the number of rows to send
+         */
+        public CannedResult(List<Column> columns, List<Object[]> rows, int rowCount) {
+            if (rowCount > 0 && rows.isEmpty()) {
+                throw new IllegalArgumentException("At least one row is needed to send " + rowCount + " rows");
+            }
+            this.columns = new ArrayList<>(columns);
+            this.rows = new ArrayList<>(rows);
+            this.rowCount = rowCount;
+        }
+
+        /**
+         * Creates a result with generated values: one column per given type, named {@code c1}, {@code c2}..., and {@code rowCount} rows cycling through 1024
+         * distinct rows. Strings and blobs are {@code valueLength} characters or bytes long.
+         *
+         * @param rowCount
+         *            the number of rows
+         * @param valueLength
+         *            the length of string and blob values
+         * @param types
+         *            the column types
+         * @return the result
+         */
+        public static CannedResult generate(int rowCount, int valueLength, ColumnType... types) {
+            Column[] columns = new Column[types.length];
+            for (int i = 0; i < types.length; i++) {
+                columns[i] = new Column("c" + (i + 1), types[i]);
+            }
+            return generate(rowCount, valueLength, columns);
+        }
+
+        /**
+         * Creates a result with generated values for the given columns, and {@code rowCount} rows cycling through 1024 distinct rows. Strings and blobs are
+         * {@code valueLength} characters or bytes long.
+         *
+         * @param rowCount
+         *            the number of rows
+         * @param valueLength
+         *            the length of string and blob values
+         * @param columns
+         *            the columns
+         * @return the result
+         */
+        public static CannedResult generate(int rowCount, int valueLength, Column... columns) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int r = 0; r < Math.min(rowCount, 1024); r++) {
+                Object[] row = new Object[columns.length];
+                for (int c = 0; c < columns.length; c++) {
+                    row[c] = generateValue(columns[c].type, r * 31 + c, valueLength);
+                }
+                rows.add(row);
+            }
+            return new CannedResult(Arrays.asList(columns), rows, rowCount);
+        }
+
+        private static Object generateValue(ColumnType type, int seed, int length) {
+            switch (type) {
+                case INT:
+                    return seed * 7919;
+                case BIGINT:
+                    return seed * 1_000_000_007L;
+                case DOUBLE:
+                    return seed * 1.25;
+                case DECIMAL:
+                    return BigDecimal.valueOf(seed * 1001L, 2);
+                case VARCHAR:
+                    char[] chars = new char[length];
+                    for (int i = 0; i < length; i++) {
+                        chars[i] = (char) ('a' + (seed + i) % 26);
+                    }
+                    return new String(chars);
+                case DATETIME:
+                    return LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(seed * 3_607L);
+                case BLOB:
+                    byte[] bytes = new byte[length];
+                    for (int i = 0; i < length; i++) {
+                        bytes[i] = (byte) (seed + i);
+                    }
+                    return bytes;
+                default:
+                    throw new IllegalArgumentException(type.toString());
+            }
+        }
+
+        /**
+         * @return the number of rows sent for this result
+         */
+        public int getRowCount() {
+            return this.rowCount;
+        }
+
+        /**
+         * Returns the packets sent for this result in an autocommit session, as they appear on the wire, so that tests and benchmarks can feed them to the
+         * driver's readers and decoders directly.
+         *
+         * @param binary
+         *            whether the rows use the binary protocol, as in a response to COM_STMT_EXECUTE, rather than the text protocol
+         * @param deprecateEof
+         *            whether the client announced CLIENT_DEPRECATE_EOF
+         * @return the framed packets, with sequence numbers starting at 1
+         */
+        public byte[] getPackets(boolean binary, boolean deprecateEof) {
+            Response response = encoded(binary, deprecateEof, NativeServerSession.SERVER_STATUS_AUTOCOMMIT);
+            return Arrays.copyOf(response.buffer.data, response.buffer.length);
+        }
+
+        Response encoded(boolean binary, boolean deprecateEof, int status) {
+            return this.encodings.computeIfAbsent(binary + "/" + deprecateEof + "/" + status, k -> encode(binary, deprecateEof, status));
+        }
+
+        Response encode(boolean binary, boolean deprecateEof, int status) {
+            Response response = new Response(1);
+            response.packet(new Buffer().lenenc(this.columns.size()));
+            for (Column column : this.columns) {
+                response.packet(columnDefinition(column));
+            }
+            if (!deprecateEof) {
+                response.packet(eof(status));
+            }
+            List<Buffer> encodedRows = new ArrayList<>(this.rows.size());
+            for (Object[] row : this.rows) {
+                encodedRows.add(binary ? binaryRow(row) : textRow(row));
+            }
+            for (int i = 0; i < this.rowCount; i++) {
+                response.packet(encodedRows.get(i % encodedRows.size()));
+            }
+            if (deprecateEof) {
+                response.packet(new Buffer().int1(0xFE).lenenc(0).lenenc(0).int2(status).int2(0));
+            } else {
+                response.packet(eof(status));
+            }
+            return response;
+        }
+
+        private Buffer textRow(Object[] row) {
+            Buffer p = new Buffer();
+            for (Object value : row) {
+                if (value == null) {
+                    p.int1(0xFB);
+                } else if (value instanceof byte[]) {
+                    byte[] bytes = (byte[]) value;
+                    p.lenenc(bytes.length).bytes(bytes, 0, bytes.length);
+                } else if (value instanceof LocalDateTime) {
+                    p.lenencString(DATETIME_FORMAT.format((LocalDateTime) value));
+                } else if (value instanceof BigDecimal) {
+                    p.lenencString(((BigDecimal) value).toPlainString());
+                } else {
+                    p.lenencString(value.toString());
+                }
+            }
+            return p;
+        }
+
+        private Buffer binaryRow(Object[] row) {
+            Buffer p = new Buffer();
+            p.int1(0);
+            byte[] nullBitmap = new byte[(row.length + 7 + 2) / 8];
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] == null) {
+                    nullBitmap[(i + 2) / 8] |= (byte) (1 << ((i + 2) % 8));
+                }
+            }
+            p.bytes(nullBitmap, 0, nullBitmap.length);
+            for (int i = 0; i < row.length; i++) {
+                Object value = row[i];
+                if (value == null) {
+                    continue;
+                }
+                switch (this.columns.get(i).type) {
+                    case INT:
+                        p.int4(((Number) value).intValue());
+                        break;
+                    case BIGINT:
+                        p.int8(((Number) value).longValue());
+                        break;
+                    case DOUBLE:
+                        p.int8(Double.doubleToLongBits(((Number) value).doubleValue()));
+                        break;
+                    case DATETIME:
+                        LocalDateTime dt = (LocalDateTime) value;
+                        if (dt.getNano() == 0) {
+                            p.int1(7).int2(dt.getYear()).int1(dt.getMonthValue()).int1(dt.getDayOfMonth()).int1(dt.getHour()).int1(dt.getMinute())
+                                    .int1(dt.getSecond());
+                        } else {
+                            p.int1(11).int2(dt.getYear()).int1(dt.getMonthValue()).int1(dt.getDayOfMonth()).int1(dt.getHour()).int1(dt.getMinute())
+                                    .int1(dt.getSecond()).int4(dt.getNano() / 1000);
+                        }
+                        break;
+                    case BLOB:
+                        byte[] bytes = value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8);
+                        p.lenenc(bytes.length).bytes(bytes, 0, bytes.length);
+                        break;
+                    default:
+                        p.lenencString(value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString());
+                }
+            }
+            return p;
+        }
+
+    }
+
+    /**
+     * A complete response: one or more framed packets with consecutive sequence numbers.
+     */
+    static final class Response {
+
+        final Buffer buffer = new Buffer();
+        private int sequence;
+
+        Response(int firstSequence) {
+            this.sequence = firstSequence;
+        }
+
+        /**
+         * Appends a payload, split into several packets if it is 16 MB or larger.
+         */
+        void packet(Buffer payload) {
+            int offset = 0;
+            int remaining = payload.length;
+            while (true) {
+                int chunk = Math.min(remaining, NativeConstants.MAX_PACKET_SIZE);
+                this.buffer.int1(chunk & 0xFF).int1(chunk >>> 8 & 0xFF).int1(chunk >>> 16 & 0xFF).int1(this.sequence++ & 0xFF);
+                this.buffer.bytes(payload.data, offset, chunk);
+                offset += chunk;
+                remaining -= chunk;
+                if (chunk < NativeConstants.MAX_PACKET_SIZE) {
+                    return;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Growable little-endian byte buffer.
+     */
+    static final class Buffer {
+
+        byte[] data = new byte[64];
+        int length;
+
+        private void ensure(int extra) {
+            if (this.length + extra > this.data.length) {
+                this.data = Arrays.copyOf(this.data, Math.max(this.data.length * 2, this.length + extra));
+            }
+        }
+
+        Buffer int1(int v) {
+            ensure(1);
+            this.data[this.length++] = (byte) v;
+            return this;
+        }
+
+        Buffer int2(int v) {
+            return int1(v).int1(v >>> 8);
+        }
+
+        Buffer int4(int v) {
+            return int2(v).int2(v >>> 16);
+        }
+
+        Buffer int8(long v) {
+            return int4((int) v).int4((int) (v >>> 32));
+        }
+
+        Buffer lenenc(long v) {
+            if (v < 251) {
+                return int1((int) v);
+            } else if (v < 1 << 16) {
+                return int1(0xFC).int2((int) v);
+            } else if (v < 1 << 24) {
+                return int1(0xFD).int2((int) v).int1((int) (v >>> 16));
+            }
+            return int1(0xFE).int8(v);
+        }
+
+        Buffer bytes(byte[] b, int offset, int len) {
+            ensure(len);
+            System.arraycopy(b, offset, this.data, this.length, len);
+            this.length += len;
+            return this;
+        }
+
+        Buffer string(String s) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            return bytes(b, 0, b.length);
+        }
+
+        Buffer stringNul(String s) {
+            return string(s).int1(0);
+        }
+
+        Buffer lenencString(String s) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            return lenenc(b.length).bytes(b, 0, b.length);
+        }
+
+    }
+
+}
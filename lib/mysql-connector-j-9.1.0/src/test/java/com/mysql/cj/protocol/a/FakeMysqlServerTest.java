@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016, 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.Column;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for the fake server used by driver benchmarks: the driver must decode its canned results the same way through the text and binary protocols.
+ */
+public class FakeMysqlServerTest {
+
+    private static final String QUERY = "SELECT id, total, ratio, price, name, created, data FROM t WHERE id > ?";
+
+    private FakeMysqlServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult(QUERY, new CannedResult(
+                Arrays.asList(new Column("id", ColumnType.INT), new Column("total", ColumnType.BIGINT), new Column("ratio", ColumnType.DOUBLE),
+                        new Column("price", ColumnType.DECIMAL), new Column("name", ColumnType.VARCHAR), new Column("created", ColumnType.DATETIME),
+                        new Column("data", ColumnType.BLOB)),
+                Arrays.asList(new Object[] { 1, 5_000_000_000L, 0.5, new BigDecimal("1234.50"), "café", LocalDateTime.of(2024, 2, 29, 13, 45, 1),
+                        new byte[] { 1, 2, 3 } }, new Object[] { 2, null, null, null, null, null, null }),
+                5));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    public void testTextProtocol() throws Exception {
+        checkRows("");
+        assertEquals(0, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+    }
+
+    @Test
+    public void testBinaryProtocol() throws Exception {
+        checkRows("useServerPrepStmts=true");
+        assertEquals(1, this.server.getCommandCount(NativeConstants.COM_STMT_PREPARE));
+        assertEquals(1, this.server.getCommandCount(NativeConstants.COM_STMT_EXECUTE));
+    }
+
+    private void checkRows(String properties) throws Exception {
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(properties), "user", "password");
+                PreparedStatement ps = conn.prepareStatement(QUERY)) {
+            ps.setInt(1, 0);
+            try (ResultSet rs = ps.executeQuery()) {
+                for (int i = 0; i < 5; i++) {
+                    assertTrue(rs.next());
+                    if (i % 2 == 0) {
+                        assertEquals(1, rs.getInt(1));
+                        assertEquals(5_000_000_000L, rs.getLong(2));
+                        assertEquals(0.5, rs.getDouble(3));
+                        assertEquals(new BigDecimal("1234.50"), rs.getBigDecimal(4));
+                        assertEquals("café", rs.getString(5));
+                        assertEquals(LocalDateTime.of(2024, 2, 29, 13, 45, 1), rs.getObject(6, LocalDateTime.class));
+                        assertArrayEquals(new byte[] { 1, 2, 3 }, rs.getBytes(7));
+                    } else {
+                        assertEquals(2, rs.getInt(1));
+                        for (int c = 2; c <= 7; c++) {
+                            assertNull(rs.getObject(c));
+                        }
+                    }
+                }
+                assertFalse(rs.next());
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratedResult() throws Exception {
+        this.server.addResult("SELECT * FROM wide", CannedResult.generate(10_000, 100, ColumnType.BIGINT, ColumnType.VARCHAR, ColumnType.VARCHAR));
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(""), "user", "password"); Statement st = conn.createStatement();
+                ResultSet rs = st.executeQuery("SELECT * FROM wide")) {
+            int rows = 0;
+            while (rs.next()) {
+                assertEquals(100, rs.getString(3).length());
+                rows++;
+            }
+            assertEquals(10_000, rows);
+        }
+    }
+
+    @Test
+    public void testUnknownQueryAndStatements() throws Exception {
+        this.server.addResult("SELECT 1", new CannedResult(Collections.singletonList(new Column("1", ColumnType.INT)),
+                Collections.singletonList(new Object[] { 1 }), 1));
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(""), "user", "password"); Statement st = conn.createStatement()) {
+            assertEquals(0, st.executeUpdate("UPDATE t SET name = 'x'"));
+            conn.setAutoCommit(false);
+            conn.commit();
+            conn.setAutoCommit(true);
+            assertThrows(SQLException.class, () -> st.executeQuery("SELECT * FROM missing"));
+            try (ResultSet rs = st.executeQuery("/* comment */ SELECT 1")) {
+                assertTrue(rs.next());
+                assertEquals(1, rs.getInt(1));
+            }
+        }
+        assertEquals(1, this.server.getConnectionCount());
+    }
+
+    @Test
+    public void testCountParameters() {
+        assertEquals(0, FakeMysqlServer.countParameters("SELECT '?', \"?\", `?`"));
+        assertEquals(2, FakeMysqlServer.countParameters("SELECT ? FROM t WHERE a = 'it\\'s' AND b = ?"));
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for {@link PacketBufferPool}.
+ */
+public class PacketBufferPoolTest {
+
+    @Test
+    public void testSizeClasses() {
+        PacketBufferPool pool = new PacketBufferPool(1024 * 1024);
+        assertEquals(256, pool.acquire(0).length);
+        assertEquals(256, pool.acquire(256).length);
+        assertEquals(512, pool.acquire(257).length);
+        assertEquals(PacketBufferPool.MAX_POOLED_SIZE, pool.acquire(PacketBufferPool.MAX_POOLED_SIZE).length);
+        assertEquals(PacketBufferPool.MAX_POOLED_SIZE + 1, pool.acquire(PacketBufferPool.MAX_POOLED_SIZE + 1).length);
+    }
+
+    @Test
+    public void testReuse() {
+        PacketBufferPool pool = new PacketBufferPool(1024);
+        byte[] buf = pool.acquire(300);
+        pool.release(buf);
+        assertEquals(512, pool.getRetainedBytes());
+        assertSame(buf, pool.acquire(400));
+        assertEquals(0, pool.getRetainedBytes());
+
+        // foreign buffers and buffers over the limit are dropped
+        pool.release(new byte[300]);
+        pool.release(new byte[PacketBufferPool.MAX_POOLED_SIZE * 2]);
+        pool.release(new byte[2048]);
+        assertEquals(0, pool.getRetainedBytes());
+
+        PacketBufferPool disabled = new PacketBufferPool(0);
+        buf = disabled.acquire(300);
+        assertEquals(300, buf.length);
+        disabled.release(disabled.acquire(256));
+        assertNotSame(buf, disabled.acquire(300));
+        assertEquals(0, disabled.getRetainedBytes());
+    }
+
+    /**
+     * Rows copied out of their packet give the packet buffer back to the pool, with and without compression. Other packets don't take buffers from it.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRowPackets() throws Exception {
+        try (FakeMysqlServer server = new FakeMysqlServer()) {
+            server.addResult("SELECT * FROM t", CannedResult.generate(1000, 50, ColumnType.BIGINT, ColumnType.VARCHAR));
+            for (String properties : new String[] { "", "useServerPrepStmts=true", "useCompression=true" }) {
+                try (Connection conn = DriverManager.getConnection(server.getUrl(properties), "user", "password");
+                        PreparedStatement ps = conn.prepareStatement("SELECT * FROM t")) {
+                    for (int i = 0; i < 2; i++) {
+                        try (ResultSet rs = ps.executeQuery()) {
+                            int rows = 0;
+                            while (rs.next()) {
+                                assertEquals(50, rs.getString(2).length());
+                                rows++;
+                            }
+                            assertEquals(1000, rows);
+                        }
+                    }
+                    NativeProtocol protocol = ((NativeSession) conn.unwrap(JdbcConnection.class).getSession()).getProtocol();
+                    assertEquals(256, protocol.getPacketBufferPool().getRetainedBytes(), properties);
+
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.executeUpdate("SET @a = 1");
+                    }
+                    assertEquals(256, protocol.getPacketBufferPool().getRetainedBytes(), properties);
+                }
+            }
+        }
+    }
+
+}
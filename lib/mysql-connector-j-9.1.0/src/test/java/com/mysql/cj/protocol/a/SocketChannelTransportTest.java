@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.SocketChannelFactory;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for the {@link SocketChannelFactory} transport against the fake server.
+ */
+public class SocketChannelTransportTest {
+
+    private static final String PROPERTIES = "socketFactory=" + SocketChannelFactory.class.getName();
+
+    private FakeMysqlServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult("SELECT * FROM wide", CannedResult.generate(5000, 100, ColumnType.BIGINT, ColumnType.VARCHAR, ColumnType.VARCHAR));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    public void testReadRows() throws Exception {
+        for (String properties : new String[] { PROPERTIES, PROPERTIES + "&useServerPrepStmts=true", PROPERTIES + "&useCompression=true" }) {
+            try (Connection conn = DriverManager.getConnection(this.server.getUrl(properties), "user", "password");
+                    PreparedStatement ps = conn.prepareStatement("SELECT * FROM wide"); ResultSet rs = ps.executeQuery()) {
+                int rows = 0;
+                while (rs.next()) {
+                    assertEquals(100, rs.getString(3).length());
+                    rows++;
+                }
+                assertEquals(5000, rows);
+            }
+        }
+    }
+
+    /**
+     * A parameter over 16M must be split into several packets by the gathering sender.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSplitPacket() throws Exception {
+        byte[] data = new byte[NativeConstants.MAX_PACKET_SIZE + 4000];
+        try (Connection conn = DriverManager.getConnection(this.server.getUrl(PROPERTIES + "&useServerPrepStmts=true"), "user", "password");
+                PreparedStatement ps = conn.prepareStatement("INSERT INTO t VALUES (?)")) {
+            ps.setBytes(1, data);
+            assertEquals(0, ps.executeUpdate());
+            try (Statement st = conn.createStatement()) {
+                assertFalse(st.execute("DO 1"));
+            }
+        }
+        assertEquals(1, this.server.getCommandCount(NativeConstants.COM_STMT_EXECUTE));
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.UnixSocketFactory;
+import com.mysql.cj.protocol.a.FakeMysqlServer.CannedResult;
+import com.mysql.cj.protocol.a.FakeMysqlServer.ColumnType;
+
+/**
+ * Tests for {@link UnixSocketFactory} against the fake server. Skipped on JVMs without Unix domain socket channels.
+ */
+public class UnixSocketFactoryTest {
+
+    private FakeMysqlServer server;
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        this.server = new FakeMysqlServer();
+        this.server.addResult("SELECT * FROM wide", CannedResult.generate(5000, 100, ColumnType.BIGINT, ColumnType.VARCHAR, ColumnType.VARCHAR));
+        this.directory = Files.createTempDirectory("cj-unix-socket");
+        try {
+            this.server.listenOnUnixSocket(this.directory.resolve("mysqld.sock").toString());
+        } catch (UnsupportedOperationException e) {
+            assumeTrue(false, e.getMessage());
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        this.server.close();
+        Files.deleteIfExists(this.directory);
+    }
+
+    @Test
+    public void testReadRows() throws Exception {
+        for (String properties : new String[] { "", "useServerPrepStmts=true" }) {
+            try (Connection conn = DriverManager.getConnection(this.server.getUnixSocketUrl(properties), "user", "password");
+                    PreparedStatement ps = conn.prepareStatement("SELECT * FROM wide"); ResultSet rs = ps.executeQuery()) {
+                int rows = 0;
+                while (rs.next()) {
+                    assertEquals(100, rs.getString(3).length());
+                    rows++;
+                }
+                assertEquals(5000, rows);
+            }
+        }
+        assertEquals(2, this.server.getConnectionCount());
+    }
+
+    @Test
+    public void testConnectFailure() throws Exception {
+        String url = this.server.getUnixSocketUrl("").replace("mysqld.sock", "missing.sock");
+        assertThrows(SQLException.class, () -> DriverManager.getConnection(url, "user", "password"));
+        assertEquals(0, this.server.getConnectionCount());
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConcurrentLRUCache}.
+ */
+public class ConcurrentLRUCacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        List<String> evicted = new ArrayList<>();
+        ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<String, String>(3) {
+
+            @Override
+            protected boolean removeEldestEntry(Entry<String, String> eldest) {
+                boolean removeIt = super.removeEldestEntry(eldest);
+                if (removeIt) {
+                    evicted.add(eldest.getKey());
+                }
+                return removeIt;
+            }
+
+        };
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+        assertEquals("1", cache.get("a"));
+        cache.put("d", "4");
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.size());
+
+        // Replacing a value doesn't evict
+        assertEquals("3", cache.put("c", "30"));
+        assertEquals(3, cache.size());
+
+        cache.put("e", "5");
+        assertEquals("[b, a]", evicted.toString());
+        assertEquals("30", cache.remove("c"));
+        assertEquals(2, cache.size());
+        assertTrue(cache.values().contains("4"));
+    }
+
+    @Test
+    public void testReplaysBufferedReads() {
+        ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(3);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+        // More reads than a drain takes, the last ones still buffered when the next entry is added
+        for (int i = 0; i < 100; i++) {
+            cache.get(i % 2 == 0 ? 1 : 3);
+        }
+        cache.put(4, 4);
+        assertFalse(cache.containsKey(2));
+
+        // A buffered read of a removed entry doesn't bring it back in the access order
+        cache.get(1);
+        assertEquals(Integer.valueOf(1), cache.remove(1));
+        cache.put(5, 5);
+        cache.put(6, 6);
+        assertEquals(3, cache.size());
+        assertFalse(cache.containsKey(3));
+        assertTrue(cache.containsKey(4) && cache.containsKey(5) && cache.containsKey(6));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.put(7, 7);
+        assertEquals(Integer.valueOf(7), cache.get(7));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(50);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        int key = (i * 31 + seed) % 200;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            assertEquals(key, value.intValue());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 50, "size " + cache.size());
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.util.HashedWheelTimer.Timeout;
+
+/**
+ * Tests for {@link HashedWheelTimer}.
+ */
+public class HashedWheelTimerTest {
+
+    @Test
+    public void testExpire() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, 8, 100, TimeUnit.MILLISECONDS);
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long start = System.nanoTime();
+        // Delays longer than a turn of the wheel wait in their bucket for the following turns
+        Timeout t3 = timer.newTimeout(() -> {
+            fired.add(3);
+            done.countDown();
+        }, 60, TimeUnit.MILLISECONDS);
+        Timeout t1 = timer.newTimeout(() -> {
+            fired.add(1);
+            done.countDown();
+        }, 5, TimeUnit.MILLISECONDS);
+        timer.newTimeout(() -> {
+            fired.add(2);
+            done.countDown();
+        }, 20, TimeUnit.MILLISECONDS);
+        assertEquals(3, timer.getPendingTimeouts());
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(60));
+        assertEquals("[1, 2, 3]", fired.toString());
+        assertEquals(0, timer.getPendingTimeouts());
+        assertTrue(t1.isExpired());
+        assertTrue(t3.isExpired());
+        assertFalse(t3.cancel());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, 8, 100, TimeUnit.MILLISECONDS);
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 1000; i++) {
+            int n = i;
+            Timeout timeout = timer.newTimeout(() -> fired.add(n), 10, TimeUnit.MILLISECONDS);
+            assertTrue(timeout.cancel());
+            assertFalse(timeout.cancel());
+            assertFalse(timeout.isExpired());
+        }
+        timer.newTimeout(done::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(fired.isEmpty());
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void testRestartAfterIdle() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, 8, 10, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 3; i++) {
+            CountDownLatch done = new CountDownLatch(1);
+            timer.newTimeout(done::countDown, 5, TimeUnit.MILLISECONDS);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            // Let the worker thread end
+            Thread.sleep(50);
+        }
+    }
+
+}
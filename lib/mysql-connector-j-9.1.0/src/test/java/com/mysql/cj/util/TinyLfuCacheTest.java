@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TinyLfuCache}.
+ */
+public class TinyLfuCacheTest {
+
+    @Test
+    public void testWeightBound() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(100, 10, (k, v) -> v.length());
+        for (int i = 0; i < 50; i++) {
+            cache.put("k" + i, "0123456789");
+            assertTrue(cache.getWeight() <= 100, "weight " + cache.getWeight());
+        }
+        assertEquals(10, cache.size());
+        assertEquals(40, cache.getEvictionCount());
+
+        // Entries heavier than the cache are never admitted
+        cache.put("big", new String(new char[101]));
+        assertNull(cache.get("big"));
+        assertTrue(cache.getWeight() <= 100);
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScan() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 10, (k, v) -> 1);
+        for (int i = 0; i < 10; i++) {
+            String key = "hot" + i;
+            for (int j = 0; j < 3; j++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            if (i % 20 == 0) {
+                for (int j = 0; j < 10; j++) {
+                    cache.get("hot" + j);
+                }
+            }
+            String key = "cold" + i;
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+        }
+        int hot = 0;
+        for (int i = 0; i < 10; i++) {
+            if (cache.get("hot" + i) != null) {
+                hot++;
+            }
+        }
+        assertTrue(hot >= 8, "hot entries left: " + hot);
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    public void testInvalidate() {
+        TinyLfuCache<String, String> cache = new TinyLfuCache<>(100, 10, (k, v) -> 1);
+        cache.put("a1", "x");
+        cache.put("a2", "x");
+        cache.put("b1", "x");
+        cache.invalidate("a1");
+        assertNull(cache.get("a1"));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getWeight());
+
+        cache.invalidateIf(k -> k.startsWith("a"));
+        assertNull(cache.get("a2"));
+        assertEquals("x", cache.get("b1"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+
+        // Invalidated entries left in the CLOCK don't take room from new ones
+        for (int i = 0; i < 100; i++) {
+            cache.put("c" + i, "x");
+        }
+        assertEquals(100, cache.size());
+    }
+
+}
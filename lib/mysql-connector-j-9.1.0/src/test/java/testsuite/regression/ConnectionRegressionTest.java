@@ -47,7 +47,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
@@ -160,6 +159,7 @@ import com.mysql.cj.jdbc.SuspendableXAConnection;
 import com.mysql.cj.jdbc.exceptions.CommunicationsException;
 import com.mysql.cj.jdbc.exceptions.MysqlDataTruncation;
 import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.ha.DelegatingConnection;
 import com.mysql.cj.jdbc.ha.LoadBalanceExceptionChecker;
 import com.mysql.cj.jdbc.ha.LoadBalancedConnectionProxy;
 import com.mysql.cj.jdbc.ha.RandomBalanceStrategy;
@@ -4766,15 +4766,14 @@ public class ConnectionRegressionTest extends BaseTestCase {
         public void run() {
             System.out.println(this.num + ". Start cancelling at " + new Date().getTime());
 
-            if (Proxy.isProxyClass(this.c.getClass())) {
+            if (this.c instanceof DelegatingConnection) {
                 try {
                     if (this.num == 7 || this.num == 10) {
-                        Proxy.getInvocationHandler(this.c).invoke(this.c, Connection.class.getMethod("close", new Class<?>[] {}), null);
+                        this.c.close();
                     } else if (this.num == 8 || this.num == 11) {
-                        Proxy.getInvocationHandler(this.c).invoke(this.c, JdbcConnection.class.getMethod("abortInternal", new Class<?>[] {}), null);
+                        ((JdbcConnection) this.c).abortInternal();
                     } else if (this.num == 9 || this.num == 12) {
-                        Proxy.getInvocationHandler(this.c).invoke(this.c, JdbcConnection.class.getMethod("abort", new Class<?>[] { Executor.class }),
-                                new Object[] { new ThreadPerTaskExecutor() });
+                        this.c.abort(new ThreadPerTaskExecutor());
                     }
 
                     ConnectionRegressionTest.this.testServerPrepStmtDeadlockCounter++;
@@ -10609,7 +10608,7 @@ public class ConnectionRegressionTest extends BaseTestCase {
         conn2.setAutoCommit(false);
         conn2.createStatement().execute("SELECT 1");
 
-        LoadBalancedConnectionProxy h = (LoadBalancedConnectionProxy) Proxy.getInvocationHandler(conn2);
+        LoadBalancedConnectionProxy h = (LoadBalancedConnectionProxy) ((DelegatingConnection) conn2).getConnectionProxy();
 
         Map<String, Long> blockList = h.getGlobalBlocklist();
         assertTrue(blockList.size() == 0);
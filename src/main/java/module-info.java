@@ -8,6 +8,7 @@ module org.example.realestatemanager {
     requires org.kordamp.bootstrapfx.core;
     requires eu.hansolo.tilesfx;
     requires java.sql;
+    requires java.desktop;
 
     opens org.example.realestatemanager to javafx.fxml;
     opens org.example.realestatemanager.contoller to javafx.fxml;
@@ -5,6 +5,7 @@ import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import org.example.realestatemanager.contoller.MainController;
 import org.example.realestatemanager.utils.DatabaseInitializer;
 
 import java.io.IOException;
@@ -26,6 +27,14 @@ public class Main extends Application {
             Scene scene = new Scene(root, 1305, 684);
             scene.getStylesheets().add(getClass().getResource("styles.css").toExternalForm());
 
+            // Keep the window open if pending write-behind edits cannot be saved and the user keeps them
+            MainController controller = loader.getController();
+            primaryStage.setOnCloseRequest(event -> {
+                if (!controller.confirmExit()) {
+                    event.consume();
+                }
+            });
+
             primaryStage.setTitle("Property Management App");
             primaryStage.setScene(scene);
             primaryStage.show();
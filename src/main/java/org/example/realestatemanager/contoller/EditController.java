@@ -85,7 +85,7 @@ public class EditController {
     }
 
     /**
-     * Handles the save action.
+     * Handles the save action. In write-behind mode the edit is only queued and the window closes immediately.
      *
      * @param event the action event
      */
@@ -117,6 +117,13 @@ public class EditController {
         property.setLocation(location);
         property.setSize(size);
         property.setPrice(price);
+        property.setOwner(selectedUser);
+
+        if (mainController.isWriteBehindEnabled()) {
+            mainController.queuePropertyEdit(property);
+            closeWindow();
+            return;
+        }
 
         try {
             db.updateProperty(property);
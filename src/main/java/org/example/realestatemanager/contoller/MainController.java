@@ -1,15 +1,21 @@
 package org.example.realestatemanager.contoller;
 
+import javafx.application.Platform;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.fxml.FXMLLoader;
@@ -19,10 +25,21 @@ import org.example.realestatemanager.Main;
 import org.example.realestatemanager.entity.Property;
 import org.example.realestatemanager.entity.User;
 import org.example.realestatemanager.utils.DatabaseUtil;
+import org.example.realestatemanager.utils.DuplicateDetector;
+import org.example.realestatemanager.utils.PropertyFilter;
+import org.example.realestatemanager.utils.PropertyIndex;
+import org.example.realestatemanager.utils.ThumbnailCache;
+import org.example.realestatemanager.utils.WriteBehindQueue;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -35,6 +52,8 @@ public class MainController {
     @FXML
     private TableView<Property> propertyTable;
     @FXML
+    private TableColumn<Property, Number> photoColumn;
+    @FXML
     private TableColumn<Property, Number> idColumn;
     @FXML
     private TableColumn<Property, String> ownerColumn;
@@ -61,6 +80,13 @@ public class MainController {
     private Pagination pagination;
 
     private static final int ROWS_PER_PAGE = 20;
+    private static final long WRITE_BEHIND_FLUSH_MILLIS = 500;
+    private static final int WRITE_BEHIND_BATCH_SIZE = 200;
+    private static final int THUMBNAIL_SIZE = 48;
+    private static final int THUMBNAIL_MEMORY_ENTRIES = 500;
+    private static final long THUMBNAIL_DISK_BYTES = 64L * 1024 * 1024;
+    private static final int THUMBNAIL_THREADS = 2;
+    private static final int MAX_REPORTED_DUPLICATES = 200;
 
     @FXML
     private ComboBox<User> ownerComboBox;
@@ -76,6 +102,13 @@ public class MainController {
     @FXML
     private TextField generalFilterField;
 
+    @FXML
+    private CheckMenuItem writeBehindMenuItem;
+    @FXML
+    private MenuItem findDuplicatesMenuItem;
+    @FXML
+    private Label pendingChangesLabel;
+
     @FXML
     private TextField filterOwnerField;
     @FXML
@@ -88,7 +121,10 @@ public class MainController {
     private ObservableList<Property> propertyList = FXCollections.observableArrayList();
     private ObservableList<User> userList = FXCollections.observableArrayList();
     private DatabaseUtil db;
+    private WriteBehindQueue writeBehindQueue;
+    private ThumbnailCache thumbnailCache;
 
+    private final PropertyIndex propertyIndex = new PropertyIndex();
     private FilteredList<Property> filteredData;
     private SortedList<Property> sortedData;
 
@@ -98,9 +134,18 @@ public class MainController {
     @FXML
     private void initialize() {
         db = new DatabaseUtil();
+        propertyList.addListener(this::onPropertyListChanged);
         loadUsers();
         loadProperties();
 
+        try {
+            thumbnailCache = new ThumbnailCache(db, Path.of(System.getProperty("user.home"), ".realestatemanager", "thumbnails"),
+                    THUMBNAIL_SIZE, THUMBNAIL_MEMORY_ENTRIES, THUMBNAIL_DISK_BYTES, THUMBNAIL_THREADS);
+        } catch (IOException e) {
+            System.err.println("Thumbnail cache unavailable: " + e.getMessage());
+        }
+        photoColumn.setCellValueFactory(cellData -> new SimpleIntegerProperty(cellData.getValue().getCoverMediaId()));
+        photoColumn.setCellFactory(_ -> new ThumbnailCell());
         idColumn.setCellValueFactory(cellData -> cellData.getValue().idProperty());
         ownerColumn.setCellValueFactory(cellData -> {
             User owner = cellData.getValue().getOwner();
@@ -128,6 +173,7 @@ public class MainController {
 
         addFilterListeners();
 
+        propertyTable.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         propertyTable.setRowFactory(_ -> {
             TableRow<Property> row = new TableRow<>();
             row.setOnMouseClicked(event -> {
@@ -142,9 +188,28 @@ public class MainController {
                     ContextMenu contextMenu = new ContextMenu();
                     MenuItem editItem = new MenuItem("Edit");
                     editItem.setOnAction(e -> openEditWindow(row.getItem()));
-                    MenuItem deleteItem = new MenuItem("Delete");
-                    deleteItem.setOnAction(e -> deleteProperty(row.getItem()));
-                    contextMenu.getItems().addAll(editItem, deleteItem);
+                    List<Property> selected = getSelectedProperties(row.getItem());
+                    MenuItem deleteItem = new MenuItem(selected.size() > 1 ? "Delete Selected (" + selected.size() + ")" : "Delete");
+                    deleteItem.setOnAction(e -> {
+                        if (selected.size() > 1) {
+                            deleteProperties(selected);
+                        } else {
+                            deleteProperty(row.getItem());
+                        }
+                    });
+                    MenuItem reassignItem = new MenuItem("Reassign Owner...");
+                    reassignItem.setOnAction(e -> reassignProperties(selected));
+                    MenuItem adjustPriceItem = new MenuItem("Adjust Price...");
+                    adjustPriceItem.setOnAction(e -> adjustPrices(selected));
+                    MenuItem historyItem = new MenuItem("Price History");
+                    historyItem.setOnAction(e -> openPriceHistoryWindow(row.getItem()));
+                    MenuItem addPhotoItem = new MenuItem("Add Photos...");
+                    addPhotoItem.setOnAction(e -> addPhotos(row.getItem()));
+                    MenuItem savePhotoItem = new MenuItem("Save Photo As...");
+                    savePhotoItem.setDisable(row.getItem().getCoverMediaId() == 0);
+                    savePhotoItem.setOnAction(e -> savePhoto(row.getItem()));
+                    contextMenu.getItems().addAll(editItem, deleteItem, historyItem, new SeparatorMenuItem(), addPhotoItem, savePhotoItem,
+                            new SeparatorMenuItem(), reassignItem, adjustPriceItem);
                     contextMenu.show(row, event.getScreenX(), event.getScreenY());
                 }
             });
@@ -205,69 +270,45 @@ public class MainController {
     }
 
     /**
-     * Updates the predicate of the FilteredList based on filter input fields.
+     * Updates the predicate of the FilteredList based on filter input fields. Every criterion is answered by the
+     * property index, so the predicate only looks up a bit for each row.
      */
     private void updateFilters() {
-        filteredData.setPredicate(property -> {
-            if (property == null) {
-                return false;
-            }
-
-            String generalFilter = generalFilterField.getText().toLowerCase().trim();
-            if (!generalFilter.isEmpty()) {
-                if (!(property.getOwner() != null && property.getOwner().getName().toLowerCase().contains(generalFilter) ||
-                        property.getLocation().toLowerCase().contains(generalFilter) ||
-                        property.getDescription().toLowerCase().contains(generalFilter) ||
-                        String.valueOf(property.getPrice()).contains(generalFilter) ||
-                        String.valueOf(property.getSize()).contains(generalFilter))) {
-                    return false;
-                }
-            }
-
-            String ownerFilter = filterOwnerField.getText().toLowerCase().trim();
-            if (!ownerFilter.isEmpty()) {
-                if (property.getOwner() == null || !property.getOwner().getName().toLowerCase().contains(ownerFilter)) {
-                    return false;
-                }
-            }
-
-            String locationFilter = filterLocationField.getText().toLowerCase().trim();
-            if (!locationFilter.isEmpty() && !property.getLocation().toLowerCase().contains(locationFilter)) {
-                return false;
-            }
-
-            String minPriceText = filterMinPriceField.getText().trim();
-            double minPrice = 0.0;
-            if (!minPriceText.isEmpty()) {
-                try {
-                    minPrice = Double.parseDouble(minPriceText);
-                } catch (NumberFormatException e) {
-                    return false;
-                }
-                if (property.getPrice() < minPrice) {
-                    return false;
-                }
-            }
-
-            String maxPriceText = filterMaxPriceField.getText().trim();
-            double maxPrice = Double.MAX_VALUE;
-            if (!maxPriceText.isEmpty()) {
-                try {
-                    maxPrice = Double.parseDouble(maxPriceText);
-                } catch (NumberFormatException e) {
-                    return false;
-                }
-                if (property.getPrice() > maxPrice) {
-                    return false;
-                }
-            }
+        PropertyFilter filter;
+        try {
+            filter = new PropertyFilter(
+                    generalFilterField.getText(),
+                    filterOwnerField.getText(),
+                    filterLocationField.getText(),
+                    parsePriceFilter(filterMinPriceField.getText(), Double.NEGATIVE_INFINITY),
+                    parsePriceFilter(filterMaxPriceField.getText(), Double.POSITIVE_INFINITY)
+            );
+        } catch (NumberFormatException e) {
+            filteredData.setPredicate(property -> false);
+            setupPagination();
+            return;
+        }
 
-            return true;
-        });
+        BitSet candidates = propertyIndex.query(filter);
+        filteredData.setPredicate(property -> property != null &&
+                (candidates == null || candidates.get(property.getId())));
 
         setupPagination();
     }
 
+    /**
+     * Parses the text of a price filter field.
+     *
+     * @param text     the field text
+     * @param fallback the value to use when the field is empty
+     * @return the parsed price, or the fallback
+     * @throws NumberFormatException if the text is not a valid number
+     */
+    private static double parsePriceFilter(String text, double fallback) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? fallback : Double.parseDouble(trimmed);
+    }
+
     /**
      * Sets up the pagination control for the property table based on the filtered and sorted data.
      */
@@ -280,7 +321,8 @@ public class MainController {
     }
 
     /**
-     * Creates a page for the pagination control.
+     * Creates a page for the pagination control, and starts loading the thumbnails of its photos together before
+     * the cells ask for them one by one.
      *
      * @param pageIndex the index of the page to create
      * @return a VBox containing the table of properties
@@ -288,10 +330,34 @@ public class MainController {
     private VBox createPage(int pageIndex) {
         int fromIndex = pageIndex * ROWS_PER_PAGE;
         int toIndex = Math.min(fromIndex + ROWS_PER_PAGE, sortedData.size());
-        propertyTable.setItems(FXCollections.observableArrayList(sortedData.subList(fromIndex, toIndex)));
+        List<Property> page = sortedData.subList(fromIndex, toIndex);
+        if (thumbnailCache != null) {
+            thumbnailCache.preload(page.stream().map(Property::getCoverMediaId).toList());
+        }
+        propertyTable.setItems(FXCollections.observableArrayList(page));
         return new VBox(propertyTable);
     }
 
+    /**
+     * Keeps the property index in sync with the property list.
+     *
+     * @param change the list change
+     */
+    private void onPropertyListChanged(ListChangeListener.Change<? extends Property> change) {
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                if (change.getRemovedSize() >= propertyIndex.size()) {
+                    propertyIndex.clear();
+                } else {
+                    change.getRemoved().forEach(propertyIndex::remove);
+                }
+            }
+            if (change.wasAdded()) {
+                propertyIndex.addAll(change.getAddedSubList());
+            }
+        }
+    }
+
     /**
      * Loads all properties from the database into the property list.
      */
@@ -299,12 +365,36 @@ public class MainController {
         propertyList.clear();
         try {
             List<Property> properties = db.getAllProperties();
+            applyPendingEdits(properties);
             propertyList.addAll(properties);
         } catch (SQLException e) {
             showAlert(Alert.AlertType.ERROR, "Load Error", e.getMessage());
         }
     }
 
+    /**
+     * Overlays properties loaded from the database with the write-behind edits that have not been written yet.
+     *
+     * @param properties the loaded properties
+     */
+    private void applyPendingEdits(List<Property> properties) {
+        if (writeBehindQueue == null) {
+            return;
+        }
+        Map<Integer, Property> edits = writeBehindQueue.getPendingEdits();
+        for (Property property : properties) {
+            Property edit = edits.get(property.getId());
+            if (edit != null) {
+                property.setOwnerId(edit.getOwnerId());
+                property.setOwner(edit.getOwner());
+                property.setDescription(edit.getDescription());
+                property.setLocation(edit.getLocation());
+                property.setSize(edit.getSize());
+                property.setPrice(edit.getPrice());
+            }
+        }
+    }
+
     /**
      * Loads all users from the database into the user list.
      */
@@ -392,8 +482,158 @@ public class MainController {
             stage.setScene(new Scene(root));
             stage.showAndWait();
 
-            loadProperties();
-            updateFilters();
+            if (!isWriteBehindEnabled()) {
+                loadProperties();
+                updateFilters();
+            }
+
+        } catch (IOException e) {
+            showAlert(Alert.AlertType.ERROR, "Load Error", e.getMessage());
+        }
+    }
+
+    // ------------------- Write-Behind Methods -------------------
+
+    /**
+     * Returns whether property edits are written in the background.
+     *
+     * @return {@code true} if write-behind mode is enabled
+     */
+    public boolean isWriteBehindEnabled() {
+        return writeBehindQueue != null;
+    }
+
+    /**
+     * Queues an edit made to a property of the table for writing in the background, and updates the table
+     * without reloading it from the database.
+     *
+     * @param property the edited property
+     */
+    public void queuePropertyEdit(Property property) {
+        writeBehindQueue.enqueue(property);
+        propertyIndex.update(property);
+
+        int pageIndex = pagination.getCurrentPageIndex();
+        updateFilters();
+        pagination.setCurrentPageIndex(Math.min(pageIndex, pagination.getPageCount() - 1));
+        propertyTable.refresh();
+    }
+
+    /**
+     * Writes all pending write-behind edits, showing an error if they could not be written.
+     *
+     * @return {@code true} if nothing is left to write
+     */
+    public boolean flushPendingEdits() {
+        if (writeBehindQueue == null) {
+            return true;
+        }
+        try {
+            writeBehindQueue.flush();
+            return true;
+        } catch (SQLException e) {
+            showAlert(Alert.AlertType.ERROR, "Save Error",
+                    writeBehindQueue.pendingCount() + " pending changes could not be saved: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes all pending write-behind edits before the application exits. If they could not be written, offers to
+     * discard them and exit anyway.
+     *
+     * @return {@code true} if the application may exit
+     */
+    public boolean confirmExit() {
+        if (writeBehindQueue == null) {
+            return true;
+        }
+        try {
+            writeBehindQueue.flush();
+            return true;
+        } catch (SQLException e) {
+            ButtonType discard = new ButtonType("Discard " + writeBehindQueue.pendingCount() + " pending changes and exit",
+                    ButtonBar.ButtonData.OK_DONE);
+            Alert alert = new Alert(Alert.AlertType.ERROR,
+                    writeBehindQueue.pendingCount() + " pending changes could not be saved: " + e.getMessage(),
+                    discard, ButtonType.CANCEL);
+            alert.initOwner(propertyTable.getScene().getWindow());
+            alert.setTitle("Save Error");
+            alert.setHeaderText(null);
+            if (alert.showAndWait().orElse(ButtonType.CANCEL) != discard) {
+                return false;
+            }
+            writeBehindQueue.discard();
+            return true;
+        }
+    }
+
+    /**
+     * Handles the action of turning write-behind mode on or off. Turning it off writes the pending edits first.
+     *
+     * @param event the action event
+     */
+    @FXML
+    private void handleToggleWriteBehind(ActionEvent event) {
+        if (writeBehindMenuItem.isSelected()) {
+            WriteBehindQueue queue = new WriteBehindQueue(db, WRITE_BEHIND_FLUSH_MILLIS, WRITE_BEHIND_BATCH_SIZE);
+            queue.setPendingCountListener(count -> Platform.runLater(() -> showPendingCount(count)));
+            queue.setFailureListener(e -> Platform.runLater(() -> pendingChangesLabel.setText(
+                    "Saving " + queue.pendingCount() + " pending changes failed, retrying: " + e.getMessage())));
+            queue.setRejectionListener((property, e) -> Platform.runLater(() -> {
+                showAlert(Alert.AlertType.ERROR, "Save Error",
+                        "The change to property " + property.getId() + " was discarded, it cannot be saved: " + e.getMessage());
+                refreshTable();
+            }));
+            writeBehindQueue = queue;
+            showPendingCount(0);
+            return;
+        }
+        try {
+            writeBehindQueue.close();
+            writeBehindQueue = null;
+            pendingChangesLabel.setText("");
+            refreshTable();
+        } catch (SQLException e) {
+            writeBehindMenuItem.setSelected(true);
+            showAlert(Alert.AlertType.ERROR, "Save Error",
+                    writeBehindQueue.pendingCount() + " pending changes could not be saved: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Shows the number of write-behind edits not yet written.
+     *
+     * @param count the number of pending edits
+     */
+    private void showPendingCount(int count) {
+        if (writeBehindQueue == null) {
+            return;
+        }
+        pendingChangesLabel.setText(count == 0 ? "All changes saved" : count + " pending changes");
+    }
+
+    /**
+     * Opens the price history chart of a selected property.
+     *
+     * @param property the property whose price history to show
+     */
+    private void openPriceHistoryWindow(Property property) {
+        try {
+            FXMLLoader loader = new FXMLLoader(Main.class.getResource("priceHistory.fxml"));
+            Parent root = loader.load();
+
+            Stage stage = new Stage();
+            stage.setTitle("Price History");
+            stage.initModality(Modality.WINDOW_MODAL);
+            stage.initOwner(propertyTable.getScene().getWindow());
+            stage.setScene(new Scene(root));
+
+            PriceHistoryController controller = loader.getController();
+            controller.setDatabase(db);
+            controller.setProperty(property);
+
+            stage.showAndWait();
 
         } catch (IOException e) {
             showAlert(Alert.AlertType.ERROR, "Load Error", e.getMessage());
@@ -421,6 +661,9 @@ public class MainController {
         confirm.setContentText("Are you sure you want to delete this property?");
         Optional<ButtonType> result = confirm.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
+            if (!flushPendingEdits()) {
+                return;
+            }
             try {
                 db.deleteProperty(property.getId());
                 loadProperties();
@@ -432,6 +675,264 @@ public class MainController {
         }
     }
 
+    /**
+     * Returns the properties a context menu action applies to: the current selection if it contains the clicked
+     * row, otherwise just the clicked row.
+     *
+     * @param clicked the property the context menu was opened on
+     * @return the properties to act on
+     */
+    private List<Property> getSelectedProperties(Property clicked) {
+        List<Property> selected = new ArrayList<>(propertyTable.getSelectionModel().getSelectedItems());
+        return selected.contains(clicked) ? selected : List.of(clicked);
+    }
+
+    /**
+     * Returns the IDs of the given properties.
+     *
+     * @param properties the properties
+     * @return their IDs, in the same order
+     */
+    private static List<Integer> idsOf(List<Property> properties) {
+        List<Integer> ids = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            ids.add(property.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Deletes several selected properties in one batch.
+     *
+     * @param properties the properties to delete
+     */
+    private void deleteProperties(List<Property> properties) {
+        Alert confirm = new Alert(Alert.AlertType.CONFIRMATION);
+        confirm.setTitle("Delete Confirmation");
+        confirm.setHeaderText(null);
+        confirm.setContentText("Are you sure you want to delete the " + properties.size() + " selected properties?");
+        Optional<ButtonType> result = confirm.showAndWait();
+        if (result.isPresent() && result.get() == ButtonType.OK) {
+            if (!flushPendingEdits()) {
+                return;
+            }
+            try {
+                int deleted = db.deleteProperties(idsOf(properties));
+                loadProperties();
+                updateFilters();
+                showAlert(Alert.AlertType.INFORMATION, "Success", deleted + " properties deleted successfully.");
+            } catch (SQLException e) {
+                showAlert(Alert.AlertType.ERROR, "Delete Error", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Asks for a new owner and assigns it to the selected properties in one batch.
+     *
+     * @param properties the properties to reassign
+     */
+    private void reassignProperties(List<Property> properties) {
+        if (!flushPendingEdits()) {
+            return;
+        }
+        ChoiceDialog<User> dialog = new ChoiceDialog<>(null, userList);
+        dialog.setTitle("Reassign Owner");
+        dialog.setHeaderText(null);
+        dialog.setContentText("New owner for " + properties.size() + " selected properties:");
+        Optional<User> owner = dialog.showAndWait();
+        if (owner.isPresent()) {
+            try {
+                int updated = db.reassignProperties(idsOf(properties), owner.get().getId());
+                loadProperties();
+                updateFilters();
+                showAlert(Alert.AlertType.INFORMATION, "Success", updated + " properties reassigned successfully.");
+            } catch (SQLException e) {
+                showAlert(Alert.AlertType.ERROR, "Update Error", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Asks for a percentage and adjusts the price of the selected properties in one batch.
+     *
+     * @param properties the properties to reprice
+     */
+    private void adjustPrices(List<Property> properties) {
+        if (!flushPendingEdits()) {
+            return;
+        }
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Adjust Price");
+        dialog.setHeaderText(null);
+        dialog.setContentText("Price change in % for " + properties.size() + " selected properties (e.g. 5 or -10):");
+        Optional<String> input = dialog.showAndWait();
+        if (input.isPresent()) {
+            double percent;
+            try {
+                percent = Double.parseDouble(input.get().trim());
+            } catch (NumberFormatException e) {
+                showAlert(Alert.AlertType.ERROR, "Input Error", "The price change must be a valid number.");
+                return;
+            }
+            try {
+                int updated = db.adjustPrices(idsOf(properties), percent);
+                loadProperties();
+                updateFilters();
+                showAlert(Alert.AlertType.INFORMATION, "Success", updated + " prices adjusted successfully.");
+            } catch (SQLException e) {
+                showAlert(Alert.AlertType.ERROR, "Update Error", e.getMessage());
+            }
+        }
+    }
+
+    // ------------------- Duplicate Detection Methods -------------------
+
+    /**
+     * Runs duplicate detection over all listings in the database on a background thread and shows the result.
+     *
+     * @param event the action event
+     */
+    @FXML
+    private void handleFindDuplicates(ActionEvent event) {
+        findDuplicatesMenuItem.setDisable(true);
+        Thread worker = new Thread(() -> {
+            try {
+                List<DuplicateDetector.Candidate> candidates = new DuplicateDetector().findDuplicates(db.getListingTexts());
+                Platform.runLater(() -> showDuplicates(candidates));
+            } catch (SQLException e) {
+                Platform.runLater(() -> showAlert(Alert.AlertType.ERROR, "Load Error", e.getMessage()));
+            } finally {
+                Platform.runLater(() -> findDuplicatesMenuItem.setDisable(false));
+            }
+        }, "duplicate-detector");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Shows the likely duplicate pairs, most similar first, with the description and location of both listings.
+     *
+     * @param candidates the pairs found by the duplicate detector
+     */
+    private void showDuplicates(List<DuplicateDetector.Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            showAlert(Alert.AlertType.INFORMATION, "Duplicate Listings", "No duplicate listings found.");
+            return;
+        }
+        Map<Integer, Property> byId = new HashMap<>();
+        for (Property property : propertyList) {
+            byId.put(property.getId(), property);
+        }
+        int shown = Math.min(candidates.size(), MAX_REPORTED_DUPLICATES);
+        StringBuilder report = new StringBuilder();
+        for (DuplicateDetector.Candidate candidate : candidates.subList(0, shown)) {
+            report.append(String.format("#%d and #%d: %.0f%% similar%n",
+                    candidate.firstId(), candidate.secondId(), candidate.similarity() * 100));
+            for (int id : new int[]{candidate.firstId(), candidate.secondId()}) {
+                Property property = byId.get(id);
+                if (property != null) {
+                    report.append(String.format("    #%d: %s (%s)%n", id, property.getDescription(), property.getLocation()));
+                }
+            }
+        }
+
+        TextArea reportArea = new TextArea(report.toString());
+        reportArea.setEditable(false);
+        reportArea.setWrapText(true);
+
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.initOwner(propertyTable.getScene().getWindow());
+        alert.setTitle("Duplicate Listings");
+        alert.setHeaderText(candidates.size() + " likely duplicate pairs found" +
+                (shown < candidates.size() ? ", showing the " + shown + " most similar" : ""));
+        alert.getDialogPane().setContent(reportArea);
+        alert.setResizable(true);
+        alert.showAndWait();
+    }
+
+    // ------------------- Photo Methods -------------------
+
+    /**
+     * Asks for image files and attaches them to a property. The files are streamed to the database, not read
+     * into memory.
+     *
+     * @param property the property to add photos to
+     */
+    private void addPhotos(Property property) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Add Photos");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Images", "*.jpg", "*.jpeg", "*.png", "*.gif", "*.bmp"));
+        List<File> files = chooser.showOpenMultipleDialog(propertyTable.getScene().getWindow());
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+        try {
+            for (File file : files) {
+                db.addMedia(property.getId(), file.toPath());
+            }
+            refreshTable();
+        } catch (SQLException | IOException e) {
+            showAlert(Alert.AlertType.ERROR, "Upload Error", e.getMessage());
+        }
+    }
+
+    /**
+     * Asks for a target file and saves the cover photo of a property to it.
+     *
+     * @param property the property whose cover photo to save
+     */
+    private void savePhoto(Property property) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Save Photo");
+        File file = chooser.showSaveDialog(propertyTable.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        try {
+            db.downloadMedia(property.getCoverMediaId(), file.toPath());
+        } catch (SQLException | IOException e) {
+            showAlert(Alert.AlertType.ERROR, "Download Error", e.getMessage());
+        }
+    }
+
+    /**
+     * Table cell showing the cover photo thumbnail of a property. Thumbnails missing from memory are loaded in
+     * the background, and only shown if the cell still displays the same photo once loaded.
+     */
+    private class ThumbnailCell extends TableCell<Property, Number> {
+        private final ImageView imageView = new ImageView();
+
+        ThumbnailCell() {
+            imageView.setFitWidth(THUMBNAIL_SIZE);
+            imageView.setFitHeight(THUMBNAIL_SIZE);
+            imageView.setPreserveRatio(true);
+        }
+
+        @Override
+        protected void updateItem(Number mediaId, boolean empty) {
+            super.updateItem(mediaId, empty);
+            if (empty || mediaId == null || mediaId.intValue() == 0 || thumbnailCache == null) {
+                imageView.setImage(null);
+                setGraphic(null);
+                return;
+            }
+            int id = mediaId.intValue();
+            Image cached = thumbnailCache.getIfPresent(id);
+            imageView.setImage(cached);
+            setGraphic(imageView);
+            if (cached == null) {
+                thumbnailCache.load(id).whenComplete((image, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        System.err.println("Failed to load thumbnail " + id + ": " + error.getMessage());
+                    } else if (getItem() != null && getItem().intValue() == id) {
+                        imageView.setImage(image);
+                    }
+                }));
+            }
+        }
+    }
+
     // ------------------- User Management Methods -------------------
 
     /**
@@ -542,6 +1043,9 @@ public class MainController {
      */
     @FXML
     private void handleExit(ActionEvent event) {
+        if (!confirmExit()) {
+            return;
+        }
         Stage stage = (Stage) propertyTable.getScene().getWindow();
         stage.close();
     }
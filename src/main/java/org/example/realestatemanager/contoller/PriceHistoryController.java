@@ -0,0 +1,139 @@
+package org.example.realestatemanager.contoller;
+
+import javafx.fxml.FXML;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.stage.Stage;
+import javafx.util.StringConverter;
+import org.example.realestatemanager.entity.PricePoint;
+import org.example.realestatemanager.entity.Property;
+import org.example.realestatemanager.utils.DatabaseUtil;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Controller class for the price history chart of a property.
+ */
+public class PriceHistoryController {
+
+    /**
+     * Upper bound on the number of points fetched for the chart; about one point per horizontal pixel.
+     */
+    private static final int MAX_POINTS = 400;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneId.systemDefault());
+
+    @FXML
+    private Label titleLabel;
+    @FXML
+    private LineChart<Number, Number> priceChart;
+    @FXML
+    private NumberAxis timeAxis;
+    @FXML
+    private Label summaryLabel;
+
+    private DatabaseUtil db;
+
+    /**
+     * Initializes the controller class. This method is automatically called after the FXML file has been loaded.
+     */
+    @FXML
+    private void initialize() {
+        timeAxis.setTickLabelFormatter(new StringConverter<>() {
+            @Override
+            public String toString(Number epochSeconds) {
+                return DATE_FORMAT.format(Instant.ofEpochSecond(epochSeconds.longValue()));
+            }
+
+            @Override
+            public Number fromString(String text) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Sets the database utility.
+     *
+     * @param db the database utility
+     */
+    public void setDatabase(DatabaseUtil db) {
+        this.db = db;
+    }
+
+    /**
+     * Loads and charts the price history of a property.
+     *
+     * @param property the property whose price history to show
+     */
+    public void setProperty(Property property) {
+        titleLabel.setText("Price history of property " + property.getId() + " (" + property.getLocation() + ")");
+        try {
+            List<PricePoint> history = db.getPriceHistory(property.getId(), MAX_POINTS);
+            if (history.isEmpty()) {
+                history = List.of(new PricePoint(Instant.now(), property.getPrice(), property.getPrice(), property.getPrice(), 1));
+            }
+            showHistory(history);
+        } catch (SQLException e) {
+            showAlert(Alert.AlertType.ERROR, "Load Error", e.getMessage());
+        }
+    }
+
+    /**
+     * Fills the chart with the given points. Downsampled histories also get low and high series showing the
+     * price range within each bucket.
+     *
+     * @param history the price history, oldest first
+     */
+    private void showHistory(List<PricePoint> history) {
+        XYChart.Series<Number, Number> priceSeries = new XYChart.Series<>();
+        priceSeries.setName("Price");
+        XYChart.Series<Number, Number> lowSeries = new XYChart.Series<>();
+        lowSeries.setName("Low");
+        XYChart.Series<Number, Number> highSeries = new XYChart.Series<>();
+        highSeries.setName("High");
+
+        long recorded = 0;
+        boolean downsampled = false;
+        for (PricePoint point : history) {
+            long epochSeconds = point.time().getEpochSecond();
+            priceSeries.getData().add(new XYChart.Data<>(epochSeconds, point.price()));
+            lowSeries.getData().add(new XYChart.Data<>(epochSeconds, point.minPrice()));
+            highSeries.getData().add(new XYChart.Data<>(epochSeconds, point.maxPrice()));
+            recorded += point.samples();
+            downsampled |= point.samples() > 1;
+        }
+
+        if (downsampled) {
+            priceChart.getData().setAll(List.of(priceSeries, lowSeries, highSeries));
+            summaryLabel.setText(recorded + " recorded prices shown as " + history.size() + " averaged points.");
+        } else {
+            priceChart.getData().setAll(List.of(priceSeries));
+            summaryLabel.setText(recorded + " recorded prices.");
+        }
+    }
+
+    /**
+     * Shows an alert dialog.
+     *
+     * @param type    the type of alert
+     * @param title   the title of the alert
+     * @param message the message of the alert
+     */
+    private void showAlert(Alert.AlertType type, String title, String message) {
+        Alert alert = new Alert(type);
+        Stage stage = (Stage) titleLabel.getScene().getWindow();
+        alert.initOwner(stage);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+}
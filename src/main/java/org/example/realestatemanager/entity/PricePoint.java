@@ -0,0 +1,18 @@
+package org.example.realestatemanager.entity;
+
+import java.time.Instant;
+
+/**
+ * Represents one point of a property's price history.
+ * <p>
+ * A point either holds a single recorded price, or summarizes all prices recorded in a time bucket when the
+ * history has been downsampled; {@code minPrice} and {@code maxPrice} then give the range within the bucket.
+ *
+ * @param time     the time of the first price in the point
+ * @param price    the price, or the average price of the bucket
+ * @param minPrice the lowest price in the point
+ * @param maxPrice the highest price in the point
+ * @param samples  the number of recorded prices summarized by the point
+ */
+public record PricePoint(Instant time, double price, double minPrice, double maxPrice, int samples) {
+}
@@ -14,6 +14,7 @@ public class Property {
     private final DoubleProperty price;
 
     private User owner;
+    private int coverMediaId;
 
     /**
      * Default constructor initializing the property with default values.
@@ -41,6 +42,17 @@ public class Property {
         this.price = new SimpleDoubleProperty(price);
     }
 
+    /**
+     * Copy constructor. The copy shares the owner of the original property.
+     *
+     * @param other the property to copy
+     */
+    public Property(Property other) {
+        this(other.getId(), other.getOwnerId(), other.getDescription(), other.getLocation(), other.getSize(), other.getPrice());
+        this.owner = other.getOwner();
+        this.coverMediaId = other.getCoverMediaId();
+    }
+
     public int getId() {
         return id.get();
     }
@@ -120,4 +132,15 @@ public class Property {
     public void setOwner(User owner) {
         this.owner = owner;
     }
+
+    /**
+     * @return the ID of the first photo attached to the property, or {@code 0} if it has none
+     */
+    public int getCoverMediaId() {
+        return coverMediaId;
+    }
+
+    public void setCoverMediaId(int coverMediaId) {
+        this.coverMediaId = coverMediaId;
+    }
 }
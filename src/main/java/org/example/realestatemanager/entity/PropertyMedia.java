@@ -0,0 +1,17 @@
+package org.example.realestatemanager.entity;
+
+import java.time.Instant;
+
+/**
+ * Describes a photo or other file attached to a property. The content itself is not held in memory; it is
+ * streamed from the database when needed.
+ *
+ * @param id          the ID of the media
+ * @param propertyId  the ID of the property the media belongs to
+ * @param fileName    the original file name
+ * @param contentType the MIME type, or {@code null} if unknown
+ * @param sizeBytes   the size of the content in bytes
+ * @param uploadedAt  the time the media was uploaded
+ */
+public record PropertyMedia(int id, int propertyId, String fileName, String contentType, long sizeBytes, Instant uploadedAt) {
+}
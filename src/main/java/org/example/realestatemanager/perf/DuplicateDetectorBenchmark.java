@@ -0,0 +1,127 @@
+package org.example.realestatemanager.perf;
+
+import org.example.realestatemanager.utils.DuplicateDetector;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of {@link DuplicateDetector} on generated listings, a share of which are near-duplicates of another
+ * listing with a few words replaced, inserted or dropped, the way partner feeds rewrite descriptions.
+ * <p>
+ * Reports the run time and how many of the planted duplicate pairs were found. No database is needed. Options are
+ * passed as {@code --name=value}:
+ * <pre>
+ *   --listings=1000000   number of generated listings
+ *   --duplicates=0.01    share of listings that are near-duplicates of an earlier one
+ *   --edits=2            words changed in each near-duplicate
+ *   --threads=0          fork-join parallelism, 0 for the number of processors
+ * </pre>
+ */
+public class DuplicateDetectorBenchmark {
+    private static final String[] LOCATIONS = {"New York", "Los Angeles", "Miami", "Chicago", "Seattle", "Boston",
+            "Austin", "San Francisco", "Denver", "Portland", "Atlanta", "Houston"};
+
+    public static void main(String[] args) {
+        int count = 1_000_000;
+        double duplicateShare = 0.01;
+        int edits = 2;
+        int threads = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--listings=")) {
+                count = Integer.parseInt(arg.substring("--listings=".length()));
+            } else if (arg.startsWith("--duplicates=")) {
+                duplicateShare = Double.parseDouble(arg.substring("--duplicates=".length()));
+            } else if (arg.startsWith("--edits=")) {
+                edits = Integer.parseInt(arg.substring("--edits=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            }
+        }
+
+        Random random = new Random(42);
+        String[] vocabulary = vocabulary(5_000, random);
+        List<DuplicateDetector.Listing> listings = new ArrayList<>(count);
+        List<String[]> words = new ArrayList<>(count);
+        Set<Long> planted = new HashSet<>();
+        for (int id = 0; id < count; id++) {
+            String[] description;
+            if (id > 0 && random.nextDouble() < duplicateShare) {
+                int original = random.nextInt(id);
+                description = edit(words.get(original), edits, vocabulary, random);
+                planted.add(((long) original << 32) | id);
+            } else {
+                description = new String[20 + random.nextInt(20)];
+                for (int i = 0; i < description.length; i++) {
+                    description[i] = vocabulary[random.nextInt(vocabulary.length)];
+                }
+            }
+            words.add(description);
+            listings.add(new DuplicateDetector.Listing(id, String.join(" ", description) + " " +
+                    LOCATIONS[random.nextInt(LOCATIONS.length)]));
+        }
+        // Near-duplicates keep the location of their original
+        for (long pair : planted) {
+            int original = (int) (pair >>> 32);
+            int copy = (int) pair;
+            String originalText = listings.get(original).text();
+            String location = originalText.substring(String.join(" ", words.get(original)).length() + 1);
+            listings.set(copy, new DuplicateDetector.Listing(copy, String.join(" ", words.get(copy)) + " " + location));
+        }
+
+        ForkJoinPool pool = threads > 0 ? new ForkJoinPool(threads) : ForkJoinPool.commonPool();
+        DuplicateDetector detector = new DuplicateDetector();
+        System.out.printf("Generated %d listings with %d planted near-duplicates (%d word edits), parallelism %d%n",
+                count, planted.size(), edits, pool.getParallelism());
+
+        long start = System.nanoTime();
+        List<DuplicateDetector.Candidate> candidates = detector.findDuplicates(listings, pool);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int found = 0;
+        for (DuplicateDetector.Candidate candidate : candidates) {
+            if (planted.contains(((long) candidate.firstId() << 32) | candidate.secondId())) {
+                found++;
+            }
+        }
+        System.out.printf("Found %d pairs in %.1f s (%.0f listings/s)%n", candidates.size(), seconds, count / seconds);
+        System.out.printf("Planted pairs found: %d of %d (%.1f%%)%n", found, planted.size(),
+                planted.isEmpty() ? 100.0 : 100.0 * found / planted.size());
+    }
+
+    private static String[] vocabulary(int size, Random random) {
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            char[] word = new char[3 + random.nextInt(7)];
+            for (int c = 0; c < word.length; c++) {
+                word[c] = (char) ('a' + random.nextInt(26));
+            }
+            words[i] = new String(word);
+        }
+        return words;
+    }
+
+    /**
+     * Copies a description, replacing, inserting or dropping {@code edits} words at random positions.
+     */
+    private static String[] edit(String[] original, int edits, String[] vocabulary, Random random) {
+        List<String> copy = new ArrayList<>(List.of(original));
+        for (int e = 0; e < edits; e++) {
+            int position = random.nextInt(copy.size());
+            switch (random.nextInt(3)) {
+                case 0 -> copy.set(position, vocabulary[random.nextInt(vocabulary.length)]);
+                case 1 -> copy.add(position, vocabulary[random.nextInt(vocabulary.length)]);
+                default -> {
+                    if (copy.size() > 1) {
+                        copy.remove(position);
+                    }
+                }
+            }
+        }
+        return copy.toArray(new String[0]);
+    }
+}
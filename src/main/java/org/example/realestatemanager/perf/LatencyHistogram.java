@@ -0,0 +1,140 @@
+package org.example.realestatemanager.perf;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe latency histogram with log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * Values are recorded in microseconds. Values below 128 get their own bucket; above that, every power-of-two
+ * range is split into 64 equal sub-buckets, so any reported value is within 1.6% of the recorded one while the
+ * whole range up to roughly 38 hours fits in a fixed array of 2048 counters.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_EXPONENT = 30;
+    private static final long MAX_TRACKABLE = (2L * SUB_BUCKETS << MAX_EXPONENT) - 1;
+
+    private static final double[] REPORTED_PERCENTILES = {50.0, 75.0, 90.0, 95.0, 99.0, 99.9, 100.0};
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR_BUCKETS + MAX_EXPONENT * SUB_BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records a single latency sample.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1_000, 0), MAX_TRACKABLE);
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Adds all samples of another histogram to this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * @return the mean latency in milliseconds, or 0 if nothing was recorded
+     */
+    public double getMeanMillis() {
+        long count = totalCount.get();
+        return count == 0 ? 0.0 : totalMicros.get() / (count * 1_000.0);
+    }
+
+    public double getMaxMillis() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * Returns the latency at the given percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the highest latency, in milliseconds, equivalent to the bucket holding that percentile
+     */
+    public double getPercentileMillis(double percentile) {
+        int bucket = percentileBucket(percentile);
+        return bucket < 0 ? 0.0 : Math.min(bucketUpperBound(bucket), maxMicros.get()) / 1_000.0;
+    }
+
+    /**
+     * Prints the percentile distribution of this histogram, one line per reported percentile, with the number of
+     * samples at or below the reported value.
+     *
+     * @param out the stream to print to
+     */
+    public void printDistribution(PrintStream out) {
+        long count = totalCount.get();
+        out.printf("  %10s %12s %12s%n", "Percentile", "Value (ms)", "Count");
+        for (double percentile : REPORTED_PERCENTILES) {
+            int bucket = percentileBucket(percentile);
+            long samples = 0;
+            for (int i = 0; i <= bucket; i++) {
+                samples += counts.get(i);
+            }
+            out.printf("  %9.1f%% %12.3f %12d%n", percentile, getPercentileMillis(percentile), samples);
+        }
+        out.printf("  #[Mean = %.3f ms, Max = %.3f ms, Total count = %d]%n", getMeanMillis(), getMaxMillis(), count);
+    }
+
+    /**
+     * @return the index of the bucket holding the given percentile, or -1 if nothing was recorded
+     */
+    private int percentileBucket(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return counts.length() - 1;
+    }
+
+    private static int bucketIndex(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros) - 6;
+        return LINEAR_BUCKETS + (exponent - 1) * SUB_BUCKETS + (int) ((micros >> exponent) - SUB_BUCKETS);
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int offset = index - LINEAR_BUCKETS;
+        int exponent = offset / SUB_BUCKETS + 1;
+        long subBucket = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << exponent) - 1;
+    }
+}
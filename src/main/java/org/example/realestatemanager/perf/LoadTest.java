@@ -0,0 +1,297 @@
+package org.example.realestatemanager.perf;
+
+import org.example.realestatemanager.entity.Property;
+import org.example.realestatemanager.entity.User;
+import org.example.realestatemanager.utils.DatabaseUtil;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load-test tool that simulates concurrent agents working against the database through {@link DatabaseUtil}.
+ * <p>
+ * Every agent runs on its own thread in a closed loop, picking operations at random according to the configured
+ * mix. Latencies are recorded per operation after the warm-up period and reported as throughput, error rate and a
+ * percentile distribution. Agents only update and delete listings they created themselves, and remove whatever is
+ * left of them when the run ends, so the tool can be pointed at a database holding real data.
+ * <p>
+ * The database is taken from {@code application.properties}. Options are passed as {@code --name=value}:
+ * <pre>
+ *   --agents=8        number of concurrent agents
+ *   --duration=60     measured run time in seconds
+ *   --warmup=10       warm-up time in seconds, not measured
+ *   --seed=20         listings created by each agent before the run starts
+ *   --thinkMs=0       pause between two operations of the same agent
+ *   --mix=list:5,search:55,add:15,update:20,delete:5
+ * </pre>
+ * For example: {@code java -m org.example.realestatemanager/org.example.realestatemanager.perf.LoadTest --agents=32}
+ */
+public class LoadTest {
+
+    /**
+     * The operations an agent can perform.
+     */
+    enum Operation {
+        LIST, SEARCH, ADD, UPDATE, DELETE
+    }
+
+    private static final String DESCRIPTION_TAG = "[loadtest] ";
+    private static final String[] LOCATIONS = {"New York", "Los Angeles", "Miami", "Chicago", "Seattle", "Boston", "Austin"};
+
+    private final int agents;
+    private final long durationNanos;
+    private final long warmupNanos;
+    private final int seedPerAgent;
+    private final long thinkMillis;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+
+    private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final List<Integer> ownerIds = new ArrayList<>();
+
+    private volatile long measureStartNanos;
+    private volatile long measureEndNanos;
+
+    /**
+     * Creates a load test from the given options.
+     *
+     * @param options the parsed command line options
+     */
+    LoadTest(Map<String, String> options) {
+        this.agents = Integer.parseInt(options.getOrDefault("agents", "8"));
+        this.durationNanos = Long.parseLong(options.getOrDefault("duration", "60")) * 1_000_000_000L;
+        this.warmupNanos = Long.parseLong(options.getOrDefault("warmup", "10")) * 1_000_000_000L;
+        this.seedPerAgent = Integer.parseInt(options.getOrDefault("seed", "20"));
+        this.thinkMillis = Long.parseLong(options.getOrDefault("thinkMs", "0"));
+        this.mix = parseMix(options.getOrDefault("mix", "list:5,search:55,add:15,update:20,delete:5"));
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (agents <= 0 || totalWeight <= 0) {
+            throw new IllegalArgumentException("At least one agent and one weighted operation are required.");
+        }
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new LatencyHistogram());
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                System.err.println("Ignoring malformed option: " + arg);
+                continue;
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    /**
+     * Parses an operation mix such as {@code list:5,search:55}.
+     *
+     * @param spec the mix specification
+     * @return the weight of every operation, zero for operations that are not mentioned
+     */
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, 0);
+        }
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + part);
+            }
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    /**
+     * Runs the load test and prints the report to standard output.
+     *
+     * @throws SQLException         if the owners cannot be loaded
+     * @throws InterruptedException if interrupted while waiting for the agents
+     */
+    void run() throws SQLException, InterruptedException {
+        for (User user : new DatabaseUtil().getAllUsers()) {
+            ownerIds.add(user.getId());
+        }
+        if (ownerIds.isEmpty()) {
+            throw new IllegalStateException("The users table is empty; at least one owner is required.");
+        }
+
+        System.out.printf("Starting %d agents: warm-up %ds, duration %ds, mix %s%n",
+                agents, warmupNanos / 1_000_000_000L, durationNanos / 1_000_000_000L, mix);
+
+        CountDownLatch ready = new CountDownLatch(agents);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < agents; i++) {
+            Thread thread = new Thread(() -> runAgent(ready, start), "loadtest-agent-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+
+        ready.await();
+        measureStartNanos = System.nanoTime() + warmupNanos;
+        measureEndNanos = measureStartNanos + durationNanos;
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        printReport();
+    }
+
+    /**
+     * Body of a single agent: seeds its own listings, runs operations until the end of the test, then cleans up.
+     */
+    private void runAgent(CountDownLatch ready, CountDownLatch start) {
+        DatabaseUtil db = new DatabaseUtil();
+        List<Integer> ownListings = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            for (int i = 0; i < seedPerAgent; i++) {
+                ownListings.add(insertListing(db, random));
+            }
+        } catch (SQLException e) {
+            System.err.println(Thread.currentThread().getName() + " failed to seed listings: " + e.getMessage());
+        } finally {
+            ready.countDown();
+        }
+
+        try {
+            start.await();
+            while (System.nanoTime() < measureEndNanos) {
+                Operation operation = pickOperation(random);
+                long begin = System.nanoTime();
+                boolean failed = false;
+                try {
+                    perform(operation, db, ownListings, random);
+                } catch (SQLException | RuntimeException e) {
+                    failed = true;
+                }
+                long end = System.nanoTime();
+                if (begin >= measureStartNanos && end <= measureEndNanos) {
+                    histograms.get(operation).recordNanos(end - begin);
+                    if (failed) {
+                        errors.get(operation).incrementAndGet();
+                    }
+                }
+                if (thinkMillis > 0) {
+                    Thread.sleep(thinkMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (int id : ownListings) {
+                try {
+                    db.deleteProperty(id);
+                } catch (SQLException e) {
+                    System.err.println("Failed to remove load-test listing " + id + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Operation pickOperation(ThreadLocalRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Operation mix is empty");
+    }
+
+    /**
+     * Performs one operation. Updates and deletes fall back to inserting a listing first when the agent has
+     * none left, so that the mix stays stable over long runs.
+     */
+    private void perform(Operation operation, DatabaseUtil db, List<Integer> ownListings, ThreadLocalRandom random)
+            throws SQLException {
+        switch (operation) {
+            case LIST -> db.getAllProperties();
+            case SEARCH -> {
+                double minPrice = random.nextInt(20) * 50_000.0;
+                db.searchProperties(LOCATIONS[random.nextInt(LOCATIONS.length)], minPrice, minPrice + 250_000.0);
+            }
+            case ADD -> ownListings.add(insertListing(db, random));
+            case UPDATE -> {
+                if (ownListings.isEmpty()) {
+                    ownListings.add(insertListing(db, random));
+                }
+                Property property = randomListing(random, ownListings.get(random.nextInt(ownListings.size())));
+                db.updateProperty(property);
+            }
+            case DELETE -> {
+                if (ownListings.isEmpty()) {
+                    ownListings.add(insertListing(db, random));
+                }
+                db.deleteProperty(ownListings.remove(random.nextInt(ownListings.size())));
+            }
+        }
+    }
+
+    private int insertListing(DatabaseUtil db, ThreadLocalRandom random) throws SQLException {
+        Property property = randomListing(random, 0);
+        db.addProperty(property);
+        return property.getId();
+    }
+
+    private Property randomListing(ThreadLocalRandom random, int id) {
+        String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+        return new Property(
+                id,
+                ownerIds.get(random.nextInt(ownerIds.size())),
+                DESCRIPTION_TAG + random.nextInt(1, 6) + "-bedroom listing in " + location,
+                location,
+                random.nextInt(400, 4_000),
+                random.nextInt(100, 2_000) * 1_000.0
+        );
+    }
+
+    private void printReport() {
+        double seconds = durationNanos / 1_000_000_000.0;
+        LatencyHistogram overall = new LatencyHistogram();
+        long overallErrors = 0;
+
+        System.out.println();
+        System.out.printf("%-8s %10s %10s %8s %8s %10s %10s %10s %10s%n",
+                "Op", "Count", "Ops/s", "Errors", "Err %", "p50 ms", "p95 ms", "p99 ms", "Max ms");
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = histograms.get(operation);
+            long errorCount = errors.get(operation).get();
+            overall.add(histogram);
+            overallErrors += errorCount;
+            printRow(operation.name(), histogram, errorCount, seconds);
+        }
+        printRow("TOTAL", overall, overallErrors, seconds);
+
+        System.out.println();
+        System.out.println("Latency distribution (all operations):");
+        overall.printDistribution(System.out);
+
+        System.out.println();
+        System.out.println("Query cache: " + DatabaseUtil.getQueryCacheStats());
+    }
+
+    private static void printRow(String name, LatencyHistogram histogram, long errorCount, double seconds) {
+        long count = histogram.getCount();
+        System.out.printf("%-8s %10d %10.1f %8d %7.2f%% %10.3f %10.3f %10.3f %10.3f%n",
+                name, count, count / seconds, errorCount, count == 0 ? 0.0 : 100.0 * errorCount / count,
+                histogram.getPercentileMillis(50), histogram.getPercentileMillis(95),
+                histogram.getPercentileMillis(99), histogram.getMaxMillis());
+    }
+}
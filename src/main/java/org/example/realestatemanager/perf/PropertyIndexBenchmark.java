@@ -0,0 +1,143 @@
+package org.example.realestatemanager.perf;
+
+import org.example.realestatemanager.entity.Property;
+import org.example.realestatemanager.entity.User;
+import org.example.realestatemanager.utils.PropertyFilter;
+import org.example.realestatemanager.utils.PropertyIndex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark comparing {@link PropertyIndex} lookups with the linear scan the property table used to run through
+ * its {@code FilteredList} predicate.
+ * <p>
+ * Both sides are measured the way the table uses them: every query evaluates the predicate once per loaded
+ * property, either by calling {@link PropertyFilter#matches(Property)} or by looking the ID up in the index result.
+ * No database is needed; the properties are generated. Options are passed as {@code --name=value}:
+ * <pre>
+ *   --properties=200000   number of generated properties
+ *   --iterations=50       measured runs of every query
+ * </pre>
+ */
+public class PropertyIndexBenchmark {
+    private static final String[] LOCATIONS = {"New York", "Los Angeles", "Miami", "Chicago", "Seattle", "Boston",
+            "Austin", "San Francisco", "Denver", "Portland", "Atlanta", "Houston"};
+    private static final String[] FEATURES = {"garden", "pool", "garage", "balcony", "fireplace", "sea view",
+            "renovated kitchen", "rooftop terrace", "home office", "walk-in closet"};
+
+    public static void main(String[] args) {
+        int count = 200_000;
+        int iterations = 50;
+        for (String arg : args) {
+            if (arg.startsWith("--properties=")) {
+                count = Integer.parseInt(arg.substring("--properties=".length()));
+            } else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(arg.substring("--iterations=".length()));
+            }
+        }
+
+        List<Property> properties = generate(count, new Random(42));
+
+        long buildStart = System.nanoTime();
+        PropertyIndex index = new PropertyIndex();
+        index.addAll(properties);
+        System.out.printf("Indexed %d properties in %.1f ms%n%n", count, (System.nanoTime() - buildStart) / 1e6);
+
+        PropertyFilter[] filters = {
+                new PropertyFilter("", "", "", 400_000, 450_000),
+                new PropertyFilter("", "owner 17", "", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY),
+                new PropertyFilter("", "", "san fran", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY),
+                new PropertyFilter("", "", "miami", 1_000_000, Double.POSITIVE_INFINITY),
+                new PropertyFilter("pool", "", "boston", 200_000, 900_000),
+                new PropertyFilter("sea view", "", "", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY),
+                new PropertyFilter("250", "", "", Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY),
+        };
+
+        System.out.printf("%-60s %10s %12s %12s %9s%n", "Filter", "Matches", "Scan ms", "Index ms", "Speed-up");
+        for (PropertyFilter filter : filters) {
+            long scanMatches = 0;
+            long indexMatches = 0;
+            for (int i = 0; i < Math.max(1, iterations / 5); i++) {
+                scanMatches = scan(properties, filter);
+                indexMatches = indexed(properties, index, filter);
+            }
+            if (scanMatches != indexMatches) {
+                throw new IllegalStateException("Index returned " + indexMatches + " rows, scan " + scanMatches + " for " + filter);
+            }
+
+            long scanNanos = 0;
+            long indexNanos = 0;
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                scan(properties, filter);
+                scanNanos += System.nanoTime() - start;
+                start = System.nanoTime();
+                indexed(properties, index, filter);
+                indexNanos += System.nanoTime() - start;
+            }
+            double scanMillis = scanNanos / 1e6 / iterations;
+            double indexMillis = indexNanos / 1e6 / iterations;
+            System.out.printf("%-60s %10d %12.3f %12.3f %8.1fx%n",
+                    describe(filter), scanMatches, scanMillis, indexMillis, scanMillis / indexMillis);
+        }
+
+        Random random = new Random(7);
+        long updateStart = System.nanoTime();
+        int updates = 10_000;
+        for (int i = 0; i < updates; i++) {
+            Property property = properties.get(random.nextInt(properties.size()));
+            property.setPrice(100_000 + random.nextInt(1_900) * 1_000.0);
+            index.update(property);
+        }
+        System.out.printf("%nIncremental price update: %.2f us per property%n", (System.nanoTime() - updateStart) / 1e3 / updates);
+    }
+
+    private static long scan(List<Property> properties, PropertyFilter filter) {
+        long matches = 0;
+        for (Property property : properties) {
+            if (filter.matches(property)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static long indexed(List<Property> properties, PropertyIndex index, PropertyFilter filter) {
+        BitSet candidates = index.query(filter);
+        long matches = 0;
+        for (Property property : properties) {
+            if (candidates == null || candidates.get(property.getId())) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static List<Property> generate(int count, Random random) {
+        List<User> owners = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            owners.add(new User(i, "Owner " + i, "owner" + i + "@example.com"));
+        }
+        List<Property> properties = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            User owner = owners.get(random.nextInt(owners.size()));
+            String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            String description = (1 + random.nextInt(5)) + "-bedroom home with " + FEATURES[random.nextInt(FEATURES.length)] +
+                    " and " + FEATURES[random.nextInt(FEATURES.length)];
+            Property property = new Property(id, owner.getId(), description, location,
+                    300 + random.nextInt(4_000), 100_000 + random.nextInt(1_900) * 1_000.0);
+            property.setOwner(owner);
+            properties.add(property);
+        }
+        return properties;
+    }
+
+    private static String describe(PropertyFilter filter) {
+        String text = String.format("general='%s' owner='%s' location='%s' price=[%.0f, %.0f]",
+                filter.generalText(), filter.ownerName(), filter.location(), filter.minPrice(), filter.maxPrice());
+        return text.length() > 60 ? text.substring(0, 57) + "..." : text;
+    }
+}
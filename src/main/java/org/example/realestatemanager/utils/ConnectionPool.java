@@ -0,0 +1,204 @@
+package org.example.realestatemanager.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps idle JDBC connections for reuse, so that database operations do not each pay for a new handshake.
+ * <p>
+ * Connections are opened on demand, up to {@code maxSize} of them; once that many are open, borrowers wait for one
+ * to be returned, for at most {@link #BORROW_TIMEOUT_NANOS}. Borrowed connections are proxies whose {@code close()}
+ * returns the physical connection to the pool, after rolling back an unfinished transaction. Connections idle for
+ * longer than {@link #VALIDATE_AFTER_NANOS} are checked before reuse.
+ */
+public class ConnectionPool {
+    private static final long VALIDATE_AFTER_NANOS = 30_000_000_000L;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long BORROW_TIMEOUT_NANOS = 30_000_000_000L;
+
+    private record IdleConnection(Connection connection, long idleSinceNanos) {
+    }
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+
+    // Guarded by this
+    private final ArrayDeque<IdleConnection> idle = new ArrayDeque<>();
+    private int openCount;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param url      the JDBC URL of the connections
+     * @param user     the database user
+     * @param password the password of the user
+     * @param maxSize  the maximum number of connections open at once, borrowed or idle
+     */
+    public ConnectionPool(String url, String user, String password, int maxSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Borrows an idle connection, or opens a new one if none is available and fewer than {@code maxSize} are open,
+     * or else waits for one to be returned. The most recently returned connection is reused first.
+     *
+     * @return a connection to close when done with it
+     * @throws SQLException if a new connection cannot be opened, or none became available in time
+     */
+    public Connection getConnection() throws SQLException {
+        long deadline = System.nanoTime() + BORROW_TIMEOUT_NANOS;
+        while (true) {
+            IdleConnection candidate;
+            synchronized (this) {
+                while ((candidate = idle.pollFirst()) == null && openCount >= maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new SQLTransientConnectionException("No database connection became available, all "
+                                + maxSize + " are in use");
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+                    }
+                }
+                if (candidate == null) {
+                    openCount++;
+                }
+            }
+            if (candidate == null) {
+                try {
+                    return wrap(DriverManager.getConnection(url, user, password));
+                } catch (SQLException | RuntimeException e) {
+                    discarded();
+                    throw e;
+                }
+            }
+            Connection physical = candidate.connection();
+            if (System.nanoTime() - candidate.idleSinceNanos() < VALIDATE_AFTER_NANOS
+                    || physical.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return wrap(physical);
+            }
+            closeQuietly(physical);
+        }
+    }
+
+    /**
+     * @return the number of idle connections
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * @return the number of open connections, borrowed or idle
+     */
+    public synchronized int getOpenCount() {
+        return openCount;
+    }
+
+    private void release(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                discarded();
+                return;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            closeQuietly(physical);
+            return;
+        }
+        synchronized (this) {
+            idle.offerFirst(new IdleConnection(physical, System.nanoTime()));
+            notifyAll();
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // The connection is discarded anyway
+        } finally {
+            discarded();
+        }
+    }
+
+    /**
+     * Accounts for a physical connection that was closed or could not be opened, letting a waiting borrower open
+     * another.
+     */
+    private synchronized void discarded() {
+        openCount--;
+        notifyAll();
+    }
+
+    private Connection wrap(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(physical));
+    }
+
+    /**
+     * Forwards calls to the physical connection until the borrower closes it.
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        private boolean closed;
+
+        PooledConnectionHandler(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        release(physical);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Pooled " + physical;
+                }
+                default -> {
+                    if (closed) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -85,17 +85,43 @@ public class DatabaseInitializer {
                 "FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE CASCADE" +
                 ");";
 
+        String createPriceHistoryTableSQL = "CREATE TABLE IF NOT EXISTS price_history (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "property_id INT NOT NULL, " +
+                "price DOUBLE NOT NULL, " +
+                "recorded_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3), " +
+                "INDEX idx_price_history_property_time (property_id, recorded_at), " +
+                "FOREIGN KEY (property_id) REFERENCES properties(id) ON DELETE CASCADE" +
+                ");";
+
+        String createPropertyMediaTableSQL = "CREATE TABLE IF NOT EXISTS property_media (" +
+                "id INT AUTO_INCREMENT PRIMARY KEY, " +
+                "property_id INT NOT NULL, " +
+                "file_name VARCHAR(255) NOT NULL, " +
+                "content_type VARCHAR(100), " +
+                "size_bytes BIGINT NOT NULL, " +
+                "data LONGBLOB NOT NULL, " +
+                "uploaded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+                "INDEX idx_property_media_property (property_id, id), " +
+                "FOREIGN KEY (property_id) REFERENCES properties(id) ON DELETE CASCADE" +
+                ");";
+
         try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
              Statement stmt = conn.createStatement()) {
             stmt.executeUpdate(createUsersTableSQL);
             System.out.println("Table checked/created: users");
             stmt.executeUpdate(createPropertiesTableSQL);
             System.out.println("Table checked/created: properties");
+            stmt.executeUpdate(createPriceHistoryTableSQL);
+            System.out.println("Table checked/created: price_history");
+            stmt.executeUpdate(createPropertyMediaTableSQL);
+            System.out.println("Table checked/created: property_media");
         }
     }
 
     /**
-     * Seeds initial data into the database if the tables are empty.
+     * Seeds initial data into the database if the tables are empty, and starts the price history of
+     * properties that do not have one yet.
      *
      * @throws SQLException if a database access error occurs
      */
@@ -112,6 +138,10 @@ public class DatabaseInitializer {
                 "(2, 'Spacious two-bedroom condo', 'Los Angeles', 900, 620000), " +
                 "(3, 'Beautiful villa with garden', 'Miami', 2500, 1250000);";
 
+        String backfillPriceHistorySQL = "INSERT INTO price_history (property_id, price) " +
+                "SELECT p.id, p.price FROM properties p " +
+                "WHERE p.price IS NOT NULL AND NOT EXISTS (SELECT 1 FROM price_history h WHERE h.property_id = p.id)";
+
         try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
              Statement stmt = conn.createStatement()) {
 
@@ -138,6 +168,12 @@ public class DatabaseInitializer {
             } else {
                 System.out.println("Properties table already contains data; skipping seeding.");
             }
+
+            // Give properties without a price history their current price as the first point
+            int backfilled = stmt.executeUpdate(backfillPriceHistorySQL);
+            if (backfilled > 0) {
+                System.out.println("Price history started for " + backfilled + " properties.");
+            }
         }
     }
 }
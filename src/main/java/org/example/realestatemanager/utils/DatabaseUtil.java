@@ -1,19 +1,39 @@
 package org.example.realestatemanager.utils;
 
 import org.example.realestatemanager.Main;
+import org.example.realestatemanager.entity.PricePoint;
 import org.example.realestatemanager.entity.Property;
+import org.example.realestatemanager.entity.PropertyMedia;
 import org.example.realestatemanager.entity.User;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.*;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
 /**
  * Utility class for database operations related to properties and users.
+ * <p>
+ * When replicas are configured with {@code db.replicas}, the connector's replication support is used: reads run on
+ * a read-only connection served by one of the replicas, writes on the primary. Each instance is a session with
+ * read-your-writes stickiness: for {@code db.readYourWritesSeconds} after one of its writes, its reads also go to
+ * the primary, so a lagging replica cannot hide what the session has just written.
+ * <p>
+ * Connections are reused through a {@link ConnectionPool} shared by all instances, which opens at most
+ * {@code db.poolSize} connections and keeps them, so that each operation does not pay for new handshakes, two of
+ * them with replication.
  */
 public class DatabaseUtil {
     private static String URL;
@@ -21,6 +41,34 @@ public class DatabaseUtil {
     private static String USER;
     private static String PASSWORD;
     private static String FULL_DB_URL;
+    private static int cacheMaxEntries = 500;
+    private static long cacheTtlMillis = 30_000L;
+    private static boolean replicationEnabled;
+    private static long readYourWritesNanos = 5_000_000_000L;
+    private static int poolSize = 10;
+
+    private static final ConnectionPool POOL;
+
+    /**
+     * Time of the last write of any session, from {@link System#nanoTime()}; {@code null} before the first write.
+     */
+    private static volatile Long lastWriteNanosAnySession;
+
+    private static final QueryResultCache<PropertyQuery, List<Property>> QUERY_CACHE;
+
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    private static final String INSERT_PRICE_HISTORY_SQL = "INSERT INTO price_history (property_id, price) VALUES (?, ?)";
+
+    private static final String CONNECTION_PARAMS = "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC&rewriteBatchedStatements=true";
+
+    private static final String REPLICATION_PARAMS = "&allowReplicaDownConnections=true&readFromSourceWhenNoReplicas=true";
+
+    private static final int MEDIA_CHUNK_SIZE = 256 * 1024;
+
+    private static final String PROPERTY_SELECT = "SELECT p.id, p.owner_id, u.name AS owner_name, u.email AS owner_email, p.description, p.location, p.size, p.price, " +
+            "(SELECT MIN(m.id) FROM property_media m WHERE m.property_id = p.id) AS cover_media_id " +
+            "FROM properties p JOIN users u ON p.owner_id = u.id";
 
     static {
         try (InputStream input = Objects.requireNonNull(Main.class.getResource("application.properties")).openStream()) {
@@ -33,10 +81,87 @@ public class DatabaseUtil {
             DATABASE_NAME = prop.getProperty("db.name");
             USER = prop.getProperty("db.user");
             PASSWORD = prop.getProperty("db.password");
-            FULL_DB_URL = URL + DATABASE_NAME + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC";
+            String replicas = prop.getProperty("db.replicas", "").trim();
+            replicationEnabled = !replicas.isEmpty();
+            if (replicationEnabled) {
+                // jdbc:mysql://primary:3306/ becomes jdbc:mysql:replication://primary:3306,replica1:3306,.../
+                String primary = URL.substring("jdbc:mysql://".length()).replaceAll("/+$", "");
+                FULL_DB_URL = "jdbc:mysql:replication://" + primary + "," + replicas + "/" + DATABASE_NAME + CONNECTION_PARAMS + REPLICATION_PARAMS;
+            } else {
+                FULL_DB_URL = URL + DATABASE_NAME + CONNECTION_PARAMS;
+            }
+            readYourWritesNanos = Long.parseLong(prop.getProperty("db.readYourWritesSeconds", "5")) * 1_000_000_000L;
+            cacheMaxEntries = Integer.parseInt(prop.getProperty("cache.maxEntries", "500"));
+            cacheTtlMillis = Long.parseLong(prop.getProperty("cache.ttlSeconds", "30")) * 1000L;
+            poolSize = Integer.parseInt(prop.getProperty("db.poolSize", "10"));
         } catch (IOException ex) {
             ex.printStackTrace();
         }
+        QUERY_CACHE = new QueryResultCache<>(cacheMaxEntries, cacheTtlMillis);
+        POOL = new ConnectionPool(FULL_DB_URL, USER, PASSWORD, poolSize);
+    }
+
+    /**
+     * Time of the last write of this session, from {@link System#nanoTime()}; {@code null} before the first write.
+     */
+    private volatile Long lastWriteNanos;
+
+    /**
+     * Borrows a connection for reads. With replication, it is switched to read-only so the connector serves it from
+     * a replica, unless this session wrote recently.
+     *
+     * @return a pooled connection, returned to the pool when closed
+     * @throws SQLException if a database access error occurs
+     */
+    private Connection getReadConnection() throws SQLException {
+        return borrowConnection(replicationEnabled && !isReadingFromPrimary());
+    }
+
+    /**
+     * Borrows a connection for writes, always served by the primary.
+     *
+     * @return a pooled connection, returned to the pool when closed
+     * @throws SQLException if a database access error occurs
+     */
+    private Connection getWriteConnection() throws SQLException {
+        return borrowConnection(false);
+    }
+
+    /**
+     * Borrows a connection from the pool and sets its read-only state, which a pooled replication connection may
+     * keep from its previous use.
+     */
+    private static Connection borrowConnection(boolean readOnly) throws SQLException {
+        Connection conn = POOL.getConnection();
+        if (replicationEnabled && conn.isReadOnly() != readOnly) {
+            try {
+                conn.setReadOnly(readOnly);
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Starts the read-your-writes window of this session. Called after every successful write.
+     */
+    private void recordWrite() {
+        long now = System.nanoTime();
+        lastWriteNanos = now;
+        lastWriteNanosAnySession = now;
+    }
+
+    /**
+     * Returns whether reads of this session currently go to the primary, either because no replicas are
+     * configured or because the session wrote within the read-your-writes window.
+     *
+     * @return whether reads are served by the primary
+     */
+    public boolean isReadingFromPrimary() {
+        Long last = lastWriteNanos;
+        return !replicationEnabled || (last != null && System.nanoTime() - last < readYourWritesNanos);
     }
 
     /**
@@ -46,72 +171,236 @@ public class DatabaseUtil {
      * @throws SQLException if a database access error occurs
      */
     public List<Property> getAllProperties() throws SQLException {
+        return findProperties(PropertyQuery.ALL);
+    }
+
+    /**
+     * Searches properties by location and price band, including owner details.
+     *
+     * @param location the location substring to match, or an empty string to match any location
+     * @param minPrice the minimum price (inclusive)
+     * @param maxPrice the maximum price (inclusive)
+     * @return a list of matching properties
+     * @throws SQLException if a database access error occurs
+     */
+    public List<Property> searchProperties(String location, double minPrice, double maxPrice) throws SQLException {
+        return findProperties(PropertyQuery.byLocationAndPrice(location, minPrice, maxPrice));
+    }
+
+    /**
+     * Fetches one page of the properties matching a query, including owner details.
+     * <p>
+     * Results are served from the query cache when an identical query ran recently and no property or user
+     * has been written since, except while this session's reads are pinned to the primary after a write. Results
+     * read from a replica within the read-your-writes window of any write may lack that write, so they expire when
+     * the window ends. The returned properties are copies and may be modified freely.
+     *
+     * @param query the filter, sort order and page to fetch
+     * @return a list of matching properties
+     * @throws SQLException if a database access error occurs
+     */
+    public List<Property> findProperties(PropertyQuery query) throws SQLException {
+        // Within the read-your-writes window, skip entries that another session may have filled from a lagging replica
+        List<Property> cached = replicationEnabled && isReadingFromPrimary() ? null : QUERY_CACHE.get(query);
+        if (cached == null) {
+            long generation = QUERY_CACHE.generation();
+            Long lastWrite = lastWriteNanosAnySession;
+            boolean replicaMayLag = replicationEnabled && !isReadingFromPrimary() && lastWrite != null
+                    && System.nanoTime() - lastWrite < readYourWritesNanos;
+            cached = List.copyOf(queryProperties(query));
+            QUERY_CACHE.put(query, cached, generation, replicaMayLag ? lastWrite + readYourWritesNanos : Long.MAX_VALUE);
+        }
+        List<Property> list = new ArrayList<>(cached.size());
+        for (Property property : cached) {
+            list.add(new Property(property));
+        }
+        return list;
+    }
+
+    /**
+     * Returns the hit-rate and eviction counters of the property query cache.
+     *
+     * @return a snapshot of the cache statistics
+     */
+    public static QueryResultCache.Stats getQueryCacheStats() {
+        return QUERY_CACHE.getStats();
+    }
+
+    /**
+     * Runs a property query against the database, bypassing the cache.
+     *
+     * @param query the filter, sort order and page to fetch
+     * @return a list of matching properties
+     * @throws SQLException if a database access error occurs
+     */
+    private List<Property> queryProperties(PropertyQuery query) throws SQLException {
         List<Property> list = new ArrayList<>();
-        String query = "SELECT p.id, p.owner_id, u.name AS owner_name, u.email AS owner_email, p.description, p.location, p.size, p.price " +
-                "FROM properties p JOIN users u ON p.owner_id = u.id";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
-            while (rs.next()) {
-                Property property = new Property(
-                        rs.getInt("id"),
-                        rs.getInt("owner_id"),
-                        rs.getString("description"),
-                        rs.getString("location"),
-                        rs.getDouble("size"),
-                        rs.getDouble("price")
-                );
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (query.minPrice() > 0.0) {
+            conditions.add("p.price >= ?");
+            params.add(query.minPrice());
+        }
+        if (query.maxPrice() < Double.MAX_VALUE) {
+            conditions.add("p.price <= ?");
+            params.add(query.maxPrice());
+        }
+        if (!query.location().isEmpty()) {
+            conditions.add("p.location LIKE ?");
+            params.add("%" + query.location() + "%");
+        }
+        if (!query.ownerName().isEmpty()) {
+            conditions.add("u.name LIKE ?");
+            params.add("%" + query.ownerName() + "%");
+        }
 
-                User owner = new User(
-                        rs.getInt("owner_id"),
-                        rs.getString("owner_name"),
-                        rs.getString("owner_email")
-                );
+        StringBuilder sql = new StringBuilder(PROPERTY_SELECT);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY ").append(query.sortField().getColumn()).append(query.ascending() ? " ASC" : " DESC");
+        if (query.sortField() != PropertyQuery.SortField.ID) {
+            sql.append(", p.id");
+        }
+        if (query.pageSize() > 0) {
+            sql.append(" LIMIT ? OFFSET ?");
+            params.add(query.pageSize());
+            params.add((long) query.pageIndex() * query.pageSize());
+        }
 
-                property.setOwner(owner);
-                list.add(property);
+        try (Connection conn = getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    list.add(mapProperty(rs));
+                }
             }
         }
         return list;
     }
 
     /**
-     * Adds a new property to the database.
+     * Maps the current row of a property query to a property with its owner.
+     *
+     * @param rs the result set positioned on a row of {@link #PROPERTY_SELECT}
+     * @return the mapped property
+     * @throws SQLException if a database access error occurs
+     */
+    private static Property mapProperty(ResultSet rs) throws SQLException {
+        Property property = new Property(
+                rs.getInt("id"),
+                rs.getInt("owner_id"),
+                rs.getString("description"),
+                rs.getString("location"),
+                rs.getDouble("size"),
+                rs.getDouble("price")
+        );
+
+        User owner = new User(
+                rs.getInt("owner_id"),
+                rs.getString("owner_name"),
+                rs.getString("owner_email")
+        );
+
+        property.setOwner(owner);
+        property.setCoverMediaId(rs.getInt("cover_media_id"));
+        return property;
+    }
+
+    /**
+     * Adds a new property to the database, sets its generated ID and records its initial price.
      *
      * @param property the property to add
      * @throws SQLException if a database access error occurs
      */
     public void addProperty(Property property) throws SQLException {
         String query = "INSERT INTO properties (owner_id, description, location, size, price) VALUES (?, ?, ?, ?, ?)";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
-             PreparedStatement pstmt = conn.prepareStatement(query)) {
-            pstmt.setInt(1, property.getOwnerId());
-            pstmt.setString(2, property.getDescription());
-            pstmt.setString(3, property.getLocation());
-            pstmt.setDouble(4, property.getSize());
-            pstmt.setDouble(5, property.getPrice());
-            pstmt.executeUpdate();
+        try (Connection conn = getWriteConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
+                 PreparedStatement history = conn.prepareStatement(INSERT_PRICE_HISTORY_SQL)) {
+                pstmt.setInt(1, property.getOwnerId());
+                pstmt.setString(2, property.getDescription());
+                pstmt.setString(3, property.getLocation());
+                pstmt.setDouble(4, property.getSize());
+                pstmt.setDouble(5, property.getPrice());
+                pstmt.executeUpdate();
+
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        property.setId(generatedKeys.getInt(1));
+                    }
+                }
+
+                history.setInt(1, property.getId());
+                history.setDouble(2, property.getPrice());
+                history.executeUpdate();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         }
+        QUERY_CACHE.invalidateAll();
+        recordWrite();
     }
 
     /**
-     * Updates an existing property in the database.
+     * Updates an existing property in the database. If the price changes, the new price is appended to the
+     * property's price history in the same transaction.
      *
      * @param property the property to update
      * @throws SQLException if a database access error occurs
      */
     public void updateProperty(Property property) throws SQLException {
+        updateProperties(List.of(property));
+    }
+
+    /**
+     * Updates several properties in one transaction, sending the updates as JDBC batches. Price changes are
+     * appended to the price history as in {@link #updateProperty(Property)}.
+     *
+     * @param properties the properties to update, at most once each
+     * @throws SQLException if a database access error occurs; no property is updated in that case
+     */
+    public void updateProperties(List<Property> properties) throws SQLException {
+        if (properties.isEmpty()) {
+            return;
+        }
         String query = "UPDATE properties SET owner_id=?, description=?, location=?, size=?, price=? WHERE id=?";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
-             PreparedStatement pstmt = conn.prepareStatement(query)) {
-            pstmt.setInt(1, property.getOwnerId());
-            pstmt.setString(2, property.getDescription());
-            pstmt.setString(3, property.getLocation());
-            pstmt.setDouble(4, property.getSize());
-            pstmt.setDouble(5, property.getPrice());
-            pstmt.setInt(6, property.getId());
-            pstmt.executeUpdate();
+        String historyQuery = "INSERT INTO price_history (property_id, price) " +
+                "SELECT id, ? FROM properties WHERE id=? AND NOT (price <=> ?)";
+        try (Connection conn = getWriteConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement history = conn.prepareStatement(historyQuery);
+                 PreparedStatement pstmt = conn.prepareStatement(query)) {
+                for (Property property : properties) {
+                    history.setDouble(1, property.getPrice());
+                    history.setInt(2, property.getId());
+                    history.setDouble(3, property.getPrice());
+                    history.addBatch();
+
+                    pstmt.setInt(1, property.getOwnerId());
+                    pstmt.setString(2, property.getDescription());
+                    pstmt.setString(3, property.getLocation());
+                    pstmt.setDouble(4, property.getSize());
+                    pstmt.setDouble(5, property.getPrice());
+                    pstmt.setInt(6, property.getId());
+                    pstmt.addBatch();
+                }
+                history.executeBatch();
+                pstmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
         }
+        QUERY_CACHE.invalidateAll();
+        recordWrite();
     }
 
     /**
@@ -122,10 +411,416 @@ public class DatabaseUtil {
      */
     public void deleteProperty(int id) throws SQLException {
         String query = "DELETE FROM properties WHERE id=?";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
+        try (Connection conn = getWriteConnection();
              PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, id);
             pstmt.executeUpdate();
+            QUERY_CACHE.invalidateAll();
+            recordWrite();
+        }
+    }
+
+    /**
+     * Fetches the price history of a property, downsampled on the server to at most about {@code maxPoints} points.
+     * <p>
+     * Short histories are returned as recorded. Longer ones are split into equal time buckets and each bucket is
+     * aggregated by MySQL into its average, minimum and maximum price, so only {@code maxPoints} rows cross the
+     * network however long the property has been repriced.
+     *
+     * @param propertyId the ID of the property
+     * @param maxPoints  the maximum number of points to return
+     * @return the price history, oldest first
+     * @throws SQLException if a database access error occurs
+     */
+    public List<PricePoint> getPriceHistory(int propertyId, int maxPoints) throws SQLException {
+        String rangeQuery = "SELECT COUNT(*) AS samples, UNIX_TIMESTAMP(MIN(recorded_at)) AS first_at, " +
+                "UNIX_TIMESTAMP(MAX(recorded_at)) AS last_at FROM price_history WHERE property_id=?";
+        String rawQuery = "SELECT recorded_at, price FROM price_history WHERE property_id=? ORDER BY recorded_at";
+        String bucketQuery = "SELECT FLOOR((UNIX_TIMESTAMP(recorded_at) - ?) / ?) AS bucket, MIN(recorded_at) AS bucket_start, " +
+                "AVG(price) AS avg_price, MIN(price) AS min_price, MAX(price) AS max_price, COUNT(*) AS samples " +
+                "FROM price_history WHERE property_id=? GROUP BY bucket ORDER BY bucket";
+
+        List<PricePoint> list = new ArrayList<>();
+        try (Connection conn = getReadConnection()) {
+            long samples;
+            double firstAt;
+            double lastAt;
+            try (PreparedStatement pstmt = conn.prepareStatement(rangeQuery)) {
+                pstmt.setInt(1, propertyId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    rs.next();
+                    samples = rs.getLong("samples");
+                    firstAt = rs.getDouble("first_at");
+                    lastAt = rs.getDouble("last_at");
+                }
+            }
+
+            if (samples <= maxPoints) {
+                try (PreparedStatement pstmt = conn.prepareStatement(rawQuery)) {
+                    pstmt.setInt(1, propertyId);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            double price = rs.getDouble("price");
+                            list.add(new PricePoint(rs.getTimestamp("recorded_at").toInstant(), price, price, price, 1));
+                        }
+                    }
+                }
+                return list;
+            }
+
+            double bucketSeconds = Math.max((lastAt - firstAt) / maxPoints, 0.001);
+            try (PreparedStatement pstmt = conn.prepareStatement(bucketQuery)) {
+                pstmt.setDouble(1, firstAt);
+                pstmt.setDouble(2, bucketSeconds);
+                pstmt.setInt(3, propertyId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        list.add(new PricePoint(
+                                rs.getTimestamp("bucket_start").toInstant(),
+                                rs.getDouble("avg_price"),
+                                rs.getDouble("min_price"),
+                                rs.getDouble("max_price"),
+                                rs.getInt("samples")
+                        ));
+                    }
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Fetches the ID and text of every property for duplicate detection. Rows are streamed from the server one
+     * at a time instead of being buffered, and no owner or property objects are built, so a million listings fit
+     * in little more than their text.
+     *
+     * @return one listing per property, with the description followed by the location as text
+     * @throws SQLException if a database access error occurs
+     */
+    public List<DuplicateDetector.Listing> getListingTexts() throws SQLException {
+        List<DuplicateDetector.Listing> list = new ArrayList<>();
+        String query = "SELECT id, description, location FROM properties";
+        try (Connection conn = getReadConnection();
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = stmt.executeQuery(query)) {
+                while (rs.next()) {
+                    String description = rs.getString("description");
+                    String location = rs.getString("location");
+                    list.add(new DuplicateDetector.Listing(rs.getInt("id"),
+                            (description != null ? description : "") + " " + (location != null ? location : "")));
+                }
+            }
+        }
+        return list;
+    }
+
+    // ------------------- Batch Property Methods -------------------
+
+    /**
+     * Deletes several properties in one transaction.
+     *
+     * @param ids the IDs of the properties to delete
+     * @return the number of deleted properties
+     * @throws SQLException if a database access error occurs; no property is deleted in that case
+     */
+    public int deleteProperties(List<Integer> ids) throws SQLException {
+        return executeForIds("DELETE FROM properties WHERE id IN (%s)", List.of(), ids);
+    }
+
+    /**
+     * Assigns several properties to a new owner in one transaction.
+     *
+     * @param ids     the IDs of the properties to reassign
+     * @param ownerId the ID of the new owner
+     * @return the number of updated properties
+     * @throws SQLException if a database access error occurs; no property is updated in that case
+     */
+    public int reassignProperties(List<Integer> ids, int ownerId) throws SQLException {
+        return executeForIds("UPDATE properties SET owner_id=? WHERE id IN (%s)", List.of(ownerId), ids);
+    }
+
+    /**
+     * Adjusts the price of several properties by a percentage in one transaction. As in
+     * {@link #updateProperties(List)}, only prices that change once rounded are appended to the price history.
+     *
+     * @param ids     the IDs of the properties to reprice
+     * @param percent the price change in percent, e.g. {@code 5} for +5% or {@code -10} for -10%
+     * @return the number of updated properties
+     * @throws SQLException if a database access error occurs; no price is changed in that case
+     */
+    public int adjustPrices(List<Integer> ids, double percent) throws SQLException {
+        return executeForIds("UPDATE properties SET price=ROUND(price * ?, 2) WHERE id IN (%s)", List.of(1.0 + percent / 100.0), ids,
+                "INSERT INTO price_history (property_id, price) SELECT id, new_price FROM " +
+                        "(SELECT id, price, ROUND(price * ?, 2) AS new_price FROM properties WHERE id IN (%s)) p " +
+                        "WHERE NOT (price <=> new_price)");
+    }
+
+    /**
+     * Runs a set-based statement over a list of IDs on a single connection and transaction. The IDs are bound
+     * in chunks of {@link #BATCH_CHUNK_SIZE} placeholders, so each chunk is one round trip regardless of how many
+     * rows it touches.
+     *
+     * @param sqlTemplate        the statement, with {@code %s} where the ID placeholders go
+     * @param leadingParams      the parameters bound before the IDs
+     * @param ids                the IDs to apply the statement to
+     * @param precedingTemplates statements run before the main one for each chunk, with the same parameters
+     * @return the total number of rows affected by the main statement
+     * @throws SQLException if a database access error occurs; the transaction is rolled back in that case
+     */
+    private int executeForIds(String sqlTemplate, List<?> leadingParams, List<Integer> ids, String... precedingTemplates)
+            throws SQLException {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int affected = 0;
+        try (Connection conn = getWriteConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+                    List<Integer> chunk = ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size()));
+                    String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                    for (String precedingTemplate : precedingTemplates) {
+                        try (PreparedStatement pstmt = conn.prepareStatement(String.format(precedingTemplate, placeholders))) {
+                            bindIds(pstmt, leadingParams, chunk);
+                            pstmt.executeUpdate();
+                        }
+                    }
+                    try (PreparedStatement pstmt = conn.prepareStatement(String.format(sqlTemplate, placeholders))) {
+                        bindIds(pstmt, leadingParams, chunk);
+                        affected += pstmt.executeUpdate();
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+        QUERY_CACHE.invalidateAll();
+        recordWrite();
+        return affected;
+    }
+
+    private static void bindIds(PreparedStatement pstmt, List<?> leadingParams, List<Integer> ids) throws SQLException {
+        int index = 1;
+        for (Object param : leadingParams) {
+            pstmt.setObject(index++, param);
+        }
+        for (int id : ids) {
+            pstmt.setInt(index++, id);
+        }
+    }
+
+    // ------------------- Media Methods -------------------
+
+    /**
+     * Attaches a file to a property. The content is streamed to the server in chunks and never held in memory
+     * as a whole.
+     *
+     * @param propertyId  the ID of the property
+     * @param fileName    the original file name
+     * @param contentType the MIME type, or {@code null} if unknown
+     * @param sizeBytes   the exact number of bytes that {@code content} provides
+     * @param content     the content; it is read but not closed
+     * @return the stored media
+     * @throws SQLException if a database access error occurs
+     */
+    public PropertyMedia addMedia(int propertyId, String fileName, String contentType, long sizeBytes, InputStream content)
+            throws SQLException {
+        String query = "INSERT INTO property_media (property_id, file_name, content_type, size_bytes, data) VALUES (?, ?, ?, ?, ?)";
+        int id = 0;
+        try (Connection conn = getWriteConnection();
+             PreparedStatement pstmt = prepareOnServer(conn, query, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setInt(1, propertyId);
+            pstmt.setString(2, fileName);
+            pstmt.setString(3, contentType);
+            pstmt.setLong(4, sizeBytes);
+            pstmt.setBinaryStream(5, content, sizeBytes);
+            pstmt.executeUpdate();
+
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    id = generatedKeys.getInt(1);
+                }
+            }
+            QUERY_CACHE.invalidateAll();
+            recordWrite();
+        }
+        return new PropertyMedia(id, propertyId, fileName, contentType, sizeBytes, Instant.now());
+    }
+
+    /**
+     * Prepares a statement on the server, so that stream parameters are sent in chunks instead of being built into
+     * one packet in memory. The driver is only loaded at run time, so Connector/J is reached reflectively; other
+     * drivers get a regular prepared statement.
+     */
+    private static PreparedStatement prepareOnServer(Connection conn, String sql, int autoGeneratedKeys) throws SQLException {
+        try {
+            Class<?> mysqlConnection = Class.forName("com.mysql.cj.jdbc.JdbcConnection");
+            if (conn.isWrapperFor(mysqlConnection)) {
+                return (PreparedStatement) mysqlConnection.getMethod("serverPrepareStatement", String.class, int.class)
+                        .invoke(conn.unwrap(mysqlConnection), sql, autoGeneratedKeys);
+            }
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            // Not Connector/J
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new SQLException(e.getCause());
+        }
+        return conn.prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    /**
+     * Attaches a file from disk to a property.
+     *
+     * @param propertyId the ID of the property
+     * @param file       the file to upload
+     * @return the stored media
+     * @throws SQLException if a database access error occurs
+     * @throws IOException  if the file cannot be read
+     */
+    public PropertyMedia addMedia(int propertyId, Path file) throws SQLException, IOException {
+        try (InputStream content = Files.newInputStream(file)) {
+            return addMedia(propertyId, file.getFileName().toString(), Files.probeContentType(file), Files.size(file), content);
+        }
+    }
+
+    /**
+     * Lists the media attached to a property, without their content.
+     *
+     * @param propertyId the ID of the property
+     * @return the media, oldest first
+     * @throws SQLException if a database access error occurs
+     */
+    public List<PropertyMedia> getMedia(int propertyId) throws SQLException {
+        List<PropertyMedia> list = new ArrayList<>();
+        String query = "SELECT id, property_id, file_name, content_type, size_bytes, uploaded_at FROM property_media WHERE property_id=? ORDER BY id";
+        try (Connection conn = getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setInt(1, propertyId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    list.add(new PropertyMedia(
+                            rs.getInt("id"),
+                            rs.getInt("property_id"),
+                            rs.getString("file_name"),
+                            rs.getString("content_type"),
+                            rs.getLong("size_bytes"),
+                            rs.getTimestamp("uploaded_at").toInstant()
+                    ));
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Opens the content of a media for reading. The content is fetched in chunks as the stream is read, over a
+     * connection that stays open until the stream is closed.
+     *
+     * @param mediaId the ID of the media
+     * @return a stream over the content, which the caller must close
+     * @throws SQLException if a database access error occurs or the media does not exist
+     */
+    public InputStream openMedia(int mediaId) throws SQLException {
+        Connection conn = getReadConnection();
+        long size;
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT size_bytes FROM property_media WHERE id=?")) {
+            pstmt.setInt(1, mediaId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Media not found: " + mediaId);
+                }
+                size = rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        return new MediaInputStream(conn, mediaId, size, MEDIA_CHUNK_SIZE);
+    }
+
+    /**
+     * Returns a version of the content of a media, which differs if its ID is later reused for other content, e.g.
+     * after the database was recreated.
+     *
+     * @param mediaId the ID of the media
+     * @return the version, or {@code null} if the media does not exist
+     * @throws SQLException if a database access error occurs
+     */
+    public String getMediaVersion(int mediaId) throws SQLException {
+        try (Connection conn = getReadConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT size_bytes, uploaded_at FROM property_media WHERE id=?")) {
+            pstmt.setInt(1, mediaId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) + "-" + rs.getTimestamp(2).getTime() : null;
+            }
+        }
+    }
+
+    /**
+     * Returns the versions of several media as in {@link #getMediaVersion(int)}, in one query per
+     * {@link #BATCH_CHUNK_SIZE} media.
+     *
+     * @param mediaIds the IDs of the media
+     * @return the versions by media ID, without the media that do not exist
+     * @throws SQLException if a database access error occurs
+     */
+    public Map<Integer, String> getMediaVersions(Collection<Integer> mediaIds) throws SQLException {
+        Map<Integer, String> versions = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(mediaIds);
+        if (ids.isEmpty()) {
+            return versions;
+        }
+        try (Connection conn = getReadConnection()) {
+            for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size()));
+                String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "SELECT id, size_bytes, uploaded_at FROM property_media WHERE id IN (" + placeholders + ")")) {
+                    bindIds(pstmt, List.of(), chunk);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            versions.put(rs.getInt(1), rs.getLong(2) + "-" + rs.getTimestamp(3).getTime());
+                        }
+                    }
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Saves the content of a media to a file, replacing the file if it exists.
+     *
+     * @param mediaId the ID of the media
+     * @param target  the file to write
+     * @throws SQLException if a database access error occurs or the media does not exist
+     * @throws IOException  if the file cannot be written
+     */
+    public void downloadMedia(int mediaId, Path target) throws SQLException, IOException {
+        try (InputStream content = openMedia(mediaId)) {
+            Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes a media.
+     *
+     * @param mediaId the ID of the media to delete
+     * @throws SQLException if a database access error occurs
+     */
+    public void deleteMedia(int mediaId) throws SQLException {
+        String query = "DELETE FROM property_media WHERE id=?";
+        try (Connection conn = getWriteConnection();
+             PreparedStatement pstmt = conn.prepareStatement(query)) {
+            pstmt.setInt(1, mediaId);
+            pstmt.executeUpdate();
+            QUERY_CACHE.invalidateAll();
+            recordWrite();
         }
     }
 
@@ -140,7 +835,7 @@ public class DatabaseUtil {
     public List<User> getAllUsers() throws SQLException {
         List<User> list = new ArrayList<>();
         String query = "SELECT * FROM users";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
+        try (Connection conn = getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(query)) {
             while (rs.next()) {
@@ -163,7 +858,7 @@ public class DatabaseUtil {
      */
     public void addUser(User user) throws SQLException {
         String query = "INSERT INTO users (name, email) VALUES (?, ?)";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
+        try (Connection conn = getWriteConnection();
              PreparedStatement pstmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
             pstmt.setString(1, user.getName());
             pstmt.setString(2, user.getEmail());
@@ -174,6 +869,7 @@ public class DatabaseUtil {
                     user.setId(generatedKeys.getInt(1));
                 }
             }
+            recordWrite();
         }
     }
 
@@ -185,12 +881,14 @@ public class DatabaseUtil {
      */
     public void updateUser(User user) throws SQLException {
         String query = "UPDATE users SET name=?, email=? WHERE id=?";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
+        try (Connection conn = getWriteConnection();
              PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setString(1, user.getName());
             pstmt.setString(2, user.getEmail());
             pstmt.setInt(3, user.getId());
             pstmt.executeUpdate();
+            QUERY_CACHE.invalidateAll();
+            recordWrite();
         }
     }
 
@@ -202,10 +900,12 @@ public class DatabaseUtil {
      */
     public void deleteUser(int userId) throws SQLException {
         String query = "DELETE FROM users WHERE id=?";
-        try (Connection conn = DriverManager.getConnection(FULL_DB_URL, USER, PASSWORD);
+        try (Connection conn = getWriteConnection();
              PreparedStatement pstmt = conn.prepareStatement(query)) {
             pstmt.setInt(1, userId);
             pstmt.executeUpdate();
+            QUERY_CACHE.invalidateAll();
+            recordWrite();
         }
     }
 }
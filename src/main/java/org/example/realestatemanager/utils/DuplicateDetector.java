@@ -0,0 +1,378 @@
+package org.example.realestatemanager.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds near-duplicate listings with MinHash signatures and locality-sensitive hashing, without comparing every
+ * pair of listings.
+ * <p>
+ * The text of a listing is normalized and cut into overlapping character shingles. Its MinHash signature holds,
+ * for each of {@code bands * rows} hash functions, the smallest hash of any shingle; two signatures agree on a
+ * position with a probability equal to the Jaccard similarity of the shingle sets. The signature is split into
+ * bands, and listings whose signatures are identical on at least one band become candidate pairs, which happens
+ * mostly for listings above a similarity of about {@code (1 / bands) ^ (1 / rows)}. Candidates are then checked
+ * against the full signature and kept when their estimated similarity reaches the threshold.
+ * <p>
+ * Signatures, bands and candidate checks are computed in parallel on a {@link ForkJoinPool}. Only the low 16 bits
+ * of each MinHash value are kept for the final check, which keeps a million signatures in about 128 MB while
+ * biasing the estimate by less than 1/65536.
+ */
+public class DuplicateDetector {
+
+    /**
+     * A listing to check for duplicates.
+     *
+     * @param id   the ID of the property
+     * @param text the text to compare, usually the description followed by the location
+     */
+    public record Listing(int id, String text) {
+    }
+
+    /**
+     * A pair of listings that are likely duplicates.
+     *
+     * @param firstId    the ID of the first property, the smaller of the two
+     * @param secondId   the ID of the second property
+     * @param similarity the estimated Jaccard similarity of their texts, between 0 and 1
+     */
+    public record Candidate(int firstId, int secondId, double similarity) {
+    }
+
+    private static final int SHINGLE_LENGTH = 5;
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private final int bands;
+    private final int rows;
+    private final int hashes;
+    private final double threshold;
+    private final int maxBucketSize;
+    private final long[] multipliers;
+    private final long[] increments;
+
+    /**
+     * Creates a detector with 16 bands of 4 rows, a similarity threshold of 0.7 and buckets of at most 200
+     * listings, which suits listing descriptions that differ by a few words.
+     */
+    public DuplicateDetector() {
+        this(16, 4, 0.7, 200);
+    }
+
+    /**
+     * Creates a detector.
+     *
+     * @param bands         the number of LSH bands; more bands find less similar pairs
+     * @param rows          the number of signature values per band; more rows make candidates more selective
+     * @param threshold     the minimum estimated similarity of a reported pair
+     * @param maxBucketSize the bucket size above which only pairs with the first listing of the bucket are
+     *                      considered, so that boilerplate shared by many listings cannot cause a quadratic blow-up
+     */
+    public DuplicateDetector(int bands, int rows, double threshold, int maxBucketSize) {
+        if (bands <= 0 || rows <= 0 || maxBucketSize < 2) {
+            throw new IllegalArgumentException("bands and rows must be positive and maxBucketSize at least 2");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.hashes = bands * rows;
+        this.threshold = threshold;
+        this.maxBucketSize = maxBucketSize;
+        this.multipliers = new long[hashes];
+        this.increments = new long[hashes];
+        Random random = new Random(0x5EED);
+        for (int i = 0; i < hashes; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            increments[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Finds the likely duplicate pairs among listings, using the common fork-join pool.
+     *
+     * @param listings the listings to check
+     * @return the pairs at or above the similarity threshold, most similar first
+     */
+    public List<Candidate> findDuplicates(List<Listing> listings) {
+        return findDuplicates(listings, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finds the likely duplicate pairs among listings.
+     *
+     * @param listings the listings to check
+     * @param pool     the pool running the parallel phases
+     * @return the pairs at or above the similarity threshold, most similar first
+     */
+    public List<Candidate> findDuplicates(List<Listing> listings, ForkJoinPool pool) {
+        Listing[] input = listings.toArray(new Listing[0]);
+        int n = input.length;
+        short[] signatures = new short[n * hashes];
+        int[][] bandKeys = new int[bands][n];
+        boolean[] empty = new boolean[n];
+        pool.invoke(new SignatureTask(input, signatures, bandKeys, empty, 0, n));
+
+        List<BandTask> bandTasks = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            bandTasks.add(new BandTask(bandKeys[band], empty));
+        }
+        long[] pairs = pool.invoke(new RecursiveTask<long[]>() {
+            @Override
+            protected long[] compute() {
+                int total = 0;
+                for (BandTask task : ForkJoinTask.invokeAll(bandTasks)) {
+                    total += task.getRawResult().length;
+                }
+                long[] all = new long[total];
+                int offset = 0;
+                for (BandTask task : bandTasks) {
+                    long[] bandPairs = task.getRawResult();
+                    System.arraycopy(bandPairs, 0, all, offset, bandPairs.length);
+                    offset += bandPairs.length;
+                }
+                return all;
+            }
+        });
+        Arrays.parallelSort(pairs);
+        long[] unique = distinct(pairs);
+
+        List<Candidate> candidates = pool.invoke(new VerifyTask(input, signatures, unique, 0, unique.length));
+        candidates.sort(Comparator.comparingDouble(Candidate::similarity).reversed()
+                .thenComparingInt(Candidate::firstId).thenComparingInt(Candidate::secondId));
+        return candidates;
+    }
+
+    /**
+     * Computes the full 32-bit MinHash values of one text into {@code mins}.
+     *
+     * @return whether the text had any content
+     */
+    private boolean computeSignature(String text, int[] mins) {
+        Arrays.fill(mins, Integer.MAX_VALUE);
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        int length = normalized.length();
+        int window = Math.min(SHINGLE_LENGTH, length);
+        for (int start = 0; start + window <= length; start++) {
+            long shingle = 0;
+            for (int i = start; i < start + window; i++) {
+                shingle = shingle * 31 + normalized.charAt(i);
+            }
+            long x = mix(shingle);
+            for (int h = 0; h < hashes; h++) {
+                // Upper half of a random affine map, compared as unsigned to keep the full 32-bit range
+                int value = (int) ((multipliers[h] * x + increments[h]) >>> 32) ^ Integer.MIN_VALUE;
+                if (value < mins[h]) {
+                    mins[h] = value;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lower-cases a text and turns every run of characters other than letters and digits into a single space, so
+     * that punctuation and spacing differences do not matter.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && !sb.isEmpty()) {
+                    sb.append(' ');
+                }
+                sb.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Murmur3 finalizer, spreading shingle hashes over all 64 bits.
+     */
+    private static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    /**
+     * Computes the signatures and band keys of a range of listings.
+     */
+    private class SignatureTask extends RecursiveAction {
+        private final Listing[] listings;
+        private final short[] signatures;
+        private final int[][] bandKeys;
+        private final boolean[] empty;
+        private final int from;
+        private final int to;
+
+        SignatureTask(Listing[] listings, short[] signatures, int[][] bandKeys, boolean[] empty, int from, int to) {
+            this.listings = listings;
+            this.signatures = signatures;
+            this.bandKeys = bandKeys;
+            this.empty = empty;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new SignatureTask(listings, signatures, bandKeys, empty, from, mid),
+                        new SignatureTask(listings, signatures, bandKeys, empty, mid, to));
+                return;
+            }
+            int[] mins = new int[hashes];
+            for (int i = from; i < to; i++) {
+                empty[i] = !computeSignature(listings[i].text(), mins);
+                int base = i * hashes;
+                for (int h = 0; h < hashes; h++) {
+                    signatures[base + h] = (short) mins[h];
+                }
+                for (int band = 0; band < bands; band++) {
+                    int key = 1;
+                    for (int r = band * rows; r < (band + 1) * rows; r++) {
+                        key = key * 0x9E3779B1 + mins[r];
+                    }
+                    bandKeys[band][i] = key;
+                }
+            }
+        }
+    }
+
+    /**
+     * Groups the listings of one band by key and returns the candidate pairs as {@code (i << 32) | j} with
+     * {@code i < j} listing indexes.
+     */
+    private class BandTask extends RecursiveTask<long[]> {
+        private final int[] keys;
+        private final boolean[] empty;
+
+        BandTask(int[] keys, boolean[] empty) {
+            this.keys = keys;
+            this.empty = empty;
+        }
+
+        @Override
+        protected long[] compute() {
+            // Key in the high half, listing index in the low half: sorting groups equal keys together
+            long[] entries = new long[keys.length];
+            int count = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (!empty[i]) {
+                    entries[count++] = ((long) keys[i] << 32) | i;
+                }
+            }
+            Arrays.sort(entries, 0, count);
+
+            long[] pairs = new long[16];
+            int pairCount = 0;
+            int start = 0;
+            while (start < count) {
+                int end = start + 1;
+                while (end < count && (entries[end] >>> 32) == (entries[start] >>> 32)) {
+                    end++;
+                }
+                int size = end - start;
+                if (size > 1) {
+                    // Indexes are sorted within a group, so the first index is always the smaller one
+                    long needed = size <= maxBucketSize ? (long) size * (size - 1) / 2 : size - 1;
+                    if (pairCount + needed > pairs.length) {
+                        pairs = Arrays.copyOf(pairs, (int) Math.max(pairs.length * 2L, pairCount + needed));
+                    }
+                    int firstLimit = size <= maxBucketSize ? end : start + 1;
+                    for (int a = start; a < firstLimit; a++) {
+                        long first = entries[a] & 0xFFFFFFFFL;
+                        for (int b = a + 1; b < end; b++) {
+                            pairs[pairCount++] = (first << 32) | (entries[b] & 0xFFFFFFFFL);
+                        }
+                    }
+                }
+                start = end;
+            }
+            return Arrays.copyOf(pairs, pairCount);
+        }
+    }
+
+    /**
+     * Estimates the similarity of a range of candidate pairs and keeps those above the threshold.
+     */
+    private class VerifyTask extends RecursiveTask<List<Candidate>> {
+        private final Listing[] listings;
+        private final short[] signatures;
+        private final long[] pairs;
+        private final int from;
+        private final int to;
+
+        VerifyTask(Listing[] listings, short[] signatures, long[] pairs, int from, int to) {
+            this.listings = listings;
+            this.signatures = signatures;
+            this.pairs = pairs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Candidate> compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD * 4) {
+                int mid = (from + to) >>> 1;
+                VerifyTask right = new VerifyTask(listings, signatures, pairs, mid, to);
+                right.fork();
+                List<Candidate> result = new VerifyTask(listings, signatures, pairs, from, mid).compute();
+                result.addAll(right.join());
+                return result;
+            }
+            List<Candidate> result = new ArrayList<>();
+            for (int p = from; p < to; p++) {
+                int a = (int) (pairs[p] >>> 32);
+                int b = (int) pairs[p];
+                int matches = 0;
+                int baseA = a * hashes;
+                int baseB = b * hashes;
+                for (int h = 0; h < hashes; h++) {
+                    if (signatures[baseA + h] == signatures[baseB + h]) {
+                        matches++;
+                    }
+                }
+                double similarity = (double) matches / hashes;
+                if (similarity >= threshold) {
+                    int idA = listings[a].id();
+                    int idB = listings[b].id();
+                    result.add(new Candidate(Math.min(idA, idB), Math.max(idA, idB), similarity));
+                }
+            }
+            return result;
+        }
+    }
+}
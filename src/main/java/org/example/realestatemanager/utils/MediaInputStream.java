@@ -0,0 +1,136 @@
+package org.example.realestatemanager.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Input stream over the content of a {@code property_media} row, fetched in chunks.
+ * <p>
+ * The driver reads every row of a result set completely into memory, so selecting the BLOB column would load the
+ * whole file at once. Instead, each chunk is fetched with its own {@code SUBSTRING} query on a connection held by
+ * the stream, which keeps the heap used by a download bounded by the chunk size.
+ * <p>
+ * The server reads a BLOB from its start to extract a {@code SUBSTRING}, so the cost of a chunk grows with its
+ * offset. Chunks therefore double in size up to {@link #MAX_CHUNK_SIZE}, which keeps the number of queries, and the
+ * data read again by the server, low for large files.
+ */
+class MediaInputStream extends InputStream {
+    private static final String CHUNK_SQL = "SELECT SUBSTRING(data, ?, ?) FROM property_media WHERE id=?";
+
+    private static final int MAX_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private final Connection conn;
+    private final PreparedStatement chunkStatement;
+    private final int mediaId;
+    private final long size;
+    private int chunkSize;
+
+    private byte[] chunk = new byte[0];
+    private int chunkPosition;
+    private long offset;
+    private boolean closed;
+
+    /**
+     * Creates a stream that takes ownership of the given connection and closes it when the stream is closed.
+     *
+     * @param conn      the connection to read from
+     * @param mediaId   the ID of the media row
+     * @param size      the size of the content in bytes
+     * @param chunkSize the number of bytes fetched by the first query
+     * @throws SQLException if the chunk query cannot be prepared; the connection is closed in that case
+     */
+    MediaInputStream(Connection conn, int mediaId, long size, int chunkSize) throws SQLException {
+        this.conn = conn;
+        this.mediaId = mediaId;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        try {
+            this.chunkStatement = conn.prepareStatement(CHUNK_SQL);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureChunk()) {
+            return -1;
+        }
+        return chunk[chunkPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureChunk()) {
+            return -1;
+        }
+        int count = Math.min(len, chunk.length - chunkPosition);
+        System.arraycopy(chunk, chunkPosition, b, off, count);
+        chunkPosition += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - chunkPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (conn; chunkStatement) {
+            // closes the statement, then the connection
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Fetches the next chunk if the current one is used up.
+     *
+     * @return whether there is data left to read
+     */
+    private boolean ensureChunk() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (chunkPosition < chunk.length) {
+            return true;
+        }
+        if (offset >= size) {
+            return false;
+        }
+        try {
+            chunkStatement.setLong(1, offset + 1);
+            chunkStatement.setInt(2, chunkSize);
+            chunkStatement.setInt(3, mediaId);
+            try (ResultSet rs = chunkStatement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IOException("Media " + mediaId + " was deleted while being read");
+                }
+                chunk = rs.getBytes(1);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        if (chunk == null || chunk.length == 0) {
+            offset = size;
+            return false;
+        }
+        chunkPosition = 0;
+        offset += chunk.length;
+        chunkSize = Math.min(chunkSize * 2, MAX_CHUNK_SIZE);
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.realestatemanager.utils;
+
+import org.example.realestatemanager.entity.Property;
+
+import java.util.Locale;
+
+/**
+ * The filter criteria of the property table.
+ * <p>
+ * Text criteria are matched case-insensitively as substrings and blank values mean "no filter".
+ *
+ * @param generalText text to look for in the owner, location, description, price or size
+ * @param ownerName   substring the owner's name must contain
+ * @param location    substring the location must contain
+ * @param minPrice    the minimum price (inclusive), or {@link Double#NEGATIVE_INFINITY} for no lower bound
+ * @param maxPrice    the maximum price (inclusive), or {@link Double#POSITIVE_INFINITY} for no upper bound
+ */
+public record PropertyFilter(String generalText, String ownerName, String location, double minPrice, double maxPrice) {
+
+    public PropertyFilter {
+        generalText = normalize(generalText);
+        ownerName = normalize(ownerName);
+        location = normalize(location);
+    }
+
+    /**
+     * @return whether the filter has a lower or upper price bound
+     */
+    public boolean hasPriceRange() {
+        return minPrice > Double.NEGATIVE_INFINITY || maxPrice < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Checks every criterion against a property.
+     *
+     * @param property the property to check
+     * @return whether the property passes the filter
+     */
+    public boolean matches(Property property) {
+        if (property == null) {
+            return false;
+        }
+        if (!ownerName.isEmpty() && !contains(ownerNameOf(property), ownerName)) {
+            return false;
+        }
+        if (!location.isEmpty() && !contains(property.getLocation(), location)) {
+            return false;
+        }
+        if (property.getPrice() < minPrice || property.getPrice() > maxPrice) {
+            return false;
+        }
+        return matchesGeneralText(property);
+    }
+
+    /**
+     * Checks only the general text criterion.
+     *
+     * @param property the property to check
+     * @return whether the property contains the general text in any of its fields
+     */
+    public boolean matchesGeneralText(Property property) {
+        if (generalText.isEmpty()) {
+            return true;
+        }
+        return contains(ownerNameOf(property), generalText) ||
+                contains(property.getLocation(), generalText) ||
+                contains(property.getDescription(), generalText) ||
+                String.valueOf(property.getPrice()).contains(generalText) ||
+                String.valueOf(property.getSize()).contains(generalText);
+    }
+
+    /**
+     * Checks whether a text contains a lower-case needle, ignoring case.
+     *
+     * @param text   the text to search, may be {@code null}
+     * @param needle the lower-case substring to look for
+     * @return whether the needle was found
+     */
+    static boolean contains(String text, String needle) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    private static String ownerNameOf(Property property) {
+        return property.getOwner() != null ? property.getOwner().getName() : null;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,488 @@
+package org.example.realestatemanager.utils;
+
+import org.example.realestatemanager.entity.Property;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * In-memory secondary indexes over the properties loaded into the client.
+ * <p>
+ * Prices are kept in a sorted primitive array for range queries, owners in a hash index, and locations and
+ * descriptions in trigram indexes for substring queries. The indexes are maintained incrementally as properties
+ * are added, removed and updated; large bulk loads rebuild them in one pass instead.
+ * <p>
+ * Query results are {@link BitSet}s of property IDs, so a filter predicate only needs a bit lookup per row.
+ * This class is not thread-safe and is meant to be used from the FX application thread.
+ */
+public class PropertyIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * The characters of a price or size as formatted by {@link String#valueOf(double)}, apart from the exponent
+     * marker, which a lower-case filter text never matches.
+     */
+    private static final String NUMBER_CHARS = "0123456789.-";
+
+    /**
+     * Bulk additions larger than this are indexed with a full rebuild rather than one insertion at a time.
+     */
+    private static final int BULK_THRESHOLD = 64;
+
+    /**
+     * The values of a property as they were when it was indexed, needed to find its index entries again.
+     */
+    private record Entry(Property property, int ownerId, String ownerName, String location, String description,
+                         double price, double size) {
+
+        static Entry of(Property property) {
+            return new Entry(
+                    property,
+                    property.getOwnerId(),
+                    property.getOwner() != null ? lower(property.getOwner().getName()) : "",
+                    lower(property.getLocation()),
+                    lower(property.getDescription()),
+                    property.getPrice(),
+                    property.getSize()
+            );
+        }
+    }
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final SortedDoubleIndex priceIndex = new SortedDoubleIndex();
+    private final Map<Integer, Set<Integer>> ownerIndex = new HashMap<>();
+    private final Map<Integer, String> ownerNames = new HashMap<>();
+    private final Map<String, Postings> locationGrams = new HashMap<>();
+    private final Map<String, Postings> descriptionGrams = new HashMap<>();
+
+    /**
+     * @return the number of indexed properties
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes every property from the index.
+     */
+    public void clear() {
+        entries.clear();
+        priceIndex.clear();
+        ownerIndex.clear();
+        ownerNames.clear();
+        locationGrams.clear();
+        descriptionGrams.clear();
+    }
+
+    /**
+     * Adds a property to the index, replacing any property with the same ID.
+     *
+     * @param property the property to add
+     */
+    public void add(Property property) {
+        remove(property.getId());
+        Entry entry = Entry.of(property);
+        entries.put(property.getId(), entry);
+        priceIndex.insert(entry.price(), property.getId());
+        indexTerms(property.getId(), entry);
+    }
+
+    /**
+     * Adds several properties. Large batches rebuild the sorted array once instead of inserting into it.
+     *
+     * @param properties the properties to add
+     */
+    public void addAll(Collection<? extends Property> properties) {
+        if (properties.size() <= BULK_THRESHOLD) {
+            properties.forEach(this::add);
+            return;
+        }
+        for (Property property : properties) {
+            remove(property.getId());
+            Entry entry = Entry.of(property);
+            entries.put(property.getId(), entry);
+            indexTerms(property.getId(), entry);
+        }
+        rebuildPriceIndex();
+    }
+
+    /**
+     * Re-indexes a property whose fields have been modified in place. Only the indexes of the fields that
+     * changed are touched.
+     *
+     * @param property the modified property
+     */
+    public void update(Property property) {
+        Entry old = entries.get(property.getId());
+        if (old == null) {
+            add(property);
+            return;
+        }
+        Entry entry = Entry.of(property);
+        entries.put(property.getId(), entry);
+        int id = property.getId();
+        if (Double.compare(old.price(), entry.price()) != 0) {
+            priceIndex.remove(old.price(), id);
+            priceIndex.insert(entry.price(), id);
+        }
+        if (old.ownerId() != entry.ownerId() || !old.ownerName().equals(entry.ownerName())) {
+            unindexOwner(old, id);
+            ownerIndex.computeIfAbsent(entry.ownerId(), _ -> new HashSet<>()).add(id);
+            ownerNames.put(entry.ownerId(), entry.ownerName());
+        }
+        if (!old.location().equals(entry.location())) {
+            unindexGrams(locationGrams, old.location(), id);
+            indexGrams(locationGrams, entry.location(), id);
+        }
+        if (!old.description().equals(entry.description())) {
+            unindexGrams(descriptionGrams, old.description(), id);
+            indexGrams(descriptionGrams, entry.description(), id);
+        }
+    }
+
+    /**
+     * Removes a property from the index.
+     *
+     * @param property the property to remove
+     */
+    public void remove(Property property) {
+        Entry entry = entries.get(property.getId());
+        if (entry != null && entry.property() == property) {
+            remove(property.getId());
+        }
+    }
+
+    private void remove(int id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        priceIndex.remove(entry.price(), id);
+        unindexOwner(entry, id);
+        unindexGrams(locationGrams, entry.location(), id);
+        unindexGrams(descriptionGrams, entry.description(), id);
+    }
+
+    private void unindexOwner(Entry entry, int id) {
+        Set<Integer> owned = ownerIndex.get(entry.ownerId());
+        if (owned != null) {
+            owned.remove(id);
+            if (owned.isEmpty()) {
+                ownerIndex.remove(entry.ownerId());
+                ownerNames.remove(entry.ownerId());
+            }
+        }
+    }
+
+    /**
+     * Finds the properties matching a filter. The result is exact, as {@link PropertyFilter#matches(Property)}
+     * would be on the properties as they were indexed.
+     *
+     * @param filter the filter to evaluate
+     * @return the IDs of the matching properties, or {@code null} if the filter has no criterion
+     */
+    public BitSet query(PropertyFilter filter) {
+        BitSet result = null;
+        if (filter.hasPriceRange()) {
+            result = and(result, priceIndex.range(filter.minPrice(), filter.maxPrice()));
+        }
+        if (!filter.ownerName().isEmpty()) {
+            result = and(result, queryOwnerName(filter.ownerName()));
+        }
+        if (!filter.location().isEmpty()) {
+            result = and(result, querySubstring(locationGrams, filter.location(), Entry::location, result));
+        }
+        if (!filter.generalText().isEmpty()) {
+            result = and(result, queryGeneralText(filter.generalText(), result));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the properties whose owner name, location or description contains a substring, through the owner and
+     * trigram indexes, or whose price or size does. Numbers are only scanned when the text could occur in one.
+     */
+    private BitSet queryGeneralText(String text, BitSet candidates) {
+        BitSet result = queryOwnerName(text);
+        result.or(querySubstring(locationGrams, text, Entry::location, candidates));
+        result.or(querySubstring(descriptionGrams, text, Entry::description, candidates));
+        if (text.chars().allMatch(c -> NUMBER_CHARS.indexOf(c) >= 0)) {
+            for (Map.Entry<Integer, Entry> entry : entries.entrySet()) {
+                Entry indexed = entry.getValue();
+                if ((candidates == null || candidates.get(entry.getKey())) &&
+                        (String.valueOf(indexed.price()).contains(text) || String.valueOf(indexed.size()).contains(text))) {
+                    result.set(entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the properties of every owner whose name contains a substring.
+     */
+    private BitSet queryOwnerName(String name) {
+        BitSet result = new BitSet();
+        for (Map.Entry<Integer, String> owner : ownerNames.entrySet()) {
+            if (owner.getValue().contains(name)) {
+                ownerIndex.get(owner.getKey()).forEach(result::set);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the properties whose field contains a substring. Substrings of at least {@link #GRAM_LENGTH}
+     * characters are looked up through the rarest of their trigrams; shorter ones fall back to checking the
+     * candidates, or every entry if there are none. Trigram hits are always verified, so the result is exact.
+     */
+    private BitSet querySubstring(Map<String, Postings> grams, String text, Function<Entry, String> field,
+                                  BitSet candidates) {
+        BitSet result = new BitSet();
+        if (text.length() >= GRAM_LENGTH) {
+            Postings rarest = null;
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                Postings postings = grams.get(text.substring(i, i + GRAM_LENGTH));
+                if (postings == null) {
+                    return result;
+                }
+                if (rarest == null || postings.size < rarest.size) {
+                    rarest = postings;
+                }
+            }
+            for (int i = 0; i < rarest.size; i++) {
+                int id = rarest.ids[i];
+                if ((candidates == null || candidates.get(id)) && field.apply(entries.get(id)).contains(text)) {
+                    result.set(id);
+                }
+            }
+        } else if (candidates != null) {
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                if (field.apply(entries.get(id)).contains(text)) {
+                    result.set(id);
+                }
+            }
+        } else {
+            for (Map.Entry<Integer, Entry> entry : entries.entrySet()) {
+                if (field.apply(entry.getValue()).contains(text)) {
+                    result.set(entry.getKey());
+                }
+            }
+        }
+        return result;
+    }
+
+    private void indexTerms(int id, Entry entry) {
+        ownerIndex.computeIfAbsent(entry.ownerId(), _ -> new HashSet<>()).add(id);
+        ownerNames.put(entry.ownerId(), entry.ownerName());
+        indexGrams(locationGrams, entry.location(), id);
+        indexGrams(descriptionGrams, entry.description(), id);
+    }
+
+    private static void indexGrams(Map<String, Postings> grams, String text, int id) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.computeIfAbsent(text.substring(i, i + GRAM_LENGTH), _ -> new Postings()).add(id);
+        }
+    }
+
+    private static void unindexGrams(Map<String, Postings> grams, String text, int id) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            String gram = text.substring(i, i + GRAM_LENGTH);
+            Postings postings = grams.get(gram);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    private void rebuildPriceIndex() {
+        List<Entry> all = new ArrayList<>(entries.values());
+        double[] prices = new double[all.size()];
+        int[] ids = new int[all.size()];
+        for (int i = 0; i < all.size(); i++) {
+            Entry entry = all.get(i);
+            prices[i] = entry.price();
+            ids[i] = entry.property().getId();
+        }
+        priceIndex.build(prices, ids);
+    }
+
+    private static BitSet and(BitSet left, BitSet right) {
+        if (left == null) {
+            return right;
+        }
+        left.and(right);
+        return left;
+    }
+
+    private static String lower(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * List of the IDs of the properties containing a trigram. Properties are usually loaded in ID order and new
+     * ones get higher IDs, so the list is kept sorted when possible and removals can use a binary search.
+     */
+    static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+        private boolean sorted = true;
+
+        /**
+         * Appends an ID. All trigrams of one text are indexed in a row, so a trigram occurring twice in the same
+         * text is recognized by the last ID being the same.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            if (size > 0 && ids[size - 1] > id) {
+                sorted = false;
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * @return whether the ID was present
+         */
+        boolean remove(int id) {
+            int at = -1;
+            if (sorted) {
+                int found = Arrays.binarySearch(ids, 0, size, id);
+                at = found >= 0 ? found : -1;
+            } else {
+                for (int i = 0; i < size && at < 0; i++) {
+                    if (ids[i] == id) {
+                        at = i;
+                    }
+                }
+            }
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+    }
+
+    /**
+     * Property IDs sorted by a numeric value, stored in two parallel primitive arrays.
+     */
+    static final class SortedDoubleIndex {
+        private double[] values = new double[16];
+        private int[] ids = new int[16];
+        private int size;
+
+        void clear() {
+            size = 0;
+        }
+
+        /**
+         * Replaces the contents with unsorted values and their IDs, sorting them in place.
+         */
+        void build(double[] newValues, int[] newIds) {
+            sort(newValues, newIds, 0, newValues.length - 1);
+            values = newValues.length == 0 ? new double[16] : newValues;
+            ids = newIds.length == 0 ? new int[16] : newIds;
+            size = newValues.length;
+        }
+
+        void insert(double value, int id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            int at = lowerBound(value);
+            System.arraycopy(values, at, values, at + 1, size - at);
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            values[at] = value;
+            ids[at] = id;
+            size++;
+        }
+
+        void remove(double value, int id) {
+            for (int i = lowerBound(value); i < size && Double.compare(values[i], value) == 0; i++) {
+                if (ids[i] == id) {
+                    System.arraycopy(values, i + 1, values, i, size - i - 1);
+                    System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        BitSet range(double min, double max) {
+            BitSet result = new BitSet();
+            for (int i = lowerBound(min); i < size && values[i] <= max; i++) {
+                result.set(ids[i]);
+            }
+            return result;
+        }
+
+        /**
+         * @return the first position whose value is not less than the given one
+         */
+        private int lowerBound(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (Double.compare(values[mid], value) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Quicksort of the values that moves the IDs along with them.
+         */
+        private static void sort(double[] values, int[] ids, int low, int high) {
+            while (low < high) {
+                double pivot = values[(low + high) >>> 1];
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (Double.compare(values[i], pivot) < 0) {
+                        i++;
+                    }
+                    while (Double.compare(values[j], pivot) > 0) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        double value = values[i];
+                        values[i] = values[j];
+                        values[j] = value;
+                        int id = ids[i];
+                        ids[i] = ids[j];
+                        ids[j] = id;
+                        i++;
+                        j--;
+                    }
+                }
+                if (j - low < high - i) {
+                    sort(values, ids, low, j);
+                    low = i;
+                } else {
+                    sort(values, ids, i, high);
+                    high = j;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.realestatemanager.utils;
+
+import java.util.Locale;
+
+/**
+ * Describes a property search: filter, sort order and page.
+ * <p>
+ * Text filters are trimmed and lower-cased and blank values mean "no filter", so two queries that select the same
+ * rows in the same order are equal and can share a cached result.
+ *
+ * @param location  substring the location must contain, or an empty string
+ * @param ownerName substring the owner's name must contain, or an empty string
+ * @param minPrice  the minimum price (inclusive)
+ * @param maxPrice  the maximum price (inclusive)
+ * @param sortField the column to sort by
+ * @param ascending whether to sort in ascending order
+ * @param pageIndex the zero-based page to return
+ * @param pageSize  the number of rows per page, or 0 to return all matching rows
+ */
+public record PropertyQuery(String location, String ownerName, double minPrice, double maxPrice,
+                            SortField sortField, boolean ascending, int pageIndex, int pageSize) {
+
+    /**
+     * Query returning every property ordered by ID.
+     */
+    public static final PropertyQuery ALL = new PropertyQuery("", "", 0.0, Double.MAX_VALUE, SortField.ID, true, 0, 0);
+
+    /**
+     * Columns a property query can be sorted by.
+     */
+    public enum SortField {
+        ID("p.id"),
+        OWNER("u.name"),
+        LOCATION("p.location"),
+        SIZE("p.size"),
+        PRICE("p.price");
+
+        private final String column;
+
+        SortField(String column) {
+            this.column = column;
+        }
+
+        /**
+         * @return the SQL column this field sorts by
+         */
+        public String getColumn() {
+            return column;
+        }
+    }
+
+    public PropertyQuery {
+        location = normalize(location);
+        ownerName = normalize(ownerName);
+        if (Double.isNaN(minPrice) || minPrice < 0.0) {
+            minPrice = 0.0;
+        }
+        if (Double.isNaN(maxPrice)) {
+            maxPrice = Double.MAX_VALUE;
+        }
+        if (sortField == null) {
+            sortField = SortField.ID;
+        }
+        if (pageSize <= 0) {
+            pageSize = 0;
+            pageIndex = 0;
+        } else if (pageIndex < 0) {
+            pageIndex = 0;
+        }
+    }
+
+    /**
+     * Creates an unsorted, unpaged query for a location and price band.
+     *
+     * @param location the location substring to match
+     * @param minPrice the minimum price (inclusive)
+     * @param maxPrice the maximum price (inclusive)
+     * @return the query
+     */
+    public static PropertyQuery byLocationAndPrice(String location, double minPrice, double maxPrice) {
+        return new PropertyQuery(location, "", minPrice, maxPrice, SortField.ID, true, 0, 0);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.realestatemanager.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache for query results with a time-to-live and hit-rate statistics.
+ * <p>
+ * Writes call {@link #invalidateAll()}. Because a query may still be running while a write invalidates the cache,
+ * callers read {@link #generation()} before querying and pass it to {@link #put(Object, Object, long)}; results of
+ * queries that overlapped an invalidation are dropped instead of being cached.
+ *
+ * @param <K> the key type, usually a normalized query
+ * @param <V> the cached result type
+ */
+public class QueryResultCache<K, V> {
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hits          lookups answered from the cache
+     * @param misses        lookups that had to go to the database
+     * @param evictions     entries dropped because the cache was full
+     * @param expirations   entries dropped because they outlived the TTL
+     * @param invalidations number of times the whole cache was invalidated by a write
+     * @param size          the current number of entries
+     */
+    public record Stats(long hits, long misses, long evictions, long expirations, long invalidations, int size) {
+
+        /**
+         * @return the fraction of lookups answered from the cache, between 0 and 1
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, expirations=%d, invalidations=%d, size=%d",
+                    hits, misses, hitRate() * 100, evictions, expirations, invalidations, size);
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries the maximum number of results to keep; 0 disables caching
+     * @param ttlMillis  how long a result stays valid, in milliseconds
+     */
+    public QueryResultCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > QueryResultCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up a cached result.
+     *
+     * @param key the query key
+     * @return the cached result, or {@code null} if absent or expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAtNanos() - System.nanoTime() <= 0) {
+            entries.remove(key);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    /**
+     * @return the current invalidation generation, to be passed to {@link #put(Object, Object, long)}
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches a result unless the cache was invalidated since the given generation was read.
+     *
+     * @param key        the query key
+     * @param value      the result
+     * @param generation the value of {@link #generation()} read before running the query
+     */
+    public synchronized void put(K key, V value, long generation) {
+        put(key, value, generation, Long.MAX_VALUE);
+    }
+
+    /**
+     * Caches a result unless the cache was invalidated since the given generation was read, expiring it no later
+     * than the given time.
+     *
+     * @param key            the query key
+     * @param value          the result
+     * @param generation     the value of {@link #generation()} read before running the query
+     * @param notAfterNanos  the latest expiry time, from {@link System#nanoTime()}, or {@link Long#MAX_VALUE} for the TTL alone
+     */
+    public synchronized void put(K key, V value, long generation, long notAfterNanos) {
+        if (maxEntries == 0 || generation != this.generation) {
+            return;
+        }
+        long now = System.nanoTime();
+        long expiresAtNanos = now + ttlNanos;
+        if (notAfterNanos != Long.MAX_VALUE && notAfterNanos - expiresAtNanos < 0) {
+            if (notAfterNanos - now <= 0) {
+                return;
+            }
+            expiresAtNanos = notAfterNanos;
+        }
+        entries.put(key, new Entry<>(value, expiresAtNanos));
+        purgeExpired();
+    }
+
+    /**
+     * Drops every cached result. Called after each write to the underlying tables.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations++;
+        entries.clear();
+    }
+
+    /**
+     * @return a snapshot of the cache counters
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hits, misses, evictions, expirations, invalidations, entries.size());
+    }
+
+    /**
+     * Removes expired entries from the least recently used end of the cache.
+     */
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAtNanos() - now > 0) {
+                break;
+            }
+            it.remove();
+            expirations++;
+        }
+    }
+}
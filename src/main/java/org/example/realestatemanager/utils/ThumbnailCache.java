@@ -0,0 +1,365 @@
+package org.example.realestatemanager.utils;
+
+import javafx.scene.image.Image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Two-level LRU cache of media thumbnails: decoded images in memory, backed by PNG files on disk.
+ * <p>
+ * Thumbnails are generated on background threads by streaming the original from the database and decoding it
+ * with subsampling, so neither the FX thread nor the heap ever sees the full-size image. Both levels are bounded:
+ * the memory level by a number of images, the disk level by a total file size. Disk entries survive restarts and
+ * are evicted least recently used first, using the file modification time as the access time.
+ * <p>
+ * Media content never changes once stored, but a media ID may be reused for other content when the database is
+ * recreated or another database is used. Disk entries are therefore named after the media ID and the version of its
+ * content from {@link DatabaseUtil#getMediaVersion(int)}, which is checked before a disk entry is used. Thumbnails
+ * needed together, such as those of a table page, are started with {@link #preload(Collection)}, which looks their
+ * versions up in one query.
+ */
+public class ThumbnailCache implements AutoCloseable {
+    private static final String EXTENSION = ".png";
+    private static final Pattern FILE_NAME = Pattern.compile("(\\d+)_([0-9-]+)\\" + EXTENSION);
+
+    private record DiskEntry(String version, long size) {
+    }
+
+    private final DatabaseUtil db;
+    private final Path directory;
+    private final int thumbnailSize;
+    private final int memoryCapacity;
+    private final long maxDiskBytes;
+    private final ExecutorService executor;
+
+    private final LinkedHashMap<Integer, Image> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Integer, DiskEntry> diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskBytes;
+    private final Map<Integer, CompletableFuture<Image>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache and indexes the thumbnails already on disk.
+     *
+     * @param db             the database utility used to read the original media
+     * @param directory      the directory holding the thumbnail files, created if needed
+     * @param thumbnailSize  the maximum width and height of a thumbnail, in pixels
+     * @param memoryCapacity the maximum number of thumbnails kept in memory
+     * @param maxDiskBytes   the maximum total size of the thumbnail files
+     * @param threads        the number of background threads generating thumbnails
+     * @throws IOException if the directory cannot be created or listed
+     */
+    public ThumbnailCache(DatabaseUtil db, Path directory, int thumbnailSize, int memoryCapacity, long maxDiskBytes, int threads)
+            throws IOException {
+        this.db = db;
+        this.directory = directory;
+        this.thumbnailSize = thumbnailSize;
+        this.memoryCapacity = memoryCapacity;
+        this.maxDiskBytes = maxDiskBytes;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Files.createDirectories(directory);
+        indexDirectory();
+    }
+
+    /**
+     * Returns a thumbnail if it is in memory, without blocking. Meant for table cells, which fall back to
+     * {@link #load(int)} on a miss.
+     *
+     * @param mediaId the ID of the media
+     * @return the thumbnail, or {@code null} if it is not in memory
+     */
+    public synchronized Image getIfPresent(int mediaId) {
+        return memory.get(mediaId);
+    }
+
+    /**
+     * Returns a thumbnail, loading it from disk or generating it from the database in the background when it is
+     * not in memory. Concurrent requests for the same media share one load.
+     *
+     * @param mediaId the ID of the media
+     * @return a future completed with the thumbnail, on a background thread unless it was in memory
+     */
+    public CompletableFuture<Image> load(int mediaId) {
+        Image cached = getIfPresent(mediaId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<Image> future = new CompletableFuture<>();
+        CompletableFuture<Image> existing = loading.putIfAbsent(mediaId, future);
+        if (existing != null) {
+            return existing;
+        }
+        executor.execute(() -> {
+            try {
+                future.complete(loadThumbnail(mediaId, db.getMediaVersion(mediaId)));
+            } catch (IOException | SQLException | RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                loading.remove(mediaId);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Starts loading the thumbnails of several media that are not in memory, looking their versions up in one query
+     * rather than one per media. Later calls to {@link #load(int)} for these media share the loads started here.
+     *
+     * @param mediaIds the IDs of the media, {@code 0} standing for none
+     */
+    public void preload(Collection<Integer> mediaIds) {
+        Map<Integer, CompletableFuture<Image>> started = new LinkedHashMap<>();
+        for (int mediaId : mediaIds) {
+            synchronized (this) {
+                if (mediaId == 0 || memory.containsKey(mediaId)) {
+                    continue;
+                }
+            }
+            CompletableFuture<Image> future = new CompletableFuture<>();
+            if (loading.putIfAbsent(mediaId, future) == null) {
+                started.put(mediaId, future);
+            }
+        }
+        if (started.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            Map<Integer, String> versions;
+            try {
+                versions = db.getMediaVersions(started.keySet());
+            } catch (SQLException | RuntimeException e) {
+                started.forEach((mediaId, future) -> {
+                    loading.remove(mediaId);
+                    future.completeExceptionally(e);
+                });
+                return;
+            }
+            started.forEach((mediaId, future) -> executor.execute(() -> {
+                try {
+                    future.complete(loadThumbnail(mediaId, versions.get(mediaId)));
+                } catch (IOException | SQLException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    loading.remove(mediaId);
+                }
+            }));
+        });
+    }
+
+    /**
+     * Stops the background threads. Thumbnails being generated are abandoned.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Loads a thumbnail from disk, or generates it, given the current version of the media, {@code null} if the
+     * media does not exist.
+     */
+    private Image loadThumbnail(int mediaId, String version) throws IOException, SQLException {
+        if (version == null) {
+            throw new SQLException("Media not found: " + mediaId);
+        }
+        Path file = fileOf(mediaId, version);
+        Image image = null;
+        if (touchDiskEntry(mediaId, version)) {
+            image = new Image(file.toUri().toString());
+            if (image.isError()) {
+                // Evicted or damaged between the lookup and the read; generate it again
+                image = null;
+            } else {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+        }
+        if (image == null) {
+            writeDiskEntry(mediaId, version, render(mediaId));
+            image = new Image(file.toUri().toString());
+            if (image.isError()) {
+                throw new IOException("Cannot read thumbnail " + file);
+            }
+        }
+        synchronized (this) {
+            memory.put(mediaId, image);
+            Iterator<Integer> it = memory.keySet().iterator();
+            while (memory.size() > memoryCapacity && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Streams a media from the database and scales it down to fit in {@link #thumbnailSize} pixels. Large images
+     * are subsampled while decoding, so only about twice the thumbnail size is ever decoded.
+     */
+    private BufferedImage render(int mediaId) throws IOException, SQLException {
+        try (InputStream content = db.openMedia(mediaId);
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Media " + mediaId + " is not a supported image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int largest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, largest / (thumbnailSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage source = reader.read(0, param);
+
+                double scale = Math.min(1.0, (double) thumbnailSize / Math.max(source.getWidth(), source.getHeight()));
+                int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+                int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+                BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D graphics = thumbnail.createGraphics();
+                try {
+                    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    graphics.drawImage(source, 0, 0, width, height, null);
+                } finally {
+                    graphics.dispose();
+                }
+                return thumbnail;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Writes a thumbnail file through a temporary file, so readers never see a partial file, replaces the file of
+     * another version of the media and evicts the least recently used files above the size limit.
+     */
+    private void writeDiskEntry(int mediaId, String version, BufferedImage thumbnail) throws IOException {
+        Path file = fileOf(mediaId, version);
+        Path temp = Files.createTempFile(directory, mediaId + "-", ".tmp");
+        try {
+            ImageIO.write(thumbnail, "png", temp.toFile());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        long size = Files.size(file);
+        synchronized (diskEntries) {
+            DiskEntry previous = diskEntries.put(mediaId, new DiskEntry(version, size));
+            if (previous != null) {
+                diskBytes -= previous.size();
+                if (!previous.version().equals(version)) {
+                    deleteDiskFile(mediaId, previous.version());
+                }
+            }
+            diskBytes += size;
+            evictDiskEntries();
+        }
+    }
+
+    /**
+     * Marks a disk entry as recently used.
+     *
+     * @return whether the thumbnail of this version of the media is on disk
+     */
+    private boolean touchDiskEntry(int mediaId, String version) {
+        synchronized (diskEntries) {
+            DiskEntry entry = diskEntries.get(mediaId);
+            return entry != null && entry.version().equals(version);
+        }
+    }
+
+    private void evictDiskEntries() {
+        Iterator<Map.Entry<Integer, DiskEntry>> it = diskEntries.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && it.hasNext()) {
+            Map.Entry<Integer, DiskEntry> eldest = it.next();
+            deleteDiskFile(eldest.getKey(), eldest.getValue().version());
+            diskBytes -= eldest.getValue().size();
+            it.remove();
+        }
+    }
+
+    private void deleteDiskFile(int mediaId, String version) {
+        try {
+            Files.deleteIfExists(fileOf(mediaId, version));
+        } catch (IOException e) {
+            System.err.println("Failed to evict thumbnail " + mediaId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the disk index from the files left by earlier runs, oldest first, and removes leftover temporary
+     * files and files without a version.
+     */
+    private void indexDirectory() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.toList();
+        }
+        List<Path> thumbnails = files.stream()
+                .filter(path -> FILE_NAME.matcher(path.getFileName().toString()).matches())
+                .sorted(Comparator.comparing(ThumbnailCache::lastModified))
+                .toList();
+        for (Path path : files) {
+            String name = path.getFileName().toString();
+            if (name.endsWith(".tmp") || name.matches("\\d+\\" + EXTENSION)) {
+                Files.deleteIfExists(path);
+            }
+        }
+        synchronized (diskEntries) {
+            for (Path path : thumbnails) {
+                Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+                matcher.matches();
+                long size = Files.size(path);
+                DiskEntry previous = diskEntries.put(Integer.parseInt(matcher.group(1)), new DiskEntry(matcher.group(2), size));
+                if (previous != null) {
+                    // An older version left by an interrupted replacement
+                    diskBytes -= previous.size();
+                    deleteDiskFile(Integer.parseInt(matcher.group(1)), previous.version());
+                }
+                diskBytes += size;
+            }
+            evictDiskEntries();
+        }
+    }
+
+    private Path fileOf(int mediaId, String version) {
+        return directory.resolve(mediaId + "_" + version + EXTENSION);
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package org.example.realestatemanager.utils;
+
+import org.example.realestatemanager.entity.Property;
+
+import java.sql.DataTruncation;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLNonTransientException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Queue of property edits that are written to the database in the background.
+ * <p>
+ * Edits are coalesced per property: if a property is edited again before its previous edit was written, only the
+ * latest version is kept. A single background thread flushes the queue in batches, each batch being one
+ * {@link DatabaseUtil#updateProperties(List)} transaction. Failed batches are put back and retried with an
+ * exponential back-off, unless a newer edit of the same property arrived meanwhile. When a batch fails with an
+ * error that retrying cannot fix, such as a constraint violation or a value too long for its column, its edits are
+ * written one at a time instead, and those failing again that way are dropped and reported as rejected.
+ * <p>
+ * Listeners are called on the background thread.
+ */
+public class WriteBehindQueue {
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+
+    private final DatabaseUtil db;
+    private final long flushIntervalMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+
+    private final Object flushLock = new Object();
+    private final LinkedHashMap<Integer, Property> pending = new LinkedHashMap<>();
+    private List<Property> inFlight = List.of();
+    private long backoffMillis;
+
+    private volatile IntConsumer pendingCountListener = _ -> { };
+    private volatile Consumer<Exception> failureListener = _ -> { };
+    private volatile BiConsumer<Property, SQLException> rejectionListener = (_, _) -> { };
+
+    /**
+     * Creates a queue and starts its background thread.
+     *
+     * @param db                  the database utility used to write the edits
+     * @param flushIntervalMillis how long to wait between two flushes, in milliseconds
+     * @param maxBatchSize        the maximum number of properties written in one transaction
+     */
+    public WriteBehindQueue(DatabaseUtil db, long flushIntervalMillis, int maxBatchSize) {
+        this.db = db;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatchSize = maxBatchSize;
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = scheduler;
+        executor.schedule(this::flushAndReschedule, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the listener notified with the number of edits not yet written whenever it changes.
+     *
+     * @param listener the listener
+     */
+    public void setPendingCountListener(IntConsumer listener) {
+        this.pendingCountListener = listener;
+    }
+
+    /**
+     * Sets the listener notified when a background flush fails and is going to be retried.
+     *
+     * @param listener the listener
+     */
+    public void setFailureListener(Consumer<Exception> listener) {
+        this.failureListener = listener;
+    }
+
+    /**
+     * Sets the listener notified with an edit and its error when the edit is dropped because it can never be written.
+     *
+     * @param listener the listener
+     */
+    public void setRejectionListener(BiConsumer<Property, SQLException> listener) {
+        this.rejectionListener = listener;
+    }
+
+    /**
+     * Queues an edit, replacing any queued edit of the same property. The property is copied, so the caller may
+     * keep modifying it.
+     *
+     * @param property the edited property
+     */
+    public void enqueue(Property property) {
+        int count;
+        synchronized (this) {
+            pending.put(property.getId(), new Property(property));
+            count = pendingCount();
+        }
+        pendingCountListener.accept(count);
+    }
+
+    /**
+     * Returns the queued edits and those being written, so that data reloaded from the database can be overlaid with edits it does not
+     * contain yet.
+     *
+     * @return copies of the queued properties by ID
+     */
+    public synchronized Map<Integer, Property> getPendingEdits() {
+        Map<Integer, Property> copy = new LinkedHashMap<>();
+        inFlight.forEach(property -> copy.put(property.getId(), new Property(property)));
+        pending.forEach((id, property) -> copy.put(id, new Property(property)));
+        return copy;
+    }
+
+    /**
+     * @return the number of edits queued or being written
+     */
+    public synchronized int pendingCount() {
+        return pending.size() + inFlight.size();
+    }
+
+    /**
+     * Writes all queued edits on the calling thread, waiting for a background flush in progress to finish first.
+     *
+     * @throws SQLException if a batch could not be written; its edits stay queued
+     */
+    public void flush() throws SQLException {
+        synchronized (flushLock) {
+            List<Property> batch;
+            while (!(batch = takeBatch()).isEmpty()) {
+                writeBatch(batch);
+            }
+        }
+    }
+
+    /**
+     * Writes the remaining edits on the calling thread, then stops the background thread. Edits must not be queued
+     * concurrently with this call.
+     *
+     * @throws SQLException if the remaining edits could not be written; they stay queued and the background thread
+     *                      keeps retrying them, so the queue remains usable
+     */
+    public void close() throws SQLException {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Drops the queued edits and stops the background thread, for when the application exits without saving them. A
+     * batch being written meanwhile is not interrupted.
+     *
+     * @return the number of dropped edits
+     */
+    public int discard() {
+        executor.shutdown();
+        int discarded;
+        int count;
+        synchronized (this) {
+            discarded = pending.size();
+            pending.clear();
+            count = pendingCount();
+        }
+        pendingCountListener.accept(count);
+        return discarded;
+    }
+
+    private void flushAndReschedule() {
+        long delay = flushIntervalMillis;
+        try {
+            flush();
+            backoffMillis = 0;
+        } catch (SQLException | RuntimeException e) {
+            backoffMillis = backoffMillis == 0 ? flushIntervalMillis : Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            delay = backoffMillis;
+            failureListener.accept(e);
+        }
+        if (!executor.isShutdown()) {
+            executor.schedule(this::flushAndReschedule, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Moves up to {@link #maxBatchSize} of the oldest edits out of the queue.
+     */
+    private synchronized List<Property> takeBatch() {
+        List<Property> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+        Iterator<Property> it = pending.values().iterator();
+        while (it.hasNext() && batch.size() < maxBatchSize) {
+            batch.add(it.next());
+            it.remove();
+        }
+        inFlight = batch;
+        return batch;
+    }
+
+    /**
+     * Writes a batch. On a failure that may go away, the edits that have not been superseded are put back in the
+     * queue. Otherwise the edits are written one by one, and those that still cannot be written are rejected.
+     */
+    private void writeBatch(List<Property> batch) throws SQLException {
+        List<Map.Entry<Property, SQLException>> rejected = new ArrayList<>();
+        try {
+            db.updateProperties(batch);
+        } catch (SQLException e) {
+            if (!isNonTransient(e)) {
+                requeue(batch);
+                throw e;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    db.updateProperties(List.of(batch.get(i)));
+                } catch (SQLException editException) {
+                    if (!isNonTransient(editException)) {
+                        requeue(batch.subList(i, batch.size()));
+                        throw editException;
+                    }
+                    rejected.add(Map.entry(batch.get(i), editException));
+                }
+            }
+        } finally {
+            int count;
+            synchronized (this) {
+                inFlight = List.of();
+                count = pendingCount();
+            }
+            pendingCountListener.accept(count);
+            rejected.forEach(rejection -> rejectionListener.accept(rejection.getKey(), rejection.getValue()));
+        }
+    }
+
+    private synchronized void requeue(List<Property> edits) {
+        LinkedHashMap<Integer, Property> retry = new LinkedHashMap<>();
+        for (Property property : edits) {
+            retry.put(property.getId(), property);
+        }
+        retry.putAll(pending);
+        pending.clear();
+        pending.putAll(retry);
+    }
+
+    /**
+     * Tells whether an error will occur again however often the edits are retried. Lost connections are excluded,
+     * since they come back. Batch errors carry the statement error as their cause or next exception.
+     */
+    private static boolean isNonTransient(SQLException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLNonTransientConnectionException) {
+                return false;
+            }
+            if (t instanceof SQLNonTransientException || t instanceof DataTruncation) {
+                return true;
+            }
+            if (t instanceof SQLException sqlException && sqlException.getNextException() != null
+                    && sqlException.getNextException() != t.getCause() && isNonTransient(sqlException.getNextException())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}